@@ -0,0 +1,19 @@
+package com.sarthak.ApiGateway.config;
+
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TracingConfig {
+
+    // Offline exporter: finished spans are logged as OTLP JSON, an OTLP collector exporter can replace it.
+    // Always registered and switched by tracing.local-exporter.enabled when it is created rather than with a bean
+    // condition, which AOT-built images would fix at build time; disabled, it drops every span.
+    @Bean
+    public SpanExporter localSpanExporter(@Value("${tracing.local-exporter.enabled:true}") boolean enabled) {
+        return enabled ? OtlpJsonLoggingSpanExporter.create() : SpanExporter.composite();
+    }
+}
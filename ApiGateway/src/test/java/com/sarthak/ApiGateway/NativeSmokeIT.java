@@ -0,0 +1,146 @@
+package com.sarthak.ApiGateway;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Smoke tests against the native executable, run by mvn -Pnative verify. The review route is pointed at a
+// local HTTP server, so a routed request goes through the gateway filters without Eureka or the services.
+// native.startup-timeout-seconds raises the 30 s startup limit when the suite is pointed at a slower launcher.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "native.binary", matches = ".+")
+class NativeSmokeIT {
+
+    private static final Duration STARTUP_TIMEOUT =
+            Duration.ofSeconds(Long.getLong("native.startup-timeout-seconds", 30));
+
+    private final HttpClient http = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private HttpServer upstream;
+    private Process gateway;
+    private Path gatewayLog;
+    private String baseUrl;
+
+    @BeforeAll
+    void startGateway() throws Exception {
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        upstream.createContext("/api/reviews/", exchange -> {
+            byte[] body = ("{\"path\": \"" + exchange.getRequestURI().getPath() + "\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        upstream.start();
+
+        int port = freePort();
+        baseUrl = "http://localhost:" + port;
+        gatewayLog = Path.of("target", "native-smoke-it.log");
+        ProcessBuilder launcher = new ProcessBuilder(List.of(System.getProperty("native.binary"),
+                "--server.port=" + port,
+                "--eureka.client.enabled=false"))
+                .redirectErrorStream(true)
+                .redirectOutput(gatewayLog.toFile());
+        launcher.environment().put("REVIEW_SERVICE_URI", "http://localhost:" + upstream.getAddress().getPort());
+        gateway = launcher.start();
+
+        long startedAt = System.nanoTime();
+        while (status("/actuator/health") != 200) {
+            assertThat(gateway.isAlive()).as("gateway exited during startup, see %s", gatewayLog).isTrue();
+            assertThat(Duration.ofNanos(System.nanoTime() - startedAt))
+                    .as("gateway not healthy in time, see %s", gatewayLog).isLessThan(STARTUP_TIMEOUT);
+            Thread.sleep(20);
+        }
+        System.out.printf("ApiGateway ready in %d ms, rss %s%n",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), residentSetSize(gateway.pid()));
+    }
+
+    @AfterAll
+    void stopGateway() throws InterruptedException {
+        if (gateway != null) {
+            gateway.destroy();
+            if (!gateway.waitFor(10, TimeUnit.SECONDS)) {
+                gateway.destroyForcibly();
+            }
+        }
+        if (upstream != null) {
+            upstream.stop(0);
+        }
+    }
+
+    @Test
+    void healthIsUp() throws Exception {
+        HttpResponse<String> response = get("/actuator/health");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(objectMapper.readTree(response.body()).path("status").asText()).isEqualTo("UP");
+    }
+
+    @Test
+    void routesReviewRequestsUpstream() throws Exception {
+        HttpResponse<String> response = get("/api/reviews/leaderboard/categories/Plumbing/providers");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(objectMapper.readTree(response.body()).path("path").asText())
+                .isEqualTo("/api/reviews/leaderboard/categories/Plumbing/providers");
+    }
+
+    @Test
+    void unknownPathIsNotFound() throws Exception {
+        assertThat(get("/api/unknown").statusCode()).isEqualTo(404);
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return http.send(HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private int status(String path) throws InterruptedException {
+        try {
+            return get(path).statusCode();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String residentSetSize(long pid) throws IOException {
+        File status = new File("/proc/" + pid + "/status");
+        if (!status.exists()) {
+            return "n/a";
+        }
+        return Files.readAllLines(status.toPath()).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> line.substring("VmRSS:".length()).trim())
+                .findFirst()
+                .orElse("n/a");
+    }
+}
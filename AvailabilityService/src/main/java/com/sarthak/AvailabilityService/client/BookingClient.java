@@ -5,11 +5,13 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.time.LocalDate;
+import java.util.List;
 
-@FeignClient(name = "Booking-Service", url = "${feign.client.config.booking-service.url}")
+@FeignClient(name = "Booking-Service", fallbackFactory = BookingClientFallbackFactory.class)
 public interface BookingClient {
 
     @GetMapping("/api/bookings/bookedSlots/{serviceProviderId}/{serviceId}")
@@ -18,4 +20,14 @@ public interface BookingClient {
             @PathVariable("serviceId") Long serviceId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
     );
+
+    // Called outside of a request by the materialized availability refresher, so it carries a service token
+    @GetMapping("/api/bookings/bookedSlots/{serviceProviderId}/{serviceId}/range")
+    List<BookedSlotsResponse> getBookedSlotsForProviderBetween(
+            @RequestHeader("Authorization") String authorization,
+            @PathVariable("serviceProviderId") Long serviceProviderId,
+            @PathVariable("serviceId") Long serviceId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    );
 }
@@ -0,0 +1,47 @@
+package com.sarthak.AvailabilityService.client;
+
+import com.sarthak.AvailabilityService.dto.BookedSlotsResponse;
+import com.sarthak.AvailabilityService.exception.ServiceUnavailableException;
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@Component
+public class BookingClientFallbackFactory implements FallbackFactory<BookingClient> {
+
+    @Override
+    public BookingClient create(Throwable cause) {
+        return new BookingClient() {
+            @Override
+            public BookedSlotsResponse getBookedSlotsForProviderOnDate(Long serviceProviderId, Long serviceId,
+                                                                       LocalDate date) {
+                log.warn("Booking service call failed for provider {} on {}: {}", serviceProviderId, date, cause.toString());
+                throw unavailable(cause);
+            }
+
+            @Override
+            public List<BookedSlotsResponse> getBookedSlotsForProviderBetween(String authorization,
+                                                                              Long serviceProviderId,
+                                                                              Long serviceId,
+                                                                              LocalDate from, LocalDate to) {
+                log.warn("Booking service call failed for provider {} from {} to {}: {}", serviceProviderId, from, to,
+                        cause.toString());
+                throw unavailable(cause);
+            }
+        };
+    }
+
+    private static RuntimeException unavailable(Throwable cause) {
+        // 4xx responses are real answers from the booking service, not outages
+        if (cause instanceof FeignException.FeignClientException clientException) {
+            return clientException;
+        }
+        // An empty booked-slots list would report taken slots as free, so fail instead of degrading
+        return new ServiceUnavailableException("Booking service is currently unavailable, please try again later");
+    }
+}
@@ -0,0 +1,17 @@
+package com.sarthak.AvailabilityService.client;
+
+import com.sarthak.AvailabilityService.dto.AvailabilitySummaryDto;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+import java.util.List;
+
+@FeignClient(name = "SERVICE-LISTING-SERVICE", fallbackFactory = ServiceListingClientFallbackFactory.class)
+public interface ServiceListingClient {
+
+    @PutMapping("/api/services/availability-summaries")
+    void putAvailabilitySummaries(@RequestHeader("Authorization") String authorization,
+                                  @RequestBody List<AvailabilitySummaryDto> summaries);
+}
@@ -0,0 +1,25 @@
+package com.sarthak.AvailabilityService.client;
+
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class ServiceListingClientFallbackFactory implements FallbackFactory<ServiceListingClient> {
+
+    @Override
+    public ServiceListingClient create(Throwable cause) {
+        return (authorization, summaries) -> {
+            // 4xx responses are real answers from the listing service, not outages
+            if (cause instanceof FeignException.FeignClientException clientException) {
+                throw clientException;
+            }
+            // Search confirms its results against this service, so a stale summary only costs recall until
+            // the next push or the nightly resync
+            log.warn("Service listing call failed, {} availability summaries not pushed: {}", summaries.size(),
+                    cause.toString());
+        };
+    }
+}
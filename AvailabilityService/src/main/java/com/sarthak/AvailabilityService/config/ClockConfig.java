@@ -0,0 +1,17 @@
+package com.sarthak.AvailabilityService.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+// Bookings are checked against Asia/Kolkata time in BookingService, whatever zone the JVM runs in
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    Clock clock() {
+        return Clock.system(ZoneId.of("Asia/Kolkata"));
+    }
+}
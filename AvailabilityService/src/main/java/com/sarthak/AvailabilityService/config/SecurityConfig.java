@@ -35,9 +35,10 @@ public class SecurityConfig {
         http.csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests( auth -> auth
-                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
                         .requestMatchers(HttpMethod.GET,"/api/availability/**").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/api/availability/availableServices").authenticated()
                         .requestMatchers(HttpMethod.POST, "/api/availability/**").hasRole("USER")
                         .requestMatchers(HttpMethod.PUT, "/api/availability/**").hasRole("USER")
                         .requestMatchers(HttpMethod.DELETE, "/api/availability/**").hasRole("USER")
@@ -0,0 +1,40 @@
+package com.sarthak.AvailabilityService.config.cache;
+
+import com.sarthak.AvailabilityService.config.invalidation.InvalidationHandler;
+import com.sarthak.AvailabilityService.model.AvailabilityRules;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+// Availability rules changed through another instance: drops them from the second-level cache. Cached query results
+// may contain them too and are cleared wholesale.
+@Component
+@RequiredArgsConstructor
+public class AvailabilityRulesCacheInvalidationHandler implements InvalidationHandler {
+
+    public static final String ENTITY = "availability-rules";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public String entity() {
+        return ENTITY;
+    }
+
+    @Override
+    public void evict(Collection<String> ids) {
+        for (String id : ids) {
+            entityManagerFactory.getCache().evict(AvailabilityRules.class, Long.valueOf(id));
+        }
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+    }
+
+    @Override
+    public void evictAll() {
+        entityManagerFactory.getCache().evict(AvailabilityRules.class);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+    }
+}
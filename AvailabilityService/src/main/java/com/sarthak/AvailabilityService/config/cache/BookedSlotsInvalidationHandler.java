@@ -0,0 +1,47 @@
+package com.sarthak.AvailabilityService.config.cache;
+
+import com.sarthak.AvailabilityService.config.invalidation.InvalidationHandler;
+import com.sarthak.AvailabilityService.service.ProviderDayAvailabilityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+
+// Bookings changed in BookingService (ids are "providerId:serviceId:date", see its BookedSlotsPublisher): marks
+// those days of the materialized availability stale. Only delivered when the booking database is one of
+// cache.invalidation.listen-urls.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookedSlotsInvalidationHandler implements InvalidationHandler {
+
+    public static final String ENTITY = "booked-slots";
+
+    private final ProviderDayAvailabilityService providerDayAvailabilityService;
+
+    @Override
+    public String entity() {
+        return ENTITY;
+    }
+
+    @Override
+    public void evict(Collection<String> ids) {
+        for (String id : ids) {
+            String[] parts = id.split(":");
+            try {
+                providerDayAvailabilityService.markBookingChanged(Long.valueOf(parts[0]), Long.valueOf(parts[1]),
+                        LocalDate.parse(parts[2]));
+            } catch (NumberFormatException | DateTimeParseException | ArrayIndexOutOfBoundsException ex) {
+                log.warn("Ignoring malformed booked-slots invalidation id {}", id);
+            }
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        providerDayAvailabilityService.markAllStale();
+    }
+}
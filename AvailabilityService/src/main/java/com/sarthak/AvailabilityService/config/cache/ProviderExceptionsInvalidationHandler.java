@@ -0,0 +1,33 @@
+package com.sarthak.AvailabilityService.config.cache;
+
+import com.sarthak.AvailabilityService.config.invalidation.InvalidationHandler;
+import com.sarthak.AvailabilityService.service.ProviderExceptionIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+// Exceptions changed through another instance (ids are provider ids): drops those providers' interval trees.
+@Component
+@RequiredArgsConstructor
+public class ProviderExceptionsInvalidationHandler implements InvalidationHandler {
+
+    public static final String ENTITY = "provider-exceptions";
+
+    private final ProviderExceptionIndex providerExceptionIndex;
+
+    @Override
+    public String entity() {
+        return ENTITY;
+    }
+
+    @Override
+    public void evict(Collection<String> ids) {
+        providerExceptionIndex.evict(ids.stream().map(Long::valueOf).toList());
+    }
+
+    @Override
+    public void evictAll() {
+        providerExceptionIndex.evictAll();
+    }
+}
@@ -0,0 +1,8 @@
+package com.sarthak.AvailabilityService.config.invalidation;
+
+import java.util.List;
+
+// pg_notify payload. origin identifies the publishing instance so it can skip its own changes, sentAt is
+// the publisher's clock in milliseconds just before commit and drives the lag metric.
+record InvalidationMessage(String origin, long sentAt, List<InvalidationKey> keys) {
+}
@@ -0,0 +1,28 @@
+package com.sarthak.AvailabilityService.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+// Registered from logback-spring.xml. Evaluated before the logger level check and before any message
+// formatting: DEBUG events from the application packages are accepted only for requests marked by
+// LogSamplingFilter, everything else falls through to the configured levels.
+public class SampledDebugTurboFilter extends TurboFilter {
+
+    private String loggerPrefix = "com.sarthak";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level != Level.DEBUG || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        return "true".equals(MDC.get(LogSamplingFilter.MDC_KEY)) ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+}
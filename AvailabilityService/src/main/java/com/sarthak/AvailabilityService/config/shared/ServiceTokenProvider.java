@@ -0,0 +1,49 @@
+package com.sarthak.AvailabilityService.config.shared;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.Map;
+
+// Issues short-lived tokens for calls made outside a user request (scheduled jobs),
+// where there is no incoming Authorization header for FeignAuthInterceptor to forward.
+@Component
+public class ServiceTokenProvider {
+
+    public static final String SERVICE_AUTHORITY = "SERVICE";
+
+    private static final long TOKEN_TTL_MS = 5 * 60 * 1000;
+    private static final long REFRESH_BEFORE_EXPIRY_MS = 30 * 1000;
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    @Value("${spring.application.name}")
+    private String serviceName;
+
+    private String cachedToken;
+    private long cachedTokenExpiresAt;
+
+    public synchronized String getBearerToken() {
+        long now = System.currentTimeMillis();
+        if (cachedToken == null || now >= cachedTokenExpiresAt - REFRESH_BEFORE_EXPIRY_MS) {
+            cachedTokenExpiresAt = now + TOKEN_TTL_MS;
+            cachedToken = Jwts.builder()
+                    .claims(Map.of("role", SERVICE_AUTHORITY, "type", SERVICE_AUTHORITY))
+                    .subject(serviceName)
+                    .issuedAt(new Date(now))
+                    .expiration(new Date(cachedTokenExpiresAt))
+                    .signWith(getSigningKey())
+                    .compact();
+        }
+        return "Bearer " + cachedToken;
+    }
+
+    private SecretKey getSigningKey() {
+        return Keys.hmacShaKeyFor(secret.getBytes());
+    }
+}
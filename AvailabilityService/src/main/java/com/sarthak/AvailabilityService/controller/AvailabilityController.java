@@ -3,11 +3,14 @@ package com.sarthak.AvailabilityService.controller;
 import com.sarthak.AvailabilityService.dto.AvailabilityRulesDto;
 import com.sarthak.AvailabilityService.dto.ProviderExceptionDto;
 import com.sarthak.AvailabilityService.dto.request.AvailabilityStatusRequest;
+import com.sarthak.AvailabilityService.dto.request.AvailableServicesRequest;
 import com.sarthak.AvailabilityService.dto.request.DayAndTimeAvailabilityRequest;
 import com.sarthak.AvailabilityService.dto.response.AvailabilitySlotsResponse;
 import com.sarthak.AvailabilityService.dto.response.AvailabilityStatusResponse;
+import com.sarthak.AvailabilityService.dto.response.NextAvailableSlotResponse;
 import com.sarthak.AvailabilityService.dto.response.PageResponse;
 import com.sarthak.AvailabilityService.service.AvailabilityService;
+import com.sarthak.AvailabilityService.service.NextAvailableSlotService;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,9 +23,12 @@ import java.util.List;
 @RequestMapping("/api/availability")
 public class AvailabilityController {
     private final AvailabilityService availabilityService;
+    private final NextAvailableSlotService nextAvailableSlotService;
 
-    public AvailabilityController(AvailabilityService availabilityService) {
+    public AvailabilityController(AvailabilityService availabilityService,
+                                  NextAvailableSlotService nextAvailableSlotService) {
         this.availabilityService = availabilityService;
+        this.nextAvailableSlotService = nextAvailableSlotService;
     }
 
     @GetMapping("/rules/{serviceProviderId}")
@@ -82,6 +88,37 @@ public class AvailabilityController {
         return ResponseEntity.ok(availableSlots);
     }
 
+    @GetMapping("availableSlots/{serviceProviderId}/{serviceId}/range")
+    public ResponseEntity<List<AvailabilitySlotsResponse>> getAvailableSlotsBetween(
+            @PathVariable Long serviceProviderId,
+            @PathVariable Long serviceId,
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to) {
+        List<AvailabilitySlotsResponse> availableSlots =
+                availabilityService.getAvailabilitySlotsBetween(serviceProviderId, serviceId, from, to);
+        return ResponseEntity.ok(availableSlots);
+    }
+
+    // minDuration in minutes; from defaults to today and horizon (days) to the configured maximum
+    @GetMapping("nextAvailable/{serviceProviderId}/{serviceId}")
+    public ResponseEntity<NextAvailableSlotResponse> getNextAvailableSlot(
+            @PathVariable Long serviceProviderId,
+            @PathVariable Long serviceId,
+            @RequestParam int minDuration,
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) Integer horizon) {
+        NextAvailableSlotResponse nextAvailable = nextAvailableSlotService.findNextAvailableSlot(serviceProviderId,
+                serviceId, minDuration, from, horizon);
+        return ResponseEntity.ok(nextAvailable);
+    }
+
+    // Used by service search: which of these services are bookable for the whole window on that date
+    @PostMapping("/availableServices")
+    public ResponseEntity<List<Long>> confirmAvailableServices(@RequestBody AvailableServicesRequest request){
+        List<Long> available = availabilityService.confirmAvailableServices(request);
+        return ResponseEntity.ok(available);
+    }
+
     @PostMapping("/rules")
     public ResponseEntity<AvailabilityRulesDto> createAvailabilityRule(@RequestBody AvailabilityRulesDto rule){
         AvailabilityRulesDto savedRule = availabilityService.createAvailabilityRule(rule);
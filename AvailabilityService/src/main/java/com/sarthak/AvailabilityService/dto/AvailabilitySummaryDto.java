@@ -0,0 +1,28 @@
+package com.sarthak.AvailabilityService.dto;
+
+import com.sarthak.AvailabilityService.model.ExceptionType;
+import lombok.Builder;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+// What ServiceListingService needs to pre-filter search results by availability: the merged rule intervals per
+// weekday and the provider's exceptions from today on. Bookings are left out, search confirms those separately.
+@Builder
+public record AvailabilitySummaryDto(
+        Long serviceId,
+        Long serviceProviderId,
+        Map<DayOfWeek, List<Slot>> weeklySlots,
+        List<DateException> exceptions
+) {
+
+    public record DateException(
+            LocalDate date,
+            LocalTime startTime,
+            LocalTime endTime,
+            ExceptionType exceptionType
+    ) {}
+}
@@ -1,5 +1,6 @@
 package com.sarthak.AvailabilityService.dto;
 
+import com.sarthak.AvailabilityService.model.ExceptionRecurrence;
 import com.sarthak.AvailabilityService.model.ExceptionType;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,8 +18,12 @@ public class ProviderExceptionDto {
     private Long serviceProviderId;
     private Long serviceId;
     private String exceptionDate;
+    // Optional, defaults to exceptionDate
+    private String exceptionEndDate;
     private String newStartTime;
     private String newEndTime;
     private String exceptionReason;
     private ExceptionType exceptionType;
+    // Optional, defaults to NONE
+    private ExceptionRecurrence recurrence;
 }
@@ -0,0 +1,22 @@
+package com.sarthak.AvailabilityService.dto.request;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Builder
+public record AvailableServicesRequest(
+        LocalDate date,
+        LocalTime startTime,
+        LocalTime endTime,
+        Integer limit,
+        List<ServiceCandidate> candidates
+) {
+
+    public record ServiceCandidate(
+            Long serviceProviderId,
+            Long serviceId
+    ) {}
+}
@@ -0,0 +1,18 @@
+package com.sarthak.AvailabilityService.dto.response;
+
+import com.sarthak.AvailabilityService.dto.Slot;
+import lombok.Builder;
+
+import java.time.LocalDate;
+
+// slot is the whole free slot the minimum duration fits in, cut to start no earlier than now when date is today;
+// null with isSlotAvailable false when none was found
+@Builder
+public record NextAvailableSlotResponse (
+        Long serviceProviderId,
+        Long serviceId,
+        LocalDate date,
+        Slot slot,
+        boolean isSlotAvailable
+){
+}
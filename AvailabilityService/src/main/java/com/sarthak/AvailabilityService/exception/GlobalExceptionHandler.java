@@ -50,6 +50,12 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(body);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ExceptionResponse> handleServiceUnavailable(ServiceUnavailableException ex) {
+        ExceptionResponse body = new ExceptionResponse("Service Unavailable", ex.getMessage(), 503);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(body);
+    }
+
     @ExceptionHandler(ConflictingRulesException.class)
     public ResponseEntity<ExceptionResponse> handleConflictingRules(ConflictingRulesException ex){
         ExceptionResponse body = new ExceptionResponse("Conflicting Rules", ex.getMessage(), 409);
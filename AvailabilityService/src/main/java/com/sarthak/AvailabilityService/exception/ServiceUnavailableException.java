@@ -0,0 +1,7 @@
+package com.sarthak.AvailabilityService.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
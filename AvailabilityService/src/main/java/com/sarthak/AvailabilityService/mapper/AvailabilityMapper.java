@@ -3,6 +3,7 @@ package com.sarthak.AvailabilityService.mapper;
 import com.sarthak.AvailabilityService.dto.AvailabilityRulesDto;
 import com.sarthak.AvailabilityService.dto.ProviderExceptionDto;
 import com.sarthak.AvailabilityService.model.AvailabilityRules;
+import com.sarthak.AvailabilityService.model.ExceptionRecurrence;
 import com.sarthak.AvailabilityService.model.ProviderExceptions;
 import org.springframework.stereotype.Component;
 
@@ -40,6 +41,9 @@ public class AvailabilityMapper {
         exception.setServiceProviderId(dto.getServiceProviderId());
         exception.setServiceId(dto.getServiceId());
         exception.setExceptionDate(LocalDate.parse(dto.getExceptionDate()));
+        exception.setExceptionEndDate(dto.getExceptionEndDate() != null
+                ? LocalDate.parse(dto.getExceptionEndDate()) : exception.getExceptionDate());
+        exception.setRecurrence(dto.getRecurrence() != null ? dto.getRecurrence() : ExceptionRecurrence.NONE);
         exception.setNewStartTime(LocalTime.parse(dto.getNewStartTime()));
         exception.setNewEndTime(LocalTime.parse(dto.getNewEndTime()));
         exception.setExceptionReason(dto.getExceptionReason());
@@ -53,6 +57,8 @@ public class AvailabilityMapper {
         dto.setServiceProviderId(exception.getServiceProviderId());
         dto.setServiceId(exception.getServiceId());
         dto.setExceptionDate(exception.getExceptionDate().toString());
+        dto.setExceptionEndDate(exception.lastDate().toString());
+        dto.setRecurrence(exception.getRecurrence());
         dto.setNewStartTime(exception.getNewStartTime().toString());
         dto.setNewEndTime(exception.getNewEndTime().toString());
         dto.setExceptionReason(exception.getExceptionReason());
@@ -0,0 +1,8 @@
+package com.sarthak.AvailabilityService.model;
+
+public enum ExceptionRecurrence {
+    // every day from the exception date to its end date
+    NONE,
+    // only the exception date's weekday within that range
+    WEEKLY
+}
@@ -0,0 +1,64 @@
+package com.sarthak.AvailabilityService.model;
+
+import com.sarthak.AvailabilityService.dto.Slot;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+// One day of materialized availability, see ProviderDayAvailabilityService
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "provider_day_availability",
+        uniqueConstraints = @UniqueConstraint(name = "uk_provider_service_date",
+        columnNames = {"service_provider_id", "service_id", "availability_date"}),
+        indexes = @Index(name = "idx_day_availability_date", columnList = "availability_date")
+)
+public class ProviderDayAvailability {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Column(name = "service_provider_id")
+    private Long serviceProviderId;
+
+    @NotNull
+    @Column(name = "service_id")
+    private Long serviceId;
+
+    @NotNull
+    @Column(name = "availability_date")
+    private LocalDate availabilityDate;
+
+    @NotNull
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "free_slots")
+    private List<Slot> freeSlots;
+
+    // Set by every change to the rules, exceptions or bookings of the day, cleared by the refresher
+    @Column(name = "stale")
+    private boolean stale;
+
+    // Bumped with every stale mark; a refresh only writes back if it is unchanged since the claim
+    @Column(name = "stale_version")
+    private long staleVersion;
+
+    // Set while a refresher is recomputing the day, which other refreshers skip until then
+    @Column(name = "claimed_until")
+    private Instant claimedUntil;
+
+    @NotNull
+    @Column(name = "computed_at")
+    private Instant computedAt;
+}
@@ -43,6 +43,16 @@ public class ProviderExceptions {
     @Column(name = "exception_date")
     private LocalDate exceptionDate;
 
+    // Last day the exception applies, the exception date itself for a single day
+    @NotNull
+    @Column(name = "exception_end_date")
+    private LocalDate exceptionEndDate;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "recurrence")
+    private ExceptionRecurrence recurrence;
+
     @NotNull
     @Column(name = "new_start_time")
     private LocalTime newStartTime;
@@ -74,6 +84,15 @@ public class ProviderExceptions {
         if (!this.newStartTime.isBefore(this.newEndTime)) {
             throw new InvalidTimeSlotParametersException("Start time must be before end time.");
         }
+        if (this.exceptionEndDate == null) {
+            this.exceptionEndDate = this.exceptionDate;
+        }
+        if (this.exceptionEndDate.isBefore(this.exceptionDate)) {
+            throw new InvalidTimeSlotParametersException("Exception end date must not be before its start date.");
+        }
+        if (this.recurrence == null) {
+            this.recurrence = ExceptionRecurrence.NONE;
+        }
 
         this.createdAt = createdAt == null ? Instant.now().truncatedTo(ChronoUnit.SECONDS) : createdAt.truncatedTo(ChronoUnit.SECONDS);
 
@@ -82,4 +101,15 @@ public class ProviderExceptions {
 
     }
 
+    public LocalDate lastDate() {
+        return exceptionEndDate == null ? exceptionDate : exceptionEndDate;
+    }
+
+    public boolean appliesOn(LocalDate date) {
+        if (exceptionDate == null || date.isBefore(exceptionDate) || date.isAfter(lastDate())) {
+            return false;
+        }
+        return recurrence != ExceptionRecurrence.WEEKLY || date.getDayOfWeek() == exceptionDate.getDayOfWeek();
+    }
+
 }
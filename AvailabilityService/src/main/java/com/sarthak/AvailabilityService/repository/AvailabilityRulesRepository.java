@@ -1,11 +1,14 @@
 package com.sarthak.AvailabilityService.repository;
 
 import com.sarthak.AvailabilityService.model.AvailabilityRules;
+import jakarta.persistence.QueryHint;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -33,6 +36,7 @@ public interface AvailabilityRulesRepository extends JpaRepository<AvailabilityR
             Pageable pageable
     );
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<AvailabilityRules> findAllByServiceProviderIdAndServiceId(Long serviceProviderId, Long serviceId);
 
     Optional<AvailabilityRules> findByServiceProviderIdAndServiceIdAndStartTimeAndEndTime(@NotNull Long serviceProviderId,
@@ -42,19 +46,80 @@ public interface AvailabilityRulesRepository extends JpaRepository<AvailabilityR
 
     List<AvailabilityRules> findAllByServiceProviderId(Long serviceProviderId);
 
+    @Query("SELECT DISTINCT ar.serviceProviderId FROM AvailabilityRules ar")
+    List<Long> findDistinctServiceProviderIds();
+
     Optional<AvailabilityRules> findByServiceId(Long serviceId);
 
-    @Query(value = """
+    // The weekday mask is a literal per day so each query matches its partial index idx_rules_<day>
+    // (V2 migration), a bound parameter would keep the planner from proving the index predicate
+    default List<AvailabilityRules> findByServiceProviderAndServiceAndDayOrdered(Long serviceProviderId,
+                                                                                Long serviceId,
+                                                                                byte day) {
+        return switch (day % 7) {
+            case 0 -> findOrderedOnSunday(serviceProviderId, serviceId);
+            case 1 -> findOrderedOnMonday(serviceProviderId, serviceId);
+            case 2 -> findOrderedOnTuesday(serviceProviderId, serviceId);
+            case 3 -> findOrderedOnWednesday(serviceProviderId, serviceId);
+            case 4 -> findOrderedOnThursday(serviceProviderId, serviceId);
+            case 5 -> findOrderedOnFriday(serviceProviderId, serviceId);
+            case 6 -> findOrderedOnSaturday(serviceProviderId, serviceId);
+            default -> throw new IllegalArgumentException("Invalid day of week: " + day);
+        };
+    }
+
+    String RULES_FOR_PROVIDER_SERVICE = """
             SELECT *
             FROM availability_rules ar
             WHERE ar.service_provider_id = :serviceProviderId
               AND ar.service_id = :serviceId
-              AND (ar.days_of_week & (1 << :dayOfWeek)) != 0
-            ORDER BY ar.start_time ASC
-    """, nativeQuery = true)
-    List<AvailabilityRules> findByServiceProviderAndServiceAndDayOrdered(@Param("serviceProviderId") Long serviceProviderId,
-                                                                                @Param("serviceId") Long serviceId,
-                                                                                @Param("dayOfWeek") byte day);
+              AND """;
+
+    String ORDER_BY_START_TIME = " ORDER BY ar.start_time ASC";
+
+    // Query-cached when the second-level cache is on; native queries have to name the table their cached
+    // results depend on, so writes to availability_rules invalidate them
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "availability_rules")})
+    @Query(value = RULES_FOR_PROVIDER_SERVICE + " (ar.days_of_week & 1) <> 0" + ORDER_BY_START_TIME, nativeQuery = true)
+    List<AvailabilityRules> findOrderedOnSunday(@Param("serviceProviderId") Long serviceProviderId,
+                                                @Param("serviceId") Long serviceId);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "availability_rules")})
+    @Query(value = RULES_FOR_PROVIDER_SERVICE + " (ar.days_of_week & 2) <> 0" + ORDER_BY_START_TIME, nativeQuery = true)
+    List<AvailabilityRules> findOrderedOnMonday(@Param("serviceProviderId") Long serviceProviderId,
+                                                @Param("serviceId") Long serviceId);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "availability_rules")})
+    @Query(value = RULES_FOR_PROVIDER_SERVICE + " (ar.days_of_week & 4) <> 0" + ORDER_BY_START_TIME, nativeQuery = true)
+    List<AvailabilityRules> findOrderedOnTuesday(@Param("serviceProviderId") Long serviceProviderId,
+                                                 @Param("serviceId") Long serviceId);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "availability_rules")})
+    @Query(value = RULES_FOR_PROVIDER_SERVICE + " (ar.days_of_week & 8) <> 0" + ORDER_BY_START_TIME, nativeQuery = true)
+    List<AvailabilityRules> findOrderedOnWednesday(@Param("serviceProviderId") Long serviceProviderId,
+                                                   @Param("serviceId") Long serviceId);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "availability_rules")})
+    @Query(value = RULES_FOR_PROVIDER_SERVICE + " (ar.days_of_week & 16) <> 0" + ORDER_BY_START_TIME, nativeQuery = true)
+    List<AvailabilityRules> findOrderedOnThursday(@Param("serviceProviderId") Long serviceProviderId,
+                                                  @Param("serviceId") Long serviceId);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "availability_rules")})
+    @Query(value = RULES_FOR_PROVIDER_SERVICE + " (ar.days_of_week & 32) <> 0" + ORDER_BY_START_TIME, nativeQuery = true)
+    List<AvailabilityRules> findOrderedOnFriday(@Param("serviceProviderId") Long serviceProviderId,
+                                                @Param("serviceId") Long serviceId);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "availability_rules")})
+    @Query(value = RULES_FOR_PROVIDER_SERVICE + " (ar.days_of_week & 64) <> 0" + ORDER_BY_START_TIME, nativeQuery = true)
+    List<AvailabilityRules> findOrderedOnSaturday(@Param("serviceProviderId") Long serviceProviderId,
+                                                  @Param("serviceId") Long serviceId);
 
     @Query(value = """
             SELECT * FROM availability_rules ar
@@ -0,0 +1,120 @@
+package com.sarthak.AvailabilityService.repository;
+
+import com.sarthak.AvailabilityService.dto.Slot;
+import com.sarthak.AvailabilityService.model.ProviderDayAvailability;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// The native writes name their table, otherwise Hibernate would drop every second-level cache region on each
+// of them
+@Repository
+public interface ProviderDayAvailabilityRepository extends JpaRepository<ProviderDayAvailability, Long> {
+
+    Optional<ProviderDayAvailability> findByServiceProviderIdAndServiceIdAndAvailabilityDate(
+            Long serviceProviderId, Long serviceId, LocalDate availabilityDate);
+
+    List<ProviderDayAvailability> findAllByServiceProviderIdAndServiceIdAndAvailabilityDateBetweenOrderByAvailabilityDateAsc(
+            Long serviceProviderId, Long serviceId, LocalDate fromDate, LocalDate toDate);
+
+    // Marks the days between fromDate and toDate falling on isoDays (1 = Monday ... 7 = Sunday) stale for every
+    // service of the provider that has rules or rows, or only for serviceId when given. Missing days are
+    // inserted stale, so a service whose first rule was just added is picked up too.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "provider_day_availability"))
+    @Query(value = """
+            INSERT INTO provider_day_availability
+                (service_provider_id, service_id, availability_date, free_slots, stale, computed_at)
+            SELECT pairs.service_provider_id, pairs.service_id, CAST(days.d AS date), CAST('[]' AS jsonb), true, now()
+            FROM (
+                SELECT ar.service_provider_id, ar.service_id
+                FROM availability_rules ar
+                WHERE ar.service_provider_id = :serviceProviderId
+                  AND (CAST(:serviceId AS bigint) IS NULL OR ar.service_id = CAST(:serviceId AS bigint))
+                UNION
+                SELECT pda.service_provider_id, pda.service_id
+                FROM provider_day_availability pda
+                WHERE pda.service_provider_id = :serviceProviderId
+                  AND (CAST(:serviceId AS bigint) IS NULL OR pda.service_id = CAST(:serviceId AS bigint))
+                  AND pda.availability_date BETWEEN :fromDate AND :toDate
+            ) pairs
+            CROSS JOIN generate_series(CAST(:fromDate AS date), CAST(:toDate AS date), interval '1 day') AS days(d)
+            WHERE EXTRACT(ISODOW FROM days.d) IN (:isoDays)
+            ON CONFLICT (service_provider_id, service_id, availability_date)
+                DO UPDATE SET stale = true, stale_version = provider_day_availability.stale_version + 1
+            """, nativeQuery = true)
+    int markStale(@Param("serviceProviderId") Long serviceProviderId,
+                  @Param("serviceId") Long serviceId,
+                  @Param("fromDate") LocalDate fromDate,
+                  @Param("toDate") LocalDate toDate,
+                  @Param("isoDays") Collection<Integer> isoDays);
+
+    // Adds the days of the window that have no row yet for any service with rules, to be computed by the refresher
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "provider_day_availability"))
+    @Query(value = """
+            INSERT INTO provider_day_availability
+                (service_provider_id, service_id, availability_date, free_slots, stale, computed_at)
+            SELECT pairs.service_provider_id, pairs.service_id, CAST(days.d AS date), CAST('[]' AS jsonb), true, now()
+            FROM (SELECT DISTINCT ar.service_provider_id, ar.service_id FROM availability_rules ar) pairs
+            CROSS JOIN generate_series(CAST(:fromDate AS date), CAST(:toDate AS date), interval '1 day') AS days(d)
+            ON CONFLICT (service_provider_id, service_id, availability_date) DO NOTHING
+            """, nativeQuery = true)
+    int fillWindow(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    @Modifying
+    @Query("UPDATE ProviderDayAvailability d SET d.stale = true, d.staleVersion = d.staleVersion + 1")
+    int markAllStale();
+
+    @Modifying
+    @Query("DELETE FROM ProviderDayAvailability d WHERE d.availabilityDate < :date")
+    int deleteAllBefore(@Param("date") LocalDate date);
+
+    // Rows due for a refresh and not claimed by another refresher. The lock only lasts until the claim is set
+    // with claim() in the same short transaction; SKIP LOCKED keeps two instances from picking the same rows.
+    @Query(value = """
+            SELECT * FROM provider_day_availability pda
+            WHERE pda.availability_date BETWEEN :fromDate AND :toDate
+              AND (pda.stale OR pda.computed_at < :computedBefore)
+              AND (pda.claimed_until IS NULL OR pda.claimed_until < :now)
+            ORDER BY pda.availability_date
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<ProviderDayAvailability> claimRefreshBatch(@Param("fromDate") LocalDate fromDate,
+                                                    @Param("toDate") LocalDate toDate,
+                                                    @Param("computedBefore") Instant computedBefore,
+                                                    @Param("now") Instant now,
+                                                    @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE ProviderDayAvailability d SET d.claimedUntil = :claimedUntil WHERE d.id IN :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("claimedUntil") Instant claimedUntil);
+
+    // Writes a recomputed day back unless it was marked stale again since staleVersion was read
+    @Modifying
+    @Query("""
+            UPDATE ProviderDayAvailability d
+            SET d.freeSlots = :freeSlots, d.stale = false, d.computedAt = :computedAt, d.claimedUntil = null
+            WHERE d.id = :id AND d.staleVersion = :staleVersion
+            """)
+    int writeRefreshed(@Param("id") Long id,
+                       @Param("staleVersion") long staleVersion,
+                       @Param("freeSlots") List<Slot> freeSlots,
+                       @Param("computedAt") Instant computedAt);
+
+    @Modifying
+    @Query("UPDATE ProviderDayAvailability d SET d.claimedUntil = null WHERE d.id IN :ids")
+    int releaseClaims(@Param("ids") Collection<Long> ids);
+}
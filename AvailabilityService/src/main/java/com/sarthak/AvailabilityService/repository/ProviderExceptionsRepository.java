@@ -3,6 +3,8 @@ package com.sarthak.AvailabilityService.repository;
 import com.sarthak.AvailabilityService.model.ProviderExceptions;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -13,8 +15,6 @@ import java.util.Optional;
 @Repository
 public interface ProviderExceptionsRepository extends JpaRepository<ProviderExceptions, Long> {
 
-    List<ProviderExceptions> findAllByServiceProviderIdAndExceptionDateOrderByNewStartTimeAsc(Long serviceProviderId, LocalDate date);
-
     Optional<ProviderExceptions> findAllByServiceProviderIdAndServiceIdAndExceptionDateAndNewStartTimeAndNewEndTime(@NotNull Long serviceProviderId, 
                                                                                                                     @NotNull Long serviceId, 
                                                                                                                     @NotNull LocalDate exceptionDate, 
@@ -24,4 +24,16 @@ public interface ProviderExceptionsRepository extends JpaRepository<ProviderExce
     List<ProviderExceptions> findAllByServiceProviderId(Long serviceProviderId);
 
     List<ProviderExceptions> findAllByServiceProviderIdAndServiceId(Long serviceProviderId, Long serviceId);
+
+    // Exceptions of the provider whose range overlaps fromDate..toDate, open-ended when toDate is null. Found through
+    // the GiST index on exception_period (V4 migration).
+    @Query(value = """
+            SELECT * FROM provider_exceptions pe
+            WHERE pe.service_provider_id = :serviceProviderId
+              AND pe.exception_period && daterange(CAST(:fromDate AS date), CAST(:toDate AS date), '[]')
+            ORDER BY pe.exception_date, pe.new_start_time
+            """, nativeQuery = true)
+    List<ProviderExceptions> findOverlapping(@Param("serviceProviderId") Long serviceProviderId,
+                                             @Param("fromDate") LocalDate fromDate,
+                                             @Param("toDate") LocalDate toDate);
 }
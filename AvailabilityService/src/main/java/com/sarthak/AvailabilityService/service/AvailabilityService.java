@@ -1,10 +1,14 @@
 package com.sarthak.AvailabilityService.service;
 
 import com.sarthak.AvailabilityService.client.BookingClient;
+import com.sarthak.AvailabilityService.config.cache.AvailabilityRulesCacheInvalidationHandler;
+import com.sarthak.AvailabilityService.config.cache.ProviderExceptionsInvalidationHandler;
+import com.sarthak.AvailabilityService.config.invalidation.InvalidationPublisher;
 import com.sarthak.AvailabilityService.dto.AvailabilityRulesDto;
 import com.sarthak.AvailabilityService.dto.BookedSlotsResponse;
 import com.sarthak.AvailabilityService.dto.ProviderExceptionDto;
 import com.sarthak.AvailabilityService.dto.Slot;
+import com.sarthak.AvailabilityService.dto.request.AvailableServicesRequest;
 import com.sarthak.AvailabilityService.dto.request.DayAndTimeAvailabilityRequest;
 import com.sarthak.AvailabilityService.dto.response.AvailabilitySlotsResponse;
 import com.sarthak.AvailabilityService.exception.ConflictingRulesException;
@@ -35,25 +39,41 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
 @Service
 public class AvailabilityService{
 
+    static final int MAX_SLOTS_RANGE_DAYS = 31;
+    static final int MAX_EXCEPTION_DAYS = 366;
+
     private final AvailabilityRulesRepository availabilityRulesRepository;
     private final ProviderExceptionsRepository providerExceptionsRepository;
     private final AvailabilityMapper availabilityMapper;
     private final BookingClient bookingClient;
+    private final InvalidationPublisher invalidationPublisher;
+    private final AvailabilitySummaryService availabilitySummaryService;
+    private final ProviderDayAvailabilityService providerDayAvailabilityService;
+    private final ProviderExceptionIndex providerExceptionIndex;
 
     public AvailabilityService(AvailabilityRulesRepository availabilityRulesRepository,
                                ProviderExceptionsRepository providerExceptionsRepository,
                                AvailabilityMapper availabilityMapper,
-                               BookingClient bookingClient) {
+                               BookingClient bookingClient,
+                               InvalidationPublisher invalidationPublisher,
+                               AvailabilitySummaryService availabilitySummaryService,
+                               ProviderDayAvailabilityService providerDayAvailabilityService,
+                               ProviderExceptionIndex providerExceptionIndex) {
         this.availabilityRulesRepository = availabilityRulesRepository;
         this.providerExceptionsRepository = providerExceptionsRepository;
         this.availabilityMapper = availabilityMapper;
         this.bookingClient = bookingClient;
+        this.invalidationPublisher = invalidationPublisher;
+        this.availabilitySummaryService = availabilitySummaryService;
+        this.providerDayAvailabilityService = providerDayAvailabilityService;
+        this.providerExceptionIndex = providerExceptionIndex;
     }
 
     @Transactional
@@ -87,6 +107,10 @@ public class AvailabilityService{
         }
         AvailabilityRules savedRule = availabilityRulesRepository.save(rule);
         log.info("Availability rule created with ID: {}", savedRule.getRuleId());
+        invalidationPublisher.publish(AvailabilityRulesCacheInvalidationHandler.ENTITY, savedRule.getRuleId());
+        availabilitySummaryService.publishAfterCommit(savedRule.getServiceProviderId(), savedRule.getServiceId());
+        providerDayAvailabilityService.markRulesChanged(savedRule.getServiceProviderId(), savedRule.getServiceId(),
+                savedRule.getDaysOfWeek());
         return availabilityMapper.AvailabilityToDto(savedRule);
     }
 
@@ -94,8 +118,10 @@ public class AvailabilityService{
     public ProviderExceptionDto createProviderException(ProviderExceptionDto dto){
         validateDate(LocalDate.parse(dto.getExceptionDate()));
         ProviderExceptions exception = availabilityMapper.DtoToProviderException(dto);
-        log.info("Creating provider exception for Service Provider ID: {}, Service ID: {}, Date: {}",
-                dto.getServiceProviderId(), dto.getServiceId(), dto.getExceptionDate());
+        validateExceptionPeriod(exception);
+        log.info("Creating provider exception for Service Provider ID: {}, Service ID: {}, Date: {} to {}",
+                dto.getServiceProviderId(), dto.getServiceId(), exception.getExceptionDate(),
+                exception.getExceptionEndDate());
 
         Optional<ProviderExceptions> existingException = providerExceptionsRepository
                 .findAllByServiceProviderIdAndServiceIdAndExceptionDateAndNewStartTimeAndNewEndTime(exception.getServiceProviderId(),
@@ -109,6 +135,10 @@ public class AvailabilityService{
 
         ProviderExceptions savedException = providerExceptionsRepository.save(exception);
         log.info("Provider exception created with ID: {}", savedException.getExceptionId());
+        exceptionsChanged(savedException.getServiceProviderId());
+        availabilitySummaryService.publishAfterCommit(savedException.getServiceProviderId());
+        providerDayAvailabilityService.markExceptionChanged(savedException.getServiceProviderId(),
+                savedException.getExceptionDate(), savedException.lastDate());
         return availabilityMapper.ProviderExceptionToDto(savedException);
     }
 
@@ -228,6 +258,46 @@ public class AvailabilityService{
             throw new IllegalArgumentException("Service Provider ID, Service ID, and Date must be provided");
         }
         validateDate(date);
+        Optional<List<Slot>> materialized = providerDayAvailabilityService.find(serviceProviderId, serviceId, date);
+        if (materialized.isPresent()){
+            return AvailabilitySlotsResponse.builder()
+                    .date(date)
+                    .availableSlots(materialized.get())
+                    .isDayAvailable(!materialized.get().isEmpty())
+                    .build();
+        }
+        return computeAvailabilitySlots(serviceProviderId, serviceId, date);
+    }
+
+    // Days without a fresh materialized row are computed live, one at a time
+    public List<AvailabilitySlotsResponse> getAvailabilitySlotsBetween(Long serviceProviderId,
+                                                                      Long serviceId,
+                                                                      LocalDate fromDate,
+                                                                      LocalDate toDate){
+        if(serviceProviderId == null || serviceId == null || fromDate == null || toDate == null){
+            throw new IllegalArgumentException("Service Provider ID, Service ID, from and to dates must be provided");
+        }
+        if(toDate.isBefore(fromDate) || ChronoUnit.DAYS.between(fromDate, toDate) >= MAX_SLOTS_RANGE_DAYS){
+            throw new IllegalArgumentException("Date range must be ordered and at most " + MAX_SLOTS_RANGE_DAYS + " days");
+        }
+        validateDate(fromDate);
+
+        Map<LocalDate, List<Slot>> materialized =
+                providerDayAvailabilityService.findBetween(serviceProviderId, serviceId, fromDate, toDate);
+        return fromDate.datesUntil(toDate.plusDays(1))
+                .map(date -> materialized.containsKey(date)
+                        ? AvailabilitySlotsResponse.builder()
+                                .date(date)
+                                .availableSlots(materialized.get(date))
+                                .isDayAvailable(!materialized.get(date).isEmpty())
+                                .build()
+                        : computeAvailabilitySlots(serviceProviderId, serviceId, date))
+                .toList();
+    }
+
+    private AvailabilitySlotsResponse computeAvailabilitySlots(Long serviceProviderId,
+                                                               Long serviceId,
+                                                               LocalDate date){
         AvailabilitySlotsResponse response = AvailabilitySlotsResponse.builder()
                 .date(date)
                 .availableSlots(new ArrayList<>())
@@ -243,32 +313,23 @@ public class AvailabilityService{
                         day);
 
         if (rules.isEmpty()){
-            log.info("No availability rules found for Service Provider ID: {}, Service ID: {}, Date: {}",
+            log.debug("No availability rules found for Service Provider ID: {}, Service ID: {}, Date: {}",
                     serviceProviderId, serviceId, date);
             return response;
         }
 
-        log.info("Found {} availability rules for Service Provider ID: {}, Service ID: {}, Date: {}",
-                rules.size(), serviceProviderId, serviceId, date);
-
         List<Slot> mergedSlots = mergeRules(rules);
         log.debug("Merged availability slots from rules: {}", mergedSlots);
 
-        List<ProviderExceptions> exceptions =
-                providerExceptionsRepository.findAllByServiceProviderIdAndExceptionDateOrderByNewStartTimeAsc(
-                        serviceProviderId,
-                        date
-                );
+        List<ProviderExceptions> exceptions = providerExceptionIndex.on(serviceProviderId, date);
 
         if (!exceptions.isEmpty()){
-            log.info("Found {} provider exceptions for Service Provider ID: {}, Date: {}",
-                    exceptions.size(), serviceProviderId, date);
             mergedSlots = mergeExceptions(mergedSlots, exceptions);
             log.debug("Merged availability slots after applying exceptions: {}", mergedSlots);
         }
 
         if(mergedSlots.isEmpty()){
-            log.info("No available slots after applying exceptions for Service Provider ID: {}, Service ID: {}, Date: {}",
+            log.debug("No available slots after applying exceptions for Service Provider ID: {}, Service ID: {}, Date: {}",
                     serviceProviderId, serviceId, date);
             return response;
         }
@@ -279,21 +340,23 @@ public class AvailabilityService{
                 serviceId,
                 date
         );
-        log.info("Fetched merged booked slots for pending and confirmed bookings, size of response list is {}",
-                bookedSlotsResponse.bookedSlots().size());
-
         List<Slot> bookedSlots = validatedBookedSlots(bookedSlotsResponse, serviceProviderId,
                 serviceId, date);
 
-        mergedSlots = mergeBookedSlots(mergedSlots, bookedSlots).stream()
-                .filter( s -> Duration.between(s.startTime(), s.endTime()).toMinutes() > 10)
-                .toList();
+        mergedSlots = withoutBookedSlots(mergedSlots, bookedSlots);
         log.debug("Final available slots after merging booked slots: {}", mergedSlots);
 
         boolean isDayAvailable = !mergedSlots.isEmpty();
 
-        log.info("Final available slots for Service Provider ID: {}, Service ID: {}, Date: {}: {}",
-                serviceProviderId, serviceId, date, mergedSlots);
+        log.atInfo()
+                .addKeyValue("serviceProviderId", serviceProviderId)
+                .addKeyValue("serviceId", serviceId)
+                .addKeyValue("date", date)
+                .addKeyValue("rules", rules.size())
+                .addKeyValue("exceptions", exceptions.size())
+                .addKeyValue("bookedSlots", bookedSlots.size())
+                .addKeyValue("availableSlots", mergedSlots.size())
+                .log("availability.slots");
 
         return AvailabilitySlotsResponse.builder()
                 .date(date)
@@ -302,7 +365,66 @@ public class AvailabilityService{
                 .build();
     }
 
-    private List<Slot> mergeBookedSlots(List<Slot> finalSlots, List<Slot> bookedSlots) {
+    // Confirms search candidates against rules, exceptions and bookings, in the given order, and stops once
+    // limit of them are free for the whole window, so only about limit booking lookups are made
+    public List<Long> confirmAvailableServices(AvailableServicesRequest request){
+        if(request.date() == null || request.startTime() == null || request.endTime() == null){
+            throw new IllegalArgumentException("Date, start time and end time must be provided");
+        }
+        if(!request.startTime().isBefore(request.endTime())){
+            throw new InvalidTimeSlotParametersException("Start time must be before end time.");
+        }
+        validateDate(request.date());
+        int limit = request.limit() == null || request.limit() <= 0 ? 10 : request.limit();
+        List<AvailableServicesRequest.ServiceCandidate> candidates =
+                request.candidates() == null ? List.of() : request.candidates();
+
+        List<Long> confirmed = new ArrayList<>();
+        int checked = 0;
+        for(AvailableServicesRequest.ServiceCandidate candidate : candidates){
+            if(confirmed.size() >= limit) break;
+            checked++;
+            List<Slot> freeSlots = getAvailabilitySlots(candidate.serviceProviderId(), candidate.serviceId(),
+                    request.date()).availableSlots();
+            boolean free = freeSlots.stream().anyMatch(slot ->
+                    !slot.startTime().isAfter(request.startTime()) && !slot.endTime().isBefore(request.endTime()));
+            if(free){
+                confirmed.add(candidate.serviceId());
+            }
+        }
+
+        log.atInfo()
+                .addKeyValue("date", request.date())
+                .addKeyValue("startTime", request.startTime())
+                .addKeyValue("endTime", request.endTime())
+                .addKeyValue("candidates", candidates.size())
+                .addKeyValue("checked", checked)
+                .addKeyValue("confirmed", confirmed.size())
+                .log("availability.confirm");
+        return confirmed;
+    }
+
+    // The free slots of one day, the same steps getAvailabilitySlots takes; rules and exceptions are that day's,
+    // ordered by start time. Used to fill the materialized availability.
+    static List<Slot> freeSlots(List<AvailabilityRules> rules, List<ProviderExceptions> exceptions,
+                                List<Slot> bookedSlots){
+        if (rules.isEmpty()) return List.of();
+        List<Slot> slots = mergeRules(rules);
+        if (!exceptions.isEmpty()){
+            slots = mergeExceptions(slots, exceptions);
+        }
+        if (slots.isEmpty()) return List.of();
+        return withoutBookedSlots(slots, bookedSlots);
+    }
+
+    // Slots of 10 minutes or less left between bookings are not offered
+    private static List<Slot> withoutBookedSlots(List<Slot> slots, List<Slot> bookedSlots) {
+        return mergeBookedSlots(slots, bookedSlots).stream()
+                .filter( s -> Duration.between(s.startTime(), s.endTime()).toMinutes() > 10)
+                .toList();
+    }
+
+    private static List<Slot> mergeBookedSlots(List<Slot> finalSlots, List<Slot> bookedSlots) {
         if(bookedSlots.isEmpty()) return finalSlots;
 
         List<Slot> availableSlots = new ArrayList<>();
@@ -358,7 +480,7 @@ public class AvailabilityService{
         return bookedSlotsResponse.bookedSlots() != null ? bookedSlotsResponse.bookedSlots() : new ArrayList<>();
     }
 
-    private List<Slot> mergeRules(List<AvailabilityRules> rules){
+    static List<Slot> mergeRules(List<AvailabilityRules> rules){
         List<Slot> slots = new ArrayList<>();
         if (rules.isEmpty()) return slots;
 
@@ -386,7 +508,7 @@ public class AvailabilityService{
         return slots;
     }
 
-    private List<Slot> mergeExceptions(List<Slot> rules, List<ProviderExceptions> exceptions){
+    private static List<Slot> mergeExceptions(List<Slot> rules, List<ProviderExceptions> exceptions){
         if(exceptions.isEmpty()) return rules;
 
         List<Slot> currentSlots = new ArrayList<>(rules);
@@ -434,7 +556,7 @@ public class AvailabilityService{
         return rules;
     }
 
-    private List<Slot> mergeOverlappingSlots(List<Slot> slots) {
+    private static List<Slot> mergeOverlappingSlots(List<Slot> slots) {
         if (slots.isEmpty()) return slots;
 
         List<Slot> mergedSlots = new ArrayList<>();
@@ -467,18 +589,35 @@ public class AvailabilityService{
                 .orElseThrow(()-> new EntityNotFoundException("Provider exception not found"));
 
         log.info("Found provider exception with ID: {}", exceptionId);
+        LocalDate previousDate = exception.getExceptionDate();
+        LocalDate previousEndDate = exception.lastDate();
         if(dto.getServiceId() != null) exception.setServiceId(dto.getServiceId());
-        if(dto.getExceptionDate() != null) exception.setExceptionDate(LocalDate.parse(dto.getExceptionDate()));
+        if(dto.getExceptionDate() != null){
+            // A new start date moves the whole range unless a new end date is given as well
+            LocalDate exceptionDate = LocalDate.parse(dto.getExceptionDate());
+            exception.setExceptionEndDate(previousEndDate.plusDays(ChronoUnit.DAYS.between(previousDate, exceptionDate)));
+            exception.setExceptionDate(exceptionDate);
+        }
+        if(dto.getExceptionEndDate() != null) exception.setExceptionEndDate(LocalDate.parse(dto.getExceptionEndDate()));
+        if(dto.getRecurrence() != null) exception.setRecurrence(dto.getRecurrence());
         if(dto.getNewStartTime() != null) exception.setNewStartTime(LocalTime.parse(dto.getNewStartTime()));
         if(dto.getNewEndTime() != null) exception.setNewEndTime(LocalTime.parse(dto.getNewEndTime()));
         if(dto.getExceptionReason() != null) exception.setExceptionReason(dto.getExceptionReason());
         if(dto.getExceptionType() != null) exception.setExceptionType(dto.getExceptionType());
 
+        validateExceptionPeriod(exception);
+
         log.info("Updated fields for provider exception with ID: {}", exceptionId);
 
         ProviderExceptions updatedException = providerExceptionsRepository.save(exception);
 
         log.info("Saved updated provider exception with ID: {}", exceptionId);
+        exceptionsChanged(updatedException.getServiceProviderId());
+        availabilitySummaryService.publishAfterCommit(updatedException.getServiceProviderId());
+        providerDayAvailabilityService.markExceptionChanged(updatedException.getServiceProviderId(), previousDate,
+                previousEndDate);
+        providerDayAvailabilityService.markExceptionChanged(updatedException.getServiceProviderId(),
+                updatedException.getExceptionDate(), updatedException.lastDate());
 
         return availabilityMapper.ProviderExceptionToDto(updatedException);
     }
@@ -493,6 +632,8 @@ public class AvailabilityService{
 
         log.info("Found availability rule with ID: {}", id);
 
+        Long previousServiceId = rule.getServiceId();
+        DayOfWeek[] previousDays = rule.getDaysOfWeek();
         if(dto.getServiceId() != null) rule.setServiceId(dto.getServiceId());
         if(dto.getStartTime() != null) rule.setStartTime(LocalTime.parse(dto.getStartTime()));
         if(dto.getEndTime() != null) rule.setEndTime(LocalTime.parse(dto.getEndTime()));
@@ -503,6 +644,13 @@ public class AvailabilityService{
         AvailabilityRules updatedRule = availabilityRulesRepository.save(rule);
 
         log.info("Saved updated availability rule with ID: {}", id);
+        invalidationPublisher.publish(AvailabilityRulesCacheInvalidationHandler.ENTITY, id);
+        availabilitySummaryService.publishAfterCommit(updatedRule.getServiceProviderId(), previousServiceId,
+                updatedRule.getServiceId());
+        providerDayAvailabilityService.markRulesChanged(updatedRule.getServiceProviderId(), previousServiceId,
+                previousDays);
+        providerDayAvailabilityService.markRulesChanged(updatedRule.getServiceProviderId(), updatedRule.getServiceId(),
+                updatedRule.getDaysOfWeek());
         return availabilityMapper.AvailabilityToDto(updatedRule);
     }
 
@@ -516,6 +664,10 @@ public class AvailabilityService{
 
         availabilityRulesRepository.delete(rule);
         log.info("Deleted availability rule with ID: {}", id);
+        invalidationPublisher.publish(AvailabilityRulesCacheInvalidationHandler.ENTITY, id);
+        availabilitySummaryService.publishAfterCommit(rule.getServiceProviderId(), rule.getServiceId());
+        providerDayAvailabilityService.markRulesChanged(rule.getServiceProviderId(), rule.getServiceId(),
+                rule.getDaysOfWeek());
     }
 
     public void deleteProviderException(Long id){
@@ -527,6 +679,10 @@ public class AvailabilityService{
                 .orElseThrow(()-> new EntityNotFoundException("Provider exception not found"));
         providerExceptionsRepository.delete(exception);
         log.info("Deleted provider exception with ID: {}", id);
+        exceptionsChanged(exception.getServiceProviderId());
+        availabilitySummaryService.publishAfterCommit(exception.getServiceProviderId());
+        providerDayAvailabilityService.markExceptionChanged(exception.getServiceProviderId(),
+                exception.getExceptionDate(), exception.lastDate());
     }
 
 
@@ -535,8 +691,6 @@ public class AvailabilityService{
             throw new IllegalArgumentException("Request cannot be null");
         }
         validateDate(request.date());
-        log.info("Checking availability for Service Provider ID: {}, Service ID: {}, Date: {}, Start Time: {}, End Time: {}",
-                request.serviceProviderId(), request.serviceId(), request.date(), request.startTime(), request.endTime());
 
         Long serviceProviderId = request.serviceProviderId();
 
@@ -560,29 +714,18 @@ public class AvailabilityService{
                 availabilityRulesRepository.findByServiceProviderAndServiceAndDayOrdered(serviceProviderId,
                 request.serviceId(), dayOfWeek);
 
-        log.info("Found {} availability rules for Service Provider ID: {}, Service ID: {}, Day of Week: {}",
-                rules.size(), serviceProviderId, request.serviceId(), dayOfWeek);
 
-
-        List<ProviderExceptions> exceptions =
-                providerExceptionsRepository.findAllByServiceProviderIdAndExceptionDateOrderByNewStartTimeAsc(serviceProviderId, request.date());
-
-        log.info("Found {} provider exceptions for Service Provider ID: {}, Date: {}",
-                exceptions.size(), serviceProviderId, request.date());
+        List<ProviderExceptions> exceptions = providerExceptionIndex.on(serviceProviderId, request.date());
 
         if (!exceptions.isEmpty()){
             boolean exceptionResult = checkTimeInAnyException(request, response, exceptions);
 
             if (exceptionResult){
-                log.info("Availability determined by exception for Service Provider ID: {}, Date: {}",
-                        serviceProviderId, request.date());
+                logAvailabilityCheck(request, response, rules.size(), exceptions.size(), "exception");
                 return response;
             }
         }
 
-        log.info("No applicable exceptions found or exceptions do not determine availability for Service Provider ID: {}, Date: {}. Checking regular availability rules.",
-                serviceProviderId, request.date());
-
         DayOfWeek day = request.date().getDayOfWeek();
 
         for (AvailabilityRules rule : rules){
@@ -592,32 +735,43 @@ public class AvailabilityService{
 
                 if(isWithinRange){
                     response.setStatus(Status.AVAILABLE);
-                    log.info("Service Provider ID: {} is AVAILABLE on Date: {} from {} to {} as per rule ID: {}",
-                            serviceProviderId, request.date(), request.startTime(), request.endTime(),
-                            rule.getRuleId());
+                    log.debug("Request matched availability rule ID: {}", rule.getRuleId());
+                    logAvailabilityCheck(request, response, rules.size(), exceptions.size(), "rule");
                     return response;
                 }
             }
         }
 
-        log.info("Service Provider ID: {} is NOT AVAILABLE on Date: {} from {} to {}",
-                serviceProviderId, request.date(), request.startTime(), request.endTime());
-
+        logAvailabilityCheck(request, response, rules.size(), exceptions.size(), "rule");
         return response;
     }
 
+    // One structured event per check, the per-exception/per-rule detail below is DEBUG and only
+    // emitted for sampled requests (see LogSamplingFilter)
+    private void logAvailabilityCheck(AvailabilityStatusRequest request, AvailabilityStatusResponse response,
+                                      int ruleCount, int exceptionCount, String decidedBy) {
+        log.atInfo()
+                .addKeyValue("serviceProviderId", request.serviceProviderId())
+                .addKeyValue("serviceId", request.serviceId())
+                .addKeyValue("date", request.date())
+                .addKeyValue("startTime", request.startTime())
+                .addKeyValue("endTime", request.endTime())
+                .addKeyValue("rules", ruleCount)
+                .addKeyValue("exceptions", exceptionCount)
+                .addKeyValue("decidedBy", decidedBy)
+                .addKeyValue("status", response.getStatus())
+                .log("availability.check");
+    }
+
     private boolean checkTimeInAnyException(AvailabilityStatusRequest request, AvailabilityStatusResponse response,
                                             List<ProviderExceptions> exceptions) {
-        log.info("Checking for applicable exceptions on Date: {} for Service Provider ID: {}",
-                request.date(), request.serviceProviderId());
-
         for(ProviderExceptions exception : exceptions){
             if(exception.getExceptionDate() == null ||
                     exception.getNewStartTime() == null ||
                     exception.getNewEndTime() == null ||
-                    !exception.getExceptionDate().equals(request.date())) {
+                    !exception.appliesOn(request.date())) {
 
-                log.info("Skipping exception ID: {} due to missing or non-matching date/time fields",
+                log.debug("Skipping exception ID: {} due to missing or non-matching date/time fields",
                         exception.getExceptionId());
 
                 continue;
@@ -629,7 +783,7 @@ public class AvailabilityService{
                 if(hasOverlap){
                     response.setStatus(Status.BLOCKED);
 
-                    log.info("Exception ID: {} BLOCKS availability for Service Provider ID: {} on Date: {}" +
+                    log.debug("Exception ID: {} BLOCKS availability for Service Provider ID: {} on Date: {}" +
                             "due to overlap between request time {} - {} and exception time {} - {}",
                             exception.getExceptionId(), request.serviceProviderId(), request.date(),
                             request.startTime(), request.endTime(),
@@ -645,7 +799,7 @@ public class AvailabilityService{
                 if (hasIntersection) {
                     if (!isFullyCovered(request.startTime(), request.endTime(),
                             exception.getNewStartTime(), exception.getNewEndTime())) {
-                        log.info("Given time slot {} to {} is not Fully covered by OVERRIDE exception ID: {}" +
+                        log.debug("Given time slot {} to {} is not Fully covered by OVERRIDE exception ID: {}" +
                                         " time slot {} to {} for Service Provider ID: {} on Date: {}",
                                 request.startTime(), request.endTime(),
                                 exception.getExceptionId(),
@@ -657,7 +811,7 @@ public class AvailabilityService{
                     }
 
                     response.setStatus(Status.AVAILABLE);
-                    log.info("Exception ID: {} OVERRIDES availability for Service Provider ID: {} on Date: {}",
+                    log.debug("Exception ID: {} OVERRIDES availability for Service Provider ID: {} on Date: {}",
                             exception.getExceptionId(), request.serviceProviderId(), request.date());
                     return true;
                 }
@@ -665,57 +819,64 @@ public class AvailabilityService{
             }
 
         }
-        log.info("No applicable exceptions found for Service Provider ID: {} on Date: {}",
-                request.serviceProviderId(), request.date());
         return false;
     }
 
     private boolean hasTimeIntersection(LocalTime requestStart, LocalTime requestEnd, LocalTime exceptionStart,
                                         LocalTime exceptionEnd){
-        log.info("Checking time intersection between request time {} - {} and exception time {} - {}",
-                requestStart, requestEnd, exceptionStart, exceptionEnd);
-
-        return !requestEnd.isBefore(exceptionStart) && !requestStart.isAfter(exceptionEnd);
+        boolean intersects = !requestEnd.isBefore(exceptionStart) && !requestStart.isAfter(exceptionEnd);
+        log.debug("Intersection between request time {} - {} and exception time {} - {}: {}",
+                requestStart, requestEnd, exceptionStart, exceptionEnd, intersects);
+        return intersects;
     }
 
     private boolean isFullyCovered(LocalTime requestStart, LocalTime requestEnd,
                                    LocalTime exceptionStart, LocalTime exceptionEnd) {
-        log.info("Checking if request time {} - {} is fully covered by exception time {} - {}",
-                requestStart, requestEnd, exceptionStart, exceptionEnd);
-
         boolean fullyCovered = !exceptionStart.isAfter(requestStart) && !exceptionEnd.isBefore(requestEnd);
-        log.info("Fully covered result: {}", fullyCovered);
+        log.debug("Request time {} - {} fully covered by exception time {} - {}: {}",
+                requestStart, requestEnd, exceptionStart, exceptionEnd, fullyCovered);
         return fullyCovered;
     }
 
     private boolean hasTimeOverlap(LocalTime requestStart, LocalTime requestEnd,
                                    LocalTime exceptionStart, LocalTime exceptionEnd) {
-        log.info("Checking for overlap between request time {} - {} and exception time {} - {}",
-                requestStart, requestEnd, exceptionStart, exceptionEnd);
-
         // No overlap if request ends exactly when exception starts, or vice versa
         boolean noOverlap = requestEnd.equals(exceptionStart) || requestStart.equals(exceptionEnd) ||
                 requestEnd.isBefore(exceptionStart) || requestStart.isAfter(exceptionEnd);
 
         boolean hasOverlap = !noOverlap;
-        log.info("Overlap result: {}", hasOverlap);
+        log.debug("Overlap between request time {} - {} and exception time {} - {}: {}",
+                requestStart, requestEnd, exceptionStart, exceptionEnd, hasOverlap);
         return hasOverlap;
     }
 
     private Boolean isWithinTimeRange(LocalTime requestStartTime, LocalTime requestEndTime,
                                       LocalTime ruleStartTime, LocalTime ruleEndTime) {
-        log.info("Checking if request time {} - {} is within availability rule {} - {}",
-                requestStartTime, requestEndTime, ruleStartTime, ruleEndTime);
-
         boolean startTimeCheck = !requestStartTime.isBefore(ruleStartTime) && !requestStartTime.isAfter(ruleEndTime);
         boolean endTimeCheck = !requestEndTime.isBefore(ruleStartTime) && !requestEndTime.isAfter(ruleEndTime);
 
         boolean isWithinRange = startTimeCheck && endTimeCheck;
-        log.info("Within range result: {} (start check: {}, end check: {})", isWithinRange, startTimeCheck, endTimeCheck);
-
+        log.debug("Request time {} - {} within availability rule {} - {}: {}",
+                requestStartTime, requestEndTime, ruleStartTime, ruleEndTime, isWithinRange);
         return isWithinRange;
     }
 
+    private void validateExceptionPeriod(ProviderExceptions exception){
+        LocalDate lastDate = exception.lastDate();
+        if(lastDate.isBefore(exception.getExceptionDate())){
+            throw new InvalidTimeSlotParametersException("Exception end date must not be before its start date.");
+        }
+        if(ChronoUnit.DAYS.between(exception.getExceptionDate(), lastDate) >= MAX_EXCEPTION_DAYS){
+            throw new InvalidTimeSlotParametersException("An exception can span at most " + MAX_EXCEPTION_DAYS + " days.");
+        }
+    }
+
+    // Drops the provider's exception interval tree here once the change commits and on the other instances
+    private void exceptionsChanged(Long serviceProviderId){
+        invalidationPublisher.publish(ProviderExceptionsInvalidationHandler.ENTITY, serviceProviderId);
+        providerExceptionIndex.evictAfterCommit(serviceProviderId);
+    }
+
     private void validateDate(LocalDate providedDate){
         if(providedDate.isBefore(LocalDate.now())){
             log.error("Provided date {} is in the past", providedDate);
@@ -0,0 +1,189 @@
+package com.sarthak.AvailabilityService.service;
+
+import com.sarthak.AvailabilityService.client.ServiceListingClient;
+import com.sarthak.AvailabilityService.config.shared.ServiceTokenProvider;
+import com.sarthak.AvailabilityService.dto.AvailabilitySummaryDto;
+import com.sarthak.AvailabilityService.dto.Slot;
+import com.sarthak.AvailabilityService.model.AvailabilityRules;
+import com.sarthak.AvailabilityService.model.ProviderExceptions;
+import com.sarthak.AvailabilityService.repository.AvailabilityRulesRepository;
+import com.sarthak.AvailabilityService.repository.ProviderExceptionsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+// Keeps the availability summaries in ServiceListingService current so search can filter by availability
+// without a call per result. Exceptions apply to all of a provider's services, so every change republishes
+// the summaries of the provider's services. Pushes run after commit on a background thread and never fail the
+// write; a missed push is corrected by the next change for that provider or by the nightly resync, which also
+// drops exceptions that are in the past.
+@Slf4j
+@Service
+public class AvailabilitySummaryService {
+
+    private final AvailabilityRulesRepository availabilityRulesRepository;
+    private final ProviderExceptionsRepository providerExceptionsRepository;
+    private final ServiceListingClient serviceListingClient;
+    private final ServiceTokenProvider serviceTokenProvider;
+    private final int batchSize;
+
+    private final ExecutorService pushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "availability-summary-push");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public AvailabilitySummaryService(AvailabilityRulesRepository availabilityRulesRepository,
+                                      ProviderExceptionsRepository providerExceptionsRepository,
+                                      ServiceListingClient serviceListingClient,
+                                      ServiceTokenProvider serviceTokenProvider,
+                                      @Value("${availability.summary.push-batch-size:200}") int batchSize) {
+        this.availabilityRulesRepository = availabilityRulesRepository;
+        this.providerExceptionsRepository = providerExceptionsRepository;
+        this.serviceListingClient = serviceListingClient;
+        this.serviceTokenProvider = serviceTokenProvider;
+        this.batchSize = batchSize;
+    }
+
+    // serviceIds are services that may have lost their last rule and would otherwise not be pushed again
+    public void publishAfterCommit(Long serviceProviderId, Long... serviceIds) {
+        if (serviceProviderId == null) {
+            return;
+        }
+        Runnable push = () -> pushExecutor.execute(() -> push(serviceProviderId, Arrays.asList(serviceIds)));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    push.run();
+                }
+            });
+        } else {
+            push.run();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resyncOnStartup() {
+        pushExecutor.execute(this::resync);
+    }
+
+    @Scheduled(cron = "${availability.summary.resync-cron:0 15 0 * * *}", zone = "Asia/Kolkata")
+    public void scheduledResync() {
+        pushExecutor.execute(this::resync);
+    }
+
+    void resync() {
+        try {
+            List<AvailabilitySummaryDto> batch = new ArrayList<>();
+            int pushed = 0;
+            for (Long serviceProviderId : availabilityRulesRepository.findDistinctServiceProviderIds()) {
+                batch.addAll(summarize(serviceProviderId, List.of()));
+                if (batch.size() >= batchSize) {
+                    pushed += send(batch);
+                    batch = new ArrayList<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                pushed += send(batch);
+            }
+            log.info("Availability summaries resynced: {} services", pushed);
+        } catch (RuntimeException ex) {
+            log.error("Failed to resync availability summaries", ex);
+        }
+    }
+
+    private void push(Long serviceProviderId, Collection<Long> serviceIds) {
+        try {
+            send(summarize(serviceProviderId, serviceIds));
+        } catch (RuntimeException ex) {
+            log.error("Failed to push availability summaries for provider {}", serviceProviderId, ex);
+        }
+    }
+
+    private int send(List<AvailabilitySummaryDto> summaries) {
+        if (!summaries.isEmpty()) {
+            serviceListingClient.putAvailabilitySummaries(serviceTokenProvider.getBearerToken(), summaries);
+        }
+        return summaries.size();
+    }
+
+    List<AvailabilitySummaryDto> summarize(Long serviceProviderId, Collection<Long> serviceIds) {
+        Map<Long, List<AvailabilityRules>> rulesByService = availabilityRulesRepository
+                .findAllByServiceProviderId(serviceProviderId).stream()
+                .collect(Collectors.groupingBy(AvailabilityRules::getServiceId));
+        List<AvailabilitySummaryDto.DateException> exceptions = dateExceptions(
+                providerExceptionsRepository.findOverlapping(serviceProviderId, LocalDate.now(), null), LocalDate.now());
+
+        Set<Long> services = new LinkedHashSet<>(rulesByService.keySet());
+        serviceIds.stream().filter(Objects::nonNull).forEach(services::add);
+
+        List<AvailabilitySummaryDto> summaries = new ArrayList<>();
+        for (Long serviceId : services) {
+            summaries.add(AvailabilitySummaryDto.builder()
+                    .serviceId(serviceId)
+                    .serviceProviderId(serviceProviderId)
+                    .weeklySlots(weeklySlots(rulesByService.getOrDefault(serviceId, List.of())))
+                    .exceptions(exceptions)
+                    .build());
+        }
+        return summaries;
+    }
+
+    static Map<DayOfWeek, List<Slot>> weeklySlots(List<AvailabilityRules> rules) {
+        Map<DayOfWeek, List<Slot>> weekly = new EnumMap<>(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            List<AvailabilityRules> dayRules = rules.stream()
+                    .filter(rule -> rule.isAvailableOn(day))
+                    .sorted(Comparator.comparing(AvailabilityRules::getStartTime))
+                    .toList();
+            if (!dayRules.isEmpty()) {
+                weekly.put(day, AvailabilityService.mergeRules(dayRules));
+            }
+        }
+        return weekly;
+    }
+
+    // The summaries carry one entry per date, so multi-day and weekly exceptions are expanded from today on
+    static List<AvailabilitySummaryDto.DateException> dateExceptions(List<ProviderExceptions> exceptions,
+                                                                     LocalDate today) {
+        List<AvailabilitySummaryDto.DateException> dateExceptions = new ArrayList<>();
+        for (ProviderExceptions exception : exceptions) {
+            LocalDate from = exception.getExceptionDate().isBefore(today) ? today : exception.getExceptionDate();
+            from.datesUntil(exception.lastDate().plusDays(1))
+                    .filter(exception::appliesOn)
+                    .forEach(date -> dateExceptions.add(new AvailabilitySummaryDto.DateException(date,
+                            exception.getNewStartTime(), exception.getNewEndTime(), exception.getExceptionType())));
+        }
+        dateExceptions.sort(Comparator.comparing(AvailabilitySummaryDto.DateException::date)
+                .thenComparing(AvailabilitySummaryDto.DateException::startTime));
+        return dateExceptions;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pushExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,75 @@
+package com.sarthak.AvailabilityService.service;
+
+import com.sarthak.AvailabilityService.model.ProviderExceptions;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+// Immutable interval tree over the date ranges of one provider's exceptions. The exceptions are sorted by first
+// date and the tree is implicit in that array: the middle of every subrange is the root of its subtree and
+// maxLastDate holds the latest last date below it. A query skips every subtree that ends before the range and
+// everything right of a node that starts after it, so it costs O(log n + k) for k matches.
+final class ExceptionIntervalTree {
+
+    private final ProviderExceptions[] byFirstDate;
+    private final LocalDate[] maxLastDate;
+
+    ExceptionIntervalTree(Collection<ProviderExceptions> exceptions) {
+        this.byFirstDate = exceptions.stream()
+                .sorted(Comparator.comparing(ProviderExceptions::getExceptionDate))
+                .toArray(ProviderExceptions[]::new);
+        this.maxLastDate = new LocalDate[byFirstDate.length];
+        build(0, byFirstDate.length - 1);
+    }
+
+    int size() {
+        return byFirstDate.length;
+    }
+
+    // Exceptions whose range overlaps [fromDate, toDate], ordered by first date. Recurrence is not applied here.
+    List<ProviderExceptions> overlapping(LocalDate fromDate, LocalDate toDate) {
+        List<ProviderExceptions> result = new ArrayList<>();
+        collect(0, byFirstDate.length - 1, fromDate, toDate, result);
+        return result;
+    }
+
+    private LocalDate build(int low, int high) {
+        if (low > high) {
+            return null;
+        }
+        int mid = (low + high) >>> 1;
+        LocalDate max = byFirstDate[mid].lastDate();
+        LocalDate left = build(low, mid - 1);
+        LocalDate right = build(mid + 1, high);
+        if (left != null && left.isAfter(max)) {
+            max = left;
+        }
+        if (right != null && right.isAfter(max)) {
+            max = right;
+        }
+        maxLastDate[mid] = max;
+        return max;
+    }
+
+    private void collect(int low, int high, LocalDate fromDate, LocalDate toDate, List<ProviderExceptions> result) {
+        if (low > high) {
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        if (maxLastDate[mid].isBefore(fromDate)) {
+            return;
+        }
+        collect(low, mid - 1, fromDate, toDate, result);
+        ProviderExceptions exception = byFirstDate[mid];
+        if (exception.getExceptionDate().isAfter(toDate)) {
+            return;
+        }
+        if (!exception.lastDate().isBefore(fromDate)) {
+            result.add(exception);
+        }
+        collect(mid + 1, high, fromDate, toDate, result);
+    }
+}
@@ -0,0 +1,228 @@
+package com.sarthak.AvailabilityService.service;
+
+import com.sarthak.AvailabilityService.client.BookingClient;
+import com.sarthak.AvailabilityService.config.shared.ServiceTokenProvider;
+import com.sarthak.AvailabilityService.dto.Slot;
+import com.sarthak.AvailabilityService.dto.response.NextAvailableSlotResponse;
+import com.sarthak.AvailabilityService.exception.InvalidTimeSlotParametersException;
+import com.sarthak.AvailabilityService.model.AvailabilityRules;
+import com.sarthak.AvailabilityService.model.ProviderExceptions;
+import com.sarthak.AvailabilityService.repository.AvailabilityRulesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// The earliest free slot of at least a given duration, searched forward from a date in chunks of chunk-days days
+// instead of a slots request per day. The service's rules are read once; days whose weekday has no rule are
+// skipped without any lookup, since an override only widens a rule's hours and never opens a day on its own. For
+// the other days of a chunk the fresh materialized rows are used as they are, and the rest are computed from the
+// rules and the provider's ExceptionIntervalTree. Bookings only take time away, so the ranged booked-slots call is
+// made only when one of those days still has a long enough slot without them. The search stops at the first chunk
+// with a fit, so a provider with free time soon costs one chunk whatever the horizon. Today's slots are cut to
+// start no earlier than now, rounded up to the next CLIP_MINUTES, since a booking cannot start in the past; today
+// and now come from the Asia/Kolkata clock (ClockConfig) that BookingService checks bookings against.
+@Slf4j
+@Service
+public class NextAvailableSlotService {
+
+    private static final int CLIP_MINUTES = 5;
+
+    private final AvailabilityRulesRepository availabilityRulesRepository;
+    private final ProviderExceptionIndex providerExceptionIndex;
+    private final ProviderDayAvailabilityService providerDayAvailabilityService;
+    private final BookingClient bookingClient;
+    private final ServiceTokenProvider serviceTokenProvider;
+    private final int chunkDays;
+    private final int maxHorizonDays;
+    private final Clock clock;
+
+    public NextAvailableSlotService(AvailabilityRulesRepository availabilityRulesRepository,
+                                    ProviderExceptionIndex providerExceptionIndex,
+                                    ProviderDayAvailabilityService providerDayAvailabilityService,
+                                    BookingClient bookingClient,
+                                    ServiceTokenProvider serviceTokenProvider,
+                                    @Value("${availability.next-available.chunk-days:7}") int chunkDays,
+                                    @Value("${availability.next-available.max-horizon-days:90}") int maxHorizonDays,
+                                    Clock clock) {
+        this.availabilityRulesRepository = availabilityRulesRepository;
+        this.providerExceptionIndex = providerExceptionIndex;
+        this.providerDayAvailabilityService = providerDayAvailabilityService;
+        this.bookingClient = bookingClient;
+        this.serviceTokenProvider = serviceTokenProvider;
+        this.chunkDays = chunkDays;
+        this.maxHorizonDays = maxHorizonDays;
+        this.clock = clock;
+    }
+
+    // fromDate defaults to today and horizonDays to max-horizon-days
+    public NextAvailableSlotResponse findNextAvailableSlot(Long serviceProviderId, Long serviceId,
+                                                           int minDurationMinutes, LocalDate fromDate,
+                                                           Integer horizonDays) {
+        if (serviceProviderId == null || serviceId == null) {
+            throw new IllegalArgumentException("Service Provider ID and Service ID must be provided");
+        }
+        if (minDurationMinutes <= 0 || minDurationMinutes >= Duration.ofDays(1).toMinutes()) {
+            throw new InvalidTimeSlotParametersException("Minimum duration must be between 1 and 1439 minutes.");
+        }
+        int horizon = horizonDays == null ? maxHorizonDays : horizonDays;
+        if (horizon <= 0 || horizon > maxHorizonDays) {
+            throw new InvalidTimeSlotParametersException("Horizon must be between 1 and " + maxHorizonDays + " days.");
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDate today = now.toLocalDate();
+        LocalDate from = fromDate == null ? today : fromDate;
+        if (from.isBefore(today)) {
+            throw new IllegalArgumentException("Date cannot be in the past");
+        }
+        LocalDate lastDate = from.plusDays(horizon - 1L);
+        Duration minDuration = Duration.ofMinutes(minDurationMinutes);
+        LocalTime earliestToday = earliestStart(now.toLocalTime());
+
+        Map<DayOfWeek, List<AvailabilityRules>> rulesByDay = rulesByDay(
+                availabilityRulesRepository.findAllByServiceProviderIdAndServiceId(serviceProviderId, serviceId));
+
+        NextAvailableSlotResponse found = null;
+        int chunks = 0;
+        int daysChecked = 0;
+        for (LocalDate chunkFrom = from; found == null && !rulesByDay.isEmpty() && !chunkFrom.isAfter(lastDate);
+             chunkFrom = chunkFrom.plusDays(chunkDays)) {
+            LocalDate chunkTo = chunkFrom.plusDays(chunkDays - 1L);
+            List<LocalDate> dates = chunkFrom.datesUntil((chunkTo.isAfter(lastDate) ? lastDate : chunkTo).plusDays(1))
+                    .filter(date -> rulesByDay.containsKey(date.getDayOfWeek()))
+                    .toList();
+            if (dates.isEmpty()) {
+                continue;
+            }
+            chunks++;
+            daysChecked += dates.size();
+            found = firstFit(serviceProviderId, serviceId, dates, rulesByDay, minDuration, today, earliestToday);
+        }
+
+        log.atInfo()
+                .addKeyValue("serviceProviderId", serviceProviderId)
+                .addKeyValue("serviceId", serviceId)
+                .addKeyValue("minDuration", minDurationMinutes)
+                .addKeyValue("horizon", horizon)
+                .addKeyValue("chunks", chunks)
+                .addKeyValue("daysChecked", daysChecked)
+                .addKeyValue("date", found == null ? null : found.date())
+                .log("availability.next_available");
+
+        if (found != null) {
+            return found;
+        }
+        return NextAvailableSlotResponse.builder()
+                .serviceProviderId(serviceProviderId)
+                .serviceId(serviceId)
+                .isSlotAvailable(false)
+                .build();
+    }
+
+    // dates are ascending and each has at least one rule; earliestToday is null once nothing can start today
+    private NextAvailableSlotResponse firstFit(Long serviceProviderId, Long serviceId, List<LocalDate> dates,
+                                              Map<DayOfWeek, List<AvailabilityRules>> rulesByDay,
+                                              Duration minDuration, LocalDate today, LocalTime earliestToday) {
+        LocalDate firstDate = dates.getFirst();
+        LocalDate lastDate = dates.getLast();
+        Map<LocalDate, List<Slot>> materialized =
+                providerDayAvailabilityService.findBetween(serviceProviderId, serviceId, firstDate, lastDate);
+
+        // Exceptions of the days that have to be computed and could still fit once bookings are taken out
+        Map<LocalDate, List<ProviderExceptions>> candidates = new LinkedHashMap<>();
+        List<ProviderExceptions> exceptions = null;
+        for (LocalDate date : dates) {
+            if (materialized.containsKey(date)) {
+                continue;
+            }
+            if (exceptions == null) {
+                exceptions = providerExceptionIndex.between(serviceProviderId, firstDate, lastDate);
+            }
+            List<ProviderExceptions> dayExceptions = exceptions.stream()
+                    .filter(exception -> exception.appliesOn(date))
+                    .sorted(Comparator.comparing(ProviderExceptions::getNewStartTime))
+                    .toList();
+            List<AvailabilityRules> dayRules = rulesByDay.get(date.getDayOfWeek());
+            LocalTime notBefore = date.equals(today) ? earliestToday : LocalTime.MIN;
+            if (fit(AvailabilityService.freeSlots(dayRules, dayExceptions, List.of()), minDuration, notBefore) != null) {
+                candidates.put(date, dayExceptions);
+            }
+        }
+
+        Map<LocalDate, List<Slot>> bookedSlots = candidates.isEmpty()
+                ? Map.of()
+                : ProviderDayAvailabilityService.bookedSlotsByDate(
+                        bookingClient.getBookedSlotsForProviderBetween(serviceTokenProvider.getBearerToken(),
+                                serviceProviderId, serviceId, candidates.keySet().iterator().next(), lastDate),
+                        serviceProviderId, serviceId);
+
+        for (LocalDate date : dates) {
+            List<Slot> slots;
+            if (materialized.containsKey(date)) {
+                slots = materialized.get(date);
+            } else if (candidates.containsKey(date)) {
+                slots = AvailabilityService.freeSlots(rulesByDay.get(date.getDayOfWeek()), candidates.get(date),
+                        bookedSlots.getOrDefault(date, List.of()));
+            } else {
+                continue;
+            }
+            Slot slot = fit(slots, minDuration, date.equals(today) ? earliestToday : LocalTime.MIN);
+            if (slot != null) {
+                return NextAvailableSlotResponse.builder()
+                        .serviceProviderId(serviceProviderId)
+                        .serviceId(serviceId)
+                        .date(date)
+                        .slot(slot)
+                        .isSlotAvailable(true)
+                        .build();
+            }
+        }
+        return null;
+    }
+
+    // The first slot still at least minDuration long once cut to start at notBefore, null for no fit
+    static Slot fit(List<Slot> slots, Duration minDuration, LocalTime notBefore) {
+        if (notBefore == null) {
+            return null;
+        }
+        return slots.stream()
+                .filter(slot -> slot.endTime().isAfter(notBefore))
+                .map(slot -> slot.startTime().isBefore(notBefore) ? new Slot(notBefore, slot.endTime()) : slot)
+                .filter(slot -> Duration.between(slot.startTime(), slot.endTime()).compareTo(minDuration) >= 0)
+                .findFirst()
+                .orElse(null);
+    }
+
+    // now rounded up to the next CLIP_MINUTES, null when that is already tomorrow
+    static LocalTime earliestStart(LocalTime now) {
+        long step = Duration.ofMinutes(CLIP_MINUTES).toNanos();
+        long rounded = (now.toNanoOfDay() + step - 1) / step * step;
+        return rounded >= Duration.ofDays(1).toNanos() ? null : LocalTime.ofNanoOfDay(rounded);
+    }
+
+    // Each weekday's rules ordered by start time, weekdays without rules left out
+    private static Map<DayOfWeek, List<AvailabilityRules>> rulesByDay(List<AvailabilityRules> rules) {
+        Map<DayOfWeek, List<AvailabilityRules>> rulesByDay = new EnumMap<>(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            List<AvailabilityRules> dayRules = rules.stream()
+                    .filter(rule -> rule.isAvailableOn(day))
+                    .sorted(Comparator.comparing(AvailabilityRules::getStartTime))
+                    .toList();
+            if (!dayRules.isEmpty()) {
+                rulesByDay.put(day, dayRules);
+            }
+        }
+        return rulesByDay;
+    }
+}
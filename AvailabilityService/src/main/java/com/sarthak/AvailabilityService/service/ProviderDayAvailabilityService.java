@@ -0,0 +1,346 @@
+package com.sarthak.AvailabilityService.service;
+
+import com.sarthak.AvailabilityService.client.BookingClient;
+import com.sarthak.AvailabilityService.config.shared.ServiceTokenProvider;
+import com.sarthak.AvailabilityService.dto.BookedSlotsResponse;
+import com.sarthak.AvailabilityService.dto.Slot;
+import com.sarthak.AvailabilityService.exception.ServiceClientResponseMismatchException;
+import com.sarthak.AvailabilityService.model.AvailabilityRules;
+import com.sarthak.AvailabilityService.model.ProviderDayAvailability;
+import com.sarthak.AvailabilityService.model.ProviderExceptions;
+import com.sarthak.AvailabilityService.repository.AvailabilityRulesRepository;
+import com.sarthak.AvailabilityService.repository.ProviderDayAvailabilityRepository;
+import com.sarthak.AvailabilityService.repository.ProviderExceptionsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+// Materialized availability, off unless availability.materialized.enabled=true: the free slots of every provider,
+// service and day in the next window-days days, kept in provider_day_availability so a slots read is one indexed
+// lookup instead of the rules and exceptions queries plus a booking service call.
+//
+// Writers only mark the affected days stale: rule and exception changes from AvailabilityService, booking changes
+// from BookingService through the invalidation bus (BookedSlotsInvalidationHandler). The refresher claims stale
+// rows in a short transaction, setting a claim-timeout lease that other instances skip, so instances share the
+// work without holding row locks. It then recomputes each provider and service in the batch from its rules,
+// exceptions and a single ranged booked-slots call outside any transaction, so a slow booking service never
+// blocks the writers. Every stale mark bumps the row's stale_version and a result is only written back if that
+// is unchanged since the claim, so a change is never lost to a refresh that read older data. Stale and missing
+// rows, and rows computed longer than max-age ago (the bound for a missed notification), are not served; those
+// reads are computed live as before.
+@Slf4j
+@Service
+public class ProviderDayAvailabilityService {
+
+    private static final List<Integer> ALL_ISO_DAYS = List.of(1, 2, 3, 4, 5, 6, 7);
+
+    private final ProviderDayAvailabilityRepository providerDayAvailabilityRepository;
+    private final AvailabilityRulesRepository availabilityRulesRepository;
+    private final ProviderExceptionsRepository providerExceptionsRepository;
+    private final BookingClient bookingClient;
+    private final ServiceTokenProvider serviceTokenProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int windowDays;
+    private final int batchSize;
+    private final Duration maxAge;
+    private final Duration claimTimeout;
+
+    public ProviderDayAvailabilityService(ProviderDayAvailabilityRepository providerDayAvailabilityRepository,
+                                          AvailabilityRulesRepository availabilityRulesRepository,
+                                          ProviderExceptionsRepository providerExceptionsRepository,
+                                          BookingClient bookingClient,
+                                          ServiceTokenProvider serviceTokenProvider,
+                                          TransactionTemplate transactionTemplate,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${availability.materialized.enabled:false}") boolean enabled,
+                                          @Value("${availability.materialized.window-days:60}") int windowDays,
+                                          @Value("${availability.materialized.refresh-batch-size:200}") int batchSize,
+                                          @Value("${availability.materialized.max-age:1h}") Duration maxAge,
+                                          @Value("${availability.materialized.claim-timeout:5m}") Duration claimTimeout) {
+        this.providerDayAvailabilityRepository = providerDayAvailabilityRepository;
+        this.availabilityRulesRepository = availabilityRulesRepository;
+        this.providerExceptionsRepository = providerExceptionsRepository;
+        this.bookingClient = bookingClient;
+        this.serviceTokenProvider = serviceTokenProvider;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.windowDays = windowDays;
+        this.batchSize = batchSize;
+        this.maxAge = maxAge;
+        this.claimTimeout = claimTimeout;
+    }
+
+    public Optional<List<Slot>> find(Long serviceProviderId, Long serviceId, LocalDate date) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Optional<List<Slot>> slots = providerDayAvailabilityRepository
+                .findByServiceProviderIdAndServiceIdAndAvailabilityDate(serviceProviderId, serviceId, date)
+                .filter(this::isFresh)
+                .map(ProviderDayAvailability::getFreeSlots);
+        countReads(slots.isPresent() ? 1 : 0, slots.isPresent() ? 0 : 1);
+        return slots;
+    }
+
+    // Fresh days between fromDate and toDate; the caller computes the others
+    public Map<LocalDate, List<Slot>> findBetween(Long serviceProviderId, Long serviceId,
+                                                  LocalDate fromDate, LocalDate toDate) {
+        if (!enabled) {
+            return Map.of();
+        }
+        Map<LocalDate, List<Slot>> slots = new HashMap<>();
+        providerDayAvailabilityRepository
+                .findAllByServiceProviderIdAndServiceIdAndAvailabilityDateBetweenOrderByAvailabilityDateAsc(
+                        serviceProviderId, serviceId, fromDate, toDate).stream()
+                .filter(this::isFresh)
+                .forEach(day -> slots.put(day.getAvailabilityDate(), day.getFreeSlots()));
+        long days = fromDate.datesUntil(toDate.plusDays(1)).count();
+        countReads(slots.size(), days - slots.size());
+        return slots;
+    }
+
+    // serviceId null marks every service of the provider
+    @Transactional
+    public void markRulesChanged(Long serviceProviderId, Long serviceId, DayOfWeek... days) {
+        if (!enabled || serviceProviderId == null || days.length == 0) {
+            return;
+        }
+        List<Integer> isoDays = Arrays.stream(days).map(DayOfWeek::getValue).distinct().toList();
+        LocalDate today = LocalDate.now();
+        providerDayAvailabilityRepository.markStale(serviceProviderId, serviceId, today, lastDay(today), isoDays);
+    }
+
+    // Exceptions apply to all of a provider's services
+    @Transactional
+    public void markExceptionChanged(Long serviceProviderId, LocalDate fromDate, LocalDate toDate) {
+        if (!enabled || serviceProviderId == null || fromDate == null || toDate == null) {
+            return;
+        }
+        markDays(serviceProviderId, null, fromDate, toDate);
+    }
+
+    @Transactional
+    public void markBookingChanged(Long serviceProviderId, Long serviceId, LocalDate date) {
+        if (!enabled || serviceProviderId == null || serviceId == null || date == null) {
+            return;
+        }
+        markDays(serviceProviderId, serviceId, date, date);
+    }
+
+    // Used when invalidation notifications may have been missed
+    @Transactional
+    public void markAllStale() {
+        if (!enabled) {
+            return;
+        }
+        int marked = providerDayAvailabilityRepository.markAllStale();
+        log.info("Marked {} materialized availability days stale", marked);
+    }
+
+    private void markDays(Long serviceProviderId, Long serviceId, LocalDate fromDate, LocalDate toDate) {
+        LocalDate today = LocalDate.now();
+        LocalDate from = fromDate.isBefore(today) ? today : fromDate;
+        LocalDate to = toDate.isAfter(lastDay(today)) ? lastDay(today) : toDate;
+        if (from.isAfter(to)) {
+            return;
+        }
+        providerDayAvailabilityRepository.markStale(serviceProviderId, serviceId, from, to, ALL_ISO_DAYS);
+    }
+
+    @Scheduled(fixedDelayString = "${availability.materialized.refresh-interval-ms:1000}")
+    public void refreshStale() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int refreshed = refreshBatch();
+            if (refreshed > 0) {
+                meterRegistry.counter("availability.materialized.refreshed").increment(refreshed);
+                log.debug("Refreshed {} materialized availability days", refreshed);
+            }
+        } catch (RuntimeException ex) {
+            log.error("Failed to refresh materialized availability", ex);
+        }
+    }
+
+    // Must not run in a transaction: each claim and write-back commits on its own, and the booked-slots calls
+    // in between hold no locks
+    int refreshBatch() {
+        LocalDate today = LocalDate.now();
+        Instant now = Instant.now();
+        List<ProviderDayAvailability> claimed = transactionTemplate.execute(status -> {
+            List<ProviderDayAvailability> rows = providerDayAvailabilityRepository.claimRefreshBatch(
+                    today, lastDay(today), now.minus(maxAge), now, batchSize);
+            if (!rows.isEmpty()) {
+                providerDayAvailabilityRepository.claim(ids(rows), now.plus(claimTimeout));
+            }
+            return rows;
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+        Map<List<Long>, List<ProviderDayAvailability>> byService = claimed.stream()
+                .collect(Collectors.groupingBy(day -> List.of(day.getServiceProviderId(), day.getServiceId()),
+                        LinkedHashMap::new, Collectors.toList()));
+
+        int refreshed = 0;
+        for (List<ProviderDayAvailability> days : byService.values()) {
+            try {
+                recompute(days);
+                refreshed += writeBack(days);
+            } catch (RuntimeException ex) {
+                // Left stale and served live until a later run succeeds
+                log.warn("Failed to refresh availability of provider {} service {}: {}",
+                        days.getFirst().getServiceProviderId(), days.getFirst().getServiceId(), ex.toString());
+                releaseClaims(days);
+            }
+        }
+        return refreshed;
+    }
+
+    private void recompute(List<ProviderDayAvailability> days) {
+        Long serviceProviderId = days.getFirst().getServiceProviderId();
+        Long serviceId = days.getFirst().getServiceId();
+        LocalDate fromDate = days.stream().map(ProviderDayAvailability::getAvailabilityDate)
+                .min(Comparator.naturalOrder()).orElseThrow();
+        LocalDate toDate = days.stream().map(ProviderDayAvailability::getAvailabilityDate)
+                .max(Comparator.naturalOrder()).orElseThrow();
+
+        List<AvailabilityRules> rules =
+                availabilityRulesRepository.findAllByServiceProviderIdAndServiceId(serviceProviderId, serviceId);
+        // Read from the database rather than ProviderExceptionIndex, whose entry may not be evicted yet when a
+        // change that marked these days stale has just committed
+        ExceptionIntervalTree exceptions = new ExceptionIntervalTree(
+                providerExceptionsRepository.findOverlapping(serviceProviderId, fromDate, toDate));
+        Map<LocalDate, List<Slot>> bookedSlots = rules.isEmpty()
+                ? Map.of()
+                : bookedSlots(serviceProviderId, serviceId, fromDate, toDate);
+
+        Instant computedAt = Instant.now();
+        for (ProviderDayAvailability day : days) {
+            LocalDate date = day.getAvailabilityDate();
+            List<AvailabilityRules> dayRules = rules.stream()
+                    .filter(rule -> rule.isAvailableOn(date.getDayOfWeek()))
+                    .sorted(Comparator.comparing(AvailabilityRules::getStartTime))
+                    .toList();
+            List<ProviderExceptions> dayExceptions = exceptions.overlapping(date, date).stream()
+                    .filter(exception -> exception.appliesOn(date))
+                    .sorted(Comparator.comparing(ProviderExceptions::getNewStartTime))
+                    .toList();
+            day.setFreeSlots(AvailabilityService.freeSlots(dayRules, dayExceptions,
+                    bookedSlots.getOrDefault(date, List.of())));
+            day.setComputedAt(computedAt);
+        }
+    }
+
+    // Days marked stale again since the claim keep their mark and are picked up by the next run
+    private int writeBack(List<ProviderDayAvailability> days) {
+        Integer written = transactionTemplate.execute(status -> {
+            int count = 0;
+            for (ProviderDayAvailability day : days) {
+                if (providerDayAvailabilityRepository.writeRefreshed(day.getId(), day.getStaleVersion(),
+                        day.getFreeSlots(), day.getComputedAt()) == 1) {
+                    day.setStale(false);
+                    count++;
+                }
+            }
+            providerDayAvailabilityRepository.releaseClaims(ids(days));
+            return count;
+        });
+        return written == null ? 0 : written;
+    }
+
+    private void releaseClaims(List<ProviderDayAvailability> days) {
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> providerDayAvailabilityRepository.releaseClaims(ids(days)));
+        } catch (RuntimeException ex) {
+            // The claims run out after claim-timeout
+            log.warn("Failed to release refresh claims: {}", ex.toString());
+        }
+    }
+
+    private static List<Long> ids(List<ProviderDayAvailability> days) {
+        return days.stream().map(ProviderDayAvailability::getId).toList();
+    }
+
+    private Map<LocalDate, List<Slot>> bookedSlots(Long serviceProviderId, Long serviceId,
+                                                   LocalDate fromDate, LocalDate toDate) {
+        List<BookedSlotsResponse> responses = bookingClient.getBookedSlotsForProviderBetween(
+                serviceTokenProvider.getBearerToken(), serviceProviderId, serviceId, fromDate, toDate);
+        return bookedSlotsByDate(responses, serviceProviderId, serviceId);
+    }
+
+    static Map<LocalDate, List<Slot>> bookedSlotsByDate(List<BookedSlotsResponse> responses,
+                                                        Long serviceProviderId, Long serviceId) {
+        Map<LocalDate, List<Slot>> bookedSlots = new HashMap<>();
+        for (BookedSlotsResponse response : responses == null ? List.<BookedSlotsResponse>of() : responses) {
+            if (!serviceProviderId.equals(response.serviceProviderId()) || !serviceId.equals(response.serviceId())) {
+                throw new ServiceClientResponseMismatchException("Mismatch in booked slots response data");
+            }
+            if (response.bookedSlots() != null) {
+                bookedSlots.put(LocalDate.parse(response.date()), response.bookedSlots());
+            }
+        }
+        return bookedSlots;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rollForwardOnStartup() {
+        rollForward();
+    }
+
+    // Drops the days that have passed and adds the new last day of the window
+    @Scheduled(cron = "${availability.materialized.roll-cron:0 5 0 * * *}", zone = "Asia/Kolkata")
+    public void rollForward() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            LocalDate today = LocalDate.now();
+            transactionTemplate.executeWithoutResult(status -> {
+                int dropped = providerDayAvailabilityRepository.deleteAllBefore(today);
+                int added = providerDayAvailabilityRepository.fillWindow(today, lastDay(today));
+                log.info("Materialized availability rolled forward to {}: {} past days dropped, {} days added",
+                        lastDay(today), dropped, added);
+            });
+        } catch (RuntimeException ex) {
+            log.error("Failed to roll materialized availability forward", ex);
+        }
+    }
+
+    private boolean isFresh(ProviderDayAvailability day) {
+        return !day.isStale() && day.getComputedAt().isAfter(Instant.now().minus(maxAge));
+    }
+
+    private LocalDate lastDay(LocalDate today) {
+        return today.plusDays(windowDays - 1L);
+    }
+
+    private void countReads(long hits, long misses) {
+        meterRegistry.counter("availability.materialized.reads", "result", "hit").increment(hits);
+        meterRegistry.counter("availability.materialized.reads", "result", "miss").increment(misses);
+    }
+}
@@ -0,0 +1,116 @@
+package com.sarthak.AvailabilityService.service;
+
+import com.sarthak.AvailabilityService.model.ProviderExceptions;
+import com.sarthak.AvailabilityService.repository.ProviderExceptionsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// A provider's exceptions still in effect, loaded with one range-indexed query into an ExceptionIntervalTree and
+// kept in a small local cache, so "exceptions on this date" and "exceptions overlapping these dates" are tree
+// lookups instead of a query per date. Entries are dropped after a writing transaction commits on this instance
+// and through the invalidation bus (ProviderExceptionsInvalidationHandler) on the others; the ttl bounds how
+// stale an entry can get when a notification is missed.
+@Service
+public class ProviderExceptionIndex {
+
+    private static final int VERSION_STRIPES = 64;
+
+    private final ProviderExceptionsRepository providerExceptionsRepository;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<Long, CachedTree> cache = new ConcurrentHashMap<>();
+    // bumped on every eviction, a load only stays cached if no eviction hit its stripe meanwhile
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    public ProviderExceptionIndex(ProviderExceptionsRepository providerExceptionsRepository,
+                                  @Value("${availability.exception-index.ttl-seconds:300}") long ttlSeconds,
+                                  @Value("${availability.exception-index.max-entries:10000}") int maxEntries) {
+        this.providerExceptionsRepository = providerExceptionsRepository;
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    // Exceptions that apply on date, ordered by start time
+    public List<ProviderExceptions> on(Long serviceProviderId, LocalDate date) {
+        return tree(serviceProviderId).overlapping(date, date).stream()
+                .filter(exception -> exception.appliesOn(date))
+                .sorted(Comparator.comparing(ProviderExceptions::getNewStartTime))
+                .toList();
+    }
+
+    // Exceptions whose range overlaps fromDate..toDate, ordered by first date. A weekly one may not apply on
+    // every date of its range, check appliesOn per date.
+    public List<ProviderExceptions> between(Long serviceProviderId, LocalDate fromDate, LocalDate toDate) {
+        return tree(serviceProviderId).overlapping(fromDate, toDate);
+    }
+
+    public void evictAfterCommit(Long serviceProviderId) {
+        if (serviceProviderId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(List.of(serviceProviderId));
+                }
+            });
+        } else {
+            evict(List.of(serviceProviderId));
+        }
+    }
+
+    public void evict(Collection<Long> serviceProviderIds) {
+        for (Long serviceProviderId : serviceProviderIds) {
+            versions.incrementAndGet(stripeOf(serviceProviderId));
+            cache.remove(serviceProviderId);
+        }
+    }
+
+    public void evictAll() {
+        for (int stripe = 0; stripe < VERSION_STRIPES; stripe++) {
+            versions.incrementAndGet(stripe);
+        }
+        cache.clear();
+    }
+
+    // Exceptions that ended before the day of the load stay out; reads are never for past dates
+    private ExceptionIntervalTree tree(Long serviceProviderId) {
+        CachedTree cached = cache.get(serviceProviderId);
+        if (cached != null && System.nanoTime() - cached.loadedAtNanos() < ttlNanos) {
+            return cached.tree();
+        }
+
+        int stripe = stripeOf(serviceProviderId);
+        long version = versions.get(stripe);
+        ExceptionIntervalTree tree = new ExceptionIntervalTree(
+                providerExceptionsRepository.findOverlapping(serviceProviderId, LocalDate.now(), null));
+        if (cache.size() >= maxEntries) {
+            cache.clear();
+        }
+        CachedTree loaded = new CachedTree(tree, System.nanoTime());
+        cache.put(serviceProviderId, loaded);
+        // an eviction that raced the load may have been missed by the put above, drop what was just cached
+        if (versions.get(stripe) != version) {
+            cache.remove(serviceProviderId, loaded);
+        }
+        return tree;
+    }
+
+    private static int stripeOf(Long serviceProviderId) {
+        return Math.floorMod(Long.hashCode(serviceProviderId), VERSION_STRIPES);
+    }
+
+    private record CachedTree(ExceptionIntervalTree tree, long loadedAtNanos) {}
+}
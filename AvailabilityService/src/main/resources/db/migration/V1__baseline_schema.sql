@@ -0,0 +1,34 @@
+-- Schema as previously generated by hibernate ddl-auto=update. IF NOT EXISTS keeps it a no-op on
+-- databases that were created that way (flyway baselines them at version 0 and then runs this script).
+
+CREATE TABLE IF NOT EXISTS availability_rules (
+    rule_id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    service_provider_id BIGINT                      NOT NULL,
+    service_id          BIGINT                      NOT NULL,
+    start_time          TIME(6)                     NOT NULL,
+    end_time            TIME(6)                     NOT NULL,
+    days_of_week        SMALLINT                    NOT NULL,
+    created_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_provider_service_start_end UNIQUE (service_provider_id, service_id, start_time, end_time)
+);
+
+CREATE INDEX IF NOT EXISTS idx_provider_day ON availability_rules (service_provider_id, days_of_week);
+CREATE INDEX IF NOT EXISTS idx_provide_service_id ON availability_rules (service_provider_id, service_id);
+CREATE INDEX IF NOT EXISTS idx_service_id ON availability_rules (service_id);
+
+CREATE TABLE IF NOT EXISTS provider_exceptions (
+    exception_id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    service_provider_id BIGINT                      NOT NULL,
+    service_id          BIGINT                      NOT NULL,
+    exception_date      DATE                        NOT NULL,
+    new_start_time      TIME(6)                     NOT NULL,
+    new_end_time        TIME(6)                     NOT NULL,
+    exception_reason    VARCHAR(255)                NOT NULL,
+    exception_type      VARCHAR(255)                NOT NULL CHECK (exception_type IN ('OVERRIDE', 'BLOCKED')),
+    created_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_exception_per_day_per_provider
+        UNIQUE (service_provider_id, service_id, exception_date, new_start_time, new_end_time)
+);
+
+CREATE INDEX IF NOT EXISTS idx_service_provider_id ON provider_exceptions (service_provider_id, exception_date);
+CREATE INDEX IF NOT EXISTS idx_provider_service_id ON provider_exceptions (service_provider_id, service_id);
@@ -0,0 +1,17 @@
+-- days_of_week is a bitmask (bit 0 = Sunday ... bit 6 = Saturday, see AvailabilityRules), so a plain
+-- index on it cannot answer "rules active on Tuesday". One partial index per weekday on the bit
+-- expression does; AvailabilityRulesRepository issues the matching literal mask for the requested day.
+CREATE INDEX IF NOT EXISTS idx_rules_sunday
+    ON availability_rules (service_provider_id, service_id, start_time) WHERE (days_of_week & 1) <> 0;
+CREATE INDEX IF NOT EXISTS idx_rules_monday
+    ON availability_rules (service_provider_id, service_id, start_time) WHERE (days_of_week & 2) <> 0;
+CREATE INDEX IF NOT EXISTS idx_rules_tuesday
+    ON availability_rules (service_provider_id, service_id, start_time) WHERE (days_of_week & 4) <> 0;
+CREATE INDEX IF NOT EXISTS idx_rules_wednesday
+    ON availability_rules (service_provider_id, service_id, start_time) WHERE (days_of_week & 8) <> 0;
+CREATE INDEX IF NOT EXISTS idx_rules_thursday
+    ON availability_rules (service_provider_id, service_id, start_time) WHERE (days_of_week & 16) <> 0;
+CREATE INDEX IF NOT EXISTS idx_rules_friday
+    ON availability_rules (service_provider_id, service_id, start_time) WHERE (days_of_week & 32) <> 0;
+CREATE INDEX IF NOT EXISTS idx_rules_saturday
+    ON availability_rules (service_provider_id, service_id, start_time) WHERE (days_of_week & 64) <> 0;
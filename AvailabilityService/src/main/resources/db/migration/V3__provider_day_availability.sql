@@ -0,0 +1,16 @@
+-- Free slots per provider, service and day over the materialized window (ProviderDayAvailabilityService).
+-- A slots read is one lookup on uk_provider_service_date, a range read one scan of it. Writers only set
+-- stale; the refresher recomputes stale rows and rows computed before the max age, claiming them by
+-- availability_date, and the nightly roll-forward deletes past days by it as well.
+CREATE TABLE IF NOT EXISTS provider_day_availability (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    service_provider_id BIGINT                      NOT NULL,
+    service_id          BIGINT                      NOT NULL,
+    availability_date   DATE                        NOT NULL,
+    free_slots          JSONB                       NOT NULL,
+    stale               BOOLEAN                     NOT NULL,
+    computed_at         TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_provider_service_date UNIQUE (service_provider_id, service_id, availability_date)
+);
+
+CREATE INDEX IF NOT EXISTS idx_day_availability_date ON provider_day_availability (availability_date);
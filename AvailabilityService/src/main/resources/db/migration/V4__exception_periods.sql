@@ -0,0 +1,15 @@
+-- Exceptions cover a date range (exception_date .. exception_end_date), optionally only on the weekday of
+-- exception_date (recurrence WEEKLY), so a vacation is one row instead of one per day. Existing rows become
+-- single-day ranges. exception_period is the same range as a daterange; its GiST index answers "exceptions
+-- overlapping these dates" for ProviderExceptionIndex, which keeps each provider's exceptions in an interval tree.
+ALTER TABLE provider_exceptions ADD COLUMN IF NOT EXISTS exception_end_date DATE;
+UPDATE provider_exceptions SET exception_end_date = exception_date WHERE exception_end_date IS NULL;
+ALTER TABLE provider_exceptions ALTER COLUMN exception_end_date SET NOT NULL;
+
+ALTER TABLE provider_exceptions ADD COLUMN IF NOT EXISTS recurrence VARCHAR(255) NOT NULL DEFAULT 'NONE'
+    CHECK (recurrence IN ('NONE', 'WEEKLY'));
+
+ALTER TABLE provider_exceptions ADD COLUMN IF NOT EXISTS exception_period DATERANGE
+    GENERATED ALWAYS AS (daterange(exception_date, exception_end_date, '[]')) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_exceptions_period ON provider_exceptions USING gist (exception_period);
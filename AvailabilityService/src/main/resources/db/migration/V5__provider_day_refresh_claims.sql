@@ -0,0 +1,6 @@
+-- The refresher no longer holds row locks while it recomputes. It claims rows by setting claimed_until, a lease
+-- that other instances skip until it passes, and commits. Every stale mark bumps stale_version, and a result is
+-- only written back when stale_version still has the value read at the claim, so a day marked again while it
+-- was being recomputed stays stale.
+ALTER TABLE provider_day_availability ADD COLUMN IF NOT EXISTS stale_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE provider_day_availability ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMP(6) WITH TIME ZONE;
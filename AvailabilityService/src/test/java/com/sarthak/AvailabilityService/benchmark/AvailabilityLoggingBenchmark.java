@@ -0,0 +1,154 @@
+package com.sarthak.AvailabilityService.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.sarthak.AvailabilityService.config.logging.SampledDebugTurboFilter;
+import com.sarthak.AvailabilityService.dto.request.AvailabilityStatusRequest;
+import com.sarthak.AvailabilityService.dto.response.AvailabilityStatusResponse;
+import com.sarthak.AvailabilityService.model.AvailabilityRules;
+import com.sarthak.AvailabilityService.model.ExceptionType;
+import com.sarthak.AvailabilityService.model.ProviderExceptions;
+import com.sarthak.AvailabilityService.repository.AvailabilityRulesRepository;
+import com.sarthak.AvailabilityService.repository.ProviderExceptionsRepository;
+import com.sarthak.AvailabilityService.service.AvailabilityService;
+import com.sarthak.AvailabilityService.service.ProviderExceptionIndex;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Throughput of checkAvailability under the old and the new logging setup, the appender writes to a
+// discarding stream so only the logging cost on the request thread is measured.
+//   verbose: synchronous console appender with every hot-path line enabled, as before
+//   sampled: async appender, hot-path detail at DEBUG and only emitted for sampled requests
+// Run with:
+//   mvn -q test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+//       "-Dexec.args=-cp %classpath org.openjdk.jmh.Main AvailabilityLoggingBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class AvailabilityLoggingBenchmark {
+
+    private static final int EXCEPTIONS = 6;
+    private static final int RULES = 4;
+
+    @Param({"verbose", "sampled"})
+    public String logging;
+
+    private AvailabilityService availabilityService;
+    private AvailabilityStatusRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        configureLogging();
+
+        LocalDate date = LocalDate.now().plusDays(1);
+        List<AvailabilityRules> rules = new ArrayList<>();
+        for (int i = 0; i < RULES; i++) {
+            AvailabilityRules rule = new AvailabilityRules();
+            rule.setRuleId((long) i);
+            rule.setServiceProviderId(1L);
+            rule.setServiceId(1L);
+            rule.setDaysOfWeek(DayOfWeek.values());
+            rule.setStartTime(LocalTime.of(8 + i * 3, 0));
+            rule.setEndTime(LocalTime.of(10 + i * 3, 0));
+            rules.add(rule);
+        }
+        List<ProviderExceptions> exceptions = new ArrayList<>();
+        for (int i = 0; i < EXCEPTIONS; i++) {
+            ProviderExceptions exception = new ProviderExceptions();
+            exception.setExceptionId((long) i);
+            exception.setServiceProviderId(1L);
+            exception.setExceptionDate(date);
+            exception.setExceptionType(ExceptionType.BLOCKED);
+            exception.setNewStartTime(LocalTime.of(6 + i, 0));
+            exception.setNewEndTime(LocalTime.of(6 + i, 30));
+            exceptions.add(exception);
+        }
+
+        // plain proxies rather than Mockito mocks, whose invocation recording would dominate the measurement
+        ProviderExceptionIndex exceptionIndex = new ProviderExceptionIndex(
+                stub(ProviderExceptionsRepository.class, "findOverlapping", exceptions), 3600, 100);
+        availabilityService = new AvailabilityService(
+                stub(AvailabilityRulesRepository.class, "findByServiceProviderAndServiceAndDayOrdered", rules),
+                null, null, null, null, null, null, exceptionIndex);
+        // passes every exception, misses the first rules and lands in the last one
+        request = new AvailabilityStatusRequest(1L, 1L, LocalTime.of(17, 15), LocalTime.of(17, 45), date);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ((LoggerContext) LoggerFactory.getILoggerFactory()).stop();
+    }
+
+    @Benchmark
+    public AvailabilityStatusResponse checkAvailability() {
+        return availabilityService.checkAvailability(request);
+    }
+
+    private static <T> T stub(Class<T> repository, String method, Object result) {
+        return repository.cast(Proxy.newProxyInstance(repository.getClassLoader(), new Class<?>[]{repository},
+                (proxy, invoked, args) -> {
+                    if (invoked.getName().equals(method)) {
+                        return result;
+                    }
+                    throw new UnsupportedOperationException(invoked.getName());
+                }));
+    }
+
+    private void configureLogging() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d %5p [%t] %-40.40logger{39} : %m %kvp%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> console = new OutputStreamAppender<>();
+        console.setContext(context);
+        console.setName("CONSOLE");
+        console.setEncoder(encoder);
+        console.setOutputStream(OutputStream.nullOutputStream());
+        console.start();
+
+        Appender<ILoggingEvent> root = console;
+        ch.qos.logback.classic.Level applicationLevel = ch.qos.logback.classic.Level.DEBUG;
+        if ("sampled".equals(logging)) {
+            SampledDebugTurboFilter turboFilter = new SampledDebugTurboFilter();
+            turboFilter.setContext(context);
+            turboFilter.start();
+            context.addTurboFilter(turboFilter);
+
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(console);
+            async.start();
+            root = async;
+            applicationLevel = ch.qos.logback.classic.Level.INFO;
+        }
+
+        ch.qos.logback.classic.Logger rootLogger = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        rootLogger.setLevel(ch.qos.logback.classic.Level.WARN);
+        rootLogger.addAppender(root);
+        context.getLogger("com.sarthak").setLevel(applicationLevel);
+    }
+}
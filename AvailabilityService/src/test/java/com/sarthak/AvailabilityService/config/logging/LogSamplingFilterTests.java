@@ -0,0 +1,67 @@
+package com.sarthak.AvailabilityService.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LogSamplingFilterTests {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+
+    @AfterEach
+    void clearMdc() {
+        MDC.clear();
+    }
+
+    @Test
+    void isSampled_sameTraceId_sameDecision() {
+        LogSamplingFilter filter = new LogSamplingFilter(0.5);
+        int sampled = 0;
+        for (int i = 0; i < 1000; i++) {
+            String traceId = String.format("%032x", i * 7919L);
+            boolean decision = filter.isSampled(traceId);
+            assertEquals(decision, filter.isSampled(traceId));
+            if (decision) {
+                sampled++;
+            }
+        }
+        assertTrue(sampled > 350 && sampled < 650, "sampled " + sampled);
+        assertFalse(new LogSamplingFilter(0.0).isSampled("4bf92f3577b34da6a3ce929d0e0e4736"));
+        assertTrue(new LogSamplingFilter(1.0).isSampled(null));
+    }
+
+    @Test
+    void doFilter_sampledRequest_marksMdcOnlyForTheRequest() throws Exception {
+        LogSamplingFilter filter = new LogSamplingFilter(1.0);
+        AtomicReference<String> duringChain = new AtomicReference<>();
+
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                (request, response) -> duringChain.set(MDC.get(LogSamplingFilter.MDC_KEY)));
+
+        assertEquals("true", duringChain.get());
+        assertNull(MDC.get(LogSamplingFilter.MDC_KEY));
+    }
+
+    @Test
+    void turboFilter_acceptsApplicationDebugOnlyWhenSampled() {
+        SampledDebugTurboFilter turboFilter = new SampledDebugTurboFilter();
+        ch.qos.logback.classic.Logger appLogger = loggerContext.getLogger("com.sarthak.AvailabilityService.service.X");
+        ch.qos.logback.classic.Logger frameworkLogger = loggerContext.getLogger("org.hibernate.SQL");
+
+        assertEquals(FilterReply.NEUTRAL, turboFilter.decide(null, appLogger, Level.DEBUG, "m", null, null));
+
+        MDC.put(LogSamplingFilter.MDC_KEY, "true");
+        assertEquals(FilterReply.ACCEPT, turboFilter.decide(null, appLogger, Level.DEBUG, "m", null, null));
+        assertEquals(FilterReply.NEUTRAL, turboFilter.decide(null, appLogger, Level.TRACE, "m", null, null));
+        assertEquals(FilterReply.NEUTRAL, turboFilter.decide(null, frameworkLogger, Level.DEBUG, "m", null, null));
+    }
+}
@@ -0,0 +1,87 @@
+package com.sarthak.AvailabilityService.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Runs the flyway migrations against a real Postgres and checks every weekday variant of the
+// rules lookup is planned on its own partial index with a generic plan. Skipped when Docker is not
+// available.
+@Testcontainers(disabledWithoutDocker = true)
+public class AvailabilityRulesIndexUsageTests {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+
+        // one weekday per rule, rotating through the week
+        execute("""
+                INSERT INTO availability_rules (service_provider_id, service_id, start_time, end_time, days_of_week,
+                                                created_at)
+                SELECT g % 2000 + 1, g % 10 + 1, TIME '06:00' + (g / 2000) * INTERVAL '1 minute',
+                       TIME '18:00' + (g / 2000) * INTERVAL '1 minute', 1 << (g % 7), now()
+                FROM generate_series(1, 100000) g
+                """);
+        execute("ANALYZE availability_rules");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, idx_rules_sunday", "2, idx_rules_monday", "4, idx_rules_tuesday", "8, idx_rules_wednesday",
+            "16, idx_rules_thursday", "32, idx_rules_friday", "64, idx_rules_saturday"})
+    void findOrderedOnDay_usesWeekdayIndex(int mask, String index) throws SQLException {
+        String plan = explain("""
+                SELECT *
+                FROM availability_rules ar
+                WHERE ar.service_provider_id = $1
+                  AND ar.service_id = $2
+                  AND (ar.days_of_week & %d) <> 0 ORDER BY ar.start_time ASC
+                """.formatted(mask));
+
+        assertTrue(plan.contains(index), plan);
+    }
+
+    private static String explain(String sql) throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + sql)) {
+            StringBuilder plan = new StringBuilder();
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+            return plan.toString();
+        }
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", POSTGRES.getUsername());
+        properties.setProperty("password", POSTGRES.getPassword());
+        // simple protocol sends $1.. through untouched, EXPLAIN (GENERIC_PLAN) needs them unbound
+        properties.setProperty("preferQueryMode", "simple");
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), properties);
+    }
+}
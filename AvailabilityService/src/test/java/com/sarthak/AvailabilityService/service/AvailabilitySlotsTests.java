@@ -36,6 +36,12 @@ public class AvailabilitySlotsTests {
     @Mock
     private BookingClient bookingClient;
 
+    @Mock
+    private ProviderDayAvailabilityService providerDayAvailabilityService;
+
+    @Mock
+    private ProviderExceptionIndex providerExceptionIndex;
+
     @InjectMocks
     private AvailabilityService availabilityService;
 
@@ -95,7 +101,7 @@ public class AvailabilitySlotsTests {
         byte dayOfWeek = (byte) (LocalDate.parse("2025-09-21").getDayOfWeek().getValue() % 7);
 
         Mockito.when(availabilityRulesRepository.findByServiceProviderAndServiceAndDayOrdered(1L, 1L,dayOfWeek)).thenReturn(List.of(rule1, rule2));
-        Mockito.when(providerExceptionsRepository.findAllByServiceProviderIdAndExceptionDateOrderByNewStartTimeAsc(1L
+        Mockito.when(providerExceptionIndex.on(1L
                 , date)).thenReturn(List.of(exception1, exception2));
 
         Mockito.when(bookingClient.getBookedSlotsForProviderOnDate(1L, 1L, date))
@@ -171,7 +177,7 @@ public class AvailabilitySlotsTests {
         byte dayOfWeek = (byte) (LocalDate.parse("2025-09-21").getDayOfWeek().getValue() % 7);
 
         Mockito.when(availabilityRulesRepository.findByServiceProviderAndServiceAndDayOrdered(1L, 1L,dayOfWeek)).thenReturn(List.of(rule1, rule2));
-        Mockito.when(providerExceptionsRepository.findAllByServiceProviderIdAndExceptionDateOrderByNewStartTimeAsc(1L
+        Mockito.when(providerExceptionIndex.on(1L
                 , date)).thenReturn(List.of(exception1, exception2));
 
         Mockito.when(bookingClient.getBookedSlotsForProviderOnDate(1L, 1L, date))
@@ -249,7 +255,7 @@ public class AvailabilitySlotsTests {
         byte dayOfWeek = (byte) (LocalDate.parse("2025-09-21").getDayOfWeek().getValue() % 7);
 
         Mockito.when(availabilityRulesRepository.findByServiceProviderAndServiceAndDayOrdered(1L, 1L,dayOfWeek)).thenReturn(List.of(rule1, rule2));
-        Mockito.when(providerExceptionsRepository.findAllByServiceProviderIdAndExceptionDateOrderByNewStartTimeAsc(1L
+        Mockito.when(providerExceptionIndex.on(1L
                 , date)).thenReturn(List.of(exception1, exception2));
 
         Mockito.when(bookingClient.getBookedSlotsForProviderOnDate(1L, 1L, date))
@@ -322,7 +328,7 @@ public class AvailabilitySlotsTests {
         byte dayOfWeek = (byte) (LocalDate.parse("2025-09-21").getDayOfWeek().getValue() % 7);
 
         Mockito.when(availabilityRulesRepository.findByServiceProviderAndServiceAndDayOrdered(1L, 1L,dayOfWeek)).thenReturn(List.of(rule1, rule2));
-        Mockito.when(providerExceptionsRepository.findAllByServiceProviderIdAndExceptionDateOrderByNewStartTimeAsc(1L
+        Mockito.when(providerExceptionIndex.on(1L
                 , date)).thenReturn(List.of(exception1, exception2));
 
         Mockito.when(bookingClient.getBookedSlotsForProviderOnDate(1L, 1L, date))
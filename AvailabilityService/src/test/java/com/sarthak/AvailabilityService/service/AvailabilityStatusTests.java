@@ -34,6 +34,9 @@ public class AvailabilityStatusTests {
     @Mock
     private ProviderExceptionsRepository providerExceptionsRepository;
 
+    @Mock
+    private ProviderExceptionIndex providerExceptionIndex;
+
     @InjectMocks
     private AvailabilityService availabilityService;
 
@@ -66,7 +69,7 @@ public class AvailabilityStatusTests {
         byte dayOfWeek = (byte) (LocalDate.parse("2025-09-21").getDayOfWeek().getValue() % 7);
 
         Mockito.when(availabilityRulesRepository.findByServiceProviderAndServiceAndDayOrdered(1L, 1L,dayOfWeek)).thenReturn(List.of(rule));
-        Mockito.when(providerExceptionsRepository.findAllByServiceProviderIdAndExceptionDateOrderByNewStartTimeAsc(1L
+        Mockito.when(providerExceptionIndex.on(1L
                 , LocalDate.parse(date))).thenReturn(List.of(exception));
 
         AvailabilityStatusResponse response = availabilityService.checkAvailability(
@@ -103,7 +106,7 @@ public class AvailabilityStatusTests {
         byte dayOfWeek = (byte) (LocalDate.parse("2025-09-21").getDayOfWeek().getValue() % 7);
 
         Mockito.when(availabilityRulesRepository.findByServiceProviderAndServiceAndDayOrdered(1L, 1L,dayOfWeek)).thenReturn(List.of(rule));
-        Mockito.when(providerExceptionsRepository.findAllByServiceProviderIdAndExceptionDateOrderByNewStartTimeAsc(1L, LocalDate.parse(date))).thenReturn(List.of());
+        Mockito.when(providerExceptionIndex.on(1L, LocalDate.parse(date))).thenReturn(List.of());
 
         AvailabilityStatusResponse response = availabilityService.checkAvailability(
                 new AvailabilityStatusRequest(
@@ -148,7 +151,7 @@ public class AvailabilityStatusTests {
         byte dayOfWeek = (byte) (LocalDate.parse("2025-09-21").getDayOfWeek().getValue() % 7);
 
         Mockito.when(availabilityRulesRepository.findByServiceProviderAndServiceAndDayOrdered(1L, 1L,dayOfWeek)).thenReturn(List.of(rule));
-        Mockito.when(providerExceptionsRepository.findAllByServiceProviderIdAndExceptionDateOrderByNewStartTimeAsc(1L
+        Mockito.when(providerExceptionIndex.on(1L
                 , LocalDate.parse(date))).thenReturn(List.of(exception));
 
         AvailabilityStatusResponse response = availabilityService.checkAvailability(
@@ -194,7 +197,7 @@ public class AvailabilityStatusTests {
         byte dayOfWeek = (byte) (LocalDate.parse("2025-09-21").getDayOfWeek().getValue() % 7);
 
         Mockito.when(availabilityRulesRepository.findByServiceProviderAndServiceAndDayOrdered(1L, 1L,dayOfWeek)).thenReturn(List.of(rule));
-        Mockito.when(providerExceptionsRepository.findAllByServiceProviderIdAndExceptionDateOrderByNewStartTimeAsc(1L
+        Mockito.when(providerExceptionIndex.on(1L
                 , LocalDate.parse(date))).thenReturn(List.of(exception));
 
         AvailabilityStatusResponse response = availabilityService.checkAvailability(
@@ -240,7 +243,7 @@ public class AvailabilityStatusTests {
         byte dayOfWeek = (byte) (LocalDate.parse("2025-09-21").getDayOfWeek().getValue() % 7);
 
         Mockito.when(availabilityRulesRepository.findByServiceProviderAndServiceAndDayOrdered(1L, 1L,dayOfWeek)).thenReturn(List.of());
-        Mockito.when(providerExceptionsRepository.findAllByServiceProviderIdAndExceptionDateOrderByNewStartTimeAsc(1L
+        Mockito.when(providerExceptionIndex.on(1L
                 , LocalDate.parse(date))).thenReturn(List.of(exception));
 
         AvailabilityStatusResponse response = availabilityService.checkAvailability(
@@ -0,0 +1,179 @@
+package com.sarthak.AvailabilityService.service;
+
+import com.sarthak.AvailabilityService.client.BookingClient;
+import com.sarthak.AvailabilityService.config.shared.ServiceTokenProvider;
+import com.sarthak.AvailabilityService.dto.BookedSlotsResponse;
+import com.sarthak.AvailabilityService.dto.Slot;
+import com.sarthak.AvailabilityService.dto.response.NextAvailableSlotResponse;
+import com.sarthak.AvailabilityService.model.AvailabilityRules;
+import com.sarthak.AvailabilityService.model.ExceptionRecurrence;
+import com.sarthak.AvailabilityService.model.ExceptionType;
+import com.sarthak.AvailabilityService.model.ProviderExceptions;
+import com.sarthak.AvailabilityService.repository.AvailabilityRulesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class NextAvailableSlotServiceTests {
+
+    @Mock
+    private AvailabilityRulesRepository availabilityRulesRepository;
+    @Mock
+    private ProviderExceptionIndex providerExceptionIndex;
+    @Mock
+    private ProviderDayAvailabilityService providerDayAvailabilityService;
+    @Mock
+    private BookingClient bookingClient;
+    @Mock
+    private ServiceTokenProvider serviceTokenProvider;
+
+    private NextAvailableSlotService nextAvailableSlotService;
+
+    private static final ZoneId KOLKATA = ZoneId.of("Asia/Kolkata");
+
+    private final LocalDate monday = LocalDate.now(KOLKATA).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+    private final LocalDate wednesday = monday.plusDays(2);
+    private final LocalDate nextWednesday = wednesday.plusWeeks(1);
+
+    @BeforeEach
+    void setUp() {
+        nextAvailableSlotService = new NextAvailableSlotService(availabilityRulesRepository, providerExceptionIndex,
+                providerDayAvailabilityService, bookingClient, serviceTokenProvider, 7, 90, Clock.system(KOLKATA));
+        lenient().when(availabilityRulesRepository.findAllByServiceProviderIdAndServiceId(1L, 2L))
+                .thenReturn(List.of(wednesdayRule()));
+    }
+
+    @Test
+    void walksOnlyRuleDaysAndStopsAtTheFirstFit() {
+        when(serviceTokenProvider.getBearerToken()).thenReturn("Bearer service");
+        when(bookingClient.getBookedSlotsForProviderBetween("Bearer service", 1L, 2L, wednesday, wednesday))
+                .thenReturn(List.of(new BookedSlotsResponse(1L, 2L,
+                        List.of(new Slot(LocalTime.parse("09:00"), LocalTime.parse("11:00"))), wednesday.toString())));
+
+        NextAvailableSlotResponse response =
+                nextAvailableSlotService.findNextAvailableSlot(1L, 2L, 90, monday, 90);
+
+        assertTrue(response.isSlotAvailable());
+        assertEquals(nextWednesday, response.date());
+        assertEquals(new Slot(LocalTime.parse("09:00"), LocalTime.parse("12:00")), response.slot());
+        // one lookup per chunk that has a rule day, and none past the chunk with the fit
+        verify(providerDayAvailabilityService).findBetween(1L, 2L, wednesday, wednesday);
+        verify(providerDayAvailabilityService).findBetween(1L, 2L, nextWednesday, nextWednesday);
+        verify(providerDayAvailabilityService, times(2)).findBetween(any(), any(), any(), any());
+        verify(bookingClient, times(2)).getBookedSlotsForProviderBetween(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void daysThatCannotFitBeforeBookingsSkipTheBookingCall() {
+        ProviderExceptions vacation = new ProviderExceptions();
+        vacation.setServiceProviderId(1L);
+        vacation.setExceptionDate(monday);
+        vacation.setExceptionEndDate(wednesday.plusDays(1));
+        vacation.setRecurrence(ExceptionRecurrence.NONE);
+        vacation.setNewStartTime(LocalTime.MIN);
+        vacation.setNewEndTime(LocalTime.MAX);
+        vacation.setExceptionType(ExceptionType.BLOCKED);
+        when(providerExceptionIndex.between(1L, wednesday, wednesday)).thenReturn(List.of(vacation));
+        when(providerDayAvailabilityService.findBetween(1L, 2L, wednesday, wednesday)).thenReturn(Map.of());
+        when(providerDayAvailabilityService.findBetween(1L, 2L, nextWednesday, nextWednesday))
+                .thenReturn(Map.of(nextWednesday, List.of(new Slot(LocalTime.parse("10:00"), LocalTime.parse("12:00")))));
+
+        NextAvailableSlotResponse response =
+                nextAvailableSlotService.findNextAvailableSlot(1L, 2L, 120, monday, 30);
+
+        assertEquals(nextWednesday, response.date());
+        assertEquals(new Slot(LocalTime.parse("10:00"), LocalTime.parse("12:00")), response.slot());
+        verify(bookingClient, never()).getBookedSlotsForProviderBetween(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void noFitWithinTheHorizonIsNotAvailable() {
+        NextAvailableSlotResponse response =
+                nextAvailableSlotService.findNextAvailableSlot(1L, 2L, 240, monday, 14);
+
+        assertFalse(response.isSlotAvailable());
+        assertNull(response.date());
+        verify(providerDayAvailabilityService, times(2)).findBetween(any(), any(), any(), any());
+        verifyNoInteractions(bookingClient);
+    }
+
+    @Test
+    void slotsThatHaveAlreadyBegunAreCutToNow() {
+        List<Slot> slots = List.of(new Slot(LocalTime.parse("09:00"), LocalTime.parse("12:00")),
+                new Slot(LocalTime.parse("14:00"), LocalTime.parse("18:00")));
+        LocalTime earliest = NextAvailableSlotService.earliestStart(LocalTime.parse("15:02:30"));
+
+        assertEquals(LocalTime.parse("15:05"), earliest);
+        assertEquals(new Slot(LocalTime.parse("15:05"), LocalTime.parse("18:00")),
+                NextAvailableSlotService.fit(slots, Duration.ofMinutes(120), earliest));
+        // too short once cut, even though the whole slot was long enough
+        assertNull(NextAvailableSlotService.fit(slots, Duration.ofMinutes(240), earliest));
+        assertEquals(LocalTime.parse("15:00"), NextAvailableSlotService.earliestStart(LocalTime.parse("15:00")));
+        assertNull(NextAvailableSlotService.earliestStart(LocalTime.parse("23:57")));
+    }
+
+    @Test
+    void todayIsTheKolkataDateWhenUtcIsStillOnThePreviousDay() {
+        // Wednesday 20:00 UTC is already Thursday 01:30 in Kolkata; Wednesday's evening is in the past there
+        Clock clock = Clock.fixed(Instant.parse("2026-10-21T20:00:00Z"), KOLKATA);
+        NextAvailableSlotService service = new NextAvailableSlotService(availabilityRulesRepository,
+                providerExceptionIndex, providerDayAvailabilityService, bookingClient, serviceTokenProvider, 7, 90,
+                clock);
+        AvailabilityRules rule = wednesdayRule();
+        rule.setDaysOfWeek(new DayOfWeek[]{DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY});
+        rule.setEndTime(LocalTime.parse("23:00"));
+        when(availabilityRulesRepository.findAllByServiceProviderIdAndServiceId(1L, 2L)).thenReturn(List.of(rule));
+
+        NextAvailableSlotResponse response = service.findNextAvailableSlot(1L, 2L, 120, null, 7);
+
+        assertEquals(LocalDate.parse("2026-10-22"), response.date());
+        assertEquals(new Slot(LocalTime.parse("09:00"), LocalTime.parse("23:00")), response.slot());
+    }
+
+    @Test
+    void todayIsCutAtTheKolkataTime() {
+        // 05:00 UTC is 10:30 in Kolkata
+        Clock clock = Clock.fixed(Instant.parse("2026-10-21T05:00:00Z"), KOLKATA);
+        NextAvailableSlotService service = new NextAvailableSlotService(availabilityRulesRepository,
+                providerExceptionIndex, providerDayAvailabilityService, bookingClient, serviceTokenProvider, 7, 90,
+                clock);
+
+        NextAvailableSlotResponse response = service.findNextAvailableSlot(1L, 2L, 60, null, 7);
+
+        assertEquals(LocalDate.parse("2026-10-21"), response.date());
+        assertEquals(new Slot(LocalTime.parse("10:30"), LocalTime.parse("12:00")), response.slot());
+    }
+
+    private static AvailabilityRules wednesdayRule() {
+        AvailabilityRules rule = new AvailabilityRules();
+        rule.setServiceProviderId(1L);
+        rule.setServiceId(2L);
+        rule.setDaysOfWeek(new DayOfWeek[]{DayOfWeek.WEDNESDAY});
+        rule.setStartTime(LocalTime.parse("09:00"));
+        rule.setEndTime(LocalTime.parse("12:00"));
+        return rule;
+    }
+}
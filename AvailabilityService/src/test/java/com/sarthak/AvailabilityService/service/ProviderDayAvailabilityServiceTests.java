@@ -0,0 +1,200 @@
+package com.sarthak.AvailabilityService.service;
+
+import com.sarthak.AvailabilityService.client.BookingClient;
+import com.sarthak.AvailabilityService.config.shared.ServiceTokenProvider;
+import com.sarthak.AvailabilityService.dto.BookedSlotsResponse;
+import com.sarthak.AvailabilityService.dto.Slot;
+import com.sarthak.AvailabilityService.model.AvailabilityRules;
+import com.sarthak.AvailabilityService.model.ExceptionType;
+import com.sarthak.AvailabilityService.model.ProviderDayAvailability;
+import com.sarthak.AvailabilityService.model.ProviderExceptions;
+import com.sarthak.AvailabilityService.repository.AvailabilityRulesRepository;
+import com.sarthak.AvailabilityService.repository.ProviderDayAvailabilityRepository;
+import com.sarthak.AvailabilityService.repository.ProviderExceptionsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ProviderDayAvailabilityServiceTests {
+
+    @Mock
+    private ProviderDayAvailabilityRepository providerDayAvailabilityRepository;
+    @Mock
+    private AvailabilityRulesRepository availabilityRulesRepository;
+    @Mock
+    private ProviderExceptionsRepository providerExceptionsRepository;
+    @Mock
+    private BookingClient bookingClient;
+    @Mock
+    private ServiceTokenProvider serviceTokenProvider;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ProviderDayAvailabilityService providerDayAvailabilityService;
+
+    private final LocalDate monday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+    @BeforeEach
+    void setUp() {
+        providerDayAvailabilityService = new ProviderDayAvailabilityService(providerDayAvailabilityRepository,
+                availabilityRulesRepository, providerExceptionsRepository, bookingClient, serviceTokenProvider,
+                transactionTemplate, new SimpleMeterRegistry(), true, 60, 200, Duration.ofHours(1),
+                Duration.ofMinutes(5));
+    }
+
+    @Test
+    void refreshRecomputesClaimedDaysWithOneBookingCall() {
+        LocalDate tuesday = monday.plusDays(1);
+        ProviderDayAvailability mondayRow = staleDay(monday);
+        ProviderDayAvailability tuesdayRow = staleDay(tuesday);
+        runTransactions();
+        when(providerDayAvailabilityRepository.claimRefreshBatch(any(), any(), any(), any(), anyInt()))
+                .thenReturn(List.of(mondayRow, tuesdayRow));
+        when(availabilityRulesRepository.findAllByServiceProviderIdAndServiceId(1L, 2L))
+                .thenReturn(List.of(rule(DayOfWeek.MONDAY, "09:00", "17:00")));
+        ProviderExceptions blocked = new ProviderExceptions();
+        blocked.setServiceProviderId(1L);
+        blocked.setExceptionDate(monday);
+        blocked.setNewStartTime(LocalTime.parse("09:00"));
+        blocked.setNewEndTime(LocalTime.parse("10:00"));
+        blocked.setExceptionType(ExceptionType.BLOCKED);
+        when(providerExceptionsRepository.findOverlapping(1L, monday, tuesday)).thenReturn(List.of(blocked));
+        when(serviceTokenProvider.getBearerToken()).thenReturn("Bearer service");
+        when(bookingClient.getBookedSlotsForProviderBetween("Bearer service", 1L, 2L, monday, tuesday))
+                .thenReturn(List.of(new BookedSlotsResponse(1L, 2L,
+                        List.of(new Slot(LocalTime.parse("12:00"), LocalTime.parse("13:00"))), monday.toString())));
+        when(providerDayAvailabilityRepository.writeRefreshed(any(), anyLong(), any(), any())).thenReturn(1);
+
+        int refreshed = providerDayAvailabilityService.refreshBatch();
+
+        assertEquals(2, refreshed);
+        // claimed and written back in their own transactions, with none open during the booking call
+        InOrder inOrder = inOrder(transactionTemplate, bookingClient);
+        inOrder.verify(transactionTemplate).execute(any());
+        inOrder.verify(bookingClient).getBookedSlotsForProviderBetween(any(), any(), any(), any(), any());
+        inOrder.verify(transactionTemplate).execute(any());
+        verify(providerDayAvailabilityRepository).claim(eq(List.of(mondayRow.getId(), tuesdayRow.getId())), any());
+        assertEquals(List.of(new Slot(LocalTime.parse("10:00"), LocalTime.parse("12:00")),
+                new Slot(LocalTime.parse("13:00"), LocalTime.parse("17:00"))), mondayRow.getFreeSlots());
+        assertEquals(List.of(), tuesdayRow.getFreeSlots());
+        assertFalse(mondayRow.isStale());
+        assertFalse(tuesdayRow.isStale());
+        verify(bookingClient, times(1)).getBookedSlotsForProviderBetween(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void failedBookingCallLeavesDaysStale() {
+        ProviderDayAvailability mondayRow = staleDay(monday);
+        runTransactions();
+        when(providerDayAvailabilityRepository.claimRefreshBatch(any(), any(), any(), any(), anyInt()))
+                .thenReturn(List.of(mondayRow));
+        when(availabilityRulesRepository.findAllByServiceProviderIdAndServiceId(1L, 2L))
+                .thenReturn(List.of(rule(DayOfWeek.MONDAY, "09:00", "17:00")));
+        when(bookingClient.getBookedSlotsForProviderBetween(any(), any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("booking service down"));
+
+        assertEquals(0, providerDayAvailabilityService.refreshBatch());
+        assertTrue(mondayRow.isStale());
+        verify(providerDayAvailabilityRepository).releaseClaims(List.of(mondayRow.getId()));
+    }
+
+    @Test
+    void dayMarkedAgainDuringTheRefreshStaysStale() {
+        ProviderDayAvailability mondayRow = staleDay(monday);
+        mondayRow.setStaleVersion(3);
+        runTransactions();
+        when(providerDayAvailabilityRepository.claimRefreshBatch(any(), any(), any(), any(), anyInt()))
+                .thenReturn(List.of(mondayRow));
+        when(availabilityRulesRepository.findAllByServiceProviderIdAndServiceId(1L, 2L)).thenReturn(List.of());
+        // the guarded write finds a newer stale_version
+        when(providerDayAvailabilityRepository.writeRefreshed(eq(mondayRow.getId()), eq(3L), any(), any()))
+                .thenReturn(0);
+
+        assertEquals(0, providerDayAvailabilityService.refreshBatch());
+        assertTrue(mondayRow.isStale());
+        verify(providerDayAvailabilityRepository).releaseClaims(List.of(mondayRow.getId()));
+    }
+
+    @Test
+    void onlyFreshDaysAreServed() {
+        ProviderDayAvailability stale = staleDay(monday);
+        ProviderDayAvailability expired = staleDay(monday.plusDays(1));
+        expired.setStale(false);
+        expired.setComputedAt(Instant.now().minus(Duration.ofHours(2)));
+        ProviderDayAvailability fresh = staleDay(monday.plusDays(2));
+        fresh.setStale(false);
+        when(providerDayAvailabilityRepository.findByServiceProviderIdAndServiceIdAndAvailabilityDate(1L, 2L, monday))
+                .thenReturn(Optional.of(stale));
+        when(providerDayAvailabilityRepository
+                .findAllByServiceProviderIdAndServiceIdAndAvailabilityDateBetweenOrderByAvailabilityDateAsc(
+                        1L, 2L, monday, monday.plusDays(2)))
+                .thenReturn(List.of(stale, expired, fresh));
+
+        assertTrue(providerDayAvailabilityService.find(1L, 2L, monday).isEmpty());
+        assertEquals(List.of(monday.plusDays(2)), List.copyOf(
+                providerDayAvailabilityService.findBetween(1L, 2L, monday, monday.plusDays(2)).keySet()));
+    }
+
+    @Test
+    void ruleChangeMarksItsWeekdaysAcrossTheWindow() {
+        providerDayAvailabilityService.markRulesChanged(1L, 2L, DayOfWeek.MONDAY, DayOfWeek.SUNDAY);
+
+        LocalDate today = LocalDate.now();
+        verify(providerDayAvailabilityRepository).markStale(1L, 2L, today, today.plusDays(59), List.of(1, 7));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactions() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private static ProviderDayAvailability staleDay(LocalDate date) {
+        return new ProviderDayAvailability(date.toEpochDay(), 1L, 2L, date, new ArrayList<>(), true, 0, null,
+                Instant.now());
+    }
+
+    private static AvailabilityRules rule(DayOfWeek day, String start, String end) {
+        AvailabilityRules rule = new AvailabilityRules();
+        rule.setServiceProviderId(1L);
+        rule.setServiceId(2L);
+        rule.setDaysOfWeek(new DayOfWeek[]{day});
+        rule.setStartTime(LocalTime.parse(start));
+        rule.setEndTime(LocalTime.parse(end));
+        return rule;
+    }
+}
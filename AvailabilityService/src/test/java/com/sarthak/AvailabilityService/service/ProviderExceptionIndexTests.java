@@ -0,0 +1,94 @@
+package com.sarthak.AvailabilityService.service;
+
+import com.sarthak.AvailabilityService.model.ExceptionRecurrence;
+import com.sarthak.AvailabilityService.model.ExceptionType;
+import com.sarthak.AvailabilityService.model.ProviderExceptions;
+import com.sarthak.AvailabilityService.repository.ProviderExceptionsRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ProviderExceptionIndexTests {
+
+    @Mock
+    private ProviderExceptionsRepository providerExceptionsRepository;
+
+    @Test
+    void treeFindsTheSameExceptionsAsAScan() {
+        Random random = new Random(42);
+        LocalDate origin = LocalDate.of(2030, 1, 1);
+        List<ProviderExceptions> exceptions = new ArrayList<>();
+        for (long i = 0; i < 500; i++) {
+            LocalDate start = origin.plusDays(random.nextInt(365));
+            exceptions.add(exception(i, start, start.plusDays(random.nextInt(30)), ExceptionRecurrence.NONE));
+        }
+        ExceptionIntervalTree tree = new ExceptionIntervalTree(exceptions);
+
+        for (int i = 0; i < 200; i++) {
+            LocalDate from = origin.plusDays(random.nextInt(400) - 20);
+            LocalDate to = from.plusDays(random.nextInt(10));
+            List<Long> expected = exceptions.stream()
+                    .filter(e -> !e.getExceptionDate().isAfter(to) && !e.getExceptionEndDate().isBefore(from))
+                    .map(ProviderExceptions::getExceptionId)
+                    .sorted()
+                    .toList();
+            List<Long> found = tree.overlapping(from, to).stream()
+                    .map(ProviderExceptions::getExceptionId)
+                    .sorted()
+                    .toList();
+            assertEquals(expected, found, from + ".." + to);
+        }
+    }
+
+    @Test
+    void weeklyExceptionAppliesOnItsWeekdayOnly() {
+        LocalDate friday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.FRIDAY));
+        ProviderExceptions weekly = exception(1L, friday, friday.plusWeeks(2), ExceptionRecurrence.WEEKLY);
+        ProviderExceptions vacation = exception(2L, friday.plusDays(1), friday.plusDays(9), ExceptionRecurrence.NONE);
+        when(providerExceptionsRepository.findOverlapping(eq(1L), any(), isNull()))
+                .thenReturn(List.of(weekly, vacation));
+        ProviderExceptionIndex index = new ProviderExceptionIndex(providerExceptionsRepository, 300, 100);
+
+        assertEquals(List.of(weekly), index.on(1L, friday));
+        assertEquals(List.of(vacation), index.on(1L, friday.plusDays(3)));
+        assertEquals(List.of(weekly, vacation), index.on(1L, friday.plusWeeks(1)));
+        assertEquals(List.of(), index.on(1L, friday.plusWeeks(2).plusDays(1)));
+        // one load serves every lookup until the provider is evicted
+        verify(providerExceptionsRepository, times(1)).findOverlapping(eq(1L), any(), isNull());
+
+        index.evict(List.of(1L));
+        index.on(1L, friday);
+        verify(providerExceptionsRepository, times(2)).findOverlapping(eq(1L), any(), isNull());
+    }
+
+    private static ProviderExceptions exception(Long id, LocalDate from, LocalDate to, ExceptionRecurrence recurrence) {
+        ProviderExceptions exception = new ProviderExceptions();
+        exception.setExceptionId(id);
+        exception.setServiceProviderId(1L);
+        exception.setExceptionDate(from);
+        exception.setExceptionEndDate(to);
+        exception.setRecurrence(recurrence);
+        exception.setNewStartTime(LocalTime.of(9, 0));
+        exception.setNewEndTime(LocalTime.of(12, 0));
+        exception.setExceptionType(ExceptionType.BLOCKED);
+        return exception;
+    }
+}
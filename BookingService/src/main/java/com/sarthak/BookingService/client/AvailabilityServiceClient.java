@@ -6,7 +6,7 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
-@FeignClient(name = "Availability-Service", url = "${feign.client.config.availability-service.url}")
+@FeignClient(name = "Availability-Service", fallbackFactory = AvailabilityServiceClientFallbackFactory.class)
 public interface AvailabilityServiceClient {
 
     @PostMapping("/api/availability/status")
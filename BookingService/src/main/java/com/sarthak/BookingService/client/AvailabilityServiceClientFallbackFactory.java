@@ -0,0 +1,25 @@
+package com.sarthak.BookingService.client;
+
+import com.sarthak.BookingService.exception.ServiceUnavailableException;
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class AvailabilityServiceClientFallbackFactory implements FallbackFactory<AvailabilityServiceClient> {
+
+    @Override
+    public AvailabilityServiceClient create(Throwable cause) {
+        return request -> {
+            // 4xx responses are real answers from the availability service, not outages
+            if (cause instanceof FeignException.FeignClientException clientException) {
+                throw clientException;
+            }
+            // A booking can never be accepted without a confirmed availability status
+            log.warn("Availability service call failed for provider {}: {}", request.serviceProviderId(), cause.toString());
+            throw new ServiceUnavailableException("Availability service is currently unavailable, please try again later");
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.sarthak.BookingService.client;
+
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class ServiceListingClientFallbackFactory implements FallbackFactory<ServiceListingClient> {
+
+    @Override
+    public ServiceListingClient create(Throwable cause) {
+        return (filter, page, size, sortBy, sortDir) -> {
+            if (cause instanceof FeignException.FeignClientException clientException) {
+                throw clientException;
+            }
+            // Service details only enrich the booking response, so degrade to bookings without them
+            log.warn("Service listing call failed, returning bookings without service details: {}", cause.toString());
+            return Page.empty();
+        };
+    }
+}
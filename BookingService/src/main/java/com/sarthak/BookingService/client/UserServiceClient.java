@@ -7,9 +7,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 
 import java.util.List;
 
-@FeignClient(name = "User-Service", url = "${feign.client.config.user-service.url}")
+@FeignClient(name = "User-Service", fallbackFactory = UserServiceClientFallbackFactory.class)
 public interface UserServiceClient {
 
-    @PostMapping("/api/users/getUsername/list")
+    // Compact format, every user comes back as [userId, username, userContact]
+    @PostMapping("/api/users/getUsername/list?format=compact")
     public List<UsernameResponse> getUsernameByUserId(@RequestBody List<Long> userIdList);
 }
@@ -0,0 +1,26 @@
+package com.sarthak.BookingService.client;
+
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+public class UserServiceClientFallbackFactory implements FallbackFactory<UserServiceClient> {
+
+    @Override
+    public UserServiceClient create(Throwable cause) {
+        return userIdList -> {
+            if (cause instanceof FeignException.FeignClientException clientException) {
+                throw clientException;
+            }
+            // Usernames only enrich the booking response, so degrade to bookings without them
+            log.warn("User service call failed for {} ids, returning bookings without usernames: {}",
+                    userIdList.size(), cause.toString());
+            return List.of();
+        };
+    }
+}
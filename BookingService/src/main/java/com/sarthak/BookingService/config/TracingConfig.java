@@ -0,0 +1,54 @@
+package com.sarthak.BookingService.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+@Configuration
+public class TracingConfig {
+
+    // Offline exporter: finished spans are logged as OTLP JSON, an OTLP collector exporter can replace it.
+    // Always registered and switched by tracing.local-exporter.enabled when it is created rather than with a bean
+    // condition, which AOT-built images would fix at build time; disabled, it drops every span.
+    @Bean
+    public SpanExporter localSpanExporter(@Value("${tracing.local-exporter.enabled:true}") boolean enabled) {
+        return enabled ? OtlpJsonLoggingSpanExporter.create() : SpanExporter.composite();
+    }
+
+    // One child span per repository method call, named after the repository interface and method
+    @Bean
+    public static BeanPostProcessor repositoryObservationPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+                    repositoryFactoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(repositoryObservation(
+                                    observationRegistry, repositoryInformation.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static MethodInterceptor repositoryObservation(ObjectProvider<ObservationRegistry> observationRegistry,
+                                                           String repository) {
+        return invocation -> {
+            String method = invocation.getMethod().getName();
+            return Observation.createNotStarted("repository.invocation",
+                            observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP))
+                    .contextualName(repository + "." + method)
+                    .lowCardinalityKeyValue("repository", repository)
+                    .lowCardinalityKeyValue("method", method)
+                    .observeChecked(invocation::proceed);
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.sarthak.BookingService.config.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Marks a fraction of requests as sampled so SampledDebugTurboFilter lets their DEBUG detail through.
+// Runs after the server observation filter, so when a trace id is in the MDC the decision is derived from
+// it and every service on the same trace makes the same choice.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class LogSamplingFilter extends OncePerRequestFilter {
+
+    public static final String MDC_KEY = "logSampled";
+    private static final int BUCKETS = 10_000;
+
+    private final int sampledBuckets;
+
+    public LogSamplingFilter(@Value("${logging.sampling.rate:0.01}") double samplingRate) {
+        this.sampledBuckets = (int) Math.round(Math.max(0.0, Math.min(1.0, samplingRate)) * BUCKETS);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (!isSampled(MDC.get("traceId"))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        MDC.put(MDC_KEY, "true");
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    boolean isSampled(String traceId) {
+        if (sampledBuckets <= 0) {
+            return false;
+        }
+        if (sampledBuckets >= BUCKETS) {
+            return true;
+        }
+        int bucket = traceId != null && !traceId.isEmpty()
+                ? Math.floorMod(traceId.hashCode(), BUCKETS)
+                : ThreadLocalRandom.current().nextInt(BUCKETS);
+        return bucket < sampledBuckets;
+    }
+}
@@ -2,21 +2,36 @@ package com.sarthak.BookingService.controller;
 
 import com.sarthak.BookingService.config.shared.UserPrincipal;
 import com.sarthak.BookingService.dto.BookingDto;
+import com.sarthak.BookingService.dto.ExportFormat;
 import com.sarthak.BookingService.dto.QueryFilter;
 import com.sarthak.BookingService.dto.request.BookingRescheduleRequest;
+import com.sarthak.BookingService.dto.request.BookingStatusEventRequest;
+import com.sarthak.BookingService.dto.request.BulkBookingStatusRequest;
+import com.sarthak.BookingService.dto.request.SlotHoldRequest;
 import com.sarthak.BookingService.dto.response.BookedSlotsResponse;
+import com.sarthak.BookingService.dto.response.BookingStatusEventResponse;
 import com.sarthak.BookingService.dto.response.BookingResponse;
 import com.sarthak.BookingService.dto.response.BookingsSummaryResponse;
+import com.sarthak.BookingService.dto.response.BulkBookingStatusResult;
 import com.sarthak.BookingService.dto.response.PageResponse;
+import com.sarthak.BookingService.dto.response.SlotHoldResponse;
+import com.sarthak.BookingService.service.BookingExportService;
 import com.sarthak.BookingService.service.BookingService;
+import com.sarthak.BookingService.service.BookingStatusEventService;
+import com.sarthak.BookingService.service.SlotHoldService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -25,9 +40,16 @@ import java.util.List;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final BookingStatusEventService bookingStatusEventService;
+    private final SlotHoldService slotHoldService;
+    private final BookingExportService bookingExportService;
 
-    public BookingController(BookingService bookingService) {
+    public BookingController(BookingService bookingService, BookingStatusEventService bookingStatusEventService,
+                             SlotHoldService slotHoldService, BookingExportService bookingExportService) {
         this.bookingService = bookingService;
+        this.bookingStatusEventService = bookingStatusEventService;
+        this.slotHoldService = slotHoldService;
+        this.bookingExportService = bookingExportService;
     }
 
     @GetMapping("/{id}")
@@ -111,6 +133,21 @@ public class BookingController {
         );
     }
 
+    // Full history as NDJSON or CSV, streamed instead of paged, see BookingExportService
+    @PostMapping("/export")
+    public void exportBookings(@RequestBody(required = false) QueryFilter queryFilter,
+                               @RequestParam(name = "format", defaultValue = "ndjson") String format,
+                               Authentication authentication,
+                               HttpServletResponse response) throws IOException {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        response.setContentType(exportFormat.contentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"bookings." + exportFormat.extension() + "\"");
+        bookingExportService.exportBookings(queryFilter, userPrincipal, exportFormat, response.getOutputStream());
+    }
+
     @GetMapping("/my-summary")
     public ResponseEntity<BookingsSummaryResponse> getBookingSummary(Authentication authentication) {
         return ResponseEntity.ok(bookingService.getBookingSummary(authentication));
@@ -124,18 +161,65 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.getBookedSlotsForProviderOnDate(serviceProviderId, serviceId, date));
     }
 
+    @GetMapping("bookedSlots/{serviceProviderId}/{serviceId}/range")
+    public ResponseEntity<List<BookedSlotsResponse>> getBookedSlotsForServiceProviderAndServiceBetween(
+            @PathVariable Long serviceProviderId,
+            @PathVariable Long serviceId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(bookingService.getBookedSlotsForProviderBetween(serviceProviderId, serviceId, from, to));
+    }
+
     @PostMapping()
     public ResponseEntity<BookingDto> bookService(@RequestBody BookingDto bookingDto, Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
         return ResponseEntity.status(HttpStatus.CREATED).body(bookingService.bookService(bookingDto, userPrincipal));
     }
 
+    // Short-lived hold on a slot while the customer checks out, see SlotHoldService
+    @PostMapping("/holds")
+    public ResponseEntity<SlotHoldResponse> holdSlot(@RequestBody SlotHoldRequest request,
+                                                     Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        return ResponseEntity.status(HttpStatus.CREATED).body(slotHoldService.hold(request, userPrincipal.getUserId()));
+    }
+
+    @PostMapping("/holds/{holdId}/extend")
+    public ResponseEntity<SlotHoldResponse> extendSlotHold(@PathVariable("holdId") String holdId,
+                                                           Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        return ResponseEntity.ok(slotHoldService.extend(holdId, userPrincipal.getUserId()));
+    }
+
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<Void> releaseSlotHold(@PathVariable("holdId") String holdId, Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        slotHoldService.release(holdId, userPrincipal.getUserId());
+        return ResponseEntity.noContent().build();
+    }
+
    @PostMapping("/{bookingId}/updateStatus/{status}")
    public ResponseEntity<BookingDto> updateBookingStatus(@PathVariable("bookingId") Long bookingId,
                                                        @PathVariable("status") String status) {
        return ResponseEntity.ok(bookingService.updateBookingStatus(bookingId, status));
    }
 
+    // One target status for many bookings, with a result per booking id
+    @PostMapping("/status/bulk")
+    public ResponseEntity<List<BulkBookingStatusResult>> updateBookingStatuses(
+            @RequestBody BulkBookingStatusRequest request, Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        return ResponseEntity.ok(bookingService.updateBookingStatuses(request, userPrincipal));
+    }
+
+    // Batched, idempotent status changes pushed by other services (payment outbox relay)
+    @PostMapping("/status-events")
+    @PreAuthorize("hasAuthority('SERVICE')")
+    public ResponseEntity<List<BookingStatusEventResponse>> applyStatusEvents(
+            @RequestBody List<BookingStatusEventRequest> events) {
+        return ResponseEntity.ok(bookingStatusEventService.applyEvents(events));
+    }
+
     @PostMapping("/{bookingId}/reschedule")
     public ResponseEntity<BookingDto> rescheduleBooking(@PathVariable("bookingId") Long bookingId,
                                                         @RequestBody BookingRescheduleRequest request) {
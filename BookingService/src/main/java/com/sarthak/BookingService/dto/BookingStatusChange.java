@@ -0,0 +1,19 @@
+package com.sarthak.BookingService.dto;
+
+import java.time.LocalDate;
+
+// Row returned by BookingRepository.updateStatuses for every booking it changed
+public interface BookingStatusChange {
+
+    Long getBookingId();
+
+    String getPreviousStatus();
+
+    Long getCustomerId();
+
+    Long getServiceProviderId();
+
+    Long getServiceId();
+
+    LocalDate getBookingDate();
+}
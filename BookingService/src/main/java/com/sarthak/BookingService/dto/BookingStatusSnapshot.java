@@ -0,0 +1,8 @@
+package com.sarthak.BookingService.dto;
+
+import com.sarthak.BookingService.model.BookingStatus;
+
+public record BookingStatusSnapshot(
+        Long bookingId,
+        BookingStatus bookingStatus
+) {}
@@ -0,0 +1,11 @@
+package com.sarthak.BookingService.dto.request;
+
+import lombok.Builder;
+
+@Builder
+public record BookingStatusEventRequest(
+        String eventId,
+        Long bookingId,
+        String status
+) {
+}
@@ -0,0 +1,12 @@
+package com.sarthak.BookingService.dto.request;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record BulkBookingStatusRequest(
+        List<Long> bookingIds,
+        String status
+) {
+}
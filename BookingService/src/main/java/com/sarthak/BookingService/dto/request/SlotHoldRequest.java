@@ -0,0 +1,16 @@
+package com.sarthak.BookingService.dto.request;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Builder
+public record SlotHoldRequest(
+        Long serviceProviderId,
+        Long serviceId,
+        LocalDate date,
+        LocalTime startTime,
+        LocalTime endTime
+) {
+}
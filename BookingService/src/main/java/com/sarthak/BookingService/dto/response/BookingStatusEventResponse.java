@@ -0,0 +1,12 @@
+package com.sarthak.BookingService.dto.response;
+
+import com.sarthak.BookingService.model.StatusEventOutcome;
+import lombok.Builder;
+
+@Builder
+public record BookingStatusEventResponse(
+        String eventId,
+        StatusEventOutcome outcome,
+        String message
+) {
+}
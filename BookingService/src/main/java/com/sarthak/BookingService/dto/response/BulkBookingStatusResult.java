@@ -0,0 +1,14 @@
+package com.sarthak.BookingService.dto.response;
+
+import com.sarthak.BookingService.model.BookingStatus;
+import com.sarthak.BookingService.model.BulkStatusOutcome;
+import lombok.Builder;
+
+@Builder
+public record BulkBookingStatusResult(
+        Long bookingId,
+        BulkStatusOutcome outcome,
+        BookingStatus previousStatus,
+        String message
+) {
+}
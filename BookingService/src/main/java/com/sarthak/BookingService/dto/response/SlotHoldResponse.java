@@ -0,0 +1,20 @@
+package com.sarthak.BookingService.dto.response;
+
+import lombok.Builder;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Builder
+public record SlotHoldResponse(
+        String holdId,
+        Long serviceProviderId,
+        Long serviceId,
+        Long customerId,
+        LocalDate date,
+        LocalTime startTime,
+        LocalTime endTime,
+        Instant expiresAt
+) {
+}
@@ -1,8 +1,12 @@
 package com.sarthak.BookingService.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.Builder;
 
 @Builder
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({"userId", "username", "userContact"})
 public record UsernameResponse(
         String username,
         String userContact,
@@ -0,0 +1,8 @@
+package com.sarthak.BookingService.exception;
+
+// A status change refused before anything was written, so the surrounding transaction can still commit
+public class BookingStatusRejectedException extends RuntimeException {
+    public BookingStatusRejectedException(String message) {
+        super(message);
+    }
+}
@@ -18,6 +18,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
     }
 
+    @ExceptionHandler(BookingStatusRejectedException.class)
+    public ResponseEntity<ExceptionResponse> handleBookingStatusRejectedException(BookingStatusRejectedException ex) {
+        ExceptionResponse body = new ExceptionResponse("Invalid Status Update", ex.getMessage(), "400");
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+    }
+
+    @ExceptionHandler(SlotHoldNotFoundException.class)
+    public ResponseEntity<ExceptionResponse> handleSlotHoldNotFoundException(SlotHoldNotFoundException ex) {
+        ExceptionResponse body = new ExceptionResponse("Slot Hold Not Found", ex.getMessage(), "404");
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
+    }
+
     @ExceptionHandler(TimeSlotAlreadyBookedException.class)
     public ResponseEntity<ExceptionResponse> handleTimeSlotAlreadyBookedException(TimeSlotAlreadyBookedException ex) {
         ExceptionResponse body = new ExceptionResponse("Time Slot Already Booked", ex.getMessage(), "400");
@@ -36,6 +48,12 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ExceptionResponse> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        ExceptionResponse body = new ExceptionResponse("Service Unavailable", ex.getMessage(), "503");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(body);
+    }
+
     @ExceptionHandler(MissingServletRequestParameterException.class)
     public ResponseEntity<ExceptionResponse> handleMissingParams(MissingServletRequestParameterException ex) {
         String name = ex.getParameterName();
@@ -69,6 +87,12 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
 
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ExceptionResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
+        ExceptionResponse body = new ExceptionResponse("Invalid Request", ex.getMessage(), "400");
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ExceptionResponse> handleGenericException(Exception ex) {
         HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
@@ -0,0 +1,7 @@
+package com.sarthak.BookingService.exception;
+
+public class SlotHoldNotFoundException extends RuntimeException {
+    public SlotHoldNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,44 @@
+package com.sarthak.BookingService.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Number of bookings a user has in one status, per role. Only changed with atomic SQL increments in
+// BookingStatusCounterRepository, never loaded and saved back.
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "booking_status_counts", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_booking_status_count_user_role_status",
+                columnNames = {"user_id", "user_role", "booking_status"})
+})
+public class BookingStatusCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long counterId;
+
+    @NotNull
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "user_role", nullable = false, length = 16)
+    private UserRole userRole;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "booking_status", nullable = false)
+    private BookingStatus bookingStatus;
+
+    @NotNull
+    @Column(name = "booking_count", nullable = false)
+    private Long bookingCount;
+}
@@ -0,0 +1,9 @@
+package com.sarthak.BookingService.model;
+
+public enum BulkStatusOutcome {
+    UPDATED,
+    UNCHANGED,
+    NOT_FOUND,
+    INVALID_TRANSITION,
+    CONFLICT
+}
@@ -0,0 +1,61 @@
+package com.sarthak.BookingService.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+// Idempotency record for status events pushed by other services (payment outbox).
+// Inserted in the same transaction as the booking update it describes.
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "processed_status_events", indexes = {
+        @Index(name = "idx_processed_event_booking_id", columnList = "booking_id")
+        },
+        uniqueConstraints = {
+        @UniqueConstraint(name = "uk_processed_event_id", columnNames = {"event_id"})
+})
+public class ProcessedStatusEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Column(name = "event_id", nullable = false, updatable = false, length = 64)
+    private String eventId;
+
+    @NotNull
+    @Column(name = "booking_id", nullable = false, updatable = false)
+    private Long bookingId;
+
+    @NotNull
+    @Column(name = "requested_status", nullable = false, updatable = false)
+    private String requestedStatus;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "outcome", nullable = false, updatable = false)
+    private StatusEventOutcome outcome;
+
+    @Column(name = "message", length = 512)
+    private String message;
+
+    @Column(name = "processed_at", nullable = false, updatable = false)
+    private Instant processedAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (processedAt == null) {
+            processedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        }
+    }
+}
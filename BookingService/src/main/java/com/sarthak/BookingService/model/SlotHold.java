@@ -0,0 +1,61 @@
+package com.sarthak.BookingService.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// Persisted copy of a slot hold, written behind by SlotHoldService and only read back on startup.
+// Ids are assigned in memory, so rows are upserted by id.
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "slot_holds", indexes = {
+        @Index(name = "idx_slot_holds_expires_at", columnList = "expires_at")
+})
+public class SlotHold {
+
+    @Id
+    @Column(name = "hold_id", length = 36)
+    private String holdId;
+
+    @NotNull
+    @Column(name = "service_provider_id", nullable = false)
+    private Long serviceProviderId;
+
+    @NotNull
+    @Column(name = "service_id", nullable = false)
+    private Long serviceId;
+
+    @NotNull
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @NotNull
+    @Column(name = "hold_date", nullable = false)
+    private LocalDate holdDate;
+
+    @NotNull
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    @NotNull
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime;
+
+    @NotNull
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @NotNull
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
@@ -0,0 +1,7 @@
+package com.sarthak.BookingService.model;
+
+public enum StatusEventOutcome {
+    APPLIED,
+    DUPLICATE,
+    REJECTED
+}
@@ -0,0 +1,7 @@
+package com.sarthak.BookingService.model;
+
+// Side of a booking a user is on, customers book and providers are booked
+public enum UserRole {
+    CUSTOMER,
+    PROVIDER
+}
@@ -1,89 +1,126 @@
 package com.sarthak.BookingService.repository;
 
-import com.sarthak.BookingService.dto.BookingStatusCount;
+import com.sarthak.BookingService.dto.BookingStatusChange;
+import com.sarthak.BookingService.dto.BookingStatusSnapshot;
 import com.sarthak.BookingService.model.Booking;
 import com.sarthak.BookingService.model.BookingStatus;
-import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, Long>, JpaSpecificationExecutor<Booking> {
+public interface BookingRepository extends JpaRepository<Booking, Long>, JpaSpecificationExecutor<Booking>,
+        BookingStreamRepository {
 
     Page<Booking> findByCustomerId(Long customerId, Pageable pageable);
 
     Page<Booking> findByServiceProviderId(Long serviceProviderId, Pageable pageable);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("""
-            SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END
-            FROM Booking b
-            WHERE b.serviceProviderId = :serviceProviderId
-              AND b.serviceId = :serviceId
-              AND b.bookingDate = :bookingDate
-              AND b.bookingStartTime < :bookingEndTime
-              AND b.bookingEndTime > :bookingStartTime
-              AND b.bookingStatus NOT IN :excludedStatus
-            """)
-    boolean hasOverlappingBooking(
-            Long serviceProviderId,
-            Long serviceId,
-            LocalDate bookingDate,
-            LocalTime bookingStartTime,
-            LocalTime bookingEndTime,
-            Set<BookingStatus> excludedStatus
-    );
+    // Inserts the booking unless an active booking of the same provider and service overlaps it, which the
+    // ex_booking_active_slot exclusion constraint (V3 migration) rejects. Returns the generated id, or empty
+    // when the slot is taken. ON CONFLICT makes it a speculative insert: concurrent inserts for one slot are
+    // resolved without the deadlocks a plain insert can run into on an exclusion constraint. The booking
+    // table has no other unique or exclusion constraint the DO NOTHING could swallow.
+    @Transactional
+    @Query(value = """
+            INSERT INTO booking (service_id, service_provider_id, service_category, customer_id, booking_date,
+                                 booking_start_time, booking_end_time, booking_status, created_at, rescheduled_to_id)
+            VALUES (:#{#booking.serviceId}, :#{#booking.serviceProviderId}, :#{#booking.serviceCategory},
+                    :#{#booking.customerId}, :#{#booking.bookingDate}, :#{#booking.bookingStartTime},
+                    :#{#booking.bookingEndTime}, :#{#booking.bookingStatus.name()}, :#{#booking.createdAt},
+                    :#{#booking.rescheduledToId})
+            ON CONFLICT DO NOTHING
+            RETURNING booking_id
+            """, nativeQuery = true)
+    Optional<Long> insertIfSlotFree(@Param("booking") Booking booking);
 
     List<Booking> findAllByServiceProviderIdAndBookingDateOrderByBookingStartTime(Long serviceProviderId, LocalDate date);
 
+    // Statuses are literals rather than parameters so the planner can match the partial index
+    // idx_booking_active_provider_service_date (V2 migration) for generic plans as well
     @Query("""
         SELECT b
         FROM Booking b
         WHERE b.serviceProviderId = :serviceProviderId
           AND b.serviceId = :serviceId
           AND b.bookingDate = :bookingDate
-          AND b.bookingStatus IN :includedStatuses
+          AND b.bookingStatus IN (com.sarthak.BookingService.model.BookingStatus.PENDING,
+                                  com.sarthak.BookingService.model.BookingStatus.CONFIRMED)
     """)
     List<Booking> findBookedSlotsForProviderByDate(
             Long serviceProviderId,
             Long serviceId,
-            LocalDate bookingDate,
-            Set<BookingStatus> includedStatuses
+            LocalDate bookingDate
     );
 
-
-    @Query(value = """
-            SELECT new com.sarthak.BookingService.dto.BookingStatusCount(b.bookingStatus, COUNT(b))
-            FROM Booking b
-            WHERE b.serviceProviderId = :serviceProviderId
-            GROUP BY b.bookingStatus
-            """)
-    List<BookingStatusCount> countBookingsByStatusGroupedForProvider(
-            @Param("serviceProviderId") Long serviceProviderId
+    @Query("""
+        SELECT b
+        FROM Booking b
+        WHERE b.serviceProviderId = :serviceProviderId
+          AND b.serviceId = :serviceId
+          AND b.bookingDate BETWEEN :fromDate AND :toDate
+          AND b.bookingStatus IN (com.sarthak.BookingService.model.BookingStatus.PENDING,
+                                  com.sarthak.BookingService.model.BookingStatus.CONFIRMED)
+        ORDER BY b.bookingDate, b.bookingStartTime
+    """)
+    List<Booking> findBookedSlotsForProviderBetween(
+            Long serviceProviderId,
+            Long serviceId,
+            LocalDate fromDate,
+            LocalDate toDate
     );
 
-    List<Booking> findAllByBookingStatusAndCreatedAtBefore(BookingStatus bookingStatus, Instant cutOff);
+    // A null serviceProviderId or customerId leaves that owner unrestricted
+    @Query("""
+        SELECT new com.sarthak.BookingService.dto.BookingStatusSnapshot(b.bookingId, b.bookingStatus)
+        FROM Booking b
+        WHERE b.bookingId IN :bookingIds
+          AND (:serviceProviderId IS NULL OR b.serviceProviderId = :serviceProviderId)
+          AND (:customerId IS NULL OR b.customerId = :customerId)
+    """)
+    List<BookingStatusSnapshot> findStatusesByIds(@Param("bookingIds") Collection<Long> bookingIds,
+                                                  @Param("serviceProviderId") Long serviceProviderId,
+                                                  @Param("customerId") Long customerId);
 
+    // Moves every listed booking still in one of allowedStatuses to newStatus in one statement. The subquery
+    // locks the rows in id order and reads their latest status, so the returned previous status is the one
+    // that was actually replaced even when a concurrent change committed in between. Owners are restricted as
+    // in findStatusesByIds.
+    @Transactional
     @Query(value = """
-            SELECT new com.sarthak.BookingService.dto.BookingStatusCount(b.bookingStatus, COUNT(b))
-            FROM Booking b
-            WHERE b.customerId = :customerId
-            GROUP BY b.bookingStatus
-            """)
-    List<BookingStatusCount> countBookingsByStatusGroupedForCustomer(@Param("customerId") Long customerId);
+            UPDATE booking b SET booking_status = :newStatus
+            FROM (
+                SELECT booking_id, booking_status FROM booking
+                WHERE booking_id IN (:bookingIds)
+                  AND (CAST(:serviceProviderId AS bigint) IS NULL OR service_provider_id = :serviceProviderId)
+                  AND (CAST(:customerId AS bigint) IS NULL OR customer_id = :customerId)
+                ORDER BY booking_id
+                FOR UPDATE
+            ) previous
+            WHERE b.booking_id = previous.booking_id
+              AND previous.booking_status IN (:allowedStatuses)
+            RETURNING b.booking_id AS bookingId, previous.booking_status AS previousStatus,
+                      b.customer_id AS customerId, b.service_provider_id AS serviceProviderId,
+                      b.service_id AS serviceId, b.booking_date AS bookingDate
+            """, nativeQuery = true)
+    List<BookingStatusChange> updateStatuses(@Param("bookingIds") Collection<Long> bookingIds,
+                                             @Param("allowedStatuses") Collection<String> allowedStatuses,
+                                             @Param("newStatus") String newStatus,
+                                             @Param("serviceProviderId") Long serviceProviderId,
+                                             @Param("customerId") Long customerId);
+
+    List<Booking> findAllByBookingStatusAndCreatedAtBefore(BookingStatus bookingStatus, Instant cutOff);
 
     List<Booking> findByServiceIdAndCustomerIdAndBookingStatus(Long serviceId, Long customerId, BookingStatus bookingStatus);
 }
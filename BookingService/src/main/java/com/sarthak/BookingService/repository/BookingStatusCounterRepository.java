@@ -0,0 +1,94 @@
+package com.sarthak.BookingService.repository;
+
+import com.sarthak.BookingService.dto.BookingStatusCount;
+import com.sarthak.BookingService.model.BookingStatusCounter;
+import com.sarthak.BookingService.model.UserRole;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface BookingStatusCounterRepository extends JpaRepository<BookingStatusCounter, Long> {
+
+    @Query("""
+        SELECT new com.sarthak.BookingService.dto.BookingStatusCount(c.bookingStatus, c.bookingCount)
+        FROM BookingStatusCounter c
+        WHERE c.userId = :userId AND c.userRole = :userRole
+    """)
+    List<BookingStatusCount> findCounts(@Param("userId") Long userId, @Param("userRole") UserRole userRole);
+
+    // Single-statement increment, joins the caller's transaction so the count commits or rolls back together
+    // with the status change it records
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO booking_status_counts (user_id, user_role, booking_status, booking_count)
+        VALUES (:userId, :userRole, :bookingStatus, :delta)
+        ON CONFLICT (user_id, user_role, booking_status) DO UPDATE SET
+            booking_count = booking_status_counts.booking_count + EXCLUDED.booking_count
+        """, nativeQuery = true)
+    void adjust(@Param("userId") Long userId, @Param("userRole") String userRole,
+                @Param("bookingStatus") String bookingStatus, @Param("delta") long delta);
+
+    // Reconciliation, see BookingStatusCountReconciler
+
+    @Query(value = """
+        SELECT ids.user_id FROM (
+            SELECT customer_id AS user_id FROM booking WHERE customer_id > :afterUserId
+            UNION
+            SELECT service_provider_id FROM booking WHERE service_provider_id > :afterUserId
+            UNION
+            SELECT user_id FROM booking_status_counts WHERE user_id > :afterUserId
+        ) ids
+        ORDER BY ids.user_id
+        LIMIT :chunkSize
+        """, nativeQuery = true)
+    List<Long> findUserIdChunk(@Param("afterUserId") Long afterUserId, @Param("chunkSize") int chunkSize);
+
+    @Query(value = """
+        SELECT counter_id FROM booking_status_counts
+        WHERE user_id IN (:userIds)
+        ORDER BY counter_id
+        FOR UPDATE
+        """, nativeQuery = true)
+    List<Long> lockByUserIds(@Param("userIds") List<Long> userIds);
+
+    // Overwrites counts that differ from a recount of the booking table and inserts the missing ones
+    @Modifying
+    @Query(value = """
+        INSERT INTO booking_status_counts (user_id, user_role, booking_status, booking_count)
+        SELECT customer_id, 'CUSTOMER', booking_status, COUNT(*)
+        FROM booking
+        WHERE customer_id IN (:userIds)
+        GROUP BY customer_id, booking_status
+        UNION ALL
+        SELECT service_provider_id, 'PROVIDER', booking_status, COUNT(*)
+        FROM booking
+        WHERE service_provider_id IN (:userIds)
+        GROUP BY service_provider_id, booking_status
+        ON CONFLICT (user_id, user_role, booking_status) DO UPDATE SET
+            booking_count = EXCLUDED.booking_count
+        WHERE booking_status_counts.booking_count <> EXCLUDED.booking_count
+        """, nativeQuery = true)
+    int correctDriftedCounts(@Param("userIds") List<Long> userIds);
+
+    // Rows already at zero are left alone, they are the normal result of decrements
+    @Modifying
+    @Query(value = """
+        DELETE FROM booking_status_counts c
+        WHERE c.user_id IN (:userIds)
+          AND c.booking_count <> 0
+          AND NOT EXISTS (
+              SELECT 1 FROM booking b
+              WHERE b.booking_status = c.booking_status
+                AND ((c.user_role = 'CUSTOMER' AND b.customer_id = c.user_id)
+                  OR (c.user_role = 'PROVIDER' AND b.service_provider_id = c.user_id))
+          )
+        """, nativeQuery = true)
+    int deleteOrphanedCounts(@Param("userIds") List<Long> userIds);
+}
@@ -0,0 +1,13 @@
+package com.sarthak.BookingService.repository;
+
+import com.sarthak.BookingService.model.Booking;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+public interface BookingStreamRepository {
+
+    // Forward-only cursor over the matching bookings in id order, fetchSize rows per round trip. Must be
+    // consumed and closed inside a transaction, rows come back detached.
+    Stream<Booking> streamAll(Specification<Booking> specification, int fetchSize);
+}
@@ -0,0 +1,43 @@
+package com.sarthak.BookingService.repository;
+
+import com.sarthak.BookingService.model.Booking;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+class BookingStreamRepositoryImpl implements BookingStreamRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Booking> streamAll(Specification<Booking> specification, int fetchSize) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Booking> query = criteriaBuilder.createQuery(Booking.class);
+        Root<Booking> root = query.from(Booking.class);
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(criteriaBuilder.asc(root.get("bookingId")));
+
+        // detach every row once read so the persistence context does not grow with the export
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(booking -> {
+                    entityManager.detach(booking);
+                    return booking;
+                });
+    }
+}
@@ -0,0 +1,17 @@
+package com.sarthak.BookingService.repository;
+
+import com.sarthak.BookingService.model.ProcessedStatusEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProcessedStatusEventRepository extends JpaRepository<ProcessedStatusEvent, Long> {
+
+    Optional<ProcessedStatusEvent> findByEventId(String eventId);
+
+    List<ProcessedStatusEvent> findAllByEventIdIn(Collection<String> eventIds);
+}
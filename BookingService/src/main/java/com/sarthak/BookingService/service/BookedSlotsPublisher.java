@@ -0,0 +1,32 @@
+package com.sarthak.BookingService.service;
+
+import com.sarthak.BookingService.config.invalidation.InvalidationPublisher;
+import com.sarthak.BookingService.model.Booking;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+// Announces every provider day whose bookings changed on the invalidation bus. AvailabilityService listens on
+// this database and recomputes those days in its materialized availability (provider_day_availability). Sent
+// with the booking's transaction, so a rolled back booking announces nothing.
+@Component
+@RequiredArgsConstructor
+public class BookedSlotsPublisher {
+
+    public static final String ENTITY = "booked-slots";
+
+    private final InvalidationPublisher invalidationPublisher;
+
+    public void publish(Booking booking) {
+        publish(booking.getServiceProviderId(), booking.getServiceId(), booking.getBookingDate());
+    }
+
+    // Id format shared with AvailabilityService: serviceProviderId:serviceId:date
+    public void publish(Long serviceProviderId, Long serviceId, LocalDate date) {
+        if (serviceProviderId == null || serviceId == null || date == null) {
+            return;
+        }
+        invalidationPublisher.publish(ENTITY, serviceProviderId + ":" + serviceId + ":" + date);
+    }
+}
@@ -0,0 +1,147 @@
+package com.sarthak.BookingService.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sarthak.BookingService.config.shared.UserPrincipal;
+import com.sarthak.BookingService.dto.ExportFormat;
+import com.sarthak.BookingService.dto.QueryFilter;
+import com.sarthak.BookingService.mapper.BookingMapper;
+import com.sarthak.BookingService.model.Booking;
+import com.sarthak.BookingService.repository.BookingRepository;
+import com.sarthak.BookingService.repository.BookingSpecification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// Streams bookings from a database cursor straight into the response body. Only one fetch of rows and
+// the writer buffer are held at a time, and a slow client blocks the writes and with them the next fetch,
+// so memory stays flat however many rows match.
+@Slf4j
+@Service
+public class BookingExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "bookingId,serviceProviderId,serviceId,serviceCategory,customerId,"
+            + "bookingDate,bookingStartTime,bookingEndTime,bookingStatus,createdAt,rescheduledToId";
+
+    private final BookingRepository bookingRepository;
+    private final BookingMapper bookingMapper;
+    private final ObjectWriter jsonWriter;
+    private final int fetchSize;
+
+    public BookingExportService(BookingRepository bookingRepository, BookingMapper bookingMapper,
+                                ObjectMapper objectMapper,
+                                @Value("${booking.export.fetch-size:500}") int fetchSize) {
+        this.bookingRepository = bookingRepository;
+        this.bookingMapper = bookingMapper;
+        this.jsonWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.fetchSize = fetchSize;
+    }
+
+    @Transactional(readOnly = true)
+    public long exportBookings(QueryFilter queryFilter, UserPrincipal userPrincipal, ExportFormat format,
+                               OutputStream out) throws IOException {
+        QueryFilter scoped = scopeToUser(queryFilter, userPrincipal);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        long rows = 0;
+        try (Stream<Booking> bookings = bookingRepository.streamAll(BookingSpecification.buildSpecification(scoped),
+                fetchSize)) {
+            Iterator<Booking> iterator = bookings.iterator();
+            if (format == ExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+                while (iterator.hasNext()) {
+                    writeCsv(writer, iterator.next());
+                    rows++;
+                }
+            } else {
+                JsonGenerator generator = jsonWriter.createGenerator(writer);
+                while (iterator.hasNext()) {
+                    jsonWriter.writeValue(generator, bookingMapper.toDto(iterator.next()));
+                    generator.writeRaw('\n');
+                    rows++;
+                }
+                generator.flush();
+            }
+        }
+        writer.flush();
+        log.info("Exported {} bookings as {} for userId: {}", rows, format, userPrincipal.getUserId());
+        return rows;
+    }
+
+    // Admins and internal services export anything, providers and customers only their own bookings
+    QueryFilter scopeToUser(QueryFilter queryFilter, UserPrincipal userPrincipal) {
+        QueryFilter filter = queryFilter != null ? queryFilter
+                : new QueryFilter(null, null, null, null, null, null, null);
+        boolean unrestricted = userPrincipal.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN") || a.getAuthority().equals("SERVICE"));
+        if (unrestricted) {
+            return filter;
+        }
+        String userType = userPrincipal.getUserType();
+        if ("PROVIDER".equalsIgnoreCase(userType)) {
+            return new QueryFilter(filter.bookingStatus(), filter.serviceCategory(), filter.dateFrom(),
+                    filter.dateTo(), userPrincipal.getUserId(), filter.customerId(), filter.serviceId());
+        }
+        if ("CUSTOMER".equalsIgnoreCase(userType)) {
+            return new QueryFilter(filter.bookingStatus(), filter.serviceCategory(), filter.dateFrom(),
+                    filter.dateTo(), filter.serviceProviderId(), userPrincipal.getUserId(), filter.serviceId());
+        }
+        throw new AccessDeniedException("Invalid access: Unknown user type " + userType);
+    }
+
+    private void writeCsv(Writer writer, Booking booking) throws IOException {
+        writer.write(String.valueOf(booking.getBookingId()));
+        writer.write(',');
+        writer.write(String.valueOf(booking.getServiceProviderId()));
+        writer.write(',');
+        writer.write(String.valueOf(booking.getServiceId()));
+        writer.write(',');
+        writeCsvText(writer, booking.getServiceCategory());
+        writer.write(',');
+        writer.write(String.valueOf(booking.getCustomerId()));
+        writer.write(',');
+        writer.write(booking.getBookingDate().toString());
+        writer.write(',');
+        writer.write(booking.getBookingStartTime().toString());
+        writer.write(',');
+        writer.write(booking.getBookingEndTime().toString());
+        writer.write(',');
+        writer.write(booking.getBookingStatus().name());
+        writer.write(',');
+        writer.write(booking.getCreatedAt().toString());
+        writer.write(',');
+        writeCsvText(writer, booking.getRescheduledToId());
+        writer.write('\n');
+    }
+
+    // RFC 4180 quoting, plus a leading quote on values a spreadsheet would evaluate as a formula
+    static void writeCsvText(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        String text = "=+-@\t\r".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0
+                || text.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,46 @@
+package com.sarthak.BookingService.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+// Stage timers for booking creation. Every timer carries an outcome tag, so its count doubles as
+// the outcome counter (e.g. booking_create_seconds_count{outcome="TimeSlotAlreadyBooked"}).
+@Component
+public class BookingMetrics {
+
+    public static final String CREATE = "booking.create";
+    public static final String AVAILABILITY = "booking.create.availability";
+    public static final String INSERT = "booking.create.insert";
+
+    public static final String OUTCOME_CREATED = "CREATED";
+    public static final String OUTCOME_ERROR = "ERROR";
+    public static final String OUTCOME_TIME_SLOT_ALREADY_BOOKED = "TimeSlotAlreadyBooked";
+    public static final String OUTCOME_SLOT_HELD = "SlotHeld";
+
+    private final MeterRegistry meterRegistry;
+
+    public BookingMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void stop(Timer.Sample sample, String stage, String outcome) {
+        sample.stop(Timer.builder(stage)
+                .description(descriptionOf(stage))
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    private String descriptionOf(String stage) {
+        return switch (stage) {
+            case CREATE -> "Booking creation from validation to insert, excluding commit";
+            case AVAILABILITY -> "Availability service status call";
+            case INSERT -> "Booking insert, rejected by the active slot constraint when the slot is taken";
+            default -> stage;
+        };
+    }
+}
@@ -6,27 +6,35 @@ import com.sarthak.BookingService.client.UserServiceClient;
 import com.sarthak.BookingService.config.shared.UserPrincipal;
 import com.sarthak.BookingService.dto.AvailabilityStatus;
 import com.sarthak.BookingService.dto.BookingDto;
+import com.sarthak.BookingService.dto.BookingStatusChange;
 import com.sarthak.BookingService.dto.BookingStatusCount;
+import com.sarthak.BookingService.dto.BookingStatusSnapshot;
 import com.sarthak.BookingService.dto.QueryFilter;
 import com.sarthak.BookingService.dto.ServiceItemDto;
 import com.sarthak.BookingService.dto.ServiceListingQueryFilter;
 import com.sarthak.BookingService.dto.Slot;
 import com.sarthak.BookingService.dto.request.BookingRescheduleRequest;
+import com.sarthak.BookingService.dto.request.BulkBookingStatusRequest;
 import com.sarthak.BookingService.dto.response.BookedSlotsResponse;
 import com.sarthak.BookingService.dto.response.BookingResponse;
 import com.sarthak.BookingService.dto.response.BookingsSummaryResponse;
+import com.sarthak.BookingService.dto.response.BulkBookingStatusResult;
 import com.sarthak.BookingService.dto.response.UsernameResponse;
 import com.sarthak.BookingService.exception.BookingNotFoundException;
+import com.sarthak.BookingService.exception.BookingStatusRejectedException;
 import com.sarthak.BookingService.exception.ProviderNotAvailableForGivenTimeSlotException;
 import com.sarthak.BookingService.exception.TimeSlotAlreadyBookedException;
 import com.sarthak.BookingService.exception.UnknownAvailabilityStatusException;
 import com.sarthak.BookingService.mapper.BookingMapper;
 import com.sarthak.BookingService.model.Booking;
 import com.sarthak.BookingService.model.BookingStatus;
+import com.sarthak.BookingService.model.BulkStatusOutcome;
+import com.sarthak.BookingService.model.UserRole;
 import com.sarthak.BookingService.repository.BookingRepository;
 import com.sarthak.BookingService.dto.request.AvailabilityStatusRequest;
 import com.sarthak.BookingService.dto.response.AvailabilityStatusResponse;
 import com.sarthak.BookingService.repository.BookingSpecification;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -34,6 +42,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -42,11 +51,16 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -61,18 +75,28 @@ public class BookingService {
     private final AvailabilityServiceClient availabilityServiceClient;
     private final ServiceListingClient serviceListingClient;
     private final UserServiceClient userServiceClient;
+    private final BookingMetrics bookingMetrics;
+    private final SlotHoldService slotHoldService;
+    private final BookingStatusCounterService bookingStatusCounterService;
+    private final BookedSlotsPublisher bookedSlotsPublisher;
+    private static final int MAX_BULK_STATUS_UPDATES = 500;
+    private static final int MAX_BOOKED_SLOTS_RANGE_DAYS = 92;
     private final Set<String> ALLOWED_SORT_FIELDS = Set.of("bookingId", "serviceProviderId", "serviceId",
             "customerId", "bookingDate", "bookingStartTime", "bookingEndTime", "bookingStatus", "createdAt");
-    private final Set<BookingStatus> EXCLUDED_STATUSES_FOR_OVERLAP_CHECK = Set.of(CANCELLED, DELETED);
-    private final Set<BookingStatus> INCLUDED_STATUSES_FOR_BOOKED_SLOTS = Set.of(PENDING, CONFIRMED);
 
     public BookingService(BookingRepository bookingRepository, BookingMapper bookingMapper,
-            AvailabilityServiceClient availabilityServiceClient, ServiceListingClient serviceListingClient, UserServiceClient userServiceClient) {
+            AvailabilityServiceClient availabilityServiceClient, ServiceListingClient serviceListingClient, UserServiceClient userServiceClient,
+            BookingMetrics bookingMetrics, SlotHoldService slotHoldService,
+            BookingStatusCounterService bookingStatusCounterService, BookedSlotsPublisher bookedSlotsPublisher) {
         this.bookingRepository = bookingRepository;
         this.bookingMapper = bookingMapper;
         this.availabilityServiceClient = availabilityServiceClient;
         this.serviceListingClient = serviceListingClient;
         this.userServiceClient = userServiceClient;
+        this.bookingMetrics = bookingMetrics;
+        this.slotHoldService = slotHoldService;
+        this.bookingStatusCounterService = bookingStatusCounterService;
+        this.bookedSlotsPublisher = bookedSlotsPublisher;
     }
 
     public BookingDto getBookingDetails(Long bookingId) {
@@ -115,7 +139,7 @@ public class BookingService {
     public BookedSlotsResponse getBookedSlotsForProviderOnDate(Long serviceProviderId, Long serviceId, LocalDate date) {
         List<Booking> bookings = bookingRepository
                 .findBookedSlotsForProviderByDate(serviceProviderId,
-                        serviceId, date, INCLUDED_STATUSES_FOR_BOOKED_SLOTS);
+                        serviceId, date);
 
         List<Slot> bookedSlots = new ArrayList<>();
 
@@ -152,6 +176,38 @@ public class BookingService {
                 .build();
     }
 
+    // One response per date that has active bookings, used to rebuild a provider's availability for a range of
+    // days with a single call
+    public List<BookedSlotsResponse> getBookedSlotsForProviderBetween(Long serviceProviderId, Long serviceId,
+                                                                      LocalDate fromDate, LocalDate toDate) {
+        if (fromDate.isAfter(toDate)) {
+            throw new IllegalArgumentException("From date must not be after to date");
+        }
+        if (ChronoUnit.DAYS.between(fromDate, toDate) >= MAX_BOOKED_SLOTS_RANGE_DAYS) {
+            throw new IllegalArgumentException("At most " + MAX_BOOKED_SLOTS_RANGE_DAYS + " days can be requested at once");
+        }
+        Map<LocalDate, List<Slot>> slotsByDate = new TreeMap<>();
+        for (Booking booking : bookingRepository.findBookedSlotsForProviderBetween(serviceProviderId, serviceId,
+                fromDate, toDate)) {
+            slotsByDate.computeIfAbsent(booking.getBookingDate(), date -> new ArrayList<>())
+                    .add(Slot.builder()
+                            .startTime(booking.getBookingStartTime())
+                            .endTime(booking.getBookingEndTime())
+                            .build());
+        }
+        log.info("Fetched booked slots on {} days for serviceProviderId: {} and serviceId: {} from {} to {}",
+                slotsByDate.size(), serviceProviderId, serviceId, fromDate, toDate);
+
+        return slotsByDate.entrySet().stream()
+                .map(entry -> BookedSlotsResponse.builder()
+                        .serviceProviderId(serviceProviderId)
+                        .serviceId(serviceId)
+                        .bookedSlots(mergeBookedSlots(entry.getValue()))
+                        .date(entry.getKey().toString())
+                        .build())
+                .toList();
+    }
+
     private List<Slot> mergeBookedSlots(List<Slot> slots) {
         if (slots.isEmpty()) return List.of();
 
@@ -183,68 +239,103 @@ public class BookingService {
 
     @Transactional
     public BookingDto bookService(BookingDto bookingDto, UserPrincipal userPrincipal) {
-        if (Objects.equals(bookingDto.serviceProviderId(), userPrincipal.getUserId())) {
-            throw new IllegalStateException("Service provider cannot book their own service");
-        }
-        Booking booking = bookingMapper.toEntity(bookingDto);
-
-        ZoneId zone = ZoneId.of("Asia/Kolkata");
-        ZonedDateTime bookingZdt = ZonedDateTime.of(booking.getBookingDate(), booking.getBookingStartTime(), zone);
-        if (bookingZdt.isBefore(ZonedDateTime.now(zone))) {
-            throw new IllegalStateException("Booking start time cannot be in the past");
-        }
-        log.info("Booking process starting for serviceId: {} with providerId: {} on date: {} from {} to {}",
-                booking.getServiceId(), booking.getServiceProviderId(), booking.getBookingDate(),
-                booking.getBookingStartTime(), booking.getBookingEndTime());
+        Timer.Sample total = bookingMetrics.start();
+        String outcome = BookingMetrics.OUTCOME_ERROR;
+        try {
+            if (Objects.equals(bookingDto.serviceProviderId(), userPrincipal.getUserId())) {
+                throw new IllegalStateException("Service provider cannot book their own service");
+            }
+            Booking booking = bookingMapper.toEntity(bookingDto);
 
-        AvailabilityStatusResponse response = availabilityServiceClient.getAvailabilityStatus(
-                AvailabilityStatusRequest.builder()
-                        .serviceProviderId(booking.getServiceProviderId())
-                        .serviceId(booking.getServiceId())
-                        .startTime(booking.getBookingStartTime())
-                        .endTime(booking.getBookingEndTime())
-                        .date(booking.getBookingDate())
-                        .build());
+            ZoneId zone = ZoneId.of("Asia/Kolkata");
+            ZonedDateTime bookingZdt = ZonedDateTime.of(booking.getBookingDate(), booking.getBookingStartTime(), zone);
+            if (bookingZdt.isBefore(ZonedDateTime.now(zone))) {
+                throw new IllegalStateException("Booking start time cannot be in the past");
+            }
+            log.info("Booking process starting for serviceId: {} with providerId: {} on date: {} from {} to {}",
+                    booking.getServiceId(), booking.getServiceProviderId(), booking.getBookingDate(),
+                    booking.getBookingStartTime(), booking.getBookingEndTime());
 
-        log.info("Availability status for serviceId: {} with providerId: {} on date: {} from {} to {} is {}",
-                booking.getServiceId(), booking.getServiceProviderId(), booking.getBookingDate(),
-                booking.getBookingStartTime(), booking.getBookingEndTime(), response.status());
+            // Another customer checking out this slot, turn this one away before the availability call and insert
+            if (slotHoldService.isHeldByOther(booking.getServiceProviderId(), booking.getServiceId(),
+                    booking.getBookingDate(), booking.getBookingStartTime(), booking.getBookingEndTime(),
+                    userPrincipal.getUserId())) {
+                outcome = BookingMetrics.OUTCOME_SLOT_HELD;
+                throw new TimeSlotAlreadyBookedException("Time slot is held by another customer");
+            }
 
-        if (response.status().equals(AvailabilityStatus.BLOCKED) ||
-                response.status().equals(AvailabilityStatus.OUTSIDE_WORKING_HOURS)) {
-            throw new ProviderNotAvailableForGivenTimeSlotException("Time slot not available");
-        } else if (response.status().equals(AvailabilityStatus.AVAILABLE)) {
-            boolean hasOverlappingBooking = bookingRepository
-                    .hasOverlappingBooking(booking.getServiceProviderId(), booking.getServiceId(),
-                            booking.getBookingDate(), booking.getBookingStartTime(), booking.getBookingEndTime(), EXCLUDED_STATUSES_FOR_OVERLAP_CHECK);
+            Timer.Sample availabilityCall = bookingMetrics.start();
+            AvailabilityStatusResponse response;
+            try {
+                response = availabilityServiceClient.getAvailabilityStatus(
+                        AvailabilityStatusRequest.builder()
+                                .serviceProviderId(booking.getServiceProviderId())
+                                .serviceId(booking.getServiceId())
+                                .startTime(booking.getBookingStartTime())
+                                .endTime(booking.getBookingEndTime())
+                                .date(booking.getBookingDate())
+                                .build());
+            } catch (RuntimeException ex) {
+                bookingMetrics.stop(availabilityCall, BookingMetrics.AVAILABILITY, BookingMetrics.OUTCOME_ERROR);
+                throw ex;
+            }
+            bookingMetrics.stop(availabilityCall, BookingMetrics.AVAILABILITY, String.valueOf(response.status()));
 
-            log.info("Checking for existing bookings for serviceId: {} with providerId: {} on date: {} from {} to {}",
+            log.info("Availability status for serviceId: {} with providerId: {} on date: {} from {} to {} is {}",
                     booking.getServiceId(), booking.getServiceProviderId(), booking.getBookingDate(),
-                    booking.getBookingStartTime(), booking.getBookingEndTime());
+                    booking.getBookingStartTime(), booking.getBookingEndTime(), response.status());
 
-            if (hasOverlappingBooking) {
+            if (response.status().equals(AvailabilityStatus.BLOCKED) ||
+                    response.status().equals(AvailabilityStatus.OUTSIDE_WORKING_HOURS)) {
+                outcome = response.status().name();
+                throw new ProviderNotAvailableForGivenTimeSlotException("Time slot not available");
+            } else if (!response.status().equals(AvailabilityStatus.AVAILABLE)) {
+                log.error(
+                        "Unknown availability status received: {} for serviceId: {} with providerId: {} on date: {} from {} to {}",
+                        response.status(), booking.getServiceId(), booking.getServiceProviderId(), booking.getBookingDate(),
+                        booking.getBookingStartTime(), booking.getBookingEndTime());
+                outcome = String.valueOf(response.status());
+                throw new UnknownAvailabilityStatusException("Unknown availability status");
+            }
+            booking.setBookingStatus(PENDING);
+            // the native insert bypasses @PrePersist
+            booking.normalizeBookingTime();
+
+            // No overlap check up front, the insert itself skips the row when an active booking already
+            // covers part of the slot
+            Timer.Sample insert = bookingMetrics.start();
+            String insertOutcome = BookingMetrics.OUTCOME_ERROR;
+            Optional<Long> bookingId;
+            try {
+                bookingId = bookingRepository.insertIfSlotFree(booking);
+                insertOutcome = bookingId.isPresent()
+                        ? BookingMetrics.OUTCOME_CREATED
+                        : BookingMetrics.OUTCOME_TIME_SLOT_ALREADY_BOOKED;
+            } finally {
+                bookingMetrics.stop(insert, BookingMetrics.INSERT, insertOutcome);
+            }
+            if (bookingId.isEmpty()) {
                 log.error("Time slot already booked for serviceId: {} with providerId: {} on date: {} from {} to {}",
                         booking.getServiceId(), booking.getServiceProviderId(), booking.getBookingDate(),
                         booking.getBookingStartTime(), booking.getBookingEndTime());
+                outcome = BookingMetrics.OUTCOME_TIME_SLOT_ALREADY_BOOKED;
                 throw new TimeSlotAlreadyBookedException("Time slot already booked");
             }
-
-        } else {
-            log.error(
-                    "Unknown availability status received: {} for serviceId: {} with providerId: {} on date: {} from {} to {}",
-                    response.status(), booking.getServiceId(), booking.getServiceProviderId(), booking.getBookingDate(),
-                    booking.getBookingStartTime(), booking.getBookingEndTime());
-            throw new UnknownAvailabilityStatusException("Unknown availability status");
+            booking.setBookingId(bookingId.get());
+            bookingStatusCounterService.recordCreated(booking);
+            bookedSlotsPublisher.publish(booking);
+            slotHoldService.releaseOnCommit(booking.getServiceProviderId(), booking.getServiceId(),
+                    booking.getBookingDate(), booking.getBookingStartTime(), booking.getBookingEndTime(),
+                    userPrincipal.getUserId());
+            log.info("Booking created with bookingId: {} for serviceId: {} with providerId: {} on date: {} from {} to {}",
+                    booking.getBookingId(), booking.getServiceId(), booking.getServiceProviderId(),
+                    booking.getBookingDate(), booking.getBookingStartTime(), booking.getBookingEndTime());
+
+            outcome = BookingMetrics.OUTCOME_CREATED;
+            return bookingMapper.toDto(booking);
+        } finally {
+            bookingMetrics.stop(total, BookingMetrics.CREATE, outcome);
         }
-        booking.setBookingStatus(PENDING);
-
-        Booking savedBooking = bookingRepository.save(booking);
-        log.info("Booking created with bookingId: {} for serviceId: {} with providerId: {} on date: {} from {} to {}",
-                savedBooking.getBookingId(), savedBooking.getServiceId(), savedBooking.getServiceProviderId(),
-                savedBooking.getBookingDate(), savedBooking.getBookingStartTime(), savedBooking.getBookingEndTime());
-
-        return bookingMapper.toDto(savedBooking);
-
     }
 
     // After payment is successful
@@ -252,8 +343,11 @@ public class BookingService {
     private BookingDto confirmBooking(Long bookingId) {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new BookingNotFoundException("Booking not found"));
+        BookingStatus previousStatus = booking.getBookingStatus();
         booking.setBookingStatus(BookingStatus.CONFIRMED);
         Booking updatedBooking = bookingRepository.save(booking);
+        bookingStatusCounterService.recordTransition(updatedBooking, previousStatus);
+        bookedSlotsPublisher.publish(updatedBooking);
         log.info("Booking confirmed with bookingId: {}", bookingId);
         return bookingMapper.toDto(updatedBooking);
     }
@@ -263,8 +357,11 @@ public class BookingService {
     private BookingDto cancelBooking(Long bookingId) {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new BookingNotFoundException("Booking not found"));
+        BookingStatus previousStatus = booking.getBookingStatus();
         booking.setBookingStatus(CANCELLED);
         Booking updatedBooking = bookingRepository.save(booking);
+        bookingStatusCounterService.recordTransition(updatedBooking, previousStatus);
+        bookedSlotsPublisher.publish(updatedBooking);
         log.info("Booking cancelled with bookingId: {}", bookingId);
         return bookingMapper.toDto(updatedBooking);
     }
@@ -275,8 +372,11 @@ public class BookingService {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new BookingNotFoundException("Booking not found"));
 
+        BookingStatus previousStatus = booking.getBookingStatus();
         booking.setBookingStatus(COMPLETED);
         Booking updatedBooking = bookingRepository.save(booking);
+        bookingStatusCounterService.recordTransition(updatedBooking, previousStatus);
+        bookedSlotsPublisher.publish(updatedBooking);
         log.info("Booking completed with bookingId: {}", bookingId);
         return bookingMapper.toDto(updatedBooking);
     }
@@ -286,9 +386,12 @@ public class BookingService {
     public void deleteBooking(Long bookingId) {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new BookingNotFoundException("Booking not found"));
+        BookingStatus previousStatus = booking.getBookingStatus();
         booking.setBookingStatus(BookingStatus.DELETED);
         log.info("Booking deleted with bookingId: {}", bookingId);
         bookingRepository.save(booking);
+        bookingStatusCounterService.recordTransition(booking, previousStatus);
+        bookedSlotsPublisher.publish(booking);
     }
 
     public BookingsSummaryResponse getBookingSummary(Authentication authentication) {
@@ -297,10 +400,10 @@ public class BookingService {
         String userType = userPrincipal.getUserType();
         List<BookingStatusCount> rows;
         if(userType.equalsIgnoreCase("CUSTOMER")){
-            rows = bookingRepository.countBookingsByStatusGroupedForCustomer(userId);
+            rows = bookingStatusCounterService.getCounts(userId, UserRole.CUSTOMER);
         }else if (userType.equalsIgnoreCase("PROVIDER")){
             log.info("Generating booking summary for serviceProviderId: {}", userId);
-            rows = bookingRepository.countBookingsByStatusGroupedForProvider(userId);
+            rows = bookingStatusCounterService.getCounts(userId, UserRole.PROVIDER);
             log.info("Fetched booking status counts: {}", rows);
         }else {
             rows = new ArrayList<>();
@@ -362,6 +465,11 @@ public class BookingService {
         log.info("Changed booking details - Date: {}, StartTime: {}, EndTime: {}", changedDate, changedStartTime,
                 changedEndTime);
 
+        if (slotHoldService.isHeldByOther(existingBooking.getServiceProviderId(), existingBooking.getServiceId(),
+                changedDate, changedStartTime, changedEndTime, existingBooking.getCustomerId())) {
+            throw new TimeSlotAlreadyBookedException("Time slot is held by another customer");
+        }
+
         AvailabilityStatusResponse response = availabilityServiceClient.getAvailabilityStatus(
                 AvailabilityStatusRequest.builder()
                         .serviceProviderId(existingBooking.getServiceProviderId())
@@ -379,25 +487,7 @@ public class BookingService {
         if (response.status().equals(AvailabilityStatus.BLOCKED) ||
                 response.status().equals(AvailabilityStatus.OUTSIDE_WORKING_HOURS)) {
             throw new TimeSlotAlreadyBookedException("Time slot not available");
-        } else if (response.status().equals(AvailabilityStatus.AVAILABLE)) {
-            boolean hasOverlappingBookings = bookingRepository
-                    .hasOverlappingBooking(
-                            existingBooking.getServiceProviderId(), existingBooking.getServiceId(),
-                            changedDate, changedStartTime, changedEndTime, EXCLUDED_STATUSES_FOR_OVERLAP_CHECK);
-
-            log.info(
-                    " Checking for conflicting bookings for rescheduling - serviceId: {} with providerId: {} on date: {} from {} to {}",
-                    existingBooking.getServiceId(), existingBooking.getServiceProviderId(), changedDate,
-                    changedStartTime, changedEndTime);
-
-            if (hasOverlappingBookings) {
-                log.error(
-                        "Time slot already booked for rescheduling - serviceId: {} with providerId: {} on date: {} from {} to {}",
-                        existingBooking.getServiceId(), existingBooking.getServiceProviderId(), changedDate,
-                        changedStartTime, changedEndTime);
-                throw new TimeSlotAlreadyBookedException("Time slot already booked");
-            }
-        } else {
+        } else if (!response.status().equals(AvailabilityStatus.AVAILABLE)) {
             log.error(
                     "Unknown availability status received: {} for rescheduling - serviceId: {} with providerId: {} on date: {} from {} to {}",
                     response.status(), existingBooking.getServiceId(), existingBooking.getServiceProviderId(),
@@ -418,38 +508,152 @@ public class BookingService {
                 .bookingStatus(existingBooking.getBookingStatus())
                 .build();
 
+        // Take the old booking out of the active set first so a new slot overlapping it does not conflict
+        // with it, any other active booking in the way makes the insert skip the row
+        BookingStatus previousStatus = existingBooking.getBookingStatus();
         existingBooking.setBookingStatus(RESCHEDULED);
-        Booking savedBooking = bookingRepository.save(newBooking);
-        log.info("Created new booking with bookingId: {} as part of rescheduling", savedBooking.getBookingId());
-        existingBooking.setRescheduledToId(String.valueOf(savedBooking.getBookingId()));
+        bookingRepository.saveAndFlush(existingBooking);
+        newBooking.normalizeBookingTime();
+        Long newBookingId = bookingRepository.insertIfSlotFree(newBooking).orElseThrow(() -> {
+            log.error(
+                    "Time slot already booked for rescheduling - serviceId: {} with providerId: {} on date: {} from {} to {}",
+                    existingBooking.getServiceId(), existingBooking.getServiceProviderId(), changedDate,
+                    changedStartTime, changedEndTime);
+            return new TimeSlotAlreadyBookedException("Time slot already booked");
+        });
+        newBooking.setBookingId(newBookingId);
+        bookingStatusCounterService.recordTransition(existingBooking, previousStatus);
+        bookingStatusCounterService.recordCreated(newBooking);
+        bookedSlotsPublisher.publish(existingBooking);
+        bookedSlotsPublisher.publish(newBooking);
+        log.info("Created new booking with bookingId: {} as part of rescheduling", newBookingId);
+        existingBooking.setRescheduledToId(String.valueOf(newBookingId));
         bookingRepository.save(existingBooking);
         log.info("Updated existing booking with rescheduledToId: {}", existingBooking.getRescheduledToId());
 
-        return bookingMapper.toDto(savedBooking);
+        return bookingMapper.toDto(newBooking);
     }
 
+    // One transaction for the status change and its counter update, also joined by status events. Only the
+    // checks at the top reject without rolling back, they run before anything is written and
+    // BookingStatusEventService still records the rejected event in the caller's transaction. The booking is
+    // not looked up again after that, the later findById calls are served from the persistence context.
+    @Transactional(noRollbackFor = {BookingNotFoundException.class, BookingStatusRejectedException.class})
     public BookingDto updateBookingStatus(Long bookingId, String status) {
         log.info("Updating booking status for bookingId: {} to status: {}", bookingId, status);
+        String targetStatus = status == null ? "" : status.toUpperCase();
+        if (!List.of("CONFIRMED", "CANCELLED", "COMPLETED", "DELETED").contains(targetStatus)) {
+            throw new BookingStatusRejectedException("Invalid booking status: " + status);
+        }
         Booking existingBooking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new BookingNotFoundException("Booking not found"));
 
         String currentStatus = existingBooking.getBookingStatus().name();
         if (currentStatus.equals("COMPLETED") || currentStatus.equals("DELETED")) {
             log.error("Cannot update status for completed or deleted booking with bookingId: {}", bookingId);
-            throw new IllegalStateException("Cannot update status for completed or deleted booking");
+            throw new BookingStatusRejectedException("Cannot update status for completed or deleted booking");
         }
-        return switch (status.toUpperCase()) {
+        return switch (targetStatus) {
             case "CONFIRMED" -> confirmBooking(bookingId);
             case "CANCELLED" -> cancelBooking(bookingId);
             case "COMPLETED" -> completeBooking(bookingId);
-            case "DELETED" -> {
+            default -> {
                 deleteBooking(bookingId);
                 yield null;
             }
-            default -> throw new IllegalArgumentException("Invalid booking status: " + status);
         };
     }
 
+    // Applies one target status to many bookings: transitions are checked against BookingStatusTransitions
+    // in memory, then a single guarded UPDATE writes all of them. Results come back in request order. Admins and
+    // internal services change any booking, providers and customers only their own; other ids are NOT_FOUND.
+    @Transactional
+    public List<BulkBookingStatusResult> updateBookingStatuses(BulkBookingStatusRequest request,
+                                                               UserPrincipal userPrincipal) {
+        if (request == null || request.status() == null || request.bookingIds() == null
+                || request.bookingIds().isEmpty()) {
+            throw new IllegalArgumentException("bookingIds and status are required");
+        }
+        BookingStatus target;
+        try {
+            target = BookingStatus.valueOf(request.status().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid booking status: " + request.status());
+        }
+        Set<BookingStatus> allowedFrom = BookingStatusTransitions.allowedFrom(target);
+        if (allowedFrom.isEmpty()) {
+            throw new IllegalArgumentException("Booking status cannot be changed to " + target + " in bulk");
+        }
+        Set<Long> bookingIds = new LinkedHashSet<>(request.bookingIds());
+        bookingIds.remove(null);
+        if (bookingIds.size() > MAX_BULK_STATUS_UPDATES) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_STATUS_UPDATES + " bookings can be updated at once");
+        }
+
+        Long ownerProviderId = null;
+        Long ownerCustomerId = null;
+        boolean unrestricted = userPrincipal.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN") || a.getAuthority().equals("SERVICE"));
+        if (!unrestricted) {
+            if ("PROVIDER".equalsIgnoreCase(userPrincipal.getUserType())) {
+                ownerProviderId = userPrincipal.getUserId();
+            } else if ("CUSTOMER".equalsIgnoreCase(userPrincipal.getUserType())) {
+                ownerCustomerId = userPrincipal.getUserId();
+            } else {
+                throw new AccessDeniedException("Invalid access: Unknown user type " + userPrincipal.getUserType());
+            }
+        }
+
+        Map<Long, BookingStatus> currentStatuses = bookingRepository.findStatusesByIds(bookingIds, ownerProviderId,
+                        ownerCustomerId).stream()
+                .collect(Collectors.toMap(BookingStatusSnapshot::bookingId, BookingStatusSnapshot::bookingStatus));
+        Map<Long, BulkBookingStatusResult> results = new HashMap<>();
+        List<Long> candidates = new ArrayList<>();
+        for (Long bookingId : bookingIds) {
+            BookingStatus current = currentStatuses.get(bookingId);
+            if (current == null) {
+                results.put(bookingId, bulkResult(bookingId, BulkStatusOutcome.NOT_FOUND, null, "Booking not found"));
+            } else if (current == target) {
+                results.put(bookingId, bulkResult(bookingId, BulkStatusOutcome.UNCHANGED, current, null));
+            } else if (!allowedFrom.contains(current)) {
+                results.put(bookingId, bulkResult(bookingId, BulkStatusOutcome.INVALID_TRANSITION, current,
+                        "Cannot change booking status from " + current + " to " + target));
+            } else {
+                candidates.add(bookingId);
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            List<BookingStatusChange> changes = bookingRepository.updateStatuses(candidates,
+                    allowedFrom.stream().map(Enum::name).toList(), target.name(), ownerProviderId, ownerCustomerId);
+            bookingStatusCounterService.recordStatusChanges(changes, target);
+            for (BookingStatusChange change : changes) {
+                bookedSlotsPublisher.publish(change.getServiceProviderId(), change.getServiceId(),
+                        change.getBookingDate());
+                results.put(change.getBookingId(), bulkResult(change.getBookingId(), BulkStatusOutcome.UPDATED,
+                        BookingStatus.valueOf(change.getPreviousStatus()), null));
+            }
+            // left out by the guard, another change got to the booking after it was read above
+            for (Long bookingId : candidates) {
+                results.putIfAbsent(bookingId, bulkResult(bookingId, BulkStatusOutcome.CONFLICT,
+                        currentStatuses.get(bookingId), "Booking status was changed concurrently"));
+            }
+        }
+        log.info("Bulk status update to {} for {} bookings, {} updated", target, bookingIds.size(),
+                results.values().stream().filter(r -> r.outcome() == BulkStatusOutcome.UPDATED).count());
+        return bookingIds.stream().map(results::get).toList();
+    }
+
+    private BulkBookingStatusResult bulkResult(Long bookingId, BulkStatusOutcome outcome, BookingStatus previousStatus,
+                                               String message) {
+        return BulkBookingStatusResult.builder()
+                .bookingId(bookingId)
+                .outcome(outcome)
+                .previousStatus(previousStatus)
+                .message(message)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public Page<BookingDto> getBookingList(QueryFilter queryFilter, int page, int size, String sortBy, String sortDir){
         Pageable pageable = getPageable(page, size, sortBy, sortDir);
@@ -464,11 +668,11 @@ public class BookingService {
     public Page<BookingResponse> getBookingResponse(Page<BookingDto> bookings) {
         List<BookingDto> bookingDtoList = bookings.getContent();
         Set<Long> serviceIdSet = new HashSet<>();
-        List<Long> userIdList = new ArrayList<>();
+        Set<Long> userIdSet = new HashSet<>();
         for(BookingDto bookingDto : bookingDtoList){
             serviceIdSet.add(bookingDto.serviceId());
-            userIdList.add(bookingDto.customerId());
-            userIdList.add(bookingDto.serviceProviderId());
+            userIdSet.add(bookingDto.customerId());
+            userIdSet.add(bookingDto.serviceProviderId());
         }
         ServiceListingQueryFilter serviceListingQueryFilter = new ServiceListingQueryFilter(
                 serviceIdSet, null, null, null, null, null);
@@ -480,7 +684,7 @@ public class BookingService {
         Map<Long, ServiceItemDto> serviceItemDtoMap = serviceItemDtoList.stream()
                 .collect(Collectors.toMap(ServiceItemDto::serviceId, item -> item));
 
-        List<UsernameResponse> usernameResponses = userServiceClient.getUsernameByUserId(userIdList);
+        List<UsernameResponse> usernameResponses = userServiceClient.getUsernameByUserId(new ArrayList<>(userIdSet));
         Map<Long, UsernameResponse> usernameResponseMap = usernameResponses.stream()
                 .collect(Collectors.toMap(UsernameResponse::userId, item -> item));
         log.info("Fetched {} usernames from User Service", usernameResponses.size());
@@ -0,0 +1,70 @@
+package com.sarthak.BookingService.service;
+
+import com.sarthak.BookingService.repository.BookingStatusCounterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// Recounts booking_status_counts from the booking table every night to repair any drift in the incremental
+// counters. Works through user ids in keyset-ordered chunks, one transaction per chunk. Existing counter rows
+// of a chunk are locked before the recount, so a status change racing the job either commits before the
+// recount (and is counted) or blocks until the chunk commits and then adjusts the corrected row.
+@Slf4j
+@Service
+public class BookingStatusCountReconciler {
+
+    private final BookingStatusCounterRepository bookingStatusCounterRepository;
+    private final BookingStatusCounterService bookingStatusCounterService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public BookingStatusCountReconciler(BookingStatusCounterRepository bookingStatusCounterRepository,
+                                        BookingStatusCounterService bookingStatusCounterService,
+                                        TransactionTemplate transactionTemplate,
+                                        @Value("${booking.status-counts.reconcile.chunk-size:500}") int chunkSize) {
+        this.bookingStatusCounterRepository = bookingStatusCounterRepository;
+        this.bookingStatusCounterService = bookingStatusCounterService;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${booking.status-counts.reconcile.cron:0 30 3 * * *}", zone = "Asia/Kolkata")
+    public void reconcileAll() {
+        long afterUserId = 0L;
+        int chunks = 0;
+        int corrected = 0;
+        List<Long> userIds;
+        do {
+            userIds = bookingStatusCounterRepository.findUserIdChunk(afterUserId, chunkSize);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            corrected += reconcileChunk(userIds);
+            afterUserId = userIds.getLast();
+            chunks++;
+        } while (userIds.size() == chunkSize);
+
+        if (corrected > 0) {
+            log.warn("Booking status count reconciliation corrected {} rows across {} chunks", corrected, chunks);
+        } else {
+            log.info("Booking status count reconciliation found no drift across {} chunks", chunks);
+        }
+    }
+
+    int reconcileChunk(List<Long> userIds) {
+        Integer corrected = transactionTemplate.execute(status -> {
+            bookingStatusCounterRepository.lockByUserIds(userIds);
+            int upserted = bookingStatusCounterRepository.correctDriftedCounts(userIds);
+            int deleted = bookingStatusCounterRepository.deleteOrphanedCounts(userIds);
+            return upserted + deleted;
+        });
+        if (corrected != null && corrected > 0) {
+            bookingStatusCounterService.evict(userIds);
+        }
+        return corrected == null ? 0 : corrected;
+    }
+}
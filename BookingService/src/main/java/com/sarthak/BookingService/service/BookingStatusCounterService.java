@@ -0,0 +1,163 @@
+package com.sarthak.BookingService.service;
+
+import com.sarthak.BookingService.dto.BookingStatusChange;
+import com.sarthak.BookingService.dto.BookingStatusCount;
+import com.sarthak.BookingService.model.Booking;
+import com.sarthak.BookingService.model.BookingStatus;
+import com.sarthak.BookingService.model.UserRole;
+import com.sarthak.BookingService.repository.BookingStatusCounterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Per-user booking counts by status behind the booking summary. Every status change adds its delta to
+// booking_status_counts in the caller's transaction, and the summary reads a handful of counter rows
+// through a small local cache instead of grouping the user's bookings. Cache entries are dropped after the
+// writing transaction commits. Writes made on other instances are only seen once an entry expires, so the
+// ttl bounds how stale a summary can be.
+@Slf4j
+@Service
+public class BookingStatusCounterService {
+
+    private static final int VERSION_STRIPES = 64;
+    private static final Comparator<CounterKey> LOCK_ORDER = Comparator.comparing(CounterKey::userId)
+            .thenComparing(CounterKey::role)
+            .thenComparing(CounterKey::status);
+
+    private final BookingStatusCounterRepository bookingStatusCounterRepository;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<CacheKey, CachedCounts> cache = new ConcurrentHashMap<>();
+    // bumped on every eviction, a load only stays cached if no eviction hit its stripe meanwhile
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    public BookingStatusCounterService(BookingStatusCounterRepository bookingStatusCounterRepository,
+                                       @Value("${booking.summary.cache-ttl-seconds:60}") long ttlSeconds,
+                                       @Value("${booking.summary.cache-max-entries:10000}") int maxEntries) {
+        this.bookingStatusCounterRepository = bookingStatusCounterRepository;
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    public List<BookingStatusCount> getCounts(Long userId, UserRole role) {
+        CacheKey key = new CacheKey(userId, role);
+        CachedCounts cached = cache.get(key);
+        if (cached != null && System.nanoTime() - cached.loadedAtNanos() < ttlNanos) {
+            return cached.counts();
+        }
+
+        int stripe = stripeOf(userId);
+        long version = versions.get(stripe);
+        List<BookingStatusCount> counts = List.copyOf(bookingStatusCounterRepository.findCounts(userId, role));
+        if (cache.size() >= maxEntries) {
+            cache.clear();
+        }
+        CachedCounts loaded = new CachedCounts(counts, System.nanoTime());
+        cache.put(key, loaded);
+        // an eviction that raced the load may have been missed by the put above, drop what was just cached
+        if (versions.get(stripe) != version) {
+            cache.remove(key, loaded);
+        }
+        return counts;
+    }
+
+    public void recordCreated(Booking booking) {
+        Map<CounterKey, Long> deltas = new TreeMap<>(LOCK_ORDER);
+        addDelta(deltas, booking.getCustomerId(), booking.getServiceProviderId(), booking.getBookingStatus(), 1);
+        apply(deltas);
+    }
+
+    public void recordTransition(Booking booking, BookingStatus previousStatus) {
+        recordTransitions(List.of(booking), previousStatus);
+    }
+
+    // Bookings already carry their new status. Deltas are netted per counter row and applied in a fixed
+    // order, so concurrent batches touching the same rows queue on the row locks instead of deadlocking.
+    public void recordTransitions(Collection<Booking> bookings, BookingStatus previousStatus) {
+        Map<CounterKey, Long> deltas = new TreeMap<>(LOCK_ORDER);
+        for (Booking booking : bookings) {
+            if (booking.getBookingStatus() == previousStatus) {
+                continue;
+            }
+            addDelta(deltas, booking.getCustomerId(), booking.getServiceProviderId(), previousStatus, -1);
+            addDelta(deltas, booking.getCustomerId(), booking.getServiceProviderId(), booking.getBookingStatus(), 1);
+        }
+        apply(deltas);
+    }
+
+    // Rows returned by a bulk status update, each with the status it actually replaced
+    public void recordStatusChanges(Collection<BookingStatusChange> changes, BookingStatus newStatus) {
+        Map<CounterKey, Long> deltas = new TreeMap<>(LOCK_ORDER);
+        for (BookingStatusChange change : changes) {
+            BookingStatus previousStatus = BookingStatus.valueOf(change.getPreviousStatus());
+            if (previousStatus == newStatus) {
+                continue;
+            }
+            addDelta(deltas, change.getCustomerId(), change.getServiceProviderId(), previousStatus, -1);
+            addDelta(deltas, change.getCustomerId(), change.getServiceProviderId(), newStatus, 1);
+        }
+        apply(deltas);
+    }
+
+    public void evict(Collection<Long> userIds) {
+        for (Long userId : userIds) {
+            versions.incrementAndGet(stripeOf(userId));
+            for (UserRole role : UserRole.values()) {
+                cache.remove(new CacheKey(userId, role));
+            }
+        }
+    }
+
+    private void addDelta(Map<CounterKey, Long> deltas, Long customerId, Long serviceProviderId, BookingStatus status,
+                          long delta) {
+        deltas.merge(new CounterKey(customerId, UserRole.CUSTOMER, status), delta, Long::sum);
+        deltas.merge(new CounterKey(serviceProviderId, UserRole.PROVIDER, status), delta, Long::sum);
+    }
+
+    private void apply(Map<CounterKey, Long> deltas) {
+        Set<Long> userIds = new HashSet<>();
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                bookingStatusCounterRepository.adjust(key.userId(), key.role().name(), key.status().name(), delta);
+                userIds.add(key.userId());
+            }
+        });
+        if (userIds.isEmpty()) {
+            return;
+        }
+        log.debug("Adjusted booking status counts for {} users", userIds.size());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userIds);
+                }
+            });
+        } else {
+            evict(userIds);
+        }
+    }
+
+    private static int stripeOf(Long userId) {
+        return Math.floorMod(Long.hashCode(userId), VERSION_STRIPES);
+    }
+
+    private record CounterKey(Long userId, UserRole role, BookingStatus status) {}
+
+    private record CacheKey(Long userId, UserRole role) {}
+
+    private record CachedCounts(List<BookingStatusCount> counts, long loadedAtNanos) {}
+}
@@ -0,0 +1,122 @@
+package com.sarthak.BookingService.service;
+
+import com.sarthak.BookingService.dto.request.BookingStatusEventRequest;
+import com.sarthak.BookingService.dto.response.BookingStatusEventResponse;
+import com.sarthak.BookingService.exception.BookingNotFoundException;
+import com.sarthak.BookingService.exception.BookingStatusRejectedException;
+import com.sarthak.BookingService.model.ProcessedStatusEvent;
+import com.sarthak.BookingService.model.StatusEventOutcome;
+import com.sarthak.BookingService.repository.ProcessedStatusEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.sarthak.BookingService.model.StatusEventOutcome.APPLIED;
+import static com.sarthak.BookingService.model.StatusEventOutcome.DUPLICATE;
+import static com.sarthak.BookingService.model.StatusEventOutcome.REJECTED;
+
+// Applies booking status events delivered by other services' outboxes. Delivery is at-least-once,
+// so every event id is recorded together with the booking update and replays are answered from that record.
+@Service
+@Slf4j
+public class BookingStatusEventService {
+
+    private static final int MAX_MESSAGE_LENGTH = 512;
+
+    private final BookingService bookingService;
+    private final ProcessedStatusEventRepository processedStatusEventRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public BookingStatusEventService(BookingService bookingService,
+            ProcessedStatusEventRepository processedStatusEventRepository, TransactionTemplate transactionTemplate) {
+        this.bookingService = bookingService;
+        this.processedStatusEventRepository = processedStatusEventRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public List<BookingStatusEventResponse> applyEvents(List<BookingStatusEventRequest> events) {
+        List<String> eventIds = events.stream()
+                .map(BookingStatusEventRequest::eventId)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<String, ProcessedStatusEvent> processedById = processedStatusEventRepository.findAllByEventIdIn(eventIds)
+                .stream()
+                .collect(Collectors.toMap(ProcessedStatusEvent::getEventId, Function.identity()));
+
+        List<BookingStatusEventResponse> responses = new ArrayList<>(events.size());
+        for (BookingStatusEventRequest event : events) {
+            if (event.eventId() == null || event.bookingId() == null || event.status() == null) {
+                responses.add(response(event.eventId(), REJECTED, "eventId, bookingId and status are required"));
+                continue;
+            }
+            ProcessedStatusEvent processed = processedById.get(event.eventId());
+            if (processed != null) {
+                responses.add(replay(processed));
+                continue;
+            }
+            // One transaction per event so a rejected event never undoes the others in the batch
+            try {
+                responses.add(transactionTemplate.execute(tx -> applyEvent(event)));
+            } catch (DataIntegrityViolationException e) {
+                log.info("Status event: {} was applied by a concurrent delivery", event.eventId());
+                responses.add(response(event.eventId(), DUPLICATE, null));
+            }
+        }
+        log.info("Processed {} booking status events", events.size());
+        return responses;
+    }
+
+    private BookingStatusEventResponse applyEvent(BookingStatusEventRequest event) {
+        StatusEventOutcome outcome = APPLIED;
+        String message = null;
+        try {
+            bookingService.updateBookingStatus(event.bookingId(), event.status());
+        } catch (BookingNotFoundException | BookingStatusRejectedException e) {
+            log.warn("Rejected status event: {} for bookingId: {} to status: {}. Reason: {}", event.eventId(),
+                    event.bookingId(), event.status(), e.getMessage());
+            outcome = REJECTED;
+            message = truncate(e.getMessage());
+        }
+
+        // Flush so a concurrent insert of the same event id fails here and rolls back the booking update too
+        processedStatusEventRepository.saveAndFlush(ProcessedStatusEvent.builder()
+                .eventId(event.eventId())
+                .bookingId(event.bookingId())
+                .requestedStatus(event.status())
+                .outcome(outcome)
+                .message(message)
+                .build());
+        return response(event.eventId(), outcome, message);
+    }
+
+    private BookingStatusEventResponse replay(ProcessedStatusEvent processed) {
+        // A rejection stays a rejection, anything else has already been applied
+        if (processed.getOutcome() == REJECTED) {
+            return response(processed.getEventId(), REJECTED, processed.getMessage());
+        }
+        return response(processed.getEventId(), DUPLICATE, null);
+    }
+
+    private BookingStatusEventResponse response(String eventId, StatusEventOutcome outcome, String message) {
+        return BookingStatusEventResponse.builder()
+                .eventId(eventId)
+                .outcome(outcome)
+                .message(message)
+                .build();
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= MAX_MESSAGE_LENGTH ? message : message.substring(0, MAX_MESSAGE_LENGTH);
+    }
+}
@@ -0,0 +1,33 @@
+package com.sarthak.BookingService.service;
+
+import com.sarthak.BookingService.model.BookingStatus;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.sarthak.BookingService.model.BookingStatus.*;
+
+// Statuses a booking may move out of to reach a target status, used by bulk status changes. Nothing moves
+// back into the active set (PENDING, CONFIRMED) from outside it: reactivating a booking can overlap
+// another one and fail the ex_booking_active_slot constraint for the whole batch.
+public final class BookingStatusTransitions {
+
+    private static final Map<BookingStatus, Set<BookingStatus>> ALLOWED_FROM = new EnumMap<>(BookingStatus.class);
+
+    static {
+        ALLOWED_FROM.put(CONFIRMED, EnumSet.of(PENDING));
+        ALLOWED_FROM.put(CANCELLED, EnumSet.of(PENDING, CONFIRMED));
+        ALLOWED_FROM.put(COMPLETED, EnumSet.of(CONFIRMED));
+        ALLOWED_FROM.put(DELETED, EnumSet.of(PENDING, CONFIRMED, CANCELLED, RESCHEDULED));
+    }
+
+    private BookingStatusTransitions() {
+    }
+
+    // Empty when the target cannot be set this way at all
+    public static Set<BookingStatus> allowedFrom(BookingStatus target) {
+        return ALLOWED_FROM.getOrDefault(target, Set.of());
+    }
+}
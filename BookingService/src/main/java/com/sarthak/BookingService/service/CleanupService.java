@@ -20,10 +20,15 @@ import static com.sarthak.BookingService.model.BookingStatus.PENDING;
 public class CleanupService {
 
     private final BookingRepository bookingRepository;
+    private final BookingStatusCounterService bookingStatusCounterService;
+    private final BookedSlotsPublisher bookedSlotsPublisher;
     private final int SCHEDULE_TIME_IN_MILLISECONDS = 120_000; // 2 minutes
 
-    public CleanupService(BookingRepository bookingRepository) {
+    public CleanupService(BookingRepository bookingRepository, BookingStatusCounterService bookingStatusCounterService,
+                          BookedSlotsPublisher bookedSlotsPublisher) {
         this.bookingRepository = bookingRepository;
+        this.bookingStatusCounterService = bookingStatusCounterService;
+        this.bookedSlotsPublisher = bookedSlotsPublisher;
     }
 
     @Transactional
@@ -37,9 +42,11 @@ public class CleanupService {
 
         pendingBookings.forEach(p -> {
             p.setBookingStatus(CANCELLED);
+            bookedSlotsPublisher.publish(p);
             log.debug("Cancelled pending booking with bookingId: {} due to non-confirmation within 30 minutes",
                     p.getBookingId());
         });
+        bookingStatusCounterService.recordTransitions(pendingBookings, PENDING);
 
         log.debug("Cancelled {} pending bookings older than 30 minutes", pendingBookings.size());
 
@@ -0,0 +1,68 @@
+package com.sarthak.BookingService.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Hashed timer wheel. A deadline lands in the bucket of its tick, advance() only visits the buckets of
+// ticks that have fully passed, so expiry costs the number of due entries plus the entries of later
+// rounds sharing those buckets instead of a scan over everything scheduled. Deadlines come out up to one
+// tick late. An entry scheduled while its bucket is being visited can wait one extra round, callers
+// must not rely on the wheel alone to decide whether something is still live.
+final class HoldExpiryWheel<T> {
+
+    private record Entry<T>(T item, long deadlineMillis) {}
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final Queue<Entry<T>>[] buckets;
+    private volatile long nextTick;
+
+    @SuppressWarnings("unchecked")
+    HoldExpiryWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMillis and wheelSize must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.buckets = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    void schedule(T item, long deadlineMillis) {
+        long tick = Math.max(tickOf(deadlineMillis), nextTick);
+        buckets[bucketOf(tick)].add(new Entry<>(item, deadlineMillis));
+    }
+
+    // Not thread-safe against itself, called from a single scheduler thread
+    List<T> advance(long nowMillis) {
+        List<T> due = new ArrayList<>();
+        long lastTick = tickOf(nowMillis) - 1;
+        // after a long pause one full round covers every bucket
+        long firstTick = Math.max(nextTick, lastTick - buckets.length + 1);
+        for (long tick = firstTick; tick <= lastTick; tick++) {
+            Iterator<Entry<T>> entries = buckets[bucketOf(tick)].iterator();
+            while (entries.hasNext()) {
+                Entry<T> entry = entries.next();
+                if (entry.deadlineMillis() <= nowMillis) {
+                    entries.remove();
+                    due.add(entry.item());
+                }
+            }
+        }
+        nextTick = Math.max(nextTick, lastTick + 1);
+        return due;
+    }
+
+    private long tickOf(long millis) {
+        return Math.max(0, (millis - startMillis) / tickMillis);
+    }
+
+    private int bucketOf(long tick) {
+        return (int) (tick % buckets.length);
+    }
+}
@@ -0,0 +1,381 @@
+package com.sarthak.BookingService.service;
+
+import com.sarthak.BookingService.dto.request.SlotHoldRequest;
+import com.sarthak.BookingService.dto.response.SlotHoldResponse;
+import com.sarthak.BookingService.exception.SlotHoldNotFoundException;
+import com.sarthak.BookingService.exception.TimeSlotAlreadyBookedException;
+import com.sarthak.BookingService.model.SlotHold;
+import com.sarthak.BookingService.repository.SlotHoldRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Short-lived holds on a slot while the customer goes through checkout, so competing customers are turned
+// away here instead of racing on the booking insert. Holds live in memory, one table per
+// (provider, service, date) guarded by a lock striped on provider and date, and expire through a timer
+// wheel rather than a polling query. The slot_holds table is a write-behind copy flushed every few seconds
+// and only read on startup, a crash loses at most the last flush interval of holds. Holds are local to
+// this instance, the ex_booking_active_slot constraint remains what guarantees a slot is booked once.
+@Slf4j
+@Service
+public class SlotHoldService {
+
+    private static final int LOCK_STRIPES = 64;
+    private static final int WHEEL_SIZE = 512;
+
+    private final SlotHoldRepository slotHoldRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Duration maxHoldDuration;
+    private final ReentrantLock[] stripes = new ReentrantLock[LOCK_STRIPES];
+    private final Map<SlotKey, List<Hold>> holdsBySlot = new ConcurrentHashMap<>();
+    private final Map<String, Hold> holdsById = new ConcurrentHashMap<>();
+    private final HoldExpiryWheel<Hold> expiryWheel;
+
+    // pending write-behind, drained by flush()
+    private final Map<String, Hold> unsaved = new ConcurrentHashMap<>();
+    private final Set<String> removed = ConcurrentHashMap.newKeySet();
+
+    public SlotHoldService(SlotHoldRepository slotHoldRepository, TransactionTemplate transactionTemplate,
+                           @Value("${booking.hold.ttl-seconds:300}") long ttlSeconds,
+                           @Value("${booking.hold.max-duration-seconds:1800}") long maxHoldSeconds,
+                           @Value("${booking.hold.tick-ms:1000}") long tickMillis) {
+        this.slotHoldRepository = slotHoldRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.maxHoldDuration = Duration.ofSeconds(maxHoldSeconds);
+        this.expiryWheel = new HoldExpiryWheel<>(tickMillis, WHEEL_SIZE, System.currentTimeMillis());
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public SlotHoldResponse hold(SlotHoldRequest request, Long customerId) {
+        if (request.serviceProviderId() == null || request.serviceId() == null || request.date() == null
+                || request.startTime() == null || request.endTime() == null) {
+            throw new IllegalArgumentException("serviceProviderId, serviceId, date, startTime and endTime are required");
+        }
+        if (!request.startTime().isBefore(request.endTime())) {
+            throw new IllegalArgumentException("Hold start time must be before end time");
+        }
+        SlotKey key = new SlotKey(request.serviceProviderId(), request.serviceId(), request.date());
+        Instant now = Instant.now();
+        ReentrantLock lock = stripeOf(key);
+        lock.lock();
+        try {
+            for (Hold existing : holdsBySlot.getOrDefault(key, List.of())) {
+                if (!existing.isLive(now) || !existing.overlaps(request.startTime(), request.endTime())) {
+                    continue;
+                }
+                if (!existing.customerId.equals(customerId)) {
+                    log.info("Slot hold refused for customerId: {}, providerId: {} serviceId: {} on {} from {} to {} is held",
+                            customerId, key.serviceProviderId(), key.serviceId(), key.date(),
+                            request.startTime(), request.endTime());
+                    throw new TimeSlotAlreadyBookedException("Time slot is held by another customer");
+                }
+                if (existing.startTime.equals(request.startTime()) && existing.endTime.equals(request.endTime())) {
+                    // same customer holding the same slot again, treat as an extension
+                    refresh(existing, now);
+                    return toResponse(existing);
+                }
+            }
+
+            Hold hold = new Hold(UUID.randomUUID().toString(), key, customerId, request.startTime(),
+                    request.endTime(), now);
+            hold.expiresAt = now.plus(ttl);
+            holdsBySlot.computeIfAbsent(key, k -> new ArrayList<>()).add(hold);
+            holdsById.put(hold.id, hold);
+            expiryWheel.schedule(hold, hold.expiresAt.toEpochMilli());
+            unsaved.put(hold.id, hold);
+            log.debug("Slot hold: {} created for customerId: {} until {}", hold.id, customerId, hold.expiresAt);
+            return toResponse(hold);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public SlotHoldResponse extend(String holdId, Long customerId) {
+        Hold hold = ownedHold(holdId, customerId);
+        ReentrantLock lock = stripeOf(hold.key);
+        lock.lock();
+        try {
+            Instant now = Instant.now();
+            if (holdsById.get(holdId) != hold || !hold.isLive(now)) {
+                throw new SlotHoldNotFoundException("Slot hold not found or expired");
+            }
+            // the wheel entry for the old deadline re-schedules the hold when it comes up
+            refresh(hold, now);
+            return toResponse(hold);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(String holdId, Long customerId) {
+        Hold hold = ownedHold(holdId, customerId);
+        ReentrantLock lock = stripeOf(hold.key);
+        lock.lock();
+        try {
+            remove(hold);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isHeldByOther(Long serviceProviderId, Long serviceId, LocalDate date, LocalTime startTime,
+                                 LocalTime endTime, Long customerId) {
+        SlotKey key = new SlotKey(serviceProviderId, serviceId, date);
+        Instant now = Instant.now();
+        ReentrantLock lock = stripeOf(key);
+        lock.lock();
+        try {
+            for (Hold hold : holdsBySlot.getOrDefault(key, List.of())) {
+                if (hold.isLive(now) && hold.overlaps(startTime, endTime) && !hold.customerId.equals(customerId)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // The customer's holds covering a slot they just booked are dropped once the booking commits
+    public void releaseOnCommit(Long serviceProviderId, Long serviceId, LocalDate date, LocalTime startTime,
+                                LocalTime endTime, Long customerId) {
+        Runnable release = () -> releaseHeldBy(new SlotKey(serviceProviderId, serviceId, date), startTime,
+                endTime, customerId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    release.run();
+                }
+            });
+        } else {
+            release.run();
+        }
+    }
+
+    @Scheduled(fixedRateString = "${booking.hold.tick-ms:1000}")
+    public void expireHolds() {
+        expireDue(Instant.now());
+    }
+
+    @Scheduled(fixedDelayString = "${booking.hold.flush-interval-ms:5000}")
+    public void flush() {
+        List<Hold> toSave = new ArrayList<>();
+        for (Map.Entry<String, Hold> entry : unsaved.entrySet()) {
+            if (unsaved.remove(entry.getKey(), entry.getValue())) {
+                toSave.add(entry.getValue());
+            }
+        }
+        Set<String> toDelete = new HashSet<>();
+        for (String holdId : removed) {
+            if (removed.remove(holdId)) {
+                toDelete.add(holdId);
+            }
+        }
+        if (toSave.isEmpty() && toDelete.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(tx -> {
+                slotHoldRepository.saveAll(toSave.stream().map(this::toEntity).toList());
+                slotHoldRepository.deleteAllByIdInBatch(toDelete);
+            });
+            log.debug("Flushed slot holds: {} saved, {} deleted", toSave.size(), toDelete.size());
+        } catch (RuntimeException ex) {
+            log.warn("Failed to flush slot holds, retrying on the next run: {}", ex.getMessage());
+            toSave.forEach(hold -> {
+                if (holdsById.get(hold.id) == hold) {
+                    unsaved.putIfAbsent(hold.id, hold);
+                }
+            });
+            removed.addAll(toDelete);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        try {
+            Instant now = Instant.now();
+            int expired = slotHoldRepository.deleteExpired(now);
+            List<SlotHold> live = slotHoldRepository.findAllByExpiresAtAfter(now);
+            for (SlotHold row : live) {
+                SlotKey key = new SlotKey(row.getServiceProviderId(), row.getServiceId(), row.getHoldDate());
+                Hold hold = new Hold(row.getHoldId(), key, row.getCustomerId(), row.getStartTime(),
+                        row.getEndTime(), row.getCreatedAt());
+                hold.expiresAt = row.getExpiresAt();
+                ReentrantLock lock = stripeOf(key);
+                lock.lock();
+                try {
+                    if (holdsById.putIfAbsent(hold.id, hold) == null) {
+                        holdsBySlot.computeIfAbsent(key, k -> new ArrayList<>()).add(hold);
+                        expiryWheel.schedule(hold, hold.expiresAt.toEpochMilli());
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+            log.info("Recovered {} slot holds, dropped {} expired", live.size(), expired);
+        } catch (RuntimeException ex) {
+            log.error("Failed to recover slot holds: {}", ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    void expireDue(Instant now) {
+        for (Hold hold : expiryWheel.advance(now.toEpochMilli())) {
+            ReentrantLock lock = stripeOf(hold.key);
+            lock.lock();
+            try {
+                if (holdsById.get(hold.id) != hold) {
+                    continue; // released in the meantime
+                }
+                if (hold.isLive(now)) {
+                    expiryWheel.schedule(hold, hold.expiresAt.toEpochMilli()); // extended since scheduled
+                } else {
+                    remove(hold);
+                    log.debug("Slot hold: {} expired", hold.id);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    int activeHoldCount() {
+        return holdsById.size();
+    }
+
+    private void releaseHeldBy(SlotKey key, LocalTime startTime, LocalTime endTime, Long customerId) {
+        ReentrantLock lock = stripeOf(key);
+        lock.lock();
+        try {
+            for (Hold hold : List.copyOf(holdsBySlot.getOrDefault(key, List.of()))) {
+                if (hold.customerId.equals(customerId) && hold.overlaps(startTime, endTime)) {
+                    remove(hold);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Hold ownedHold(String holdId, Long customerId) {
+        Hold hold = holdsById.get(holdId);
+        if (hold == null || !hold.customerId.equals(customerId)) {
+            throw new SlotHoldNotFoundException("Slot hold not found or expired");
+        }
+        return hold;
+    }
+
+    // caller holds the stripe lock
+    private void refresh(Hold hold, Instant now) {
+        Instant extended = now.plus(ttl);
+        Instant cap = hold.createdAt.plus(maxHoldDuration);
+        hold.expiresAt = extended.isAfter(cap) ? cap : extended;
+        unsaved.put(hold.id, hold);
+    }
+
+    // caller holds the stripe lock
+    private void remove(Hold hold) {
+        List<Hold> holds = holdsBySlot.get(hold.key);
+        if (holds != null) {
+            holds.remove(hold);
+            if (holds.isEmpty()) {
+                holdsBySlot.remove(hold.key);
+            }
+        }
+        holdsById.remove(hold.id, hold);
+        unsaved.remove(hold.id);
+        removed.add(hold.id);
+    }
+
+    private ReentrantLock stripeOf(SlotKey key) {
+        return stripes[Math.floorMod(Objects.hash(key.serviceProviderId(), key.date()), LOCK_STRIPES)];
+    }
+
+    private SlotHoldResponse toResponse(Hold hold) {
+        return SlotHoldResponse.builder()
+                .holdId(hold.id)
+                .serviceProviderId(hold.key.serviceProviderId())
+                .serviceId(hold.key.serviceId())
+                .customerId(hold.customerId)
+                .date(hold.key.date())
+                .startTime(hold.startTime)
+                .endTime(hold.endTime)
+                .expiresAt(hold.expiresAt)
+                .build();
+    }
+
+    private SlotHold toEntity(Hold hold) {
+        return SlotHold.builder()
+                .holdId(hold.id)
+                .serviceProviderId(hold.key.serviceProviderId())
+                .serviceId(hold.key.serviceId())
+                .customerId(hold.customerId)
+                .holdDate(hold.key.date())
+                .startTime(hold.startTime)
+                .endTime(hold.endTime)
+                .createdAt(hold.createdAt)
+                .expiresAt(hold.expiresAt)
+                .build();
+    }
+
+    private record SlotKey(Long serviceProviderId, Long serviceId, LocalDate date) {}
+
+    private static final class Hold {
+        final String id;
+        final SlotKey key;
+        final Long customerId;
+        final LocalTime startTime;
+        final LocalTime endTime;
+        final Instant createdAt;
+        volatile Instant expiresAt;
+
+        Hold(String id, SlotKey key, Long customerId, LocalTime startTime, LocalTime endTime, Instant createdAt) {
+            this.id = id;
+            this.key = key;
+            this.customerId = customerId;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.createdAt = createdAt;
+        }
+
+        boolean isLive(Instant now) {
+            return expiresAt.isAfter(now);
+        }
+
+        boolean overlaps(LocalTime start, LocalTime end) {
+            return startTime.isBefore(end) && endTime.isAfter(start);
+        }
+    }
+}
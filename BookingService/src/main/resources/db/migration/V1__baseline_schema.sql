@@ -0,0 +1,36 @@
+-- Schema as previously generated by hibernate ddl-auto=update. IF NOT EXISTS keeps it a no-op on
+-- databases that were created that way (flyway baselines them at version 0 and then runs this script).
+
+CREATE TABLE IF NOT EXISTS booking (
+    booking_id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    service_id          BIGINT                      NOT NULL,
+    service_provider_id BIGINT                      NOT NULL,
+    service_category    VARCHAR(255)                NOT NULL,
+    customer_id         BIGINT                      NOT NULL,
+    booking_date        DATE                        NOT NULL,
+    booking_start_time  TIME(6)                     NOT NULL,
+    booking_end_time    TIME(6)                     NOT NULL,
+    booking_status      VARCHAR(255)                NOT NULL
+        CHECK (booking_status IN ('PENDING', 'CONFIRMED', 'CANCELLED', 'COMPLETED', 'DELETED', 'RESCHEDULED')),
+    created_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    rescheduled_to_id   VARCHAR(255)                NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_customer_id ON booking (customer_id);
+CREATE INDEX IF NOT EXISTS idx_service_provider_id ON booking (service_provider_id);
+CREATE INDEX IF NOT EXISTS idx_service_id ON booking (service_id);
+CREATE INDEX IF NOT EXISTS idx_booking_date ON booking (booking_date);
+CREATE INDEX IF NOT EXISTS idx_service_provider_booking_status ON booking (service_provider_id, booking_status);
+
+CREATE TABLE IF NOT EXISTS processed_status_events (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_id         VARCHAR(64)                 NOT NULL,
+    booking_id       BIGINT                      NOT NULL,
+    requested_status VARCHAR(255)                NOT NULL,
+    outcome          VARCHAR(255)                NOT NULL CHECK (outcome IN ('APPLIED', 'DUPLICATE', 'REJECTED')),
+    message          VARCHAR(512),
+    processed_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_processed_event_id UNIQUE (event_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_processed_event_booking_id ON processed_status_events (booking_id);
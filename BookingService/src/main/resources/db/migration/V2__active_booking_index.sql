@@ -0,0 +1,6 @@
+-- Overlap check and booked-slots lookup only look at active bookings, which are a small share of the
+-- table once bookings complete or get cancelled. Both queries spell the statuses as literals so the
+-- planner can prove this predicate for generic plans too.
+CREATE INDEX IF NOT EXISTS idx_booking_active_provider_service_date
+    ON booking (service_provider_id, service_id, booking_date)
+    WHERE booking_status IN ('PENDING', 'CONFIRMED');
@@ -0,0 +1,14 @@
+-- Two active bookings for the same provider and service may not overlap in time. Enforced here rather
+-- than with a check-then-insert in BookingService, a count query cannot lock rows that do not exist yet
+-- so concurrent bookings for a free slot used to both pass it. Ranges are half-open, back-to-back
+-- bookings (10:00-11:00, 11:00-12:00) do not conflict. btree_gist provides the = operator class for
+-- the bigint columns. Fails if the table already holds overlapping active bookings, those need to be
+-- cancelled by hand before migrating.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE booking
+    ADD CONSTRAINT ex_booking_active_slot EXCLUDE USING gist (
+        service_provider_id WITH =,
+        service_id WITH =,
+        tsrange(booking_date + booking_start_time, booking_date + booking_end_time) WITH &&
+    ) WHERE (booking_status IN ('PENDING', 'CONFIRMED'));
@@ -0,0 +1,15 @@
+-- Write-behind copy of the in-memory slot holds (SlotHoldService), only read back on startup so holds
+-- survive a restart. Rows can lag the in-memory state by one flush interval.
+CREATE TABLE IF NOT EXISTS slot_holds (
+    hold_id             VARCHAR(36)                 PRIMARY KEY,
+    service_provider_id BIGINT                      NOT NULL,
+    service_id          BIGINT                      NOT NULL,
+    customer_id         BIGINT                      NOT NULL,
+    hold_date           DATE                        NOT NULL,
+    start_time          TIME(6)                     NOT NULL,
+    end_time            TIME(6)                     NOT NULL,
+    created_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    expires_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_slot_holds_expires_at ON slot_holds (expires_at);
@@ -0,0 +1,25 @@
+-- Booking counts per (user, role, status) behind the booking summary, kept up to date in the same transaction
+-- as every status change (BookingStatusCounterService) and repaired nightly by BookingStatusCountReconciler.
+CREATE TABLE IF NOT EXISTS booking_status_counts (
+    counter_id     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id        BIGINT       NOT NULL,
+    user_role      VARCHAR(16)  NOT NULL CHECK (user_role IN ('CUSTOMER', 'PROVIDER')),
+    booking_status VARCHAR(255) NOT NULL
+        CHECK (booking_status IN ('PENDING', 'CONFIRMED', 'CANCELLED', 'COMPLETED', 'DELETED', 'RESCHEDULED')),
+    booking_count  BIGINT       NOT NULL,
+    CONSTRAINT uk_booking_status_count_user_role_status UNIQUE (user_id, user_role, booking_status)
+);
+
+-- Backfill from the existing bookings, writes from instances still running the old code are picked up
+-- by the next reconciliation
+INSERT INTO booking_status_counts (user_id, user_role, booking_status, booking_count)
+SELECT customer_id, 'CUSTOMER', booking_status, COUNT(*)
+FROM booking
+GROUP BY customer_id, booking_status
+ON CONFLICT (user_id, user_role, booking_status) DO NOTHING;
+
+INSERT INTO booking_status_counts (user_id, user_role, booking_status, booking_count)
+SELECT service_provider_id, 'PROVIDER', booking_status, COUNT(*)
+FROM booking
+GROUP BY service_provider_id, booking_status
+ON CONFLICT (user_id, user_role, booking_status) DO NOTHING;
@@ -0,0 +1,72 @@
+package com.sarthak.BookingService.client;
+
+import com.sarthak.BookingService.dto.request.AvailabilityStatusRequest;
+import com.sarthak.BookingService.exception.ServiceUnavailableException;
+import feign.FeignException;
+import feign.Request;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.Test;
+
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FeignFallbackFactoryTests {
+
+    private final AvailabilityStatusRequest request = AvailabilityStatusRequest.builder()
+            .serviceProviderId(1L)
+            .serviceId(1L)
+            .build();
+
+    @Test
+    void availabilityFallback_failsFastWhenCircuitIsOpen() {
+        CallNotPermittedException open = CallNotPermittedException
+                .createCallNotPermittedException(CircuitBreaker.ofDefaults("Availability-Service"));
+
+        AvailabilityServiceClient fallback = new AvailabilityServiceClientFallbackFactory().create(open);
+
+        assertThrows(ServiceUnavailableException.class, () -> fallback.getAvailabilityStatus(request));
+    }
+
+    @Test
+    void availabilityFallback_rethrowsClientErrors() {
+        FeignException.BadRequest badRequest = badRequest();
+
+        AvailabilityServiceClient fallback = new AvailabilityServiceClientFallbackFactory().create(badRequest);
+
+        FeignException thrown = assertThrows(FeignException.class, () -> fallback.getAvailabilityStatus(request));
+        assertSame(badRequest, thrown);
+    }
+
+    @Test
+    void enrichmentFallbacks_degradeToEmptyResults() {
+        Throwable timeout = new SocketTimeoutException("Read timed out");
+
+        ServiceListingClient serviceListingFallback = new ServiceListingClientFallbackFactory().create(timeout);
+        UserServiceClient userServiceFallback = new UserServiceClientFallbackFactory().create(timeout);
+
+        assertTrue(serviceListingFallback.getServiceDetails(null, 0, 10, "serviceId", "asc").isEmpty());
+        assertTrue(userServiceFallback.getUsernameByUserId(List.of(1L, 2L)).isEmpty());
+    }
+
+    @Test
+    void enrichmentFallbacks_rethrowClientErrors() {
+        FeignException.BadRequest badRequest = badRequest();
+
+        UserServiceClient userServiceFallback = new UserServiceClientFallbackFactory().create(badRequest);
+
+        assertThrows(FeignException.BadRequest.class, () -> userServiceFallback.getUsernameByUserId(List.of(1L)));
+    }
+
+    private FeignException.BadRequest badRequest() {
+        Request feignRequest = Request.create(Request.HttpMethod.POST, "http://localhost/api/availability/status",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+        return new FeignException.BadRequest("Bad Request", feignRequest, null, Map.of());
+    }
+}
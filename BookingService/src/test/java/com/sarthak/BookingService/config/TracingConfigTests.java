@@ -0,0 +1,27 @@
+package com.sarthak.BookingService.config;
+
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TracingConfigTests {
+
+    private final ApplicationContextRunner contextRunner =
+            new ApplicationContextRunner().withUserConfiguration(TracingConfig.class);
+
+    @Test
+    void logsSpansByDefault() {
+        contextRunner.run(context ->
+                assertThat(context.getBean(SpanExporter.class)).isInstanceOf(OtlpJsonLoggingSpanExporter.class));
+    }
+
+    // The exporter bean stays registered, so the switch still works when the bean definitions are built ahead of time
+    @Test
+    void dropsSpansWhenDisabled() {
+        contextRunner.withPropertyValues("tracing.local-exporter.enabled=false").run(context ->
+                assertThat(context.getBean(SpanExporter.class)).isNotInstanceOf(OtlpJsonLoggingSpanExporter.class));
+    }
+}
@@ -0,0 +1,107 @@
+package com.sarthak.BookingService.config.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReplicaFallbackDataSourceTests {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    @Mock
+    private ReplicaLagMonitor monitor;
+
+    private MeterRegistry meterRegistry;
+    private ReplicaFallbackDataSource readDataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        readDataSource = new ReplicaFallbackDataSource(replica, primary, monitor, meterRegistry);
+    }
+
+    @Test
+    void usableReplicaServesReads() throws SQLException {
+        when(monitor.state()).thenReturn(ReplicaLagMonitor.State.USABLE);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        assertEquals(replicaConnection, readDataSource.getConnection());
+        verify(primary, never()).getConnection();
+        assertEquals(1.0, count("replica", "usable"));
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() throws SQLException {
+        when(monitor.state()).thenReturn(ReplicaLagMonitor.State.LAGGING);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertEquals(primaryConnection, readDataSource.getConnection());
+        verify(replica, never()).getConnection();
+        assertEquals(1.0, count("primary", "lagging"));
+    }
+
+    @Test
+    void failedReplicaCheckoutFallsBackAndTakesReplicaOutOfUse() throws SQLException {
+        SQLException timeout = new SQLTransientConnectionException("replica - Connection is not available");
+        when(monitor.state()).thenReturn(ReplicaLagMonitor.State.USABLE);
+        when(replica.getConnection()).thenThrow(timeout);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertEquals(primaryConnection, readDataSource.getConnection());
+        verify(monitor).markUnreachable(timeout);
+        assertEquals(1.0, count("primary", "unreachable"));
+    }
+
+    @Test
+    void onlyReadOnlyConnectionsAreRoutedToReplica() throws SQLException {
+        when(monitor.state()).thenReturn(ReplicaLagMonitor.State.USABLE);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        LazyConnectionDataSourceProxy dataSource =
+                ReadReplicaDataSourceConfig.routingDataSource(primary, replica, monitor, meterRegistry);
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+
+        try (Connection read = dataSource.getConnection()) {
+            read.setReadOnly(true);
+            read.createStatement();
+        }
+        try (Connection write = dataSource.getConnection()) {
+            write.createStatement();
+        }
+
+        verify(replicaConnection).createStatement();
+        verify(primaryConnection).createStatement();
+    }
+
+    private double count(String target, String reason) {
+        return meterRegistry.get("datasource.read.connections")
+                .tag("target", target).tag("reason", reason).counter().count();
+    }
+}
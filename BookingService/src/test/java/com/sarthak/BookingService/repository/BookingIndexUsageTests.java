@@ -0,0 +1,88 @@
+package com.sarthak.BookingService.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Runs the flyway migrations against a real Postgres and checks the hot queries are planned on
+// their partial index. Plans are generic (parameters unbound), the shape used once a prepared
+// statement has been executed a few times. Skipped when Docker is not available.
+@Testcontainers(disabledWithoutDocker = true)
+public class BookingIndexUsageTests {
+
+    private static final String ACTIVE_BOOKING_INDEX = "idx_booking_active_provider_service_date";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+
+        // 200 providers over a year, one booking in ten still active
+        execute("""
+                INSERT INTO booking (service_id, service_provider_id, service_category, customer_id, booking_date,
+                                     booking_start_time, booking_end_time, booking_status, created_at, rescheduled_to_id)
+                SELECT g % 5 + 1, g % 200 + 1, 'Cleaning', g % 1000 + 1, DATE '2030-01-01' + (g % 365),
+                       TIME '08:00' + (g % 10) * INTERVAL '1 hour', TIME '09:00' + (g % 10) * INTERVAL '1 hour',
+                       CASE g % 20 WHEN 0 THEN 'PENDING' WHEN 1 THEN 'CONFIRMED' WHEN 2 THEN 'CANCELLED'
+                                   ELSE 'COMPLETED' END,
+                       now(), 'N/A'
+                FROM generate_series(1, 100000) g
+                """);
+        execute("ANALYZE booking");
+    }
+
+    @Test
+    void findBookedSlotsForProviderByDate_usesActiveBookingIndex() throws SQLException {
+        String plan = explain("""
+                select b1_0.booking_id, b1_0.booking_start_time, b1_0.booking_end_time
+                from booking b1_0
+                where b1_0.service_provider_id=$1 and b1_0.service_id=$2 and b1_0.booking_date=$3
+                  and b1_0.booking_status in ('PENDING','CONFIRMED')
+                """);
+
+        assertTrue(plan.contains(ACTIVE_BOOKING_INDEX), plan);
+    }
+
+    private static String explain(String sql) throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + sql)) {
+            StringBuilder plan = new StringBuilder();
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+            return plan.toString();
+        }
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", POSTGRES.getUsername());
+        properties.setProperty("password", POSTGRES.getPassword());
+        // simple protocol sends $1.. through untouched, EXPLAIN (GENERIC_PLAN) needs them unbound
+        properties.setProperty("preferQueryMode", "simple");
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), properties);
+    }
+}
@@ -0,0 +1,122 @@
+package com.sarthak.BookingService.service;
+
+import com.sarthak.BookingService.client.AvailabilityServiceClient;
+import com.sarthak.BookingService.client.ServiceListingClient;
+import com.sarthak.BookingService.client.UserServiceClient;
+import com.sarthak.BookingService.config.shared.UserPrincipal;
+import com.sarthak.BookingService.dto.BookingStatusChange;
+import com.sarthak.BookingService.dto.BookingStatusSnapshot;
+import com.sarthak.BookingService.dto.request.BulkBookingStatusRequest;
+import com.sarthak.BookingService.dto.response.BulkBookingStatusResult;
+import com.sarthak.BookingService.mapper.BookingMapper;
+import com.sarthak.BookingService.model.BookingStatus;
+import com.sarthak.BookingService.model.BulkStatusOutcome;
+import com.sarthak.BookingService.repository.BookingRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingBulkStatusTests {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private AvailabilityServiceClient availabilityServiceClient;
+
+    @Mock
+    private ServiceListingClient serviceListingClient;
+
+    @Mock
+    private UserServiceClient userServiceClient;
+
+    @Mock
+    private SlotHoldService slotHoldService;
+
+    @Mock
+    private BookingStatusCounterService bookingStatusCounterService;
+
+    @Mock
+    private BookedSlotsPublisher bookedSlotsPublisher;
+
+    private BookingService bookingService;
+
+    private static final UserPrincipal ADMIN = UserPrincipal.builder().userId(1L).userType("ADMIN")
+            .userRole("ROLE_ADMIN").build();
+
+    @BeforeEach
+    void setUp() {
+        bookingService = new BookingService(bookingRepository, new BookingMapper(), availabilityServiceClient,
+                serviceListingClient, userServiceClient, new BookingMetrics(new SimpleMeterRegistry()),
+                slotHoldService, bookingStatusCounterService, bookedSlotsPublisher);
+    }
+
+    private record Change(Long getBookingId, String getPreviousStatus, Long getCustomerId,
+                          Long getServiceProviderId, Long getServiceId, LocalDate getBookingDate)
+            implements BookingStatusChange {}
+
+    @Test
+    void testUpdateBookingStatuses_reportsEveryIdAndWritesCandidatesOnce() {
+        // 1 confirmed, 2 already completed, 3 pending (cannot complete), 4 missing, 5 confirmed but changed meanwhile
+        when(bookingRepository.findStatusesByIds(Set.of(1L, 2L, 3L, 4L, 5L), null, null)).thenReturn(List.of(
+                new BookingStatusSnapshot(1L, BookingStatus.CONFIRMED),
+                new BookingStatusSnapshot(2L, BookingStatus.COMPLETED),
+                new BookingStatusSnapshot(3L, BookingStatus.PENDING),
+                new BookingStatusSnapshot(5L, BookingStatus.CONFIRMED)));
+        List<BookingStatusChange> changes = List.of(new Change(1L, "CONFIRMED", 10L, 20L, 30L,
+                LocalDate.of(2030, 1, 15)));
+        when(bookingRepository.updateStatuses(List.of(1L, 5L), List.of("CONFIRMED"), "COMPLETED", null, null))
+                .thenReturn(changes);
+
+        List<BulkBookingStatusResult> results = bookingService.updateBookingStatuses(
+                new BulkBookingStatusRequest(List.of(1L, 2L, 3L, 4L, 5L, 1L), "completed"), ADMIN);
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), results.stream().map(BulkBookingStatusResult::bookingId).toList());
+        assertEquals(List.of(BulkStatusOutcome.UPDATED, BulkStatusOutcome.UNCHANGED,
+                        BulkStatusOutcome.INVALID_TRANSITION, BulkStatusOutcome.NOT_FOUND, BulkStatusOutcome.CONFLICT),
+                results.stream().map(BulkBookingStatusResult::outcome).toList());
+        assertEquals(BookingStatus.CONFIRMED, results.getFirst().previousStatus());
+        verify(bookingStatusCounterService).recordStatusChanges(changes, BookingStatus.COMPLETED);
+        verify(bookedSlotsPublisher).publish(20L, 30L, LocalDate.of(2030, 1, 15));
+    }
+
+    @Test
+    void testUpdateBookingStatuses_providerOnlyChangesOwnBookings() {
+        UserPrincipal provider = UserPrincipal.builder().userId(20L).userType("PROVIDER").userRole("ROLE_USER").build();
+        // 2 belongs to another provider and is left out by the owner predicate
+        when(bookingRepository.findStatusesByIds(Set.of(1L, 2L), 20L, null))
+                .thenReturn(List.of(new BookingStatusSnapshot(1L, BookingStatus.CONFIRMED)));
+        when(bookingRepository.updateStatuses(List.of(1L), List.of("PENDING", "CONFIRMED"), "CANCELLED", 20L, null))
+                .thenReturn(List.of(new Change(1L, "CONFIRMED", 10L, 20L, 30L, LocalDate.of(2030, 1, 15))));
+
+        List<BulkBookingStatusResult> results = bookingService.updateBookingStatuses(
+                new BulkBookingStatusRequest(List.of(1L, 2L), "CANCELLED"), provider);
+
+        assertEquals(List.of(BulkStatusOutcome.UPDATED, BulkStatusOutcome.NOT_FOUND),
+                results.stream().map(BulkBookingStatusResult::outcome).toList());
+    }
+
+    @Test
+    void testUpdateBookingStatuses_targetOutsideStateMachine_isRejected() {
+        assertThrows(IllegalArgumentException.class, () -> bookingService.updateBookingStatuses(
+                new BulkBookingStatusRequest(List.of(1L), "PENDING"), ADMIN));
+        assertThrows(IllegalArgumentException.class, () -> bookingService.updateBookingStatuses(
+                new BulkBookingStatusRequest(List.of(1L), "UNKNOWN"), ADMIN));
+
+        verifyNoInteractions(bookingRepository, bookingStatusCounterService);
+    }
+}
@@ -0,0 +1,107 @@
+package com.sarthak.BookingService.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sarthak.BookingService.config.shared.UserPrincipal;
+import com.sarthak.BookingService.dto.ExportFormat;
+import com.sarthak.BookingService.dto.QueryFilter;
+import com.sarthak.BookingService.mapper.BookingMapper;
+import com.sarthak.BookingService.model.Booking;
+import com.sarthak.BookingService.model.BookingStatus;
+import com.sarthak.BookingService.repository.BookingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingExportServiceTests {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private BookingExportService exportService;
+
+    private final UserPrincipal admin = UserPrincipal.builder().userId(1L).userRole("ROLE_ADMIN").build();
+
+    @BeforeEach
+    void setUp() {
+        exportService = new BookingExportService(bookingRepository, new BookingMapper(), new ObjectMapper(), 100);
+    }
+
+    private Booking booking(long id, String category) {
+        return Booking.builder()
+                .bookingId(id)
+                .serviceProviderId(2L)
+                .serviceId(3L)
+                .serviceCategory(category)
+                .customerId(4L)
+                .bookingDate(LocalDate.parse("2026-01-05"))
+                .bookingStartTime(LocalTime.parse("10:00"))
+                .bookingEndTime(LocalTime.parse("11:00"))
+                .bookingStatus(BookingStatus.CONFIRMED)
+                .createdAt(Instant.parse("2026-01-01T00:00:00Z"))
+                .rescheduledToId("")
+                .build();
+    }
+
+    @Test
+    void testExportBookings_csvQuotesTextAndClosesCursor() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(bookingRepository.streamAll(any(), eq(100))).thenReturn(
+                Stream.of(booking(1L, "Cleaning, deep"), booking(2L, "=HYPERLINK(\"x\")")).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportService.exportBookings(null, admin, ExportFormat.CSV, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(2, rows);
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).startsWith("bookingId,"));
+        assertEquals("1,2,3,\"Cleaning, deep\",4,2026-01-05,10:00,11:00,CONFIRMED,2026-01-01T00:00:00Z,", lines.get(1));
+        assertTrue(lines.get(2).startsWith("2,2,3,\"'=HYPERLINK(\"\"x\"\")\",4,"));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testExportBookings_ndjsonOneObjectPerLine() throws Exception {
+        when(bookingRepository.streamAll(any(), eq(100))).thenReturn(Stream.of(booking(1L, "Cleaning"), booking(2L, "Plumbing")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.exportBookings(null, admin, ExportFormat.NDJSON, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        ObjectMapper objectMapper = new ObjectMapper();
+        assertEquals(2, lines.size());
+        assertEquals(1L, objectMapper.readTree(lines.get(0)).get("bookingId").asLong());
+        assertEquals("Plumbing", objectMapper.readTree(lines.get(1)).get("serviceCategory").asText());
+    }
+
+    @Test
+    void testScopeToUser_providerOnlySeesOwnBookings() {
+        QueryFilter requested = new QueryFilter("CONFIRMED", null, null, null, 99L, null, null);
+
+        QueryFilter scoped = exportService.scopeToUser(requested,
+                UserPrincipal.builder().userId(7L).userRole("ROLE_USER").userType("PROVIDER").build());
+
+        assertEquals(7L, scoped.serviceProviderId());
+        assertEquals("CONFIRMED", scoped.bookingStatus());
+        assertNull(exportService.scopeToUser(requested, admin).customerId());
+    }
+}
@@ -0,0 +1,179 @@
+package com.sarthak.BookingService.service;
+
+import com.sarthak.BookingService.client.AvailabilityServiceClient;
+import com.sarthak.BookingService.client.ServiceListingClient;
+import com.sarthak.BookingService.client.UserServiceClient;
+import com.sarthak.BookingService.config.shared.UserPrincipal;
+import com.sarthak.BookingService.dto.AvailabilityStatus;
+import com.sarthak.BookingService.dto.BookingDto;
+import com.sarthak.BookingService.dto.response.AvailabilityStatusResponse;
+import com.sarthak.BookingService.exception.TimeSlotAlreadyBookedException;
+import com.sarthak.BookingService.mapper.BookingMapper;
+import com.sarthak.BookingService.model.BookingStatus;
+import com.sarthak.BookingService.repository.BookingRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+// Books through BookingService against a real Postgres with the flyway schema, so overlapping bookings
+// are rejected by the ex_booking_active_slot exclusion constraint. Skipped when Docker is not available.
+@Slf4j
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({BookingService.class, BookingMapper.class, BookingMetrics.class, SlotHoldService.class,
+        BookingStatusCounterService.class, BookingOverlapConcurrencyTests.MetricsConfig.class})
+public class BookingOverlapConcurrencyTests {
+
+    private static final int PARALLEL_BOOKINGS = 300;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> "20");
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @MockitoBean
+    private AvailabilityServiceClient availabilityServiceClient;
+
+    @MockitoBean
+    private ServiceListingClient serviceListingClient;
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    private final LocalDate bookingDate = LocalDate.now().plusDays(7);
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository.deleteAllInBatch();
+        when(availabilityServiceClient.getAvailabilityStatus(any()))
+                .thenReturn(new AvailabilityStatusResponse(2L, "10:00", "11:00", bookingDate.toString(),
+                        AvailabilityStatus.AVAILABLE));
+    }
+
+    @Test
+    void testBookService_parallelBookingsForOneSlot_exactlyOneWins() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < PARALLEL_BOOKINGS; i++) {
+                long customerId = 100L + i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        bookingService.bookService(booking(customerId, "10:00", "11:00"),
+                                UserPrincipal.builder().userId(customerId).build());
+                        created.incrementAndGet();
+                    } catch (TimeSlotAlreadyBookedException ex) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            log.info("{} parallel bookings for one slot finished in {} ms ({} bookings/s)", PARALLEL_BOOKINGS,
+                    elapsedMillis, PARALLEL_BOOKINGS * 1000L / Math.max(1, elapsedMillis));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, created.get());
+        assertEquals(PARALLEL_BOOKINGS - 1, rejected.get());
+        assertEquals(1, bookingRepository.count());
+    }
+
+    @Test
+    void testBookService_backToBackSlots_bothBooked() {
+        bookingService.bookService(booking(100L, "10:00", "11:00"), UserPrincipal.builder().userId(100L).build());
+        bookingService.bookService(booking(101L, "11:00", "12:00"), UserPrincipal.builder().userId(101L).build());
+
+        assertThrows(TimeSlotAlreadyBookedException.class,
+                () -> bookingService.bookService(booking(102L, "10:30", "11:30"),
+                        UserPrincipal.builder().userId(102L).build()));
+        assertEquals(2, bookingRepository.count());
+    }
+
+    @Test
+    void testBookService_cancelledBooking_freesSlot() {
+        BookingDto first = bookingService.bookService(booking(100L, "10:00", "11:00"),
+                UserPrincipal.builder().userId(100L).build());
+        bookingService.updateBookingStatus(first.bookingId(), BookingStatus.CANCELLED.name());
+
+        BookingDto second = bookingService.bookService(booking(101L, "10:00", "11:00"),
+                UserPrincipal.builder().userId(101L).build());
+
+        assertEquals(BookingStatus.PENDING, second.bookingStatus());
+    }
+
+    private BookingDto booking(Long customerId, String startTime, String endTime) {
+        return BookingDto.builder()
+                .serviceProviderId(2L)
+                .serviceId(3L)
+                .serviceCategory("Cleaning")
+                .customerId(customerId)
+                .bookingDate(bookingDate.toString())
+                .bookingStartTime(startTime)
+                .bookingEndTime(endTime)
+                .build();
+    }
+}
@@ -0,0 +1,140 @@
+package com.sarthak.BookingService.service;
+
+import com.sarthak.BookingService.client.AvailabilityServiceClient;
+import com.sarthak.BookingService.client.ServiceListingClient;
+import com.sarthak.BookingService.client.UserServiceClient;
+import com.sarthak.BookingService.config.shared.UserPrincipal;
+import com.sarthak.BookingService.dto.AvailabilityStatus;
+import com.sarthak.BookingService.dto.BookingDto;
+import com.sarthak.BookingService.dto.response.AvailabilityStatusResponse;
+import com.sarthak.BookingService.exception.ProviderNotAvailableForGivenTimeSlotException;
+import com.sarthak.BookingService.exception.TimeSlotAlreadyBookedException;
+import com.sarthak.BookingService.mapper.BookingMapper;
+import com.sarthak.BookingService.repository.BookingRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingServiceMetricsTests {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private AvailabilityServiceClient availabilityServiceClient;
+
+    @Mock
+    private ServiceListingClient serviceListingClient;
+
+    @Mock
+    private UserServiceClient userServiceClient;
+
+    @Mock
+    private SlotHoldService slotHoldService;
+
+    @Mock
+    private BookingStatusCounterService bookingStatusCounterService;
+
+    @Mock
+    private BookedSlotsPublisher bookedSlotsPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BookingService bookingService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bookingService = new BookingService(bookingRepository, new BookingMapper(), availabilityServiceClient,
+                serviceListingClient, userServiceClient, new BookingMetrics(meterRegistry), slotHoldService,
+                bookingStatusCounterService, bookedSlotsPublisher);
+    }
+
+    private BookingDto tomorrowsBooking() {
+        return BookingDto.builder()
+                .serviceProviderId(2L)
+                .serviceId(3L)
+                .customerId(1L)
+                .bookingDate(LocalDate.now().plusDays(1).toString())
+                .bookingStartTime("10:00")
+                .bookingEndTime("11:00")
+                .build();
+    }
+
+    private AvailabilityStatusResponse availability(AvailabilityStatus status) {
+        return new AvailabilityStatusResponse(2L, "10:00", "11:00", LocalDate.now().plusDays(1).toString(), status);
+    }
+
+    private long count(String timer, String outcome) {
+        var found = meterRegistry.find(timer).tag("outcome", outcome).timer();
+        return found == null ? 0 : found.count();
+    }
+
+    @Test
+    void testBookService_slotTaken_tagsTimeSlotAlreadyBooked() {
+        when(availabilityServiceClient.getAvailabilityStatus(any()))
+                .thenReturn(availability(AvailabilityStatus.AVAILABLE));
+        when(bookingRepository.insertIfSlotFree(any())).thenReturn(Optional.empty());
+
+        assertThrows(TimeSlotAlreadyBookedException.class,
+                () -> bookingService.bookService(tomorrowsBooking(), UserPrincipal.builder().userId(1L).build()));
+
+        assertEquals(1, count(BookingMetrics.AVAILABILITY, "AVAILABLE"));
+        assertEquals(1, count(BookingMetrics.INSERT, BookingMetrics.OUTCOME_TIME_SLOT_ALREADY_BOOKED));
+        assertEquals(1, count(BookingMetrics.CREATE, BookingMetrics.OUTCOME_TIME_SLOT_ALREADY_BOOKED));
+        verifyNoInteractions(bookingStatusCounterService);
+    }
+
+    @Test
+    void testBookService_slotFree_tagsCreated() {
+        when(availabilityServiceClient.getAvailabilityStatus(any()))
+                .thenReturn(availability(AvailabilityStatus.AVAILABLE));
+        when(bookingRepository.insertIfSlotFree(any())).thenReturn(Optional.of(42L));
+
+        BookingDto booked = bookingService.bookService(tomorrowsBooking(), UserPrincipal.builder().userId(1L).build());
+
+        assertEquals(42L, booked.bookingId());
+        assertEquals(1, count(BookingMetrics.INSERT, BookingMetrics.OUTCOME_CREATED));
+        assertEquals(1, count(BookingMetrics.CREATE, BookingMetrics.OUTCOME_CREATED));
+        verify(bookingStatusCounterService).recordCreated(argThat(b -> b.getBookingId() == 42L));
+    }
+
+    @Test
+    void testBookService_heldByOtherCustomer_tagsSlotHeld() {
+        when(slotHoldService.isHeldByOther(any(), any(), any(), any(), any(), any())).thenReturn(true);
+
+        assertThrows(TimeSlotAlreadyBookedException.class,
+                () -> bookingService.bookService(tomorrowsBooking(), UserPrincipal.builder().userId(1L).build()));
+
+        assertEquals(1, count(BookingMetrics.CREATE, BookingMetrics.OUTCOME_SLOT_HELD));
+        assertNull(meterRegistry.find(BookingMetrics.AVAILABILITY).timer());
+        verifyNoInteractions(availabilityServiceClient, bookingRepository);
+    }
+
+    @Test
+    void testBookService_blocked_tagsAvailabilityStatus() {
+        when(availabilityServiceClient.getAvailabilityStatus(any()))
+                .thenReturn(availability(AvailabilityStatus.BLOCKED));
+
+        assertThrows(ProviderNotAvailableForGivenTimeSlotException.class,
+                () -> bookingService.bookService(tomorrowsBooking(), UserPrincipal.builder().userId(1L).build()));
+
+        assertEquals(1, count(BookingMetrics.CREATE, "BLOCKED"));
+        assertNull(meterRegistry.find(BookingMetrics.INSERT).timer());
+    }
+}
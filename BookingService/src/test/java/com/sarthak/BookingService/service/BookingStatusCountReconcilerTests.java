@@ -0,0 +1,72 @@
+package com.sarthak.BookingService.service;
+
+import com.sarthak.BookingService.repository.BookingStatusCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingStatusCountReconcilerTests {
+
+    @Mock
+    private BookingStatusCounterRepository bookingStatusCounterRepository;
+
+    @Mock
+    private BookingStatusCounterService bookingStatusCounterService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private BookingStatusCountReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        reconciler = new BookingStatusCountReconciler(bookingStatusCounterRepository, bookingStatusCounterService,
+                transactionTemplate, 2);
+    }
+
+    @Test
+    void testReconcileAll_walksChunksByKeyset() {
+        when(bookingStatusCounterRepository.findUserIdChunk(0L, 2)).thenReturn(List.of(1L, 2L));
+        when(bookingStatusCounterRepository.findUserIdChunk(2L, 2)).thenReturn(List.of(5L));
+
+        reconciler.reconcileAll();
+
+        verify(bookingStatusCounterRepository).correctDriftedCounts(List.of(1L, 2L));
+        verify(bookingStatusCounterRepository).correctDriftedCounts(List.of(5L));
+        // a short chunk is the last one
+        verify(bookingStatusCounterRepository, never()).findUserIdChunk(5L, 2);
+        verifyNoInteractions(bookingStatusCounterService);
+    }
+
+    @Test
+    void testReconcileChunk_locksBeforeRecountAndEvictsCorrectedUsers() {
+        List<Long> userIds = List.of(3L, 4L);
+        when(bookingStatusCounterRepository.correctDriftedCounts(userIds)).thenReturn(1);
+
+        reconciler.reconcileChunk(userIds);
+
+        InOrder order = inOrder(bookingStatusCounterRepository, bookingStatusCounterService);
+        order.verify(bookingStatusCounterRepository).lockByUserIds(userIds);
+        order.verify(bookingStatusCounterRepository).correctDriftedCounts(userIds);
+        order.verify(bookingStatusCounterRepository).deleteOrphanedCounts(userIds);
+        order.verify(bookingStatusCounterService).evict(userIds);
+    }
+}
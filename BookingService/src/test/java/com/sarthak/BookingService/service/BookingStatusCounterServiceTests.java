@@ -0,0 +1,90 @@
+package com.sarthak.BookingService.service;
+
+import com.sarthak.BookingService.dto.BookingStatusCount;
+import com.sarthak.BookingService.model.Booking;
+import com.sarthak.BookingService.model.BookingStatus;
+import com.sarthak.BookingService.model.UserRole;
+import com.sarthak.BookingService.repository.BookingStatusCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingStatusCounterServiceTests {
+
+    @Mock
+    private BookingStatusCounterRepository bookingStatusCounterRepository;
+
+    private BookingStatusCounterService counterService;
+
+    @BeforeEach
+    void setUp() {
+        counterService = new BookingStatusCounterService(bookingStatusCounterRepository, 60, 100);
+    }
+
+    private Booking booking(Long customerId, Long providerId, BookingStatus status) {
+        return Booking.builder()
+                .customerId(customerId)
+                .serviceProviderId(providerId)
+                .bookingStatus(status)
+                .build();
+    }
+
+    @Test
+    void testRecordTransitions_netsDeltasPerRowInLockOrder() {
+        List<Booking> cancelled = List.of(
+                booking(7L, 2L, BookingStatus.CANCELLED),
+                booking(5L, 2L, BookingStatus.CANCELLED),
+                booking(5L, 2L, BookingStatus.CANCELLED));
+
+        counterService.recordTransitions(cancelled, BookingStatus.PENDING);
+
+        InOrder order = inOrder(bookingStatusCounterRepository);
+        order.verify(bookingStatusCounterRepository).adjust(2L, "PROVIDER", "PENDING", -3);
+        order.verify(bookingStatusCounterRepository).adjust(2L, "PROVIDER", "CANCELLED", 3);
+        order.verify(bookingStatusCounterRepository).adjust(5L, "CUSTOMER", "PENDING", -2);
+        order.verify(bookingStatusCounterRepository).adjust(5L, "CUSTOMER", "CANCELLED", 2);
+        order.verify(bookingStatusCounterRepository).adjust(7L, "CUSTOMER", "PENDING", -1);
+        order.verify(bookingStatusCounterRepository).adjust(7L, "CUSTOMER", "CANCELLED", 1);
+        verifyNoMoreInteractions(bookingStatusCounterRepository);
+    }
+
+    @Test
+    void testRecordTransition_unchangedStatus_writesNothing() {
+        counterService.recordTransition(booking(1L, 2L, BookingStatus.CONFIRMED), BookingStatus.CONFIRMED);
+
+        verify(bookingStatusCounterRepository, never()).adjust(anyLong(), anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    void testGetCounts_readsThroughUntilEvictedByWrite() {
+        when(bookingStatusCounterRepository.findCounts(1L, UserRole.CUSTOMER))
+                .thenReturn(List.of(new BookingStatusCount(BookingStatus.PENDING, 1L)))
+                .thenReturn(List.of(new BookingStatusCount(BookingStatus.CONFIRMED, 1L)));
+
+        assertEquals(BookingStatus.PENDING, counterService.getCounts(1L, UserRole.CUSTOMER).getFirst().status());
+        assertEquals(BookingStatus.PENDING, counterService.getCounts(1L, UserRole.CUSTOMER).getFirst().status());
+        verify(bookingStatusCounterRepository, times(1)).findCounts(1L, UserRole.CUSTOMER);
+
+        // no transaction active, so the write evicts right away
+        counterService.recordTransition(booking(1L, 2L, BookingStatus.CONFIRMED), BookingStatus.PENDING);
+
+        assertEquals(BookingStatus.CONFIRMED, counterService.getCounts(1L, UserRole.CUSTOMER).getFirst().status());
+        verify(bookingStatusCounterRepository, times(2)).findCounts(1L, UserRole.CUSTOMER);
+    }
+}
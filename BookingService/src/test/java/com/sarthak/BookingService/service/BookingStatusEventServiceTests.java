@@ -0,0 +1,97 @@
+package com.sarthak.BookingService.service;
+
+import com.sarthak.BookingService.dto.request.BookingStatusEventRequest;
+import com.sarthak.BookingService.dto.response.BookingStatusEventResponse;
+import com.sarthak.BookingService.exception.BookingStatusRejectedException;
+import com.sarthak.BookingService.model.ProcessedStatusEvent;
+import com.sarthak.BookingService.model.StatusEventOutcome;
+import com.sarthak.BookingService.repository.ProcessedStatusEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingStatusEventServiceTests {
+
+    @Mock
+    private BookingService bookingService;
+
+    @Mock
+    private ProcessedStatusEventRepository processedStatusEventRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private BookingStatusEventService bookingStatusEventService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        bookingStatusEventService = new BookingStatusEventService(bookingService, processedStatusEventRepository,
+                transactionTemplate);
+    }
+
+    @Test
+    void testApplyEvents_APPLIED_recordsEventId() {
+        BookingStatusEventRequest event = new BookingStatusEventRequest("event-1", 10L, "CONFIRMED");
+        when(processedStatusEventRepository.findAllByEventIdIn(anyCollection())).thenReturn(List.of());
+
+        List<BookingStatusEventResponse> responses = bookingStatusEventService.applyEvents(List.of(event));
+
+        assertEquals(StatusEventOutcome.APPLIED, responses.get(0).outcome());
+        verify(bookingService).updateBookingStatus(10L, "CONFIRMED");
+        ArgumentCaptor<ProcessedStatusEvent> captor = ArgumentCaptor.forClass(ProcessedStatusEvent.class);
+        verify(processedStatusEventRepository).saveAndFlush(captor.capture());
+        assertEquals("event-1", captor.getValue().getEventId());
+        assertEquals(StatusEventOutcome.APPLIED, captor.getValue().getOutcome());
+    }
+
+    @Test
+    void testApplyEvents_DUPLICATE_doesNotTouchBooking() {
+        BookingStatusEventRequest event = new BookingStatusEventRequest("event-1", 10L, "CONFIRMED");
+        ProcessedStatusEvent processed = ProcessedStatusEvent.builder()
+                .eventId("event-1")
+                .bookingId(10L)
+                .requestedStatus("CONFIRMED")
+                .outcome(StatusEventOutcome.APPLIED)
+                .build();
+        when(processedStatusEventRepository.findAllByEventIdIn(anyCollection())).thenReturn(List.of(processed));
+
+        List<BookingStatusEventResponse> responses = bookingStatusEventService.applyEvents(List.of(event));
+
+        assertEquals(StatusEventOutcome.DUPLICATE, responses.get(0).outcome());
+        verify(bookingService, never()).updateBookingStatus(any(), any());
+        verify(processedStatusEventRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void testApplyEvents_REJECTED_isRecordedAndOthersStillApplied() {
+        BookingStatusEventRequest rejected = new BookingStatusEventRequest("event-1", 10L, "CONFIRMED");
+        BookingStatusEventRequest applied = new BookingStatusEventRequest("event-2", 11L, "CANCELLED");
+        when(processedStatusEventRepository.findAllByEventIdIn(anyCollection())).thenReturn(List.of());
+        when(bookingService.updateBookingStatus(10L, "CONFIRMED"))
+                .thenThrow(new BookingStatusRejectedException("Cannot update status for completed or deleted booking"));
+
+        List<BookingStatusEventResponse> responses = bookingStatusEventService.applyEvents(List.of(rejected, applied));
+
+        assertEquals(StatusEventOutcome.REJECTED, responses.get(0).outcome());
+        assertEquals(StatusEventOutcome.APPLIED, responses.get(1).outcome());
+        verify(bookingService).updateBookingStatus(11L, "CANCELLED");
+    }
+}
@@ -0,0 +1,38 @@
+package com.sarthak.BookingService.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HoldExpiryWheelTests {
+
+    @Test
+    void testAdvance_returnsOnlyDueEntries() {
+        HoldExpiryWheel<String> wheel = new HoldExpiryWheel<>(100, 8, 0);
+        wheel.schedule("a", 250);
+        wheel.schedule("b", 450);
+        // same bucket as "a" one round later
+        wheel.schedule("c", 250 + 8 * 100);
+
+        assertTrue(wheel.advance(200).isEmpty());
+        assertEquals(List.of("a"), wheel.advance(300));
+        assertEquals(List.of("b"), wheel.advance(700));
+        assertEquals(List.of("c"), wheel.advance(1100));
+    }
+
+    @Test
+    void testAdvance_afterLongPause_visitsEveryBucketOnce() {
+        HoldExpiryWheel<String> wheel = new HoldExpiryWheel<>(100, 8, 0);
+        wheel.schedule("a", 150);
+        wheel.schedule("b", 750);
+        wheel.schedule("past", -50);
+
+        List<String> due = wheel.advance(10_000);
+
+        assertEquals(3, due.size());
+        assertTrue(due.containsAll(List.of("a", "b", "past")));
+    }
+}
@@ -0,0 +1,108 @@
+package com.sarthak.BookingService.service;
+
+import com.sarthak.BookingService.dto.request.SlotHoldRequest;
+import com.sarthak.BookingService.dto.response.SlotHoldResponse;
+import com.sarthak.BookingService.exception.SlotHoldNotFoundException;
+import com.sarthak.BookingService.exception.TimeSlotAlreadyBookedException;
+import com.sarthak.BookingService.model.SlotHold;
+import com.sarthak.BookingService.repository.SlotHoldRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class SlotHoldServiceTests {
+
+    private static final LocalDate DATE = LocalDate.now().plusDays(3);
+
+    @Mock
+    private SlotHoldRepository slotHoldRepository;
+
+    private SlotHoldService slotHoldService;
+
+    @BeforeEach
+    void setUp() {
+        slotHoldService = new SlotHoldService(slotHoldRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), 300, 1800, 1000);
+    }
+
+    private SlotHoldRequest request(String start, String end) {
+        return SlotHoldRequest.builder()
+                .serviceProviderId(2L)
+                .serviceId(3L)
+                .date(DATE)
+                .startTime(LocalTime.parse(start))
+                .endTime(LocalTime.parse(end))
+                .build();
+    }
+
+    @Test
+    void testHold_overlappingHoldOfOtherCustomer_isRefused() {
+        slotHoldService.hold(request("10:00", "11:00"), 1L);
+
+        assertThrows(TimeSlotAlreadyBookedException.class, () -> slotHoldService.hold(request("10:30", "11:30"), 2L));
+        slotHoldService.hold(request("11:00", "12:00"), 2L);
+
+        assertTrue(slotHoldService.isHeldByOther(2L, 3L, DATE, LocalTime.parse("10:15"), LocalTime.parse("10:45"), 2L));
+        assertFalse(slotHoldService.isHeldByOther(2L, 3L, DATE, LocalTime.parse("10:15"), LocalTime.parse("10:45"), 1L));
+    }
+
+    @Test
+    void testHold_sameSlotAgain_returnsSameHold() {
+        SlotHoldResponse first = slotHoldService.hold(request("10:00", "11:00"), 1L);
+        SlotHoldResponse second = slotHoldService.hold(request("10:00", "11:00"), 1L);
+
+        assertEquals(first.holdId(), second.holdId());
+        assertFalse(second.expiresAt().isBefore(first.expiresAt()));
+        assertEquals(1, slotHoldService.activeHoldCount());
+    }
+
+    @Test
+    void testRelease_onlyByOwner_freesSlot() {
+        SlotHoldResponse hold = slotHoldService.hold(request("10:00", "11:00"), 1L);
+
+        assertThrows(SlotHoldNotFoundException.class, () -> slotHoldService.release(hold.holdId(), 2L));
+        slotHoldService.release(hold.holdId(), 1L);
+
+        assertFalse(slotHoldService.isHeldByOther(2L, 3L, DATE, LocalTime.parse("10:00"), LocalTime.parse("11:00"), 2L));
+        assertThrows(SlotHoldNotFoundException.class, () -> slotHoldService.extend(hold.holdId(), 1L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExpireDue_dropsExpiredHoldsAndFlushWritesBehind() {
+        SlotHoldResponse expiring = slotHoldService.hold(request("10:00", "11:00"), 1L);
+        slotHoldService.flush();
+
+        ArgumentCaptor<Iterable<SlotHold>> saved = ArgumentCaptor.forClass(Iterable.class);
+        verify(slotHoldRepository).saveAll(saved.capture());
+        assertEquals(expiring.holdId(), saved.getValue().iterator().next().getHoldId());
+
+        slotHoldService.expireDue(Instant.now().plusSeconds(302));
+        slotHoldService.flush();
+
+        ArgumentCaptor<Iterable<String>> deleted = ArgumentCaptor.forClass(Iterable.class);
+        verify(slotHoldRepository, times(2)).deleteAllByIdInBatch(deleted.capture());
+        assertEquals(List.of(expiring.holdId()), List.copyOf((Collection<String>) deleted.getValue()));
+        assertEquals(0, slotHoldService.activeHoldCount());
+    }
+}
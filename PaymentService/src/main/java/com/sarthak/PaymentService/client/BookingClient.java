@@ -1,14 +1,19 @@
 package com.sarthak.PaymentService.client;
 
+import com.sarthak.PaymentService.dto.request.BookingStatusEventRequest;
+import com.sarthak.PaymentService.dto.response.BookingStatusEventResponse;
 import org.springframework.cloud.openfeign.FeignClient;
-import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 
-@FeignClient(name = "Booking-Service", url = "${feign.client.config.booking-service.url}")
+import java.util.List;
+
+@FeignClient(name = "Booking-Service", fallbackFactory = BookingClientFallbackFactory.class)
 public interface BookingClient {
 
-    @PostMapping("/api/bookings/{bookingId}/updateStatus/{status}")
-    public void updateBookingStatus(@PathVariable("bookingId") Long bookingId,
-                                    @PathVariable("status") String status);
+    @PostMapping("/api/bookings/status-events")
+    List<BookingStatusEventResponse> applyStatusEvents(@RequestHeader("Authorization") String authorization,
+                                                       @RequestBody List<BookingStatusEventRequest> events);
 
 }
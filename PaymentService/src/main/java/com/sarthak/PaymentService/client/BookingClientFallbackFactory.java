@@ -0,0 +1,26 @@
+package com.sarthak.PaymentService.client;
+
+import com.sarthak.PaymentService.exception.BookingClientException;
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class BookingClientFallbackFactory implements FallbackFactory<BookingClient> {
+
+    @Override
+    public BookingClient create(Throwable cause) {
+        return (authorization, events) -> {
+            // 4xx responses are real answers from the booking service, not outages
+            if (cause instanceof FeignException.FeignClientException clientException) {
+                throw clientException;
+            }
+            // The outbox relay keeps the events and retries them after a backoff
+            log.warn("Booking service call failed while delivering {} status events: {}", events.size(), cause.toString());
+            throw new BookingClientException("Booking service is currently unavailable, could not deliver "
+                    + events.size() + " booking status events");
+        };
+    }
+}
@@ -8,6 +8,9 @@ import com.sarthak.PaymentService.dto.response.CreateOrderResponse;
 import com.sarthak.PaymentService.dto.response.WebhookResponse;
 import com.sarthak.PaymentService.enums.PaymentStatus;
 import com.sarthak.PaymentService.exception.PayPalWebhookException;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.transport.RequestReplySenderContext;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -34,6 +37,36 @@ public class PayPalClient {
 
     private final HttpClient httpClient = HttpClient.newHttpClient();
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObservationRegistry observationRegistry;
+
+    public PayPalClient(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    // Client span per PayPal call; the tracing handler injects traceparent into the request builder on start
+    private HttpResponse<String> send(HttpRequest.Builder requestBuilder, String action)
+            throws IOException, InterruptedException {
+        RequestReplySenderContext<HttpRequest.Builder, HttpResponse<String>> context =
+                new RequestReplySenderContext<>((carrier, key, value) -> carrier.header(key, value));
+        context.setCarrier(requestBuilder);
+        context.setRemoteServiceName("paypal");
+        Observation observation = Observation.createNotStarted("paypal.client.requests", () -> context,
+                        observationRegistry)
+                .contextualName("paypal " + action)
+                .lowCardinalityKeyValue("action", action)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            HttpResponse<String> response = httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofString());
+            context.setResponse(response);
+            observation.lowCardinalityKeyValue("status", String.valueOf(response.statusCode()));
+            return response;
+        } catch (IOException | InterruptedException | RuntimeException ex) {
+            observation.error(ex);
+            throw ex;
+        } finally {
+            observation.stop();
+        }
+    }
 
     private void ensure2xx(HttpResponse<String> response, String action) {
         int status = response.statusCode();
@@ -59,14 +92,13 @@ public class PayPalClient {
         log.info("Fetching PayPal access token from {}", baseUrl);
         String auth = Base64.getEncoder().encodeToString((clientId + ":" + clientSecret).getBytes());
 
-        HttpRequest request = HttpRequest.newBuilder()
+        HttpRequest.Builder request = HttpRequest.newBuilder()
                 .uri(URI.create(baseUrl + "/v1/oauth2/token"))
                 .header("Authorization", "Basic " + auth)
                 .header("Content-Type", "application/x-www-form-urlencoded")
-                .POST(HttpRequest.BodyPublishers.ofString("grant_type=client_credentials"))
-                .build();
+                .POST(HttpRequest.BodyPublishers.ofString("grant_type=client_credentials"));
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = send(request, "token");
         ensure2xx(response, "token");
         log.debug("PayPal token response: {}", response.body());
 
@@ -96,14 +128,13 @@ public class PayPalClient {
                 }
                 """.formatted(amount);
 
-        HttpRequest request = HttpRequest.newBuilder()
+        HttpRequest.Builder request = HttpRequest.newBuilder()
                 .uri(URI.create(baseUrl + "/v2/checkout/orders"))
                 .header("Authorization", "Bearer " + accessToken)
                 .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(payload))
-                .build();
+                .POST(HttpRequest.BodyPublishers.ofString(payload));
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = send(request, "create order");
         ensure2xx(response, "create order");
         log.debug("PayPal create order response: {}", response.body());
 
@@ -120,14 +151,13 @@ public class PayPalClient {
         String accessToken = getAccessToken();
         log.info("Starting order capture process for orderId: {}", orderId);
 
-        HttpRequest request = HttpRequest.newBuilder()
+        HttpRequest.Builder request = HttpRequest.newBuilder()
                 .uri(URI.create(baseUrl + "/v2/checkout/orders/" + orderId + "/capture"))
                 .header("Authorization", "Bearer " + accessToken)
                 .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.noBody())
-                .build();
+                .POST(HttpRequest.BodyPublishers.noBody());
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = send(request, "capture order");
         ensure2xx(response, "capture order");
         log.debug("PayPal capture order response: {}", response.body());
 
@@ -7,26 +7,34 @@ import com.sarthak.PaymentService.dto.request.TransactionFilter;
 import com.sarthak.PaymentService.dto.request.PaymentRequest;
 import com.sarthak.PaymentService.dto.request.RefreshPaymentStatusRequest;
 import com.sarthak.PaymentService.dto.response.PagedResponse;
+import com.sarthak.PaymentService.enums.ExportFormat;
 import com.sarthak.PaymentService.exception.FailedToCreatePaymentOrderException;
+import com.sarthak.PaymentService.service.TransactionExportService;
 import com.sarthak.PaymentService.service.TransactionService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 @RestController
 @Slf4j
 @RequestMapping("/api/payments")
 public class PaymentController {
     private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
 
-    public PaymentController(TransactionService transactionService) {
+    public PaymentController(TransactionService transactionService,
+            TransactionExportService transactionExportService) {
         this.transactionService = transactionService;
+        this.transactionExportService = transactionExportService;
     }
 
     @GetMapping("/{id}")
@@ -55,6 +63,22 @@ public class PaymentController {
                 transactions.getTotalPages());
     }
 
+    // Full history as NDJSON or CSV, streamed instead of paged, see TransactionExportService
+    @PostMapping("/export")
+    public void exportTransactions(@RequestBody(required = false) TransactionFilter transactionFilter,
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            Authentication authentication,
+            HttpServletResponse response) throws IOException {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        response.setContentType(exportFormat.contentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"transactions." + exportFormat.extension() + "\"");
+        transactionExportService.exportTransactions(transactionFilter, userPrincipal, exportFormat,
+                response.getOutputStream());
+    }
+
     @PostMapping("/createOrder")
     public ResponseEntity<com.sarthak.PaymentService.dto.response.CreateOrderResponse> createOrder(
             @RequestBody CreateOrderRequest createOrderRequest) {
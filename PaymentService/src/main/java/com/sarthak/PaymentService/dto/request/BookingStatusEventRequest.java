@@ -0,0 +1,11 @@
+package com.sarthak.PaymentService.dto.request;
+
+import lombok.Builder;
+
+@Builder
+public record BookingStatusEventRequest(
+        String eventId,
+        Long bookingId,
+        String status
+) {
+}
@@ -0,0 +1,8 @@
+package com.sarthak.PaymentService.dto.response;
+
+public record BookingStatusEventResponse(
+        String eventId,
+        String outcome,
+        String message
+) {
+}
@@ -0,0 +1,7 @@
+package com.sarthak.PaymentService.enums;
+
+public enum OutboxStatus {
+    PENDING,
+    DELIVERED,
+    FAILED
+}
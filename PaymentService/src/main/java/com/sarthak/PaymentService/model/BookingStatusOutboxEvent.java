@@ -0,0 +1,90 @@
+package com.sarthak.PaymentService.model;
+
+import com.sarthak.PaymentService.enums.OutboxStatus;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+// Booking status change waiting to be delivered to BookingService. Written in the same
+// transaction as the Transaction row it belongs to and delivered by BookingStatusOutboxRelay.
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "booking_status_outbox", indexes = {
+        @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_outbox_booking_status", columnList = "booking_id, status")
+        },
+        uniqueConstraints = {
+        @UniqueConstraint(name = "uk_outbox_event_id", columnNames = {"event_id"})
+})
+public class BookingStatusOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Idempotency key, BookingService applies each event id at most once
+    @NotNull
+    @Column(name = "event_id", nullable = false, updatable = false, length = 36)
+    private String eventId;
+
+    @NotNull
+    @Column(name = "booking_id", nullable = false, updatable = false)
+    private Long bookingId;
+
+    @NotNull
+    @Column(name = "transaction_id", nullable = false, updatable = false)
+    private Long transactionId;
+
+    @NotNull
+    @Column(name = "booking_status", nullable = false, updatable = false)
+    private String bookingStatus;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @NotNull
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = 512)
+    private String lastError;
+
+    @NotNull
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "delivered_at")
+    private Instant deliveredAt;
+
+    @PrePersist
+    public void prePersist() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        if (eventId == null) {
+            eventId = UUID.randomUUID().toString();
+        }
+        if (status == null) {
+            status = OutboxStatus.PENDING;
+        }
+        if (createdAt == null) {
+            createdAt = now;
+        }
+        if (nextAttemptAt == null) {
+            nextAttemptAt = now;
+        }
+    }
+}
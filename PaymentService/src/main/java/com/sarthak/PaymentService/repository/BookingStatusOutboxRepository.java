@@ -0,0 +1,35 @@
+package com.sarthak.PaymentService.repository;
+
+import com.sarthak.PaymentService.enums.OutboxStatus;
+import com.sarthak.PaymentService.model.BookingStatusOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface BookingStatusOutboxRepository extends JpaRepository<BookingStatusOutboxEvent, Long> {
+
+    // Oldest due events, skipping any booking that still has an earlier undelivered event so that
+    // status changes for one booking always reach BookingService in the order they were written
+    @Query("""
+            SELECT e
+            FROM BookingStatusOutboxEvent e
+            WHERE e.status = :status
+              AND e.nextAttemptAt <= :now
+              AND NOT EXISTS (
+                  SELECT 1
+                  FROM BookingStatusOutboxEvent earlier
+                  WHERE earlier.bookingId = e.bookingId
+                    AND earlier.status = :status
+                    AND earlier.id < e.id
+              )
+            ORDER BY e.id
+            """)
+    List<BookingStatusOutboxEvent> findDeliverable(OutboxStatus status, Instant now, Pageable pageable);
+
+    long countByStatus(OutboxStatus status);
+}
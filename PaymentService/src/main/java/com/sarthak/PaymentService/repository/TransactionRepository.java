@@ -1,12 +1,13 @@
 package com.sarthak.PaymentService.repository;
 
 import com.sarthak.PaymentService.enums.PaymentMethod;
-import com.sarthak.PaymentService.enums.PaymentStatus;
 import com.sarthak.PaymentService.model.Transaction;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
@@ -14,9 +15,16 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction>,
+        TransactionStreamRepository {
 
     Optional<Transaction> findByTransactionReference(String transactionReference);
 
-    List<Transaction> findAllByPaymentStatusAndCreatedAtBefore(PaymentStatus paymentStatus, Instant cutOffTime);
+    // PENDING is a literal so the partial index idx_transactions_pending_created_at (V2 migration) matches
+    @Query("""
+            SELECT t FROM Transaction t
+            WHERE t.paymentStatus = com.sarthak.PaymentService.enums.PaymentStatus.PENDING
+              AND t.createdAt < :cutOffTime
+            """)
+    List<Transaction> findPendingCreatedBefore(@Param("cutOffTime") Instant cutOffTime);
 }
@@ -0,0 +1,13 @@
+package com.sarthak.PaymentService.repository;
+
+import com.sarthak.PaymentService.model.Transaction;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+public interface TransactionStreamRepository {
+
+    // Forward-only cursor over the matching transactions in id order, fetchSize rows per round trip. Must be
+    // consumed and closed inside a transaction, rows come back detached.
+    Stream<Transaction> streamAll(Specification<Transaction> specification, int fetchSize);
+}
@@ -1,5 +1,6 @@
 package com.sarthak.PaymentService.repository.specification;
 
+import com.sarthak.PaymentService.dto.request.TransactionFilter;
 import com.sarthak.PaymentService.enums.PaymentMethod;
 import com.sarthak.PaymentService.enums.PaymentStatus;
 import com.sarthak.PaymentService.model.Transaction;
@@ -29,4 +30,14 @@ public class TransactionSpecification {
             };
         });
     }
+
+    // The user's own transactions, narrowed by the optional filter
+    public static Specification<Transaction> forUser(TransactionFilter filter, String userType, Long userId){
+        Specification<Transaction> spec = resolveByUserType(userType, userId);
+        if(filter == null){
+            return spec;
+        }
+        return spec.and(hasPaymentMethod(PaymentMethod.fromString(filter.paymentMethod())))
+                .and(hasPaymentStatus(PaymentStatus.fromString(filter.paymentStatus())));
+    }
 }
@@ -0,0 +1,139 @@
+package com.sarthak.PaymentService.service;
+
+import com.sarthak.PaymentService.client.BookingClient;
+import com.sarthak.PaymentService.config.shared.ServiceTokenProvider;
+import com.sarthak.PaymentService.dto.request.BookingStatusEventRequest;
+import com.sarthak.PaymentService.dto.response.BookingStatusEventResponse;
+import com.sarthak.PaymentService.enums.OutboxStatus;
+import com.sarthak.PaymentService.model.BookingStatusOutboxEvent;
+import com.sarthak.PaymentService.repository.BookingStatusOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Delivers queued booking status events to BookingService in batches. Delivery is at-least-once:
+// every event carries its eventId as an idempotency key, so redelivery after a timeout is harmless.
+@Service
+@Slf4j
+public class BookingStatusOutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 512;
+
+    private final BookingStatusOutboxRepository outboxRepository;
+    private final BookingClient bookingClient;
+    private final ServiceTokenProvider serviceTokenProvider;
+
+    @Value("${outbox.relay.batch-size:50}")
+    private int batchSize;
+
+    @Value("${outbox.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.relay.initial-backoff-ms:1000}")
+    private long initialBackoffMs;
+
+    @Value("${outbox.relay.max-backoff-ms:300000}")
+    private long maxBackoffMs;
+
+    public BookingStatusOutboxRelay(BookingStatusOutboxRepository outboxRepository, BookingClient bookingClient,
+            ServiceTokenProvider serviceTokenProvider) {
+        this.outboxRepository = outboxRepository;
+        this.bookingClient = bookingClient;
+        this.serviceTokenProvider = serviceTokenProvider;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public void relayPendingEvents() {
+        List<BookingStatusOutboxEvent> batch;
+        do {
+            batch = outboxRepository.findDeliverable(OutboxStatus.PENDING, Instant.now(),
+                    PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return;
+            }
+        } while (deliver(batch) && batch.size() == batchSize);
+    }
+
+    // Returns true when BookingService answered, false when the batch has to wait for its backoff
+    boolean deliver(List<BookingStatusOutboxEvent> batch) {
+        List<BookingStatusEventRequest> requests = batch.stream()
+                .map(event -> BookingStatusEventRequest.builder()
+                        .eventId(event.getEventId())
+                        .bookingId(event.getBookingId())
+                        .status(event.getBookingStatus())
+                        .build())
+                .toList();
+
+        Instant now = Instant.now();
+        boolean delivered;
+        try {
+            List<BookingStatusEventResponse> responses = bookingClient.applyStatusEvents(
+                    serviceTokenProvider.getBearerToken(), requests);
+            Map<String, BookingStatusEventResponse> responseByEventId = responses.stream()
+                    .collect(Collectors.toMap(BookingStatusEventResponse::eventId, Function.identity(), (a, b) -> a));
+
+            for (BookingStatusOutboxEvent event : batch) {
+                BookingStatusEventResponse response = responseByEventId.get(event.getEventId());
+                if (response == null) {
+                    scheduleRetry(event, "No result returned for event", now);
+                } else if ("REJECTED".equals(response.outcome())) {
+                    // BookingService will never accept this transition, retrying cannot help
+                    log.error("Booking status event: {} for bookingId: {} rejected: {}", event.getEventId(),
+                            event.getBookingId(), response.message());
+                    event.setStatus(OutboxStatus.FAILED);
+                    event.setAttempts(event.getAttempts() + 1);
+                    event.setLastError(truncate(response.message()));
+                } else {
+                    event.setStatus(OutboxStatus.DELIVERED);
+                    event.setAttempts(event.getAttempts() + 1);
+                    event.setDeliveredAt(now);
+                }
+            }
+            delivered = true;
+            log.debug("Delivered batch of {} booking status events", batch.size());
+        } catch (Exception e) {
+            log.warn("Failed to deliver batch of {} booking status events: {}", batch.size(), e.getMessage());
+            for (BookingStatusOutboxEvent event : batch) {
+                scheduleRetry(event, e.getMessage(), now);
+            }
+            delivered = false;
+        }
+        outboxRepository.saveAll(batch);
+        return delivered;
+    }
+
+    private void scheduleRetry(BookingStatusOutboxEvent event, String error, Instant now) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        event.setLastError(truncate(error));
+        if (attempts >= maxAttempts) {
+            log.error("Giving up on booking status event: {} for bookingId: {} after {} attempts", event.getEventId(),
+                    event.getBookingId(), attempts);
+            event.setStatus(OutboxStatus.FAILED);
+            return;
+        }
+        event.setNextAttemptAt(now.plusMillis(backoffMs(attempts)));
+    }
+
+    long backoffMs(int attempts) {
+        // initial, 2x, 4x, ... capped at maxBackoffMs
+        int exponent = Math.min(attempts - 1, 30);
+        long backoff = initialBackoffMs << exponent;
+        return backoff <= 0 ? maxBackoffMs : Math.min(backoff, maxBackoffMs);
+    }
+
+    private String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
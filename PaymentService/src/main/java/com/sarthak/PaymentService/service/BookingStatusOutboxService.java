@@ -0,0 +1,33 @@
+package com.sarthak.PaymentService.service;
+
+import com.sarthak.PaymentService.model.BookingStatusOutboxEvent;
+import com.sarthak.PaymentService.model.Transaction;
+import com.sarthak.PaymentService.repository.BookingStatusOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Slf4j
+public class BookingStatusOutboxService {
+
+    private final BookingStatusOutboxRepository outboxRepository;
+
+    public BookingStatusOutboxService(BookingStatusOutboxRepository outboxRepository) {
+        this.outboxRepository = outboxRepository;
+    }
+
+    // MANDATORY: the event must commit or roll back together with the transaction row that caused it
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Transaction transaction, String bookingStatus) {
+        BookingStatusOutboxEvent event = BookingStatusOutboxEvent.builder()
+                .bookingId(transaction.getBookingId())
+                .transactionId(transaction.getTransactionId())
+                .bookingStatus(bookingStatus)
+                .build();
+        BookingStatusOutboxEvent saved = outboxRepository.save(event);
+        log.info("Queued booking status event: {} for bookingId: {} with status: {}", saved.getEventId(),
+                saved.getBookingId(), bookingStatus);
+    }
+}
@@ -33,7 +33,7 @@ public class CleanupService {
         Instant cutOffTime = Instant.now().minus(30, ChronoUnit.MINUTES);
 
         List<Transaction> oldPendingTransactions = transactionRepository
-                .findAllByPaymentStatusAndCreatedAtBefore(PaymentStatus.PENDING, cutOffTime)
+                .findPendingCreatedBefore(cutOffTime)
                 .stream()
                 .toList();
 
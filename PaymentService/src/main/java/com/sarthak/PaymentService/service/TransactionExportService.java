@@ -0,0 +1,120 @@
+package com.sarthak.PaymentService.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sarthak.PaymentService.config.shared.UserPrincipal;
+import com.sarthak.PaymentService.dto.request.TransactionFilter;
+import com.sarthak.PaymentService.enums.ExportFormat;
+import com.sarthak.PaymentService.mapper.TransactionMapper;
+import com.sarthak.PaymentService.model.Transaction;
+import com.sarthak.PaymentService.repository.TransactionRepository;
+import com.sarthak.PaymentService.repository.specification.TransactionSpecification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// Streams the caller's transactions from a database cursor straight into the response body, holding only one
+// fetch of rows and the writer buffer at a time.
+@Slf4j
+@Service
+public class TransactionExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "transactionId,bookingId,serviceProviderId,customerId,amount,"
+            + "paymentMethod,paymentStatus,transactionReference,createdAt";
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionMapper transactionMapper;
+    private final ObjectWriter jsonWriter;
+    private final int fetchSize;
+
+    public TransactionExportService(TransactionRepository transactionRepository, TransactionMapper transactionMapper,
+                                    ObjectMapper objectMapper,
+                                    @Value("${payment.export.fetch-size:500}") int fetchSize) {
+        this.transactionRepository = transactionRepository;
+        this.transactionMapper = transactionMapper;
+        this.jsonWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.fetchSize = fetchSize;
+    }
+
+    @Transactional(readOnly = true)
+    public long exportTransactions(TransactionFilter filter, UserPrincipal userPrincipal, ExportFormat format,
+                                   OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        long rows = 0;
+        try (Stream<Transaction> transactions = transactionRepository.streamAll(
+                TransactionSpecification.forUser(filter, userPrincipal.getUserType(), userPrincipal.getUserId()),
+                fetchSize)) {
+            Iterator<Transaction> iterator = transactions.iterator();
+            if (format == ExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+                while (iterator.hasNext()) {
+                    writeCsv(writer, iterator.next());
+                    rows++;
+                }
+            } else {
+                JsonGenerator generator = jsonWriter.createGenerator(writer);
+                while (iterator.hasNext()) {
+                    jsonWriter.writeValue(generator, transactionMapper.toDto(iterator.next()));
+                    generator.writeRaw('\n');
+                    rows++;
+                }
+                generator.flush();
+            }
+        }
+        writer.flush();
+        log.info("Exported {} transactions as {} for userId: {}", rows, format, userPrincipal.getUserId());
+        return rows;
+    }
+
+    private void writeCsv(Writer writer, Transaction transaction) throws IOException {
+        writer.write(String.valueOf(transaction.getTransactionId()));
+        writer.write(',');
+        writer.write(String.valueOf(transaction.getBookingId()));
+        writer.write(',');
+        writer.write(String.valueOf(transaction.getServiceProviderId()));
+        writer.write(',');
+        writer.write(String.valueOf(transaction.getCustomerId()));
+        writer.write(',');
+        writer.write(String.valueOf(transaction.getAmount()));
+        writer.write(',');
+        writer.write(transaction.getPaymentMethod().name());
+        writer.write(',');
+        writer.write(transaction.getPaymentStatus().name());
+        writer.write(',');
+        writeCsvText(writer, transaction.getTransactionReference());
+        writer.write(',');
+        writer.write(transaction.getCreatedAt().toString());
+        writer.write('\n');
+    }
+
+    // RFC 4180 quoting, plus a leading quote on values a spreadsheet would evaluate as a formula
+    static void writeCsvText(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        String text = "=+-@\t\r".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0
+                || text.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -1,6 +1,5 @@
 package com.sarthak.PaymentService.service;
 
-import com.sarthak.PaymentService.client.BookingClient;
 import com.sarthak.PaymentService.client.PayPalClient;
 import com.sarthak.PaymentService.config.shared.UserPrincipal;
 import com.sarthak.PaymentService.dto.TransactionDto;
@@ -25,6 +24,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -42,15 +42,18 @@ public class TransactionService {
 
     private final TransactionRepository transactionRepository;
     public final PayPalClient payPalClient;
-    private final BookingClient bookingClient;
+    private final BookingStatusOutboxService bookingStatusOutboxService;
     private final TransactionMapper mapper;
+    private final TransactionTemplate transactionTemplate;
 
     public TransactionService(TransactionRepository transactionRepository, PayPalClient payPalClient,
-            TransactionMapper mapper, BookingClient bookingClient) {
+            TransactionMapper mapper, BookingStatusOutboxService bookingStatusOutboxService,
+            TransactionTemplate transactionTemplate) {
         this.transactionRepository = transactionRepository;
         this.payPalClient = payPalClient;
-        this.bookingClient = bookingClient;
+        this.bookingStatusOutboxService = bookingStatusOutboxService;
         this.mapper = mapper;
+        this.transactionTemplate = transactionTemplate;
     }
 
     public TransactionDto getTransactionById(Long transactionId) {
@@ -125,10 +128,12 @@ public class TransactionService {
             Long transactionId = existingTransaction.get().getTransactionId();
             log.info("Transaction is already present for orderId: {}, updating status to {} if it is not completed",
                     orderId, paymentStatus);
-            return updateTransactionStatus(transactionId, paymentStatus);
+            PaymentStatus updatedStatus = paymentStatus;
+            return transactionTemplate.execute(tx -> updateTransactionStatus(transactionId, updatedStatus));
         }
-        bookingClient.updateBookingStatus(paymentRequest.bookingId(), mapPaymentToBookingStatus(paymentStatus));
-        return createTransaction(paymentRequest, paymentStatus);
+        // The PayPal capture above runs outside any DB transaction, only the writes below hold a connection
+        PaymentStatus capturedStatus = paymentStatus;
+        return transactionTemplate.execute(tx -> createTransaction(paymentRequest, capturedStatus));
     }
 
     @Transactional
@@ -151,10 +156,12 @@ public class TransactionService {
         Transaction saved = transactionRepository.save(newTransaction);
         log.info("Transaction with id: {} and reference: {} processed with status: {}", saved.getTransactionId(),
                 saved.getTransactionReference(), saved.getPaymentStatus());
+        publishBookingStatus(saved);
 
         return mapper.toDto(saved);
     }
 
+    @Transactional(readOnly = true)
     public Page<TransactionDto> getAllTransactions(int page, int size, String sortBy, String sortDirection,
             TransactionFilter filter, UserPrincipal userPrincipal) {
 
@@ -162,16 +169,7 @@ public class TransactionService {
         Long userId = userPrincipal.getUserId();
         String userType = userPrincipal.getUserType();
 
-        PaymentStatus statusFilter = PaymentStatus.fromString(filter.paymentStatus());
-        PaymentMethod methodFilter = PaymentMethod.fromString(filter.paymentMethod());
-
-        Specification<Transaction> spec = TransactionSpecification.resolveByUserType(userType, userId);
-        if (methodFilter != null) {
-            spec = TransactionSpecification.hasPaymentMethod(methodFilter);
-        }
-        if (statusFilter != null) {
-            spec = spec.and(TransactionSpecification.hasPaymentStatus(statusFilter));
-        }
+        Specification<Transaction> spec = TransactionSpecification.forUser(filter, userType, userId);
 
         Page<Transaction> transactions = transactionRepository.findAll(spec, pageable);
 
@@ -191,12 +189,9 @@ public class TransactionService {
                     transaction.getPaymentStatus());
             return mapper.toDto(transaction);
         }
-        String bookingStatus = mapPaymentToBookingStatus(updatedStatus);
-
-        bookingClient.updateBookingStatus(transaction.getBookingId(), bookingStatus);
-
         transaction.setPaymentStatus(updatedStatus);
         transactionRepository.save(transaction);
+        publishBookingStatus(transaction);
 
         return mapper.toDto(transaction);
     }
@@ -222,8 +217,9 @@ public class TransactionService {
             updatedStatus = DECLINED;
         }
 
-        // Reuse existing logic which also updates booking status and persists
-        return updateTransactionStatus(existing.getTransactionId(), updatedStatus);
+        // Reuse existing logic which also queues the booking status change and persists
+        PaymentStatus refreshedStatus = updatedStatus;
+        return transactionTemplate.execute(tx -> updateTransactionStatus(existing.getTransactionId(), refreshedStatus));
     }
 
     private SortField validateSortField(String field) {
@@ -250,6 +246,16 @@ public class TransactionService {
         return PageRequest.of(page, size, sort);
     }
 
+    // Booking status changes go through the outbox so payments never wait on BookingService
+    private void publishBookingStatus(Transaction transaction) {
+        PaymentStatus paymentStatus = transaction.getPaymentStatus();
+        if (paymentStatus == PENDING || paymentStatus == DECLINED) {
+            // The booking is already PENDING, there is nothing to change
+            return;
+        }
+        bookingStatusOutboxService.enqueue(transaction, mapPaymentToBookingStatus(paymentStatus));
+    }
+
     private String mapPaymentToBookingStatus(PaymentStatus paymentStatus) {
         return switch (paymentStatus) {
             case PENDING, DECLINED -> "PENDING";
@@ -0,0 +1,42 @@
+-- Schema as previously generated by hibernate ddl-auto=update. IF NOT EXISTS keeps it a no-op on
+-- databases that were created that way (flyway baselines them at version 0 and then runs this script).
+
+CREATE TABLE IF NOT EXISTS transactions (
+    transaction_id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    booking_id            BIGINT                      NOT NULL,
+    service_provider_id   BIGINT                      NOT NULL,
+    customer_id           BIGINT                      NOT NULL,
+    amount                FLOAT(53)                   NOT NULL,
+    payment_method        VARCHAR(255)                NOT NULL
+        CHECK (payment_method IN ('CREDIT_CARD', 'NET_BANKING', 'UPI', 'WALLET')),
+    payment_status        VARCHAR(255)                NOT NULL
+        CHECK (payment_status IN ('PENDING', 'COMPLETED', 'FAILED', 'DECLINED')),
+    transaction_reference VARCHAR(255)                NOT NULL,
+    created_at            TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_transaction_reference UNIQUE (transaction_reference)
+);
+
+CREATE INDEX IF NOT EXISTS idx_booking_id ON transactions (booking_id);
+CREATE INDEX IF NOT EXISTS idx_customer_id ON transactions (customer_id);
+CREATE INDEX IF NOT EXISTS idx_payment_status ON transactions (payment_status);
+CREATE INDEX IF NOT EXISTS idx_payment_method ON transactions (payment_method);
+CREATE INDEX IF NOT EXISTS idx_transaction_reference ON transactions (transaction_reference);
+CREATE INDEX IF NOT EXISTS idx_customer_payment_status ON transactions (customer_id, payment_status);
+
+CREATE TABLE IF NOT EXISTS booking_status_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_id        VARCHAR(36)                 NOT NULL,
+    booking_id      BIGINT                      NOT NULL,
+    transaction_id  BIGINT                      NOT NULL,
+    booking_status  VARCHAR(255)                NOT NULL,
+    status          VARCHAR(255)                NOT NULL CHECK (status IN ('PENDING', 'DELIVERED', 'FAILED')),
+    attempts        INTEGER                     NOT NULL,
+    next_attempt_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    last_error      VARCHAR(512),
+    created_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    delivered_at    TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT uk_outbox_event_id UNIQUE (event_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_status_next_attempt ON booking_status_outbox (status, next_attempt_at);
+CREATE INDEX IF NOT EXISTS idx_outbox_booking_status ON booking_status_outbox (booking_id, status);
@@ -0,0 +1,5 @@
+-- CleanupService scans for stale PENDING transactions every few minutes. Only a handful are pending at
+-- any time, so a partial index on created_at stays tiny while transactions keep growing.
+CREATE INDEX IF NOT EXISTS idx_transactions_pending_created_at
+    ON transactions (created_at)
+    WHERE payment_status = 'PENDING';
@@ -0,0 +1,76 @@
+package com.sarthak.PaymentService.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.transport.SenderContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PayPalClientTracingTests {
+
+    private static final String TRACEPARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    private HttpServer server;
+    private final List<String> receivedTraceparents = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/oauth2/token", exchange -> respond(exchange, "{\"access_token\":\"token\"}"));
+        server.createContext("/v2/checkout/orders", exchange -> respond(exchange, "{\"id\":\"ORDER-1\",\"status\":\"CREATED\"}"));
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private void respond(com.sun.net.httpserver.HttpExchange exchange, String body) throws IOException {
+        receivedTraceparents.add(exchange.getRequestHeaders().getFirst("traceparent"));
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCreateOrder_propagatesTraceContextOnEveryPayPalCall() throws Exception {
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        // stands in for the tracing bridge's propagating sender handler
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler<SenderContext<Object>>() {
+            @Override
+            public void onStart(SenderContext<Object> context) {
+                context.getSetter().set(context.getCarrier(), "traceparent", TRACEPARENT);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return context instanceof SenderContext<?>;
+            }
+        });
+        PayPalClient payPalClient = new PayPalClient(observationRegistry);
+        ReflectionTestUtils.setField(payPalClient, "baseUrl", "http://localhost:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(payPalClient, "clientId", "id");
+        ReflectionTestUtils.setField(payPalClient, "clientSecret", "secret");
+
+        payPalClient.createOrder("10.00", "PAYPAL");
+
+        assertEquals(List.of(TRACEPARENT, TRACEPARENT), receivedTraceparents);
+    }
+}
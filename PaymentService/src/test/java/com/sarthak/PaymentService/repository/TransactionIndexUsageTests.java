@@ -0,0 +1,82 @@
+package com.sarthak.PaymentService.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Runs the flyway migrations against a real Postgres and checks the cleanup scan is planned on the
+// pending-only partial index with a generic plan. Skipped when Docker is not available.
+@Testcontainers(disabledWithoutDocker = true)
+public class TransactionIndexUsageTests {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+
+        // a year of transactions, a few hundred still pending
+        execute("""
+                INSERT INTO transactions (booking_id, service_provider_id, customer_id, amount, payment_method,
+                                          payment_status, transaction_reference, created_at)
+                SELECT g, g % 200 + 1, g % 1000 + 1, 499.0, 'UPI',
+                       CASE WHEN g % 250 = 0 THEN 'PENDING' WHEN g % 25 = 0 THEN 'FAILED' ELSE 'COMPLETED' END,
+                       'ref-' || g, now() - (g % 525600) * INTERVAL '1 minute'
+                FROM generate_series(1, 100000) g
+                """);
+        execute("ANALYZE transactions");
+    }
+
+    @Test
+    void findPendingCreatedBefore_usesPendingPartialIndex() throws SQLException {
+        String plan = explain("""
+                select t1_0.transaction_id, t1_0.booking_id, t1_0.payment_status, t1_0.created_at
+                from transactions t1_0
+                where t1_0.payment_status='PENDING' and t1_0.created_at<$1
+                """);
+
+        assertTrue(plan.contains("idx_transactions_pending_created_at"), plan);
+    }
+
+    private static String explain(String sql) throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + sql)) {
+            StringBuilder plan = new StringBuilder();
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+            return plan.toString();
+        }
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", POSTGRES.getUsername());
+        properties.setProperty("password", POSTGRES.getPassword());
+        // simple protocol sends $1.. through untouched, EXPLAIN (GENERIC_PLAN) needs them unbound
+        properties.setProperty("preferQueryMode", "simple");
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), properties);
+    }
+}
@@ -0,0 +1,119 @@
+package com.sarthak.PaymentService.service;
+
+import com.sarthak.PaymentService.client.BookingClient;
+import com.sarthak.PaymentService.config.shared.ServiceTokenProvider;
+import com.sarthak.PaymentService.dto.response.BookingStatusEventResponse;
+import com.sarthak.PaymentService.enums.OutboxStatus;
+import com.sarthak.PaymentService.exception.BookingClientException;
+import com.sarthak.PaymentService.model.BookingStatusOutboxEvent;
+import com.sarthak.PaymentService.repository.BookingStatusOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingStatusOutboxRelayTests {
+
+    @Mock
+    private BookingStatusOutboxRepository outboxRepository;
+
+    @Mock
+    private BookingClient bookingClient;
+
+    @Mock
+    private ServiceTokenProvider serviceTokenProvider;
+
+    @InjectMocks
+    private BookingStatusOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(relay, "batchSize", 50);
+        ReflectionTestUtils.setField(relay, "maxAttempts", 3);
+        ReflectionTestUtils.setField(relay, "initialBackoffMs", 1000L);
+        ReflectionTestUtils.setField(relay, "maxBackoffMs", 60000L);
+        when(serviceTokenProvider.getBearerToken()).thenReturn("Bearer token");
+    }
+
+    @Test
+    void testDeliver_marksAppliedAndDuplicateEventsDelivered() {
+        BookingStatusOutboxEvent first = pendingEvent("event-1", 10L, 0);
+        BookingStatusOutboxEvent second = pendingEvent("event-2", 11L, 0);
+        when(bookingClient.applyStatusEvents(any(), anyList())).thenReturn(List.of(
+                new BookingStatusEventResponse("event-1", "APPLIED", null),
+                new BookingStatusEventResponse("event-2", "DUPLICATE", null)));
+
+        relay.deliver(List.of(first, second));
+
+        assertEquals(OutboxStatus.DELIVERED, first.getStatus());
+        assertEquals(OutboxStatus.DELIVERED, second.getStatus());
+        assertNotNull(first.getDeliveredAt());
+        verify(outboxRepository).saveAll(List.of(first, second));
+    }
+
+    @Test
+    void testDeliver_rejectedEventIsNotRetried() {
+        BookingStatusOutboxEvent event = pendingEvent("event-1", 10L, 0);
+        when(bookingClient.applyStatusEvents(any(), anyList())).thenReturn(List.of(
+                new BookingStatusEventResponse("event-1", "REJECTED", "Booking not found")));
+
+        relay.deliver(List.of(event));
+
+        assertEquals(OutboxStatus.FAILED, event.getStatus());
+        assertEquals("Booking not found", event.getLastError());
+    }
+
+    @Test
+    void testDeliver_transportFailureSchedulesRetryWithBackoff() {
+        BookingStatusOutboxEvent event = pendingEvent("event-1", 10L, 1);
+        Instant before = Instant.now();
+        when(bookingClient.applyStatusEvents(any(), anyList()))
+                .thenThrow(new BookingClientException("Booking service is currently unavailable"));
+
+        relay.deliver(List.of(event));
+
+        assertEquals(OutboxStatus.PENDING, event.getStatus());
+        assertEquals(2, event.getAttempts());
+        // second attempt waits twice the initial backoff
+        assertTrue(!event.getNextAttemptAt().isBefore(before.plusMillis(2000)));
+    }
+
+    @Test
+    void testDeliver_givesUpAfterMaxAttempts() {
+        BookingStatusOutboxEvent event = pendingEvent("event-1", 10L, 2);
+        when(bookingClient.applyStatusEvents(any(), anyList()))
+                .thenThrow(new BookingClientException("Booking service is currently unavailable"));
+
+        relay.deliver(List.of(event));
+
+        assertEquals(OutboxStatus.FAILED, event.getStatus());
+        assertEquals(3, event.getAttempts());
+    }
+
+    private BookingStatusOutboxEvent pendingEvent(String eventId, Long bookingId, int attempts) {
+        return BookingStatusOutboxEvent.builder()
+                .eventId(eventId)
+                .bookingId(bookingId)
+                .transactionId(bookingId)
+                .bookingStatus("CONFIRMED")
+                .status(OutboxStatus.PENDING)
+                .attempts(attempts)
+                .nextAttemptAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.sarthak.PaymentService.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sarthak.PaymentService.config.shared.UserPrincipal;
+import com.sarthak.PaymentService.enums.ExportFormat;
+import com.sarthak.PaymentService.enums.PaymentMethod;
+import com.sarthak.PaymentService.enums.PaymentStatus;
+import com.sarthak.PaymentService.mapper.TransactionMapper;
+import com.sarthak.PaymentService.model.Transaction;
+import com.sarthak.PaymentService.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionExportServiceTests {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    private TransactionExportService exportService;
+
+    private final UserPrincipal customer = UserPrincipal.builder().userId(4L).userType("CUSTOMER").build();
+
+    @BeforeEach
+    void setUp() {
+        exportService = new TransactionExportService(transactionRepository, new TransactionMapper(),
+                new ObjectMapper(), 100);
+    }
+
+    private Transaction transaction(long id, String reference) {
+        return Transaction.builder()
+                .transactionId(id)
+                .bookingId(10L)
+                .serviceProviderId(2L)
+                .customerId(4L)
+                .amount(250.0)
+                .paymentMethod(PaymentMethod.UPI)
+                .paymentStatus(PaymentStatus.COMPLETED)
+                .transactionReference(reference)
+                .createdAt(Instant.parse("2026-01-01T00:00:00Z"))
+                .build();
+    }
+
+    @Test
+    void testExportTransactions_csvQuotesTextAndClosesCursor() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(transactionRepository.streamAll(any(), eq(100))).thenReturn(
+                Stream.of(transaction(1L, "REF-1"), transaction(2L, "+SUM(A1,A2)")).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportService.exportTransactions(null, customer, ExportFormat.CSV, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(2, rows);
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).startsWith("transactionId,"));
+        assertEquals("1,10,2,4,250.0,UPI,COMPLETED,REF-1,2026-01-01T00:00:00Z", lines.get(1));
+        assertEquals("2,10,2,4,250.0,UPI,COMPLETED,\"'+SUM(A1,A2)\",2026-01-01T00:00:00Z", lines.get(2));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testExportTransactions_ndjsonOneObjectPerLine() throws Exception {
+        when(transactionRepository.streamAll(any(), eq(100))).thenReturn(
+                Stream.of(transaction(1L, "REF-1"), transaction(2L, "REF-2")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.exportTransactions(null, customer, ExportFormat.NDJSON, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        ObjectMapper objectMapper = new ObjectMapper();
+        assertEquals(2, lines.size());
+        assertEquals(1L, objectMapper.readTree(lines.get(0)).get("transactionId").asLong());
+        assertEquals("REF-2", objectMapper.readTree(lines.get(1)).get("transactionReference").asText());
+    }
+}
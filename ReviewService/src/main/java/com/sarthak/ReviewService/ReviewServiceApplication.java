@@ -1,13 +1,18 @@
 package com.sarthak.ReviewService;
 
+import com.sarthak.ReviewService.config.NativeImageHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableFeignClients
 @EnableDiscoveryClient
+@EnableScheduling
+@ImportRuntimeHints(NativeImageHints.class)
 public class ReviewServiceApplication {
 
 	public static void main(String[] args) {
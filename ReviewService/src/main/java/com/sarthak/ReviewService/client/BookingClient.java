@@ -5,7 +5,7 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
-@FeignClient(name = "Booking-service", url = "${feign.client.config.booking-service.url}")
+@FeignClient(name = "Booking-service", fallbackFactory = BookingClientFallbackFactory.class)
 public interface BookingClient {
 
     @GetMapping("/api/bookings/{id}")
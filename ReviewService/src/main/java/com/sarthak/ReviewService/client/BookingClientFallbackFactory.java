@@ -0,0 +1,25 @@
+package com.sarthak.ReviewService.client;
+
+import com.sarthak.ReviewService.exception.ServiceUnavailableException;
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class BookingClientFallbackFactory implements FallbackFactory<BookingClient> {
+
+    @Override
+    public BookingClient create(Throwable cause) {
+        return id -> {
+            // 4xx responses are real answers from the booking service, not outages
+            if (cause instanceof FeignException.FeignClientException clientException) {
+                throw clientException;
+            }
+            // A review can only be accepted for a booking we could verify as completed
+            log.warn("Booking service call failed for booking {}: {}", id, cause.toString());
+            throw new ServiceUnavailableException("Booking service is currently unavailable, please try again later");
+        };
+    }
+}
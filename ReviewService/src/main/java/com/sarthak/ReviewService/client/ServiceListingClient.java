@@ -0,0 +1,14 @@
+package com.sarthak.ReviewService.client;
+
+import com.sarthak.ReviewService.dto.ServiceItemDto;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+@FeignClient(name = "Service-Listing-Service", fallbackFactory = ServiceListingClientFallbackFactory.class)
+public interface ServiceListingClient {
+
+    @GetMapping("/api/services/{id}")
+    public ServiceItemDto getServiceById(@PathVariable("id") Long id);
+
+}
@@ -0,0 +1,23 @@
+package com.sarthak.ReviewService.client;
+
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class ServiceListingClientFallbackFactory implements FallbackFactory<ServiceListingClient> {
+
+    @Override
+    public ServiceListingClient create(Throwable cause) {
+        return id -> {
+            if (cause instanceof FeignException.FeignClientException clientException) {
+                throw clientException;
+            }
+            // Only used to categorize leaderboards, a missing category must not block the review
+            log.warn("Service listing call failed for service {}: {}", id, cause.toString());
+            return null;
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.sarthak.ReviewService.config;
+
+import com.sarthak.ReviewService.client.BookingClient;
+import com.sarthak.ReviewService.client.ServiceListingClient;
+import com.sarthak.ReviewService.dto.BookingDto;
+import com.sarthak.ReviewService.dto.ReviewAggregateResponse;
+import com.sarthak.ReviewService.dto.ReviewDto;
+import com.sarthak.ReviewService.dto.ServiceItemDto;
+import com.sarthak.ReviewService.dto.response.LeaderboardEntryResponse;
+import com.sarthak.ReviewService.dto.response.PagedResponse;
+import com.sarthak.ReviewService.dto.response.ProviderReviewAggregateResponse;
+import com.sarthak.ReviewService.dto.response.ReviewSearchResponse;
+import com.sarthak.ReviewService.dto.response.ReviewSearchResult;
+import com.sarthak.ReviewService.model.Review;
+import com.sarthak.ReviewService.model.ReviewAggregate;
+import com.sarthak.ReviewService.repository.ReviewSearchRow;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.projection.TargetAware;
+
+// Hints for the native image (mvn -Pnative) on top of what Spring AOT derives from the bean definitions:
+// the Feign proxies, records that only show up in Feign signatures or JPQL constructor expressions, the
+// search projection proxy, the schema script and the jjwt classes that jjwt-api loads by name.
+public class NativeImageHints implements RuntimeHintsRegistrar {
+
+    private static final String[] JJWT_CLASSES = {
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardCurves",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    };
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> client : new Class<?>[] {BookingClient.class, ServiceListingClient.class}) {
+            hints.proxies().registerJdkProxy(client);
+            hints.reflection().registerType(client, MemberCategory.INTROSPECT_PUBLIC_METHODS);
+        }
+
+        for (Class<?> entity : new Class<?>[] {Review.class, ReviewAggregate.class}) {
+            hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+
+        bindingRegistrar.registerReflectionHints(hints.reflection(), BookingDto.class, ServiceItemDto.class,
+                ReviewDto.class, ReviewAggregateResponse.class, LeaderboardEntryResponse.class, PagedResponse.class,
+                ProviderReviewAggregateResponse.class, ReviewSearchResponse.class, ReviewSearchResult.class);
+
+        hints.proxies().registerJdkProxy(ReviewSearchRow.class, TargetAware.class, SpringProxy.class,
+                DecoratingProxy.class);
+        hints.reflection().registerType(ReviewSearchRow.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        hints.resources().registerPattern("db/*.sql");
+
+        for (String className : JJWT_CLASSES) {
+            hints.reflection().registerTypeIfPresent(classLoader, className,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+    }
+}
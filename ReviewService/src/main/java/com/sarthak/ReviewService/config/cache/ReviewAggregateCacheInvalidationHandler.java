@@ -0,0 +1,41 @@
+package com.sarthak.ReviewService.config.cache;
+
+import com.sarthak.ReviewService.config.invalidation.InvalidationHandler;
+import com.sarthak.ReviewService.model.ReviewAggregate;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+// Aggregates changed through another instance. They are written with native statements that only know the
+// provider and service, not the aggregate id, so the whole region is dropped along with the cached queries.
+@Component
+@RequiredArgsConstructor
+public class ReviewAggregateCacheInvalidationHandler implements InvalidationHandler {
+
+    public static final String ENTITY = "review-aggregate";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public static String id(Long serviceProviderId, Long serviceId) {
+        return serviceProviderId + ":" + serviceId;
+    }
+
+    @Override
+    public String entity() {
+        return ENTITY;
+    }
+
+    @Override
+    public void evict(Collection<String> ids) {
+        evictAll();
+    }
+
+    @Override
+    public void evictAll() {
+        entityManagerFactory.getCache().evict(ReviewAggregate.class);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+    }
+}
@@ -0,0 +1,98 @@
+package com.sarthak.ReviewService.config.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+// Hibernate second-level and query cache, off unless jpa.second-level-cache.enabled=true. Checked when the
+// EntityManagerFactory is built rather than with a bean condition, so AOT-built images can switch it at runtime.
+// Regions live in a Caffeine JCache manager and are all created here with a size bound; Hibernate is told to
+// fail on any other region so nothing ends up unbounded. Per-region hits, misses and puts are published as the
+// hibernate.second.level.cache.* and hibernate.cache.query.* metrics.
+//
+// Consistency: cached entities are READ_WRITE, so a write through this instance replaces or evicts the entry
+// when its transaction completes, and cached query results are dropped once any table they read is written.
+// The caches are local to each instance. A write handled by another instance is evicted here when its
+// notification arrives on the invalidation bus (config/invalidation); the region TTL bounds staleness for
+// anything the bus misses.
+@Configuration
+public class SecondLevelCacheConfig implements DisposableBean {
+
+    static final String REVIEW_AGGREGATE_REGION = "reviewAggregate";
+    static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    // One entry per table; an evicted timestamp would let outdated query results through, so no expiry
+    private static final long UPDATE_TIMESTAMPS_MAX_ENTRIES = 1_000;
+
+    @Value("${jpa.second-level-cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${jpa.second-level-cache.review-aggregate.max-entries:10000}")
+    private long reviewAggregateMaxEntries;
+
+    @Value("${jpa.second-level-cache.review-aggregate.ttl:5m}")
+    private Duration reviewAggregateTtl;
+
+    @Value("${jpa.second-level-cache.query.max-entries:5000}")
+    private long queryMaxEntries;
+
+    @Value("${jpa.second-level-cache.query.ttl:1m}")
+    private Duration queryTtl;
+
+    private CacheManager cacheManager;
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        return properties -> {
+            if (!enabled) {
+                // hibernate-jcache is on the classpath, so Hibernate would pick its region factory up by itself
+                properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+                properties.put(AvailableSettings.USE_QUERY_CACHE, false);
+                properties.put(AvailableSettings.CACHE_REGION_FACTORY, "none");
+                return;
+            }
+            cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+            createRegion(REVIEW_AGGREGATE_REGION, reviewAggregateMaxEntries, reviewAggregateTtl);
+            createRegion(QUERY_RESULTS_REGION, queryMaxEntries, queryTtl);
+            createRegion(UPDATE_TIMESTAMPS_REGION, UPDATE_TIMESTAMPS_MAX_ENTRIES, null);
+
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private void createRegion(String region, long maxEntries, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        if (cacheManager.getCache(region) != null) {
+            cacheManager.destroyCache(region);
+        }
+        cacheManager.createCache(region, configuration);
+    }
+
+    @Override
+    public void destroy() {
+        if (cacheManager != null) {
+            cacheManager.close();
+        }
+    }
+}
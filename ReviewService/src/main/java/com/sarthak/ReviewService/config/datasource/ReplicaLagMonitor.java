@@ -0,0 +1,101 @@
+package com.sarthak.ReviewService.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+// Polls the replication lag of the read replica. Reads only go to the replica while the last poll succeeded
+// and the lag was within max-lag-ms, so that bounds how stale a read-only transaction can be. Until the first
+// poll the replica counts as unreachable.
+@Slf4j
+public class ReplicaLagMonitor {
+
+    // Milliseconds since the last replayed transaction, 0 when everything received has been replayed (an idle
+    // primary produces no new transactions) or when the server is not a standby at all. NULL, so lagging, while
+    // the standby is not streaming from the primary: with the WAL receiver stopped or reconnecting nothing new
+    // is received, receive and replay positions stay equal and the lag could not be told from an idle primary.
+    // Seeing the receiver status takes superuser or pg_read_all_stats (pg_monitor) on the replica.
+    static final String DEFAULT_LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+            END
+            """;
+
+    public enum State { USABLE, LAGGING, UNREACHABLE }
+
+    private final JdbcTemplate replica;
+    private final String lagQuery;
+    private final long maxLagMs;
+
+    private volatile State state = State.UNREACHABLE;
+    private volatile double lagMs = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, long maxLagMs, MeterRegistry meterRegistry) {
+        this.replica = new JdbcTemplate(replica);
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? DEFAULT_LAG_QUERY : lagQuery;
+        this.maxLagMs = maxLagMs;
+
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagMs)
+                .baseUnit("milliseconds")
+                .description("Replication lag of the read replica at the last check")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, monitor -> monitor.state == State.USABLE ? 1 : 0)
+                .description("1 while read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    public State state() {
+        return state;
+    }
+
+    public boolean isUsable() {
+        return state == State.USABLE;
+    }
+
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        Double lag;
+        try {
+            lag = replica.queryForObject(lagQuery, Double.class);
+        } catch (DataAccessException ex) {
+            lagMs = Double.NaN;
+            transition(State.UNREACHABLE, ex.getMessage());
+            return;
+        }
+        lagMs = lag == null ? Double.NaN : lag;
+        if (lag == null) {
+            transition(State.LAGGING, "not streaming from the primary");
+        } else if (lag <= maxLagMs) {
+            transition(State.USABLE, null);
+        } else {
+            transition(State.LAGGING, "lag " + lagMs + " ms, limit " + maxLagMs + " ms");
+        }
+    }
+
+    // A replica that cannot hand out a connection stays out of use until the next successful check
+    public void markUnreachable(SQLException ex) {
+        transition(State.UNREACHABLE, ex.getMessage());
+    }
+
+    private synchronized void transition(State next, String reason) {
+        State previous = state;
+        state = next;
+        if (previous == next) {
+            return;
+        }
+        if (next == State.USABLE) {
+            log.info("Read replica in use, lag {} ms", lagMs);
+        } else {
+            log.warn("Read replica {} ({}), read-only transactions go to the primary", next.name().toLowerCase(), reason);
+        }
+    }
+}
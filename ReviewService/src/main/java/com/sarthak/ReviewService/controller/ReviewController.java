@@ -3,8 +3,12 @@ package com.sarthak.ReviewService.controller;
 import com.sarthak.ReviewService.config.shared.UserPrincipal;
 import com.sarthak.ReviewService.dto.ReviewAggregateResponse;
 import com.sarthak.ReviewService.dto.ReviewDto;
+import com.sarthak.ReviewService.dto.response.LeaderboardEntryResponse;
 import com.sarthak.ReviewService.dto.response.PagedResponse;
 import com.sarthak.ReviewService.dto.response.ProviderReviewAggregateResponse;
+import com.sarthak.ReviewService.dto.response.ReviewSearchResponse;
+import com.sarthak.ReviewService.service.ReviewLeaderboardService;
+import com.sarthak.ReviewService.service.ReviewSearchService;
 import com.sarthak.ReviewService.service.ReviewService;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
@@ -21,8 +25,13 @@ import java.util.Map;
 public class ReviewController {
 
     private final ReviewService reviewService;
-    public ReviewController(ReviewService reviewService) {
+    private final ReviewLeaderboardService reviewLeaderboardService;
+    private final ReviewSearchService reviewSearchService;
+    public ReviewController(ReviewService reviewService, ReviewLeaderboardService reviewLeaderboardService,
+                            ReviewSearchService reviewSearchService) {
         this.reviewService = reviewService;
+        this.reviewLeaderboardService = reviewLeaderboardService;
+        this.reviewSearchService = reviewSearchService;
     }
 
     @GetMapping("/serviceProvider/myReviews")
@@ -133,4 +142,42 @@ public class ReviewController {
         Map<Long, ReviewAggregateResponse> aggregates = reviewService.getAggregateByServiceIds(serviceIds);
         return ResponseEntity.ok(aggregates);
     }
+
+    @GetMapping("/leaderboard/categories/{category}/providers")
+    public ResponseEntity<List<LeaderboardEntryResponse>> getTopProvidersInCategory(
+            @PathVariable("category") String category,
+            @RequestParam(defaultValue = "10") int limit
+    ){
+        return ResponseEntity.ok(reviewLeaderboardService.getTopProvidersInCategory(category, limit));
+    }
+
+    @GetMapping("/leaderboard/categories/{category}/services")
+    public ResponseEntity<List<LeaderboardEntryResponse>> getTopServicesInCategory(
+            @PathVariable("category") String category,
+            @RequestParam(defaultValue = "10") int limit
+    ){
+        return ResponseEntity.ok(reviewLeaderboardService.getTopServicesInCategory(category, limit));
+    }
+
+    @GetMapping("/leaderboard/providers/{serviceProviderId}/services")
+    public ResponseEntity<List<LeaderboardEntryResponse>> getTopServicesForProvider(
+            @PathVariable("serviceProviderId") Long serviceProviderId,
+            @RequestParam(defaultValue = "10") int limit
+    ){
+        return ResponseEntity.ok(reviewLeaderboardService.getTopServicesForProvider(serviceProviderId, limit));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ReviewSearchResponse> searchReviews(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Long serviceId,
+            @RequestParam(required = false) Long serviceProviderId,
+            @RequestParam(required = false) Integer minRating,
+            @RequestParam(required = false) Integer maxRating,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ){
+        return ResponseEntity.ok(reviewSearchService.search(query, serviceId, serviceProviderId, minRating,
+                maxRating, cursor, size));
+    }
 }
@@ -2,11 +2,14 @@ package com.sarthak.ReviewService.dto;
 
 import lombok.Builder;
 
+import java.util.Map;
+
 @Builder
 public record ReviewAggregateResponse(
         Long aggregateId,
         Long serviceProviderId,
         Long serviceId,
         Double averageRating,
-        Long totalReviews
+        Long totalReviews,
+        Map<Integer, Long> ratingHistogram
 ) {}
@@ -0,0 +1,8 @@
+package com.sarthak.ReviewService.dto;
+
+public record ServiceItemDto(
+        Long serviceId,
+        Long serviceProviderId,
+        String serviceCategory
+) {
+}
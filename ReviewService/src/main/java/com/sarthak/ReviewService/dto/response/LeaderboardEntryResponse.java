@@ -0,0 +1,13 @@
+package com.sarthak.ReviewService.dto.response;
+
+import lombok.Builder;
+
+@Builder
+public record LeaderboardEntryResponse(
+        int rank,
+        Long id,
+        Double score,
+        Double averageRating,
+        Long totalReviews
+) {
+}
@@ -0,0 +1,13 @@
+package com.sarthak.ReviewService.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record ReviewSearchResponse(
+        List<ReviewSearchResult> content,
+        int pageSize,
+        String nextCursor
+) {
+}
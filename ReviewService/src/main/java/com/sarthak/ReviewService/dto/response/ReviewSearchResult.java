@@ -0,0 +1,17 @@
+package com.sarthak.ReviewService.dto.response;
+
+import lombok.Builder;
+
+@Builder
+public record ReviewSearchResult(
+        Long reviewId,
+        Long serviceProviderId,
+        Long serviceId,
+        Long customerId,
+        Integer rating,
+        String comment,
+        String highlight,
+        Float score,
+        String createdAt
+) {
+}
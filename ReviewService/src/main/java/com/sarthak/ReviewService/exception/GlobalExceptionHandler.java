@@ -29,6 +29,18 @@ public class GlobalExceptionHandler {
         return new ExceptionResponse("Booking is not completed", ex.getMessage(), HttpStatus.BAD_REQUEST.value());
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ExceptionResponse> handleServiceUnavailable(ServiceUnavailableException ex) {
+        ExceptionResponse body = new ExceptionResponse("Service Unavailable", ex.getMessage(), 503);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(body);
+    }
+
+    @ExceptionHandler(InvalidSearchRequestException.class)
+    public ResponseEntity<ExceptionResponse> handleInvalidSearchRequest(InvalidSearchRequestException ex) {
+        ExceptionResponse body = new ExceptionResponse("Invalid Search Request", ex.getMessage(), 400);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+    }
+
     @ExceptionHandler(MissingServletRequestParameterException.class)
     public ResponseEntity<ExceptionResponse> handleMissingParams(MissingServletRequestParameterException ex) {
         String name = ex.getParameterName();
@@ -44,6 +44,7 @@ public class ReviewMapper {
                 .serviceId(reviewAggregate.getServiceId())
                 .averageRating(reviewAggregate.getAverageRating())
                 .totalReviews(reviewAggregate.getTotalReviews())
+                .ratingHistogram(reviewAggregate.getRatingHistogram())
                 .build();
     }
 
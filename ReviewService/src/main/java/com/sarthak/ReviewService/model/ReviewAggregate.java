@@ -6,15 +6,26 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Rating projection per (provider, service). Only integer counters are stored, they are changed with
+// atomic SQL increments in ReviewAggregateRepository and the average is derived when read.
 @Entity
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "review_aggregates", indexes = {
-        @Index(name = "idx_service_provider_service", columnList = "service_provider_id, service_id"),
-        @Index(name = "idx_service", columnList = "service_id")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reviewAggregate")
+@Table(name = "review_rating_aggregates", indexes = {
+        @Index(name = "idx_rating_aggregate_service", columnList = "service_id")
+        },
+        uniqueConstraints = {
+        @UniqueConstraint(name = "uk_rating_aggregate_provider_service", columnNames = {"service_provider_id", "service_id"})
 })
 public class ReviewAggregate {
 
@@ -30,31 +41,56 @@ public class ReviewAggregate {
     @Column(name = "service_id", nullable = false)
     private Long serviceId;
 
+    @Column(name = "service_category")
+    private String serviceCategory;
+
     @NotNull
-    @Column(name = "average_rating", nullable = false)
-    private Double averageRating;
+    @Column(name = "rating_sum", nullable = false)
+    private Long ratingSum;
 
     @NotNull
-    @Column(name = "total_reviews", nullable = false)
-    private Long totalReviews;
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount;
 
-    public void addReview(int rating) {
-        this.totalReviews += 1;
-        this.averageRating = ((this.averageRating * (this.totalReviews - 1)) + rating) / this.totalReviews;
-    }
+    @NotNull
+    @Column(name = "rating_1_count", nullable = false)
+    private Long rating1Count;
+
+    @NotNull
+    @Column(name = "rating_2_count", nullable = false)
+    private Long rating2Count;
+
+    @NotNull
+    @Column(name = "rating_3_count", nullable = false)
+    private Long rating3Count;
+
+    @NotNull
+    @Column(name = "rating_4_count", nullable = false)
+    private Long rating4Count;
 
-    public void deleteReview(int rating) {
-        if (this.totalReviews > 1) {
-            this.averageRating = ((this.averageRating * this.totalReviews) - rating) / (this.totalReviews - 1);
-            this.totalReviews -= 1;
-        } else {
-            this.averageRating = 0.0;
-            this.totalReviews = 0L;
+    @NotNull
+    @Column(name = "rating_5_count", nullable = false)
+    private Long rating5Count;
+
+    public Double getAverageRating() {
+        if (reviewCount == null || reviewCount == 0) {
+            return 0.0;
         }
+        return (double) ratingSum / reviewCount;
+    }
+
+    public Long getTotalReviews() {
+        return reviewCount;
     }
 
-    public void updateReview(int oldRating, int newRating) {
-        this.averageRating = ((this.averageRating * this.totalReviews) - oldRating + newRating) / this.totalReviews;
+    public Map<Integer, Long> getRatingHistogram() {
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        histogram.put(1, rating1Count);
+        histogram.put(2, rating2Count);
+        histogram.put(3, rating3Count);
+        histogram.put(4, rating4Count);
+        histogram.put(5, rating5Count);
+        return histogram;
     }
 
 }
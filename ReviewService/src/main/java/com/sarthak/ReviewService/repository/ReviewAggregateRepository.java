@@ -2,11 +2,16 @@ package com.sarthak.ReviewService.repository;
 
 import com.sarthak.ReviewService.dto.response.ProviderReviewAggregateResponse;
 import com.sarthak.ReviewService.model.ReviewAggregate;
+import jakarta.persistence.QueryHint;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,19 +22,188 @@ public interface ReviewAggregateRepository extends JpaRepository<ReviewAggregate
     @Query("""
         SELECT new com.sarthak.ReviewService.dto.response.ProviderReviewAggregateResponse(
             r.serviceProviderId,
-            SUM(r.averageRating * r.totalReviews) / SUM(r.totalReviews),
-            SUM(r.totalReviews)
+            CAST(SUM(r.ratingSum) AS Double) / SUM(r.reviewCount),
+            SUM(r.reviewCount)
         )
         FROM ReviewAggregate r
         WHERE r.serviceProviderId IN (:serviceProviderIds)
+          AND r.reviewCount > 0
         GROUP BY r.serviceProviderId
     """)
     List<ProviderReviewAggregateResponse> aggregateServiceProviderReviews(@Param("serviceProviderIds") List<Long> serviceProviderIds);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<ReviewAggregate> findByServiceProviderIdAndServiceId(@NotNull Long serviceProviderId, @NotNull Long serviceId);
 
-    Optional<Double> findByServiceId(Long serviceId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("""
+        SELECT CAST(SUM(r.ratingSum) AS Double) / SUM(r.reviewCount)
+        FROM ReviewAggregate r
+        WHERE r.serviceId = :serviceId
+          AND r.reviewCount > 0
+    """)
+    Optional<Double> findAverageRatingByServiceId(@Param("serviceId") Long serviceId);
 
+    @Query("""
+        SELECT r.serviceCategory FROM ReviewAggregate r
+        WHERE r.serviceProviderId = :serviceProviderId AND r.serviceId = :serviceId AND r.serviceCategory IS NOT NULL
+    """)
+    Optional<String> findServiceCategory(@Param("serviceProviderId") Long serviceProviderId,
+                                         @Param("serviceId") Long serviceId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT r FROM ReviewAggregate r WHERE r.serviceId IN :serviceIds")
     List<ReviewAggregate> findAllByServiceIds(List<Long> serviceIds);
+
+    // Single-statement increments, concurrent writers serialize on the row lock instead of
+    // overwriting each other's read-modify-write
+    // With the second-level cache on, Hibernate evicts the cached aggregates and query results after each
+    // of these native statements
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO review_rating_aggregates (service_provider_id, service_id, service_category, rating_sum,
+            review_count, rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count)
+        VALUES (:serviceProviderId, :serviceId, CAST(:serviceCategory AS varchar), :rating, 1,
+            CASE WHEN :rating = 1 THEN 1 ELSE 0 END,
+            CASE WHEN :rating = 2 THEN 1 ELSE 0 END,
+            CASE WHEN :rating = 3 THEN 1 ELSE 0 END,
+            CASE WHEN :rating = 4 THEN 1 ELSE 0 END,
+            CASE WHEN :rating = 5 THEN 1 ELSE 0 END)
+        ON CONFLICT (service_provider_id, service_id) DO UPDATE SET
+            service_category = COALESCE(EXCLUDED.service_category, review_rating_aggregates.service_category),
+            rating_sum = review_rating_aggregates.rating_sum + EXCLUDED.rating_sum,
+            review_count = review_rating_aggregates.review_count + 1,
+            rating_1_count = review_rating_aggregates.rating_1_count + EXCLUDED.rating_1_count,
+            rating_2_count = review_rating_aggregates.rating_2_count + EXCLUDED.rating_2_count,
+            rating_3_count = review_rating_aggregates.rating_3_count + EXCLUDED.rating_3_count,
+            rating_4_count = review_rating_aggregates.rating_4_count + EXCLUDED.rating_4_count,
+            rating_5_count = review_rating_aggregates.rating_5_count + EXCLUDED.rating_5_count
+        """, nativeQuery = true)
+    void incrementRating(@Param("serviceProviderId") Long serviceProviderId, @Param("serviceId") Long serviceId,
+                         @Param("serviceCategory") String serviceCategory, @Param("rating") int rating);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE review_rating_aggregates SET
+            rating_sum = rating_sum - :oldRating + :newRating,
+            rating_1_count = rating_1_count - (CASE WHEN :oldRating = 1 THEN 1 ELSE 0 END) + (CASE WHEN :newRating = 1 THEN 1 ELSE 0 END),
+            rating_2_count = rating_2_count - (CASE WHEN :oldRating = 2 THEN 1 ELSE 0 END) + (CASE WHEN :newRating = 2 THEN 1 ELSE 0 END),
+            rating_3_count = rating_3_count - (CASE WHEN :oldRating = 3 THEN 1 ELSE 0 END) + (CASE WHEN :newRating = 3 THEN 1 ELSE 0 END),
+            rating_4_count = rating_4_count - (CASE WHEN :oldRating = 4 THEN 1 ELSE 0 END) + (CASE WHEN :newRating = 4 THEN 1 ELSE 0 END),
+            rating_5_count = rating_5_count - (CASE WHEN :oldRating = 5 THEN 1 ELSE 0 END) + (CASE WHEN :newRating = 5 THEN 1 ELSE 0 END)
+        WHERE service_provider_id = :serviceProviderId AND service_id = :serviceId
+        """, nativeQuery = true)
+    int changeRating(@Param("serviceProviderId") Long serviceProviderId, @Param("serviceId") Long serviceId,
+                     @Param("oldRating") int oldRating, @Param("newRating") int newRating);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE review_rating_aggregates SET
+            rating_sum = rating_sum - :rating,
+            review_count = review_count - 1,
+            rating_1_count = rating_1_count - (CASE WHEN :rating = 1 THEN 1 ELSE 0 END),
+            rating_2_count = rating_2_count - (CASE WHEN :rating = 2 THEN 1 ELSE 0 END),
+            rating_3_count = rating_3_count - (CASE WHEN :rating = 3 THEN 1 ELSE 0 END),
+            rating_4_count = rating_4_count - (CASE WHEN :rating = 4 THEN 1 ELSE 0 END),
+            rating_5_count = rating_5_count - (CASE WHEN :rating = 5 THEN 1 ELSE 0 END)
+        WHERE service_provider_id = :serviceProviderId AND service_id = :serviceId
+        """, nativeQuery = true)
+    int decrementRating(@Param("serviceProviderId") Long serviceProviderId, @Param("serviceId") Long serviceId,
+                        @Param("rating") int rating);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+        DELETE FROM review_rating_aggregates
+        WHERE service_provider_id = :serviceProviderId AND service_id = :serviceId AND review_count <= 0
+        """, nativeQuery = true)
+    int deleteIfEmpty(@Param("serviceProviderId") Long serviceProviderId, @Param("serviceId") Long serviceId);
+
+    // Reconciliation, see ReviewAggregateReconciler
+
+    @Query(value = """
+        SELECT ids.service_id FROM (
+            SELECT service_id FROM reviews WHERE service_id > :afterServiceId
+            UNION
+            SELECT service_id FROM review_rating_aggregates WHERE service_id > :afterServiceId
+        ) ids
+        ORDER BY ids.service_id
+        LIMIT :chunkSize
+        """, nativeQuery = true)
+    List<Long> findServiceIdChunk(@Param("afterServiceId") Long afterServiceId, @Param("chunkSize") int chunkSize);
+
+    @Query(value = """
+        SELECT aggregate_id FROM review_rating_aggregates
+        WHERE service_id IN (:serviceIds)
+        ORDER BY aggregate_id
+        FOR UPDATE
+        """, nativeQuery = true)
+    List<Long> lockByServiceIds(@Param("serviceIds") List<Long> serviceIds);
+
+    @Modifying
+    @Query(value = """
+        UPDATE review_rating_aggregates a SET
+            rating_sum = t.rating_sum,
+            review_count = t.review_count,
+            rating_1_count = t.rating_1_count,
+            rating_2_count = t.rating_2_count,
+            rating_3_count = t.rating_3_count,
+            rating_4_count = t.rating_4_count,
+            rating_5_count = t.rating_5_count
+        FROM (
+            SELECT service_provider_id, service_id,
+                SUM(rating) AS rating_sum,
+                COUNT(*) AS review_count,
+                COUNT(*) FILTER (WHERE rating = 1) AS rating_1_count,
+                COUNT(*) FILTER (WHERE rating = 2) AS rating_2_count,
+                COUNT(*) FILTER (WHERE rating = 3) AS rating_3_count,
+                COUNT(*) FILTER (WHERE rating = 4) AS rating_4_count,
+                COUNT(*) FILTER (WHERE rating = 5) AS rating_5_count
+            FROM reviews
+            WHERE service_id IN (:serviceIds)
+            GROUP BY service_provider_id, service_id
+        ) t
+        WHERE a.service_provider_id = t.service_provider_id
+          AND a.service_id = t.service_id
+          AND (a.rating_sum, a.review_count, a.rating_1_count, a.rating_2_count, a.rating_3_count,
+               a.rating_4_count, a.rating_5_count)
+              IS DISTINCT FROM
+              (t.rating_sum, t.review_count, t.rating_1_count, t.rating_2_count, t.rating_3_count,
+               t.rating_4_count, t.rating_5_count)
+        """, nativeQuery = true)
+    int correctDriftedAggregates(@Param("serviceIds") List<Long> serviceIds);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO review_rating_aggregates (service_provider_id, service_id, rating_sum, review_count,
+            rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count)
+        SELECT service_provider_id, service_id,
+            SUM(rating),
+            COUNT(*),
+            COUNT(*) FILTER (WHERE rating = 1),
+            COUNT(*) FILTER (WHERE rating = 2),
+            COUNT(*) FILTER (WHERE rating = 3),
+            COUNT(*) FILTER (WHERE rating = 4),
+            COUNT(*) FILTER (WHERE rating = 5)
+        FROM reviews
+        WHERE service_id IN (:serviceIds)
+        GROUP BY service_provider_id, service_id
+        ON CONFLICT (service_provider_id, service_id) DO NOTHING
+        """, nativeQuery = true)
+    int insertMissingAggregates(@Param("serviceIds") List<Long> serviceIds);
+
+    @Modifying
+    @Query(value = """
+        DELETE FROM review_rating_aggregates a
+        WHERE a.service_id IN (:serviceIds)
+          AND NOT EXISTS (
+              SELECT 1 FROM reviews r
+              WHERE r.service_provider_id = a.service_provider_id AND r.service_id = a.service_id
+          )
+        """, nativeQuery = true)
+    int deleteOrphanedAggregates(@Param("serviceIds") List<Long> serviceIds);
 }
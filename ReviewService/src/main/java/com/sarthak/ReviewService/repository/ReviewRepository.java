@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -22,4 +23,50 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     @Query("SELECT r FROM Review r WHERE r.serviceId IN :serviceIds")
     List<Review> findAllByServiceIds(List<Long> serviceIds);
+
+    // Matching and filtering run on the GIN index (see db/review-search.sql). Ranking is ts_rank_cd with
+    // normalization 1 (divide by 1 + log(document length)) so long comments do not win on term repetition.
+    // Results are keyset-paged on (score, review_id); highlights are only built for the returned page. The
+    // comment is HTML-escaped before ts_headline, so the <mark> tags are the only markup in a highlight.
+    @Query(value = """
+        SELECT r.review_id AS reviewId,
+               r.service_provider_id AS serviceProviderId,
+               r.service_id AS serviceId,
+               r.customer_id AS customerId,
+               r.rating AS rating,
+               r.comment AS comment,
+               r.created_at AS createdAt,
+               page.score AS score,
+               ts_headline('english',
+                   replace(replace(replace(replace(replace(r.comment,
+                       '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), '"', '&quot;'), '''', '&#39;'),
+                   websearch_to_tsquery('english', :query),
+                   'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=25, MinWords=8') AS highlight
+        FROM (
+            SELECT hits.review_id, hits.score
+            FROM (
+                SELECT rv.review_id, ts_rank_cd(rv.comment_tsv, q.query, 1) AS score
+                FROM reviews rv, websearch_to_tsquery('english', :query) AS q(query)
+                WHERE rv.comment_tsv @@ q.query
+                  AND (CAST(:serviceId AS bigint) IS NULL OR rv.service_id = :serviceId)
+                  AND (CAST(:serviceProviderId AS bigint) IS NULL OR rv.service_provider_id = :serviceProviderId)
+                  AND rv.rating BETWEEN :minRating AND :maxRating
+            ) hits
+            WHERE CAST(:afterScore AS real) IS NULL
+               OR hits.score < :afterScore
+               OR (hits.score = :afterScore AND hits.review_id < :afterReviewId)
+            ORDER BY hits.score DESC, hits.review_id DESC
+            LIMIT :limit
+        ) page
+        JOIN reviews r ON r.review_id = page.review_id
+        ORDER BY page.score DESC, page.review_id DESC
+        """, nativeQuery = true)
+    List<ReviewSearchRow> search(@Param("query") String query,
+                                 @Param("serviceId") Long serviceId,
+                                 @Param("serviceProviderId") Long serviceProviderId,
+                                 @Param("minRating") int minRating,
+                                 @Param("maxRating") int maxRating,
+                                 @Param("afterScore") Float afterScore,
+                                 @Param("afterReviewId") Long afterReviewId,
+                                 @Param("limit") int limit);
 }
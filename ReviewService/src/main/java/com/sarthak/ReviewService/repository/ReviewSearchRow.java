@@ -0,0 +1,15 @@
+package com.sarthak.ReviewService.repository;
+
+import java.time.Instant;
+
+public interface ReviewSearchRow {
+    Long getReviewId();
+    Long getServiceProviderId();
+    Long getServiceId();
+    Long getCustomerId();
+    Integer getRating();
+    String getComment();
+    Instant getCreatedAt();
+    Float getScore();
+    String getHighlight();
+}
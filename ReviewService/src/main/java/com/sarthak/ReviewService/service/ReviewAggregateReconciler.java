@@ -0,0 +1,66 @@
+package com.sarthak.ReviewService.service;
+
+import com.sarthak.ReviewService.repository.ReviewAggregateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// Recomputes review_rating_aggregates from the reviews table to repair any drift in the incremental counters.
+// Works through service ids in keyset-ordered chunks, one transaction per chunk. Existing aggregate rows of a
+// chunk are locked before the recount, so a review write racing the job either commits before the recount
+// (and is counted) or blocks until the chunk commits and then increments the corrected row.
+@Slf4j
+@Service
+public class ReviewAggregateReconciler {
+
+    private final ReviewAggregateRepository reviewAggregateRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public ReviewAggregateReconciler(ReviewAggregateRepository reviewAggregateRepository,
+                                     TransactionTemplate transactionTemplate,
+                                     @Value("${review.aggregate.reconcile.chunk-size:500}") int chunkSize) {
+        this.reviewAggregateRepository = reviewAggregateRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(initialDelayString = "${review.aggregate.reconcile.initial-delay-ms:30000}",
+            fixedDelayString = "${review.aggregate.reconcile.interval-ms:3600000}")
+    public void reconcileAll() {
+        long afterServiceId = 0L;
+        int chunks = 0;
+        int corrected = 0;
+        List<Long> serviceIds;
+        do {
+            serviceIds = reviewAggregateRepository.findServiceIdChunk(afterServiceId, chunkSize);
+            if (serviceIds.isEmpty()) {
+                break;
+            }
+            corrected += reconcileChunk(serviceIds);
+            afterServiceId = serviceIds.getLast();
+            chunks++;
+        } while (serviceIds.size() == chunkSize);
+
+        if (corrected > 0) {
+            log.warn("Review aggregate reconciliation corrected {} rows across {} chunks", corrected, chunks);
+        } else {
+            log.info("Review aggregate reconciliation found no drift across {} chunks", chunks);
+        }
+    }
+
+    int reconcileChunk(List<Long> serviceIds) {
+        Integer corrected = transactionTemplate.execute(status -> {
+            reviewAggregateRepository.lockByServiceIds(serviceIds);
+            int updated = reviewAggregateRepository.correctDriftedAggregates(serviceIds);
+            int inserted = reviewAggregateRepository.insertMissingAggregates(serviceIds);
+            int deleted = reviewAggregateRepository.deleteOrphanedAggregates(serviceIds);
+            return updated + inserted + deleted;
+        });
+        return corrected == null ? 0 : corrected;
+    }
+}
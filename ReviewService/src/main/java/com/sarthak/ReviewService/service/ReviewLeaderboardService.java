@@ -0,0 +1,282 @@
+package com.sarthak.ReviewService.service;
+
+import com.sarthak.ReviewService.dto.response.LeaderboardEntryResponse;
+import com.sarthak.ReviewService.model.ReviewAggregate;
+import com.sarthak.ReviewService.repository.ReviewAggregateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+// In-memory leaderboards ranked by a Bayesian average: (C * m + ratingSum) / (C + reviewCount), where m is the
+// platform-wide mean and C the prior weight, so a service with two 5-star reviews does not outrank one with
+// hundreds of 4.8s. Every ranking is a sorted set that is repositioned on each committed review write; m is
+// only recomputed by the periodic rebuild from review_rating_aggregates so a single write never reorders
+// unrelated entries. Writes that land while a rebuild is reading may be missed until the next rebuild.
+@Slf4j
+@Service
+public class ReviewLeaderboardService {
+
+    static final String UNCATEGORIZED = "uncategorized";
+
+    private static final Comparator<RankedEntry> RANKING = Comparator.comparingDouble(RankedEntry::score).reversed()
+            .thenComparing(Comparator.comparingLong(RankedEntry::reviewCount).reversed())
+            .thenComparingLong(RankedEntry::id);
+
+    private final ReviewAggregateRepository reviewAggregateRepository;
+    private final double priorWeight;
+    private final double defaultPriorMean;
+    private final int maxLimit;
+    private final int rebuildPageSize;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Board board;
+
+    public ReviewLeaderboardService(ReviewAggregateRepository reviewAggregateRepository,
+                                    @Value("${review.leaderboard.prior-weight:10}") double priorWeight,
+                                    @Value("${review.leaderboard.default-prior-mean:3.5}") double defaultPriorMean,
+                                    @Value("${review.leaderboard.max-limit:100}") int maxLimit,
+                                    @Value("${review.leaderboard.rebuild-page-size:1000}") int rebuildPageSize) {
+        this.reviewAggregateRepository = reviewAggregateRepository;
+        this.priorWeight = priorWeight;
+        this.defaultPriorMean = defaultPriorMean;
+        this.maxLimit = maxLimit;
+        this.rebuildPageSize = rebuildPageSize;
+    }
+
+    @Scheduled(initialDelayString = "${review.leaderboard.initial-delay-ms:0}",
+            fixedDelayString = "${review.leaderboard.rebuild-interval-ms:900000}")
+    public void rebuild() {
+        try {
+            List<ReviewAggregate> aggregates = new ArrayList<>();
+            Page<ReviewAggregate> page;
+            int pageNumber = 0;
+            do {
+                page = reviewAggregateRepository.findAll(
+                        PageRequest.of(pageNumber++, rebuildPageSize, Sort.by("aggregateId")));
+                aggregates.addAll(page.getContent());
+            } while (page.hasNext());
+
+            long ratingSum = 0;
+            long reviewCount = 0;
+            for (ReviewAggregate aggregate : aggregates) {
+                ratingSum += aggregate.getRatingSum();
+                reviewCount += aggregate.getReviewCount();
+            }
+            double priorMean = reviewCount == 0 ? defaultPriorMean : (double) ratingSum / reviewCount;
+
+            Board rebuilt = new Board(priorMean);
+            for (ReviewAggregate aggregate : aggregates) {
+                if (aggregate.getReviewCount() <= 0) {
+                    continue;
+                }
+                ServiceTally service = new ServiceTally(aggregate.getServiceProviderId(),
+                        normalizeCategory(aggregate.getServiceCategory()));
+                rebuilt.services.put(aggregate.getServiceId(), service);
+                adjust(rebuilt, aggregate.getServiceId(), service, aggregate.getRatingSum(), aggregate.getReviewCount());
+            }
+
+            lock.writeLock().lock();
+            try {
+                board = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Rebuilt review leaderboard for {} services with prior mean {}", rebuilt.services.size(), priorMean);
+        } catch (RuntimeException ex) {
+            log.error("Failed to rebuild review leaderboard: {}", ex.getMessage());
+        }
+    }
+
+    public void recordReviewAdded(Long serviceProviderId, Long serviceId, String serviceCategory, int rating) {
+        afterCommit(() -> apply(serviceProviderId, serviceId, serviceCategory, rating, 1));
+    }
+
+    public void recordRatingChanged(Long serviceProviderId, Long serviceId, int oldRating, int newRating) {
+        afterCommit(() -> apply(serviceProviderId, serviceId, null, newRating - oldRating, 0));
+    }
+
+    public void recordReviewDeleted(Long serviceProviderId, Long serviceId, int rating) {
+        afterCommit(() -> apply(serviceProviderId, serviceId, null, -rating, -1));
+    }
+
+    public List<LeaderboardEntryResponse> getTopServicesInCategory(String category, int limit) {
+        return top(b -> b.servicesByCategory.get(normalizeCategory(category)), limit);
+    }
+
+    public List<LeaderboardEntryResponse> getTopProvidersInCategory(String category, int limit) {
+        return top(b -> b.providersByCategory.get(normalizeCategory(category)), limit);
+    }
+
+    public List<LeaderboardEntryResponse> getTopServicesForProvider(Long serviceProviderId, int limit) {
+        return top(b -> b.servicesByProvider.get(serviceProviderId), limit);
+    }
+
+    private List<LeaderboardEntryResponse> top(Function<Board, TreeSet<RankedEntry>> ranking,
+                                               int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, maxLimit));
+        lock.readLock().lock();
+        try {
+            if (board == null) {
+                return List.of();
+            }
+            TreeSet<RankedEntry> entries = ranking.apply(board);
+            if (entries == null) {
+                return List.of();
+            }
+            List<LeaderboardEntryResponse> response = new ArrayList<>(Math.min(boundedLimit, entries.size()));
+            int rank = 1;
+            for (RankedEntry entry : entries) {
+                if (rank > boundedLimit) {
+                    break;
+                }
+                response.add(LeaderboardEntryResponse.builder()
+                        .rank(rank++)
+                        .id(entry.id())
+                        .score(entry.score())
+                        .averageRating(entry.averageRating())
+                        .totalReviews(entry.reviewCount())
+                        .build());
+            }
+            return response;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void apply(Long serviceProviderId, Long serviceId, String serviceCategory, long ratingDelta, long countDelta) {
+        lock.writeLock().lock();
+        try {
+            if (board == null) {
+                return;
+            }
+            ServiceTally service = board.services.get(serviceId);
+            if (service == null) {
+                if (countDelta <= 0) {
+                    // not indexed yet, the next rebuild picks it up
+                    return;
+                }
+                service = new ServiceTally(serviceProviderId, normalizeCategory(serviceCategory));
+                board.services.put(serviceId, service);
+            } else if (serviceCategory != null && !service.category.equals(normalizeCategory(serviceCategory))) {
+                long ratingSum = service.ratingSum;
+                long reviewCount = service.reviewCount;
+                adjust(board, serviceId, service, -ratingSum, -reviewCount);
+                service.category = normalizeCategory(serviceCategory);
+                adjust(board, serviceId, service, ratingSum, reviewCount);
+            }
+
+            adjust(board, serviceId, service, ratingDelta, countDelta);
+            if (service.reviewCount <= 0) {
+                board.services.remove(serviceId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void adjust(Board target, Long serviceId, ServiceTally service, long ratingDelta, long countDelta) {
+        TreeSet<RankedEntry> categoryServices =
+                target.servicesByCategory.computeIfAbsent(service.category, k -> new TreeSet<>(RANKING));
+        TreeSet<RankedEntry> providerServices =
+                target.servicesByProvider.computeIfAbsent(service.providerId, k -> new TreeSet<>(RANKING));
+        if (service.entry != null) {
+            categoryServices.remove(service.entry);
+            providerServices.remove(service.entry);
+        }
+        service.add(ratingDelta, countDelta);
+        service.entry = rank(target, serviceId, service);
+        if (service.entry != null) {
+            categoryServices.add(service.entry);
+            providerServices.add(service.entry);
+        }
+
+        Tally providerInCategory = target.providersInCategory
+                .computeIfAbsent(new ProviderCategory(service.providerId, service.category), k -> new Tally());
+        TreeSet<RankedEntry> categoryProviders =
+                target.providersByCategory.computeIfAbsent(service.category, k -> new TreeSet<>(RANKING));
+        if (providerInCategory.entry != null) {
+            categoryProviders.remove(providerInCategory.entry);
+        }
+        providerInCategory.add(ratingDelta, countDelta);
+        providerInCategory.entry = rank(target, service.providerId, providerInCategory);
+        if (providerInCategory.entry != null) {
+            categoryProviders.add(providerInCategory.entry);
+        }
+    }
+
+    private RankedEntry rank(Board target, Long id, Tally tally) {
+        if (tally.reviewCount <= 0) {
+            return null;
+        }
+        double score = (priorWeight * target.priorMean + tally.ratingSum) / (priorWeight + tally.reviewCount);
+        return new RankedEntry(id, score, tally.reviewCount, (double) tally.ratingSum / tally.reviewCount);
+    }
+
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    static String normalizeCategory(String category) {
+        if (category == null || category.isBlank()) {
+            return UNCATEGORIZED;
+        }
+        return category.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record RankedEntry(long id, double score, long reviewCount, double averageRating) {}
+
+    private record ProviderCategory(Long providerId, String category) {}
+
+    private static class Tally {
+        long ratingSum;
+        long reviewCount;
+        RankedEntry entry;
+
+        void add(long ratingDelta, long countDelta) {
+            ratingSum += ratingDelta;
+            reviewCount += countDelta;
+        }
+    }
+
+    private static class ServiceTally extends Tally {
+        final Long providerId;
+        String category;
+
+        ServiceTally(Long providerId, String category) {
+            this.providerId = providerId;
+            this.category = category;
+        }
+    }
+
+    private static class Board {
+        final double priorMean;
+        final Map<Long, ServiceTally> services = new HashMap<>();
+        final Map<ProviderCategory, Tally> providersInCategory = new HashMap<>();
+        final Map<String, TreeSet<RankedEntry>> servicesByCategory = new HashMap<>();
+        final Map<String, TreeSet<RankedEntry>> providersByCategory = new HashMap<>();
+        final Map<Long, TreeSet<RankedEntry>> servicesByProvider = new HashMap<>();
+
+        Board(double priorMean) {
+            this.priorMean = priorMean;
+        }
+    }
+}
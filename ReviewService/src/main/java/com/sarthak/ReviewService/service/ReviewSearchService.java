@@ -0,0 +1,106 @@
+package com.sarthak.ReviewService.service;
+
+import com.sarthak.ReviewService.dto.response.ReviewSearchResponse;
+import com.sarthak.ReviewService.dto.response.ReviewSearchResult;
+import com.sarthak.ReviewService.exception.InvalidSearchRequestException;
+import com.sarthak.ReviewService.repository.ReviewRepository;
+import com.sarthak.ReviewService.repository.ReviewSearchRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+@Slf4j
+@Service
+public class ReviewSearchService {
+
+    private static final int MAX_QUERY_LENGTH = 256;
+
+    private final ReviewRepository reviewRepository;
+    private final int maxPageSize;
+
+    public ReviewSearchService(ReviewRepository reviewRepository,
+                               @Value("${review.search.max-page-size:50}") int maxPageSize) {
+        this.reviewRepository = reviewRepository;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public ReviewSearchResponse search(String query, Long serviceId, Long serviceProviderId, Integer minRating,
+                                       Integer maxRating, String cursor, int size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidSearchRequestException("Search query must not be blank");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidSearchRequestException("Search query can be at most " + MAX_QUERY_LENGTH + " characters long");
+        }
+        int min = minRating != null ? minRating : 1;
+        int max = maxRating != null ? maxRating : 5;
+        if (min < 1 || max > 5 || min > max) {
+            throw new InvalidSearchRequestException("Rating filter must be within 1 and 5 with minRating <= maxRating");
+        }
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+
+        Float afterScore = null;
+        Long afterReviewId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            SearchCursor decoded = decodeCursor(cursor);
+            afterScore = decoded.score();
+            afterReviewId = decoded.reviewId();
+        }
+
+        log.info("Searching reviews for query: '{}' serviceId: {} serviceProviderId: {} rating: {}-{}",
+                query, serviceId, serviceProviderId, min, max);
+        // one extra row tells us whether another page exists
+        List<ReviewSearchRow> rows = reviewRepository.search(query.trim(), serviceId, serviceProviderId, min, max,
+                afterScore, afterReviewId, pageSize + 1);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<ReviewSearchRow> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            ReviewSearchRow last = page.getLast();
+            nextCursor = encodeCursor(new SearchCursor(last.getScore(), last.getReviewId()));
+        }
+
+        return ReviewSearchResponse.builder()
+                .content(page.stream().map(this::toResult).toList())
+                .pageSize(pageSize)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private ReviewSearchResult toResult(ReviewSearchRow row) {
+        return ReviewSearchResult.builder()
+                .reviewId(row.getReviewId())
+                .serviceProviderId(row.getServiceProviderId())
+                .serviceId(row.getServiceId())
+                .customerId(row.getCustomerId())
+                .rating(row.getRating())
+                .comment(row.getComment())
+                .highlight(row.getHighlight())
+                .score(row.getScore())
+                .createdAt(row.getCreatedAt() != null ? row.getCreatedAt().toString() : null)
+                .build();
+    }
+
+    static String encodeCursor(SearchCursor cursor) {
+        String raw = Float.toString(cursor.score()) + ":" + cursor.reviewId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static SearchCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(':');
+            return new SearchCursor(Float.parseFloat(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new InvalidSearchRequestException("Invalid search cursor");
+        }
+    }
+
+    record SearchCursor(Float score, Long reviewId) {}
+}
@@ -1,9 +1,13 @@
 package com.sarthak.ReviewService.service;
 
 import com.sarthak.ReviewService.client.BookingClient;
+import com.sarthak.ReviewService.client.ServiceListingClient;
+import com.sarthak.ReviewService.config.cache.ReviewAggregateCacheInvalidationHandler;
+import com.sarthak.ReviewService.config.invalidation.InvalidationPublisher;
 import com.sarthak.ReviewService.dto.BookingDto;
 import com.sarthak.ReviewService.dto.ReviewAggregateResponse;
 import com.sarthak.ReviewService.dto.ReviewDto;
+import com.sarthak.ReviewService.dto.ServiceItemDto;
 import com.sarthak.ReviewService.dto.response.ProviderReviewAggregateResponse;
 import com.sarthak.ReviewService.exception.BookingNotCompleteException;
 import com.sarthak.ReviewService.exception.DuplicateReviewForSameServiceException;
@@ -13,6 +17,7 @@ import com.sarthak.ReviewService.model.Review;
 import com.sarthak.ReviewService.model.ReviewAggregate;
 import com.sarthak.ReviewService.repository.ReviewAggregateRepository;
 import com.sarthak.ReviewService.repository.ReviewRepository;
+import feign.FeignException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -21,11 +26,13 @@ import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -34,13 +41,23 @@ public class ReviewService {
     private final ReviewAggregateRepository reviewAggregateRepository;
     private final ReviewMapper reviewMapper;
     private final BookingClient bookingClient;
+    private final TransactionTemplate transactionTemplate;
+    private final ServiceListingClient serviceListingClient;
+    private final ReviewLeaderboardService reviewLeaderboardService;
+    private final InvalidationPublisher invalidationPublisher;
     private final List<String> ALLOWED_SORT_FIELDS = List.of("reviewId", "createdAt", "updatedAt", "rating");
 
-    public ReviewService(ReviewRepository reviewRepository, ReviewMapper reviewMapper, ReviewAggregateRepository reviewAggregateRepository, BookingClient bookingClient) {
+    public ReviewService(ReviewRepository reviewRepository, ReviewMapper reviewMapper, ReviewAggregateRepository reviewAggregateRepository, BookingClient bookingClient,
+                         TransactionTemplate transactionTemplate, ServiceListingClient serviceListingClient,
+                         ReviewLeaderboardService reviewLeaderboardService, InvalidationPublisher invalidationPublisher) {
         this.reviewRepository = reviewRepository;
         this.reviewMapper = reviewMapper;
         this.reviewAggregateRepository = reviewAggregateRepository;
         this.bookingClient = bookingClient;
+        this.transactionTemplate = transactionTemplate;
+        this.serviceListingClient = serviceListingClient;
+        this.reviewLeaderboardService = reviewLeaderboardService;
+        this.invalidationPublisher = invalidationPublisher;
     }
 
     public ReviewDto validateAndAddReview(ReviewDto reviewDto){
@@ -52,11 +69,26 @@ public class ReviewService {
         if (!bookingDto.bookingStatus().equalsIgnoreCase("COMPLETED")){
             throw new BookingNotCompleteException("Booking status should be complete to add review");
         }
-        return addReview(reviewDto);
+        // review insert and aggregate increment commit together, the booking lookup stays outside the transaction
+        String serviceCategory = resolveServiceCategory(reviewDto.serviceProviderId(), reviewDto.serviceId());
+        return transactionTemplate.execute(status -> addReview(reviewDto, serviceCategory));
     }
 
-    @Transactional
-    private ReviewDto addReview(ReviewDto reviewDto){
+    private String resolveServiceCategory(Long serviceProviderId, Long serviceId) {
+        Optional<String> known = reviewAggregateRepository.findServiceCategory(serviceProviderId, serviceId);
+        if (known.isPresent()) {
+            return known.get();
+        }
+        try {
+            ServiceItemDto serviceItem = serviceListingClient.getServiceById(serviceId);
+            return serviceItem != null ? serviceItem.serviceCategory() : null;
+        } catch (FeignException ex) {
+            log.warn("Could not resolve category for serviceId: {}: {}", serviceId, ex.getMessage());
+            return null;
+        }
+    }
+
+    private ReviewDto addReview(ReviewDto reviewDto, String serviceCategory){
         log.info("Adding review: {}", reviewDto);
         if (reviewRepository.findByCustomerIdAndServiceId(reviewDto.customerId(), reviewDto.serviceId()).isPresent()) {
             log.error("Duplicate review attempt by customer {} for service {}", reviewDto.customerId(), reviewDto.serviceId());
@@ -66,30 +98,25 @@ public class ReviewService {
         Review review = reviewMapper.mapToEntity(reviewDto);
         log.info("Saving review: {}", review);
         Review savedReview = reviewRepository.save(review);
-        ReviewAggregate aggregate =
-                reviewAggregateRepository.findByServiceProviderIdAndServiceId(savedReview.getServiceProviderId(),
-                                savedReview.getServiceId())
-                .orElse(
-                        ReviewAggregate.builder()
-                                .serviceProviderId(savedReview.getServiceProviderId())
-                                .serviceId(savedReview.getServiceId())
-                                .averageRating(0.0)
-                                .totalReviews(0L)
-                                .build()
-                );
-        log.info("Current aggregate before adding review: {}", aggregate);
-        aggregate.addReview(savedReview.getRating());
-        reviewAggregateRepository.save(aggregate);
-        log.info("Updated aggregate after adding review: {}", aggregate);
+        reviewAggregateRepository.incrementRating(savedReview.getServiceProviderId(), savedReview.getServiceId(),
+                serviceCategory, savedReview.getRating());
+        reviewLeaderboardService.recordReviewAdded(savedReview.getServiceProviderId(), savedReview.getServiceId(),
+                serviceCategory, savedReview.getRating());
+        invalidationPublisher.publish(ReviewAggregateCacheInvalidationHandler.ENTITY,
+                ReviewAggregateCacheInvalidationHandler.id(savedReview.getServiceProviderId(), savedReview.getServiceId()));
+        log.info("Incremented aggregate for serviceId: {} with rating: {}", savedReview.getServiceId(),
+                savedReview.getRating());
         return reviewMapper.mapToDto(savedReview);
     }
 
+    @Transactional(readOnly = true)
     public Page<ReviewDto> getReviewsByServiceProviderId(Long userId, int page, int size, String sortBy, String sortDir){
         Pageable pageable = getPageable(page, size, sortBy, sortDir);
         Page<Review> reviews = reviewRepository.findAllByServiceProviderId(userId, pageable);
         return reviews.map(reviewMapper::mapToDto);
     }
 
+    @Transactional(readOnly = true)
     public Page<ReviewDto> getReviewsForService(Long serviceId, int page, int size, String sortBy, String sortDir){
         Pageable pageable = getPageable(page, size, sortBy, sortDir);
 
@@ -108,6 +135,7 @@ public class ReviewService {
                 );
     }
 
+    @Transactional(readOnly = true)
     public Page<ReviewDto> getReviewsForCustomer(Long customerId, int page, int size, String sortBy, String sortDir){
         Pageable pageable = getPageable(page, size, sortBy, sortDir);
 
@@ -136,19 +164,22 @@ public class ReviewService {
         }
 
         log.info("Existing review found: {}", existing);
-        ReviewAggregate aggregate = reviewAggregateRepository.findByServiceProviderIdAndServiceId(existing.getServiceProviderId(), existing.getServiceId())
-                .orElseThrow(()-> new EntityNotFoundException("Review aggregate not found"));
-
-        log.info("Current aggregate before updating review: {}", aggregate);
-        aggregate.updateReview(existing.getRating(), reviewDto.rating());
-        log.info("Updated aggregate after updating review: {}", aggregate);
+        if (!Objects.equals(existing.getRating(), reviewDto.rating())) {
+            int updated = reviewAggregateRepository.changeRating(existing.getServiceProviderId(),
+                    existing.getServiceId(), existing.getRating(), reviewDto.rating());
+            if (updated == 0) {
+                log.warn("Review aggregate missing for serviceId: {}, left to reconciliation", existing.getServiceId());
+            } else {
+                reviewLeaderboardService.recordRatingChanged(existing.getServiceProviderId(), existing.getServiceId(),
+                        existing.getRating(), reviewDto.rating());
+                invalidationPublisher.publish(ReviewAggregateCacheInvalidationHandler.ENTITY,
+                        ReviewAggregateCacheInvalidationHandler.id(existing.getServiceProviderId(), existing.getServiceId()));
+            }
+            log.info("Updated review rating from {} to {}", existing.getRating(), reviewDto.rating());
+        }
 
         existing.setRating(reviewDto.rating());
-        log.info("Updated review rating from {} to {}", existing.getRating(), reviewDto.rating());
         existing.setComment(reviewDto.comment());
-
-        log.info("Saving updated aggregate: {}", aggregate);
-        reviewAggregateRepository.save(aggregate);
         log.info("Saving updated review: {}", existing);
 
         return reviewMapper.mapToDto(reviewRepository.save(existing));
@@ -165,18 +196,20 @@ public class ReviewService {
             throw new AccessDeniedException("You are not allowed to delete this review");
         }
 
-        ReviewAggregate aggregate = reviewAggregateRepository.findByServiceProviderIdAndServiceId(existing.getServiceProviderId(), existing.getServiceId())
-                .orElseThrow(()-> new EntityNotFoundException("Review aggregate not found"));
-        log.info("Current aggregate before deleting review: {}", aggregate);
-
-        aggregate.deleteReview(existing.getRating());
-        if(aggregate.getTotalReviews() == 0){
-            log.info("No more reviews left for serviceId: {} and serviceProviderId: {}. Deleting aggregate.",
-                    aggregate.getServiceId(), aggregate.getServiceProviderId());
-            reviewAggregateRepository.delete(aggregate);
-        }else{
-            log.info("Updated aggregate after deleting review: {}", aggregate);
-            reviewAggregateRepository.save(aggregate);
+        int updated = reviewAggregateRepository.decrementRating(existing.getServiceProviderId(),
+                existing.getServiceId(), existing.getRating());
+        if (updated == 0) {
+            // The review is still deleted, ReviewAggregateReconciler repairs the aggregate
+            log.warn("Review aggregate missing for serviceId: {}, left to reconciliation", existing.getServiceId());
+        } else {
+            reviewLeaderboardService.recordReviewDeleted(existing.getServiceProviderId(), existing.getServiceId(),
+                    existing.getRating());
+            invalidationPublisher.publish(ReviewAggregateCacheInvalidationHandler.ENTITY,
+                    ReviewAggregateCacheInvalidationHandler.id(existing.getServiceProviderId(), existing.getServiceId()));
+            if (reviewAggregateRepository.deleteIfEmpty(existing.getServiceProviderId(), existing.getServiceId()) > 0) {
+                log.info("No more reviews left for serviceId: {} and serviceProviderId: {}. Deleted aggregate.",
+                        existing.getServiceId(), existing.getServiceProviderId());
+            }
         }
 
         log.info("Deleting review: {}", existing);
@@ -185,7 +218,7 @@ public class ReviewService {
 
     public Double getAverageRatingForService(Long serviceId){
         log.info("Fetching average rating for serviceId: {}", serviceId);
-        return reviewAggregateRepository.findByServiceId(serviceId)
+        return reviewAggregateRepository.findAverageRatingByServiceId(serviceId)
                 .orElse(0.0);
     }
 
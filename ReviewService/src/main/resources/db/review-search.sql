@@ -0,0 +1,6 @@
+-- Full-text search over review comments. The generated column keeps the index in step with every
+-- insert/update/delete of a review inside the same transaction.
+ALTER TABLE reviews ADD COLUMN IF NOT EXISTS comment_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('english', coalesce(comment, ''))) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_reviews_comment_tsv ON reviews USING gin (comment_tsv);
@@ -0,0 +1,217 @@
+package com.sarthak.ReviewService;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Smoke tests against the native executable, run by mvn -Pnative verify. The binary gets its database from
+// the usual DB_URL_REVIEW_SERVICE, DB_NAME and DB_PASSWORD variables, Booking and Service Listing are stubbed
+// with a local HTTP server. Startup time and resident set size are printed for comparison with the JVM.
+// native.startup-timeout-seconds raises the 30 s startup limit when the suite is pointed at a slower launcher.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "native.binary", matches = ".+")
+class NativeSmokeIT {
+
+    private static final String JWT_SECRET = "native-smoke-test-secret-with-at-least-256-bits";
+    private static final Duration STARTUP_TIMEOUT =
+            Duration.ofSeconds(Long.getLong("native.startup-timeout-seconds", 30));
+
+    private final HttpClient http = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final long serviceProviderId = ThreadLocalRandom.current().nextLong(1_000_000_000L, 2_000_000_000L);
+    private final long serviceId = ThreadLocalRandom.current().nextLong(1_000_000_000L, 2_000_000_000L);
+    private final long customerId = ThreadLocalRandom.current().nextLong(1_000_000_000L, 2_000_000_000L);
+
+    private HttpServer stubs;
+    private Process service;
+    private Path serviceLog;
+    private String baseUrl;
+
+    @BeforeAll
+    void startService() throws Exception {
+        stubs = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubs.createContext("/api/bookings/", exchange -> respond(exchange, """
+                {"bookingId": 1, "customerId": %d, "serviceId": %d, "serviceProviderId": %d,
+                 "bookingDate": "2025-01-01", "bookingStartTime": "10:00", "bookingEndTime": "11:00",
+                 "bookingStatus": "COMPLETED", "createdAt": "2025-01-01T09:00:00", "rescheduledToId": null}
+                """.formatted(customerId, serviceId, serviceProviderId)));
+        stubs.createContext("/api/services/", exchange -> respond(exchange, """
+                {"serviceId": %d, "serviceProviderId": %d, "serviceCategory": "Plumbing"}
+                """.formatted(serviceId, serviceProviderId)));
+        stubs.start();
+        String stubUrl = "http://localhost:" + stubs.getAddress().getPort();
+
+        int port = freePort();
+        baseUrl = "http://localhost:" + port;
+        serviceLog = Path.of("target", "native-smoke-it.log");
+        service = new ProcessBuilder(List.of(System.getProperty("native.binary"),
+                "--server.port=" + port,
+                "--eureka.client.enabled=false",
+                "--jwt.secret=" + JWT_SECRET,
+                "--feign.client.config.booking-service.url=" + stubUrl,
+                "--feign.client.config.service-listing-service.url=" + stubUrl))
+                .redirectErrorStream(true)
+                .redirectOutput(serviceLog.toFile())
+                .start();
+
+        long startedAt = System.nanoTime();
+        while (status(get("/actuator/health", null)) != 200) {
+            assertThat(service.isAlive()).as("service exited during startup, see %s", serviceLog).isTrue();
+            assertThat(Duration.ofNanos(System.nanoTime() - startedAt))
+                    .as("service not healthy in time, see %s", serviceLog).isLessThan(STARTUP_TIMEOUT);
+            Thread.sleep(20);
+        }
+        System.out.printf("ReviewService ready in %d ms, rss %s%n",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), residentSetSize(service.pid()));
+    }
+
+    @AfterAll
+    void stopService() throws InterruptedException {
+        if (service != null) {
+            service.destroy();
+            if (!service.waitFor(10, TimeUnit.SECONDS)) {
+                service.destroyForcibly();
+            }
+        }
+        if (stubs != null) {
+            stubs.stop(0);
+        }
+    }
+
+    @Test
+    void healthIsUp() throws Exception {
+        HttpResponse<String> response = http.send(get("/actuator/health", null), HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(objectMapper.readTree(response.body()).path("status").asText()).isEqualTo("UP");
+    }
+
+    @Test
+    void rejectsRequestsWithoutToken() throws Exception {
+        HttpResponse<String> response = http.send(get("/api/reviews/" + serviceId + "/service", null),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(401);
+        assertThat(objectMapper.readTree(response.body()).path("error").asText()).isEqualTo("Unauthorized");
+    }
+
+    @Test
+    void addsListsAndDeletesReview() throws Exception {
+        String token = customerToken();
+        String review = """
+                {"serviceProviderId": %d, "serviceId": %d, "bookingId": 1, "customerId": %d,
+                 "rating": 4, "comment": "Native smoke test review"}
+                """.formatted(serviceProviderId, serviceId, customerId);
+
+        HttpResponse<String> created = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/reviews"))
+                        .header("Authorization", "Bearer " + token)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(review))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(created.statusCode()).as(created.body()).isEqualTo(201);
+        long reviewId = objectMapper.readTree(created.body()).path("reviewId").asLong();
+
+        HttpResponse<String> mine = http.send(get("/api/reviews/customer/myReviews", token),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(mine.statusCode()).isEqualTo(200);
+        JsonNode content = objectMapper.readTree(mine.body()).path("content");
+        assertThat(content).hasSize(1);
+        assertThat(content.get(0).path("comment").asText()).isEqualTo("Native smoke test review");
+
+        HttpResponse<String> average = http.send(get("/api/reviews/services/" + serviceId + "/average", token),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(average.statusCode()).isEqualTo(200);
+        assertThat(Double.parseDouble(average.body())).isEqualTo(4.0);
+
+        URI reviewUri = URI.create(baseUrl + "/api/reviews/" + reviewId);
+        HttpResponse<String> deleted = http.send(HttpRequest.newBuilder(reviewUri)
+                        .header("Authorization", "Bearer " + token)
+                        .DELETE()
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(deleted.statusCode()).isEqualTo(204);
+    }
+
+    private String customerToken() {
+        Date now = new Date();
+        return Jwts.builder()
+                .subject("native-smoke")
+                .claim("userId", customerId)
+                .claim("role", "ROLE_USER")
+                .claim("type", "CUSTOMER")
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + Duration.ofMinutes(10).toMillis()))
+                .signWith(Keys.hmacShaKeyFor(JWT_SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    private HttpRequest get(String path, String token) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return request.build();
+    }
+
+    private int status(HttpRequest request) throws InterruptedException {
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String residentSetSize(long pid) throws IOException {
+        File status = new File("/proc/" + pid + "/status");
+        if (!status.exists()) {
+            return "n/a";
+        }
+        return Files.readAllLines(status.toPath()).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> line.substring("VmRSS:".length()).trim())
+                .findFirst()
+                .orElse("n/a");
+    }
+}
@@ -0,0 +1,46 @@
+package com.sarthak.ReviewService.config;
+
+import com.sarthak.ReviewService.client.BookingClient;
+import com.sarthak.ReviewService.dto.BookingDto;
+import com.sarthak.ReviewService.dto.response.ProviderReviewAggregateResponse;
+import com.sarthak.ReviewService.model.Review;
+import com.sarthak.ReviewService.repository.ReviewSearchRow;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.projection.TargetAware;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeImageHintsTests {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    NativeImageHintsTests() {
+        new NativeImageHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registersFeignProxiesEntitiesAndProjections() {
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(BookingClient.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Review.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(BookingDto.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ProviderReviewAggregateResponse.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(ReviewSearchRow.class, TargetAware.class,
+                SpringProxy.class, DecoratingProxy.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/review-search.sql")).accepts(hints);
+    }
+
+    @Test
+    void registersJjwtClassesLoadedByName() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(io.jsonwebtoken.impl.DefaultJwtParserBuilder.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("META-INF/services/io.jsonwebtoken.io.Deserializer"))
+                .accepts(hints);
+    }
+}
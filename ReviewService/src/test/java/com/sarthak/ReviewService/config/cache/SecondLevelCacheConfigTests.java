@@ -0,0 +1,90 @@
+package com.sarthak.ReviewService.config.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.internal.NoCachingRegionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecondLevelCacheConfigTests {
+
+    private final SecondLevelCacheConfig config = new SecondLevelCacheConfig();
+
+    @AfterEach
+    void closeCacheManager() {
+        config.destroy();
+    }
+
+    @Test
+    void switchesTheCacheOffWhenDisabled() {
+        Map<String, Object> properties = new HashMap<>();
+
+        config.secondLevelCacheCustomizer().customize(properties);
+
+        assertThat(properties)
+                .containsEntry(AvailableSettings.USE_SECOND_LEVEL_CACHE, false)
+                .containsEntry(AvailableSettings.USE_QUERY_CACHE, false)
+                .doesNotContainKey(ConfigSettings.CACHE_MANAGER);
+        // hibernate-jcache is on the test classpath too, so this would be its region factory if left to Hibernate
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder().applySettings(properties).build();
+        try {
+            assertThat(registry.getService(RegionFactory.class)).isSameAs(NoCachingRegionFactory.INSTANCE);
+        } finally {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+    }
+
+    @Test
+    void createsBoundedRegionsWhenEnabled() {
+        configure(true, 200, Duration.ofMinutes(5), 100, Duration.ofMinutes(1));
+        Map<String, Object> properties = new HashMap<>();
+
+        config.secondLevelCacheCustomizer().customize(properties);
+
+        assertThat(properties)
+                .containsEntry(AvailableSettings.USE_SECOND_LEVEL_CACHE, true)
+                .containsEntry(AvailableSettings.USE_QUERY_CACHE, true)
+                .containsEntry(ConfigSettings.MISSING_CACHE_STRATEGY, "fail")
+                .containsEntry(AvailableSettings.GENERATE_STATISTICS, true);
+        CacheManager cacheManager = (CacheManager) properties.get(ConfigSettings.CACHE_MANAGER);
+
+        CaffeineConfiguration<?, ?> aggregates = configuration(cacheManager, SecondLevelCacheConfig.REVIEW_AGGREGATE_REGION);
+        assertThat(aggregates.getMaximumSize()).isEqualTo(OptionalLong.of(200));
+        assertThat(aggregates.getExpireAfterWrite()).isEqualTo(OptionalLong.of(Duration.ofMinutes(5).toNanos()));
+
+        CaffeineConfiguration<?, ?> queries = configuration(cacheManager, SecondLevelCacheConfig.QUERY_RESULTS_REGION);
+        assertThat(queries.getMaximumSize()).isEqualTo(OptionalLong.of(100));
+
+        CaffeineConfiguration<?, ?> timestamps = configuration(cacheManager, SecondLevelCacheConfig.UPDATE_TIMESTAMPS_REGION);
+        assertThat(timestamps.getExpireAfterWrite()).isEmpty();
+    }
+
+    private void configure(boolean enabled, long maxEntries, Duration ttl, long queryMaxEntries, Duration queryTtl) {
+        ReflectionTestUtils.setField(config, "enabled", enabled);
+        ReflectionTestUtils.setField(config, "reviewAggregateMaxEntries", maxEntries);
+        ReflectionTestUtils.setField(config, "reviewAggregateTtl", ttl);
+        ReflectionTestUtils.setField(config, "queryMaxEntries", queryMaxEntries);
+        ReflectionTestUtils.setField(config, "queryTtl", queryTtl);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CaffeineConfiguration<?, ?> configuration(CacheManager cacheManager, String region) {
+        Cache<Object, Object> cache = cacheManager.getCache(region);
+        assertThat(cache).as(region).isNotNull();
+        return cache.getConfiguration(CaffeineConfiguration.class);
+    }
+}
@@ -0,0 +1,75 @@
+package com.sarthak.ReviewService.service;
+
+import com.sarthak.ReviewService.repository.ReviewAggregateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReviewAggregateReconcilerTests {
+
+    @Mock
+    private ReviewAggregateRepository reviewAggregateRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ReviewAggregateReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        reconciler = new ReviewAggregateReconciler(reviewAggregateRepository, transactionTemplate, 2);
+    }
+
+    @Test
+    void testReconcileAll_walksChunksByKeyset() {
+        when(reviewAggregateRepository.findServiceIdChunk(0L, 2)).thenReturn(List.of(1L, 2L));
+        when(reviewAggregateRepository.findServiceIdChunk(2L, 2)).thenReturn(List.of(5L));
+
+        reconciler.reconcileAll();
+
+        verify(reviewAggregateRepository).correctDriftedAggregates(List.of(1L, 2L));
+        verify(reviewAggregateRepository).correctDriftedAggregates(List.of(5L));
+        // a short chunk is the last one
+        verify(reviewAggregateRepository, never()).findServiceIdChunk(5L, 2);
+    }
+
+    @Test
+    void testReconcileChunk_locksAggregatesBeforeRecount() {
+        List<Long> serviceIds = List.of(3L, 4L);
+
+        reconciler.reconcileChunk(serviceIds);
+
+        InOrder order = inOrder(reviewAggregateRepository);
+        order.verify(reviewAggregateRepository).lockByServiceIds(serviceIds);
+        order.verify(reviewAggregateRepository).correctDriftedAggregates(serviceIds);
+        order.verify(reviewAggregateRepository).insertMissingAggregates(serviceIds);
+        order.verify(reviewAggregateRepository).deleteOrphanedAggregates(serviceIds);
+    }
+
+    @Test
+    void testReconcileAll_noReviews_doesNothing() {
+        when(reviewAggregateRepository.findServiceIdChunk(anyLong(), any(Integer.class))).thenReturn(List.of());
+
+        reconciler.reconcileAll();
+
+        verify(transactionTemplate, never()).execute(any());
+    }
+}
@@ -0,0 +1,82 @@
+package com.sarthak.ReviewService.service;
+
+import com.sarthak.ReviewService.dto.response.LeaderboardEntryResponse;
+import com.sarthak.ReviewService.model.ReviewAggregate;
+import com.sarthak.ReviewService.repository.ReviewAggregateRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReviewLeaderboardServiceTests {
+
+    @Mock
+    private ReviewAggregateRepository reviewAggregateRepository;
+
+    private ReviewLeaderboardService rebuiltWith(ReviewAggregate... aggregates) {
+        when(reviewAggregateRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(aggregates)));
+        ReviewLeaderboardService leaderboard = new ReviewLeaderboardService(reviewAggregateRepository, 10, 3.5, 100, 1000);
+        leaderboard.rebuild();
+        return leaderboard;
+    }
+
+    private ReviewAggregate aggregate(long providerId, long serviceId, String category, long ratingSum, long reviewCount) {
+        return ReviewAggregate.builder()
+                .serviceProviderId(providerId)
+                .serviceId(serviceId)
+                .serviceCategory(category)
+                .ratingSum(ratingSum)
+                .reviewCount(reviewCount)
+                .rating1Count(0L).rating2Count(0L).rating3Count(0L).rating4Count(0L).rating5Count(0L)
+                .build();
+    }
+
+    @Test
+    void testRebuild_fewPerfectReviewsRankBelowManyGoodOnes() {
+        ReviewLeaderboardService leaderboard = rebuiltWith(
+                aggregate(1L, 10L, "Plumbing", 10, 2),
+                aggregate(2L, 20L, "plumbing", 480, 100),
+                aggregate(3L, 30L, "plumbing", 600, 200));
+
+        List<LeaderboardEntryResponse> top = leaderboard.getTopProvidersInCategory("PLUMBING", 10);
+
+        assertEquals(List.of(2L, 1L, 3L), top.stream().map(LeaderboardEntryResponse::id).toList());
+        assertEquals(1, top.getFirst().rank());
+    }
+
+    @Test
+    void testRecordReviewAdded_repositionsEntryIncrementally() {
+        ReviewLeaderboardService leaderboard = rebuiltWith(
+                aggregate(1L, 10L, "cleaning", 40, 10),
+                aggregate(1L, 11L, "cleaning", 35, 10));
+
+        for (int i = 0; i < 20; i++) {
+            leaderboard.recordReviewAdded(1L, 11L, "cleaning", 5);
+        }
+
+        List<LeaderboardEntryResponse> top = leaderboard.getTopServicesForProvider(1L, 1);
+        assertEquals(1, top.size());
+        assertEquals(11L, top.getFirst().id());
+        assertEquals(30L, top.getFirst().totalReviews());
+    }
+
+    @Test
+    void testRecordReviewDeleted_lastReviewRemovesEntry() {
+        ReviewLeaderboardService leaderboard = rebuiltWith(aggregate(3L, 30L, "painting", 4, 1));
+
+        leaderboard.recordReviewDeleted(3L, 30L, 4);
+
+        assertTrue(leaderboard.getTopServicesInCategory("painting", 10).isEmpty());
+        assertTrue(leaderboard.getTopProvidersInCategory("painting", 10).isEmpty());
+    }
+}
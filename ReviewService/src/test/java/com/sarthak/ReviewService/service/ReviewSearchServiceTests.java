@@ -0,0 +1,83 @@
+package com.sarthak.ReviewService.service;
+
+import com.sarthak.ReviewService.dto.response.ReviewSearchResponse;
+import com.sarthak.ReviewService.exception.InvalidSearchRequestException;
+import com.sarthak.ReviewService.repository.ReviewRepository;
+import com.sarthak.ReviewService.repository.ReviewSearchRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReviewSearchServiceTests {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    private ReviewSearchService reviewSearchService;
+
+    @BeforeEach
+    void setUp() {
+        reviewSearchService = new ReviewSearchService(reviewRepository, 50);
+    }
+
+    private ReviewSearchRow row(long reviewId, float score) {
+        ReviewSearchRow row = mock(ReviewSearchRow.class);
+        lenient().when(row.getReviewId()).thenReturn(reviewId);
+        lenient().when(row.getScore()).thenReturn(score);
+        return row;
+    }
+
+    @Test
+    void testSearch_fullPage_returnsCursorOfLastRow() {
+        List<ReviewSearchRow> rows = List.of(row(9L, 0.8f), row(7L, 0.31f), row(4L, 0.1f));
+        when(reviewRepository.search(eq("leaky pipe"), isNull(), isNull(), eq(1), eq(5), isNull(), isNull(), eq(3)))
+                .thenReturn(rows);
+
+        ReviewSearchResponse response = reviewSearchService.search(" leaky pipe ", null, null, null, null, null, 2);
+
+        assertEquals(2, response.content().size());
+        ReviewSearchService.SearchCursor cursor = ReviewSearchService.decodeCursor(response.nextCursor());
+        assertEquals(0.31f, cursor.score());
+        assertEquals(7L, cursor.reviewId());
+    }
+
+    @Test
+    void testSearch_withCursor_continuesAfterIt() {
+        String cursor = ReviewSearchService.encodeCursor(new ReviewSearchService.SearchCursor(0.31f, 7L));
+        List<ReviewSearchRow> rows = List.of(row(4L, 0.1f));
+        when(reviewRepository.search(any(), any(), any(), anyInt(), anyInt(), any(), any(), anyInt()))
+                .thenReturn(rows);
+
+        ReviewSearchResponse response = reviewSearchService.search("pipe", 3L, null, 4, 5, cursor, 2);
+
+        verify(reviewRepository).search("pipe", 3L, null, 4, 5, 0.31f, 7L, 3);
+        assertNull(response.nextCursor());
+    }
+
+    @Test
+    void testSearch_invalidInput_rejectedBeforeQuerying() {
+        assertThrows(InvalidSearchRequestException.class,
+                () -> reviewSearchService.search("  ", null, null, null, null, null, 10));
+        assertThrows(InvalidSearchRequestException.class,
+                () -> reviewSearchService.search("pipe", null, null, 5, 2, null, 10));
+        assertThrows(InvalidSearchRequestException.class,
+                () -> reviewSearchService.search("pipe", null, null, null, null, "not-a-cursor", 10));
+        verifyNoInteractions(reviewRepository);
+    }
+}
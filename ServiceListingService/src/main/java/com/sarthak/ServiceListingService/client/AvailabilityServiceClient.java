@@ -0,0 +1,15 @@
+package com.sarthak.ServiceListingService.client;
+
+import com.sarthak.ServiceListingService.dto.AvailableServicesRequest;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+
+import java.util.List;
+
+@FeignClient(name = "AVAILABILITY-SERVICE", fallbackFactory = AvailabilityServiceClientFallbackFactory.class)
+public interface AvailabilityServiceClient {
+
+    @PostMapping("/api/availability/availableServices")
+    public List<Long> confirmAvailableServices(AvailableServicesRequest request);
+
+}
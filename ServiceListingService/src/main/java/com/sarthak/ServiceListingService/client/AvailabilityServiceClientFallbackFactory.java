@@ -0,0 +1,26 @@
+package com.sarthak.ServiceListingService.client;
+
+import com.sarthak.ServiceListingService.dto.AvailableServicesRequest;
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+public class AvailabilityServiceClientFallbackFactory implements FallbackFactory<AvailabilityServiceClient> {
+
+    @Override
+    public AvailabilityServiceClient create(Throwable cause) {
+        // null tells search to answer from the summaries alone instead of failing
+        return request -> {
+            if (cause instanceof FeignException.FeignClientException clientException) {
+                throw clientException;
+            }
+            log.warn("Availability service call failed, returning unconfirmed search results: {}", cause.toString());
+            return null;
+        };
+    }
+}
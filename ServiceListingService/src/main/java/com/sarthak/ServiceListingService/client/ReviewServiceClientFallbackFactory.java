@@ -0,0 +1,43 @@
+package com.sarthak.ServiceListingService.client;
+
+import com.sarthak.ServiceListingService.dto.ReviewAggregateResponse;
+import com.sarthak.ServiceListingService.dto.ReviewDto;
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class ReviewServiceClientFallbackFactory implements FallbackFactory<ReviewServiceClient> {
+
+    @Override
+    public ReviewServiceClient create(Throwable cause) {
+        // Reviews only decorate listings, so a slow or failing review service must not take listings down with it
+        return new ReviewServiceClient() {
+            @Override
+            public List<ReviewDto> getByServiceIds(List<Long> serviceIds) {
+                rethrowClientError(cause);
+                log.warn("Review service call failed, returning services without reviews: {}", cause.toString());
+                return List.of();
+            }
+
+            @Override
+            public Map<Long, ReviewAggregateResponse> getAggregatesByServiceIds(List<Long> serviceIds) {
+                rethrowClientError(cause);
+                log.warn("Review service call failed, returning services without review aggregates: {}", cause.toString());
+                return Map.of();
+            }
+        };
+    }
+
+    private void rethrowClientError(Throwable cause) {
+        // 4xx responses are real answers from the review service, not outages
+        if (cause instanceof FeignException.FeignClientException clientException) {
+            throw clientException;
+        }
+    }
+}
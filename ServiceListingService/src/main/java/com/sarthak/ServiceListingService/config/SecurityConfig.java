@@ -35,10 +35,11 @@ public class SecurityConfig {
         http.csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests( auth -> auth
-                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
                         .requestMatchers(HttpMethod.GET,"/api/services/**").authenticated()
                         .requestMatchers(HttpMethod.POST, "/api/services/**").hasRole("USER")
+                        .requestMatchers(HttpMethod.PUT, "/api/services/availability-summaries").authenticated()
                         .requestMatchers(HttpMethod.PUT, "/api/services/**").hasRole("USER")
                         .requestMatchers(HttpMethod.DELETE, "/api/services/**").authenticated()
                         .anyRequest().authenticated()
@@ -0,0 +1,40 @@
+package com.sarthak.ServiceListingService.config.cache;
+
+import com.sarthak.ServiceListingService.config.invalidation.InvalidationHandler;
+import com.sarthak.ServiceListingService.model.ServiceItem;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+// Services changed through another instance: drops them from the second-level cache. Cached query results
+// may contain them too and are cleared wholesale.
+@Component
+@RequiredArgsConstructor
+public class ServiceItemCacheInvalidationHandler implements InvalidationHandler {
+
+    public static final String ENTITY = "service-item";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public String entity() {
+        return ENTITY;
+    }
+
+    @Override
+    public void evict(Collection<String> ids) {
+        for (String id : ids) {
+            entityManagerFactory.getCache().evict(ServiceItem.class, Long.valueOf(id));
+        }
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+    }
+
+    @Override
+    public void evictAll() {
+        entityManagerFactory.getCache().evict(ServiceItem.class);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+    }
+}
@@ -0,0 +1,57 @@
+package com.sarthak.ServiceListingService.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+// Connections for read-only transactions: from the replica pool while ReplicaLagMonitor considers it usable,
+// from the primary pool otherwise. A failed replica checkout takes the replica out of use and the read still
+// runs, on the primary. datasource.read.connections counts where each read went and why.
+public class ReplicaFallbackDataSource extends DelegatingDataSource {
+
+    private final DataSource primary;
+    private final ReplicaLagMonitor monitor;
+    private final Counter replicaReads;
+    private final Counter laggingFallbacks;
+    private final Counter unreachableFallbacks;
+
+    public ReplicaFallbackDataSource(DataSource replica, DataSource primary, ReplicaLagMonitor monitor,
+                                     MeterRegistry meterRegistry) {
+        super(replica);
+        this.primary = primary;
+        this.monitor = monitor;
+        this.replicaReads = counter(meterRegistry, "replica", "usable");
+        this.laggingFallbacks = counter(meterRegistry, "primary", "lagging");
+        this.unreachableFallbacks = counter(meterRegistry, "primary", "unreachable");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        ReplicaLagMonitor.State state = monitor.state();
+        if (state != ReplicaLagMonitor.State.USABLE) {
+            (state == ReplicaLagMonitor.State.LAGGING ? laggingFallbacks : unreachableFallbacks).increment();
+            return primary.getConnection();
+        }
+        try {
+            Connection connection = obtainTargetDataSource().getConnection();
+            replicaReads.increment();
+            return connection;
+        } catch (SQLException ex) {
+            monitor.markUnreachable(ex);
+            unreachableFallbacks.increment();
+            return primary.getConnection();
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("datasource.read.connections")
+                .description("Connections handed to read-only transactions")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,6 @@
+package com.sarthak.ServiceListingService.config.invalidation;
+
+// One changed row: the entity name agreed between publisher and handlers, its id, and the publisher's clock
+// in milliseconds when the change was published, so handlers that refresh instead of evict can drop older ones
+public record InvalidationKey(String entity, String id, long version) {
+}
@@ -0,0 +1,251 @@
+package com.sarthak.ServiceListingService.config.invalidation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Subscribes to the cache_invalidation channel of every database in cache.invalidation.listen-urls and hands
+// the published keys to the InvalidationHandler for their entity. Each database gets its own connection
+// outside the pool (LISTEN is tied to the session) and its own daemon thread. Everything delivered by one poll
+// is grouped by entity first, so a burst of changes costs each handler one call.
+//
+// Postgres drops notifications for a session that is not connected, so a lost connection is retried with
+// exponential backoff and every handler evicts everything once it is back. The heartbeat and socket timeout
+// make a dead connection show up within a few seconds even when nothing is being published.
+@Slf4j
+@Component
+public class InvalidationListener {
+
+    private static final long INITIAL_BACKOFF_MS = 500;
+
+    private final Map<String, List<InvalidationHandler>> handlers = new LinkedHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final List<String> listenUrls;
+    private final String username;
+    private final String password;
+    private final long pollTimeoutMs;
+    private final long heartbeatIntervalMs;
+    private final long reconnectMaxBackoffMs;
+    private final Duration maxExpectedLag;
+
+    private final Map<String, AtomicInteger> connected = new ConcurrentHashMap<>();
+    private final Map<String, Timer> lagTimers = new ConcurrentHashMap<>();
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    public InvalidationListener(List<InvalidationHandler> handlers,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${cache.invalidation.enabled:true}") boolean enabled,
+                                @Value("${cache.invalidation.listen-urls:${spring.datasource.url}}") List<String> listenUrls,
+                                @Value("${spring.datasource.username}") String username,
+                                @Value("${spring.datasource.password}") String password,
+                                @Value("${cache.invalidation.poll-timeout-ms:500}") long pollTimeoutMs,
+                                @Value("${cache.invalidation.heartbeat-interval-ms:10000}") long heartbeatIntervalMs,
+                                @Value("${cache.invalidation.reconnect-max-backoff-ms:30000}") long reconnectMaxBackoffMs,
+                                @Value("${cache.invalidation.max-expected-lag:30s}") Duration maxExpectedLag) {
+        handlers.forEach(handler -> this.handlers.computeIfAbsent(handler.entity(), entity -> new ArrayList<>()).add(handler));
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.listenUrls = listenUrls.stream().map(String::trim).filter(url -> !url.isEmpty()).distinct().toList();
+        this.username = username;
+        this.password = password;
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+        this.reconnectMaxBackoffMs = reconnectMaxBackoffMs;
+        this.maxExpectedLag = maxExpectedLag;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        for (String url : listenUrls) {
+            String source = source(url);
+            AtomicInteger state = connected.computeIfAbsent(source, key -> new AtomicInteger());
+            Gauge.builder("cache.invalidation.connected", state, AtomicInteger::get)
+                    .tag("source", source)
+                    .description("1 while this instance is listening for cache invalidations from the source database")
+                    .register(meterRegistry);
+            Thread thread = new Thread(() -> listen(url, source, state), "cache-invalidation-" + source);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+        log.info("Listening for cache invalidations from {} for {}",
+                listenUrls.stream().map(InvalidationListener::source).toList(), handlers.keySet());
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        threads.forEach(Thread::interrupt);
+        threads.clear();
+    }
+
+    private void listen(String url, String source, AtomicInteger state) {
+        long backoffMs = INITIAL_BACKOFF_MS;
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, connectionProperties())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + InvalidationPublisher.CHANNEL);
+                }
+                state.set(1);
+                // anything published while we were not listening is lost
+                resync(source);
+                if (reconnecting) {
+                    log.info("Cache invalidation listener for {} reconnected, local caches cleared", source);
+                }
+                backoffMs = INITIAL_BACKOFF_MS;
+                poll(connection, source);
+            } catch (SQLException ex) {
+                state.set(0);
+                if (!running) {
+                    return;
+                }
+                reconnecting = true;
+                log.warn("Cache invalidation listener for {} disconnected ({}), reconnecting in {} ms",
+                        source, ex.getMessage(), backoffMs);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(backoffMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMs = Math.min(backoffMs * 2, reconnectMaxBackoffMs);
+            }
+        }
+        state.set(0);
+    }
+
+    private void poll(Connection connection, String source) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        long lastHeartbeat = System.nanoTime();
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeoutMs);
+            if (notifications != null && notifications.length > 0) {
+                dispatch(source, notifications);
+            }
+            if (System.nanoTime() - lastHeartbeat >= TimeUnit.MILLISECONDS.toNanos(heartbeatIntervalMs)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                lastHeartbeat = System.nanoTime();
+            }
+        }
+    }
+
+    private Properties connectionProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("user", username);
+        properties.setProperty("password", password);
+        properties.setProperty("ApplicationName", "cache-invalidation-listener");
+        properties.setProperty("tcpKeepAlive", "true");
+        // a read blocked on a dead peer fails after a few missed heartbeats instead of hanging
+        long socketTimeoutSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(heartbeatIntervalMs * 3));
+        properties.setProperty("socketTimeout", Long.toString(socketTimeoutSeconds));
+        return properties;
+    }
+
+    void dispatch(String source, PGNotification[] notifications) {
+        long now = System.currentTimeMillis();
+        Map<String, Set<String>> idsByEntity = new LinkedHashMap<>();
+        for (PGNotification notification : notifications) {
+            if (!InvalidationPublisher.CHANNEL.equals(notification.getName())) {
+                continue;
+            }
+            InvalidationMessage message;
+            try {
+                message = objectMapper.readValue(notification.getParameter(), InvalidationMessage.class);
+            } catch (JsonProcessingException ex) {
+                log.warn("Ignoring malformed cache invalidation from {}: {}", source, ex.getOriginalMessage());
+                continue;
+            }
+            // this instance's own writes are already reflected in its caches
+            if (InvalidationPublisher.ORIGIN.equals(message.origin()) || message.keys() == null) {
+                continue;
+            }
+            lagTimer(source).record(Math.max(0, now - message.sentAt()), TimeUnit.MILLISECONDS);
+            for (InvalidationKey key : message.keys()) {
+                idsByEntity.computeIfAbsent(key.entity(), entity -> new LinkedHashSet<>()).add(key.id());
+            }
+        }
+        idsByEntity.forEach((entity, ids) -> {
+            meterRegistry.counter("cache.invalidation.received", "entity", entity).increment(ids.size());
+            for (InvalidationHandler handler : handlers.getOrDefault(entity, List.of())) {
+                evict(handler, ids);
+            }
+        });
+    }
+
+    void resync(String source) {
+        meterRegistry.counter("cache.invalidation.resyncs", "source", source).increment();
+        handlers.values().stream().flatMap(List::stream).forEach(handler -> {
+            try {
+                handler.evictAll();
+            } catch (RuntimeException ex) {
+                log.error("Failed to clear cache for {} after reconnecting to {}", handler.entity(), source, ex);
+            }
+        });
+    }
+
+    private static void evict(InvalidationHandler handler, Collection<String> ids) {
+        try {
+            handler.evict(ids);
+        } catch (RuntimeException ex) {
+            log.error("Failed to evict {} {} from cache", handler.entity(), ids, ex);
+        }
+    }
+
+    // Publish-to-receive delay, bounded by max-expected-lag so the histogram stays a fixed size. It includes
+    // clock skew between instances, hence the clamp at zero.
+    private Timer lagTimer(String source) {
+        return lagTimers.computeIfAbsent(source, key -> Timer.builder("cache.invalidation.lag")
+                .tag("source", key)
+                .description("Delay between a cache invalidation being published and received")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(maxExpectedLag)
+                .register(meterRegistry));
+    }
+
+    // Database name of a jdbc:postgresql://host:port/name?params url
+    static String source(String url) {
+        String path = url.substring(url.lastIndexOf('/') + 1);
+        int params = path.indexOf('?');
+        return params < 0 ? path : path.substring(0, params);
+    }
+}
@@ -1,25 +1,36 @@
 package com.sarthak.ServiceListingService.controller;
 
 import com.sarthak.ServiceListingService.config.shared.UserPrincipal;
+import com.sarthak.ServiceListingService.dto.AvailabilitySummaryDto;
 import com.sarthak.ServiceListingService.dto.QueryFilter;
 import com.sarthak.ServiceListingService.dto.ServiceItemDto;
+import com.sarthak.ServiceListingService.dto.response.AvailableServicesResponse;
 import com.sarthak.ServiceListingService.dto.response.PagedResponse;
+import com.sarthak.ServiceListingService.service.ServiceAvailabilitySearchService;
 import com.sarthak.ServiceListingService.service.ServiceItemsService;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/services")
 public class ServiceItemController {
 
     private final ServiceItemsService serviceItemsService;
+    private final ServiceAvailabilitySearchService serviceAvailabilitySearchService;
 
-    public ServiceItemController(ServiceItemsService serviceItemsService) {
+    public ServiceItemController(ServiceItemsService serviceItemsService,
+                                 ServiceAvailabilitySearchService serviceAvailabilitySearchService) {
         this.serviceItemsService = serviceItemsService;
+        this.serviceAvailabilitySearchService = serviceAvailabilitySearchService;
     }
 
     @GetMapping("/{id}")
@@ -66,6 +77,29 @@ public class ServiceItemController {
         );
     }
 
+    @GetMapping("/available")
+    public AvailableServicesResponse getAvailableServices(
+            @RequestParam Double userLatitude,
+            @RequestParam Double userLongitude,
+            @RequestParam(defaultValue = "5") double radiusKm,
+            @RequestParam(required = false) String category,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime startTime,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime endTime,
+            @RequestParam(defaultValue = "10") int size
+    ){
+        return serviceAvailabilitySearchService.search(userLatitude, userLongitude, radiusKm, category,
+                date, startTime, endTime, size);
+    }
+
+    // Pushed by AvailabilityService whenever a provider's rules or exceptions change
+    @PutMapping("/availability-summaries")
+    @PreAuthorize("hasAuthority('SERVICE')")
+    public ResponseEntity<Void> putAvailabilitySummaries(@RequestBody List<AvailabilitySummaryDto> summaries){
+        serviceAvailabilitySearchService.saveSummaries(summaries);
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping()
     @PreAuthorize("principal.userType.equals('PROVIDER')")
     public ResponseEntity<ServiceItemDto> addService(@RequestBody ServiceItemDto serviceItemDto){
@@ -0,0 +1,16 @@
+package com.sarthak.ServiceListingService.dto;
+
+import com.sarthak.ServiceListingService.model.ServiceAvailabilitySummary;
+import lombok.Builder;
+
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Map;
+
+@Builder
+public record AvailabilitySummaryDto(
+        Long serviceId,
+        Long serviceProviderId,
+        Map<DayOfWeek, List<ServiceAvailabilitySummary.TimeSlot>> weeklySlots,
+        List<ServiceAvailabilitySummary.DateException> exceptions
+) {}
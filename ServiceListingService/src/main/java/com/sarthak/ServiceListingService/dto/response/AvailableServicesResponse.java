@@ -0,0 +1,13 @@
+package com.sarthak.ServiceListingService.dto.response;
+
+import com.sarthak.ServiceListingService.dto.ServiceItemDto;
+import lombok.Builder;
+
+import java.util.List;
+
+// confirmed is false when AvailabilityService could not be reached and the services only match the summaries
+@Builder
+public record AvailableServicesResponse(
+        List<ServiceItemDto> services,
+        boolean confirmed
+) {}
@@ -0,0 +1,66 @@
+package com.sarthak.ServiceListingService.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+// Copy of a service's availability pushed by AvailabilityService: merged rule intervals per weekday and the
+// provider's exceptions from today on. Only used to pre-filter search, bookings are not part of it.
+@Entity
+@Data
+@AllArgsConstructor
+@Builder
+@NoArgsConstructor
+@Table(name = "service_availability_summaries",
+        indexes = {
+                @Index(name = "idx_summary_service_provider", columnList = "service_provider_id")
+        }
+)
+public class ServiceAvailabilitySummary {
+
+    @Id
+    @Column(name = "service_id")
+    private Long serviceId;
+
+    @Column(name = "service_provider_id", nullable = false)
+    private Long serviceProviderId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "weekly_slots", columnDefinition = "jsonb")
+    private Map<DayOfWeek, List<TimeSlot>> weeklySlots;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "exceptions", columnDefinition = "jsonb")
+    private List<DateException> exceptions;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public record TimeSlot(
+            LocalTime startTime,
+            LocalTime endTime
+    ) {}
+
+    public record DateException(
+            LocalDate date,
+            LocalTime startTime,
+            LocalTime endTime,
+            ExceptionType exceptionType
+    ) {}
+
+    public enum ExceptionType {
+        OVERRIDE,
+        BLOCKED
+    }
+}
@@ -0,0 +1,9 @@
+package com.sarthak.ServiceListingService.repository;
+
+import com.sarthak.ServiceListingService.model.ServiceAvailabilitySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ServiceAvailabilitySummaryRepository extends JpaRepository<ServiceAvailabilitySummary, Long> {
+}
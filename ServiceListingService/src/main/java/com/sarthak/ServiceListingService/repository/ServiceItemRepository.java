@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -44,5 +45,27 @@ public interface ServiceItemRepository extends JpaRepository<ServiceItem, Long>,
                                          @Param("radius") Double radiusInKm, 
                                          Pageable pageable);
 
+    // Closest first, for availability search, which filters these candidates by their availability summaries
+    @Query(value = """
+            SELECT * FROM (
+                SELECT s.*, (6371 * acos(
+                    cos(radians(:userLat)) * cos(radians(s.latitude)) *
+                    cos(radians(s.longitude) - radians(:userLong)) +
+                    sin(radians(:userLat)) * sin(radians(s.latitude))
+                )) AS distance
+                FROM service_items s
+                WHERE CAST(:category AS text) IS NULL OR lower(s.service_category) = lower(CAST(:category AS text))
+            ) nearby
+            WHERE nearby.distance < :radius
+            ORDER BY nearby.distance
+            LIMIT :limit
+            """,
+           nativeQuery = true
+    )
+    List<ServiceItem> findNearbyCandidates(@Param("userLat") Double userLat,
+                                           @Param("userLong") Double userLong,
+                                           @Param("radius") Double radiusInKm,
+                                           @Param("category") String category,
+                                           @Param("limit") int limit);
 
 }
@@ -0,0 +1,233 @@
+package com.sarthak.ServiceListingService.service;
+
+import com.sarthak.ServiceListingService.client.AvailabilityServiceClient;
+import com.sarthak.ServiceListingService.client.ReviewServiceClient;
+import com.sarthak.ServiceListingService.dto.AvailabilitySummaryDto;
+import com.sarthak.ServiceListingService.dto.AvailableServicesRequest;
+import com.sarthak.ServiceListingService.dto.ReviewAggregateResponse;
+import com.sarthak.ServiceListingService.dto.ServiceItemDto;
+import com.sarthak.ServiceListingService.dto.response.AvailableServicesResponse;
+import com.sarthak.ServiceListingService.mapper.ServiceItemsMapper;
+import com.sarthak.ServiceListingService.model.ServiceAvailabilitySummary;
+import com.sarthak.ServiceListingService.model.ServiceAvailabilitySummary.DateException;
+import com.sarthak.ServiceListingService.model.ServiceAvailabilitySummary.ExceptionType;
+import com.sarthak.ServiceListingService.model.ServiceAvailabilitySummary.TimeSlot;
+import com.sarthak.ServiceListingService.model.ServiceItem;
+import com.sarthak.ServiceListingService.repository.ServiceAvailabilitySummaryRepository;
+import com.sarthak.ServiceListingService.repository.ServiceItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// "Near me, free on this date for this window". Nearby services are filtered against the availability summaries
+// pushed by AvailabilityService, which know rules and exceptions but not bookings, and only the closest matches
+// are then confirmed by AvailabilityService in a single call. If that call fails the summary matches are
+// returned marked as unconfirmed.
+@Slf4j
+@Service
+public class ServiceAvailabilitySearchService {
+
+    private final ServiceItemRepository serviceItemRepository;
+    private final ServiceAvailabilitySummaryRepository summaryRepository;
+    private final AvailabilityServiceClient availabilityServiceClient;
+    private final ReviewServiceClient reviewServiceClient;
+    private final ServiceItemsMapper serviceItemsMapper;
+    private final int maxCandidates;
+    private final int confirmFactor;
+    private final double maxRadiusKm;
+
+    public ServiceAvailabilitySearchService(ServiceItemRepository serviceItemRepository,
+                                            ServiceAvailabilitySummaryRepository summaryRepository,
+                                            AvailabilityServiceClient availabilityServiceClient,
+                                            ReviewServiceClient reviewServiceClient,
+                                            ServiceItemsMapper serviceItemsMapper,
+                                            @Value("${services.available-search.max-candidates:500}") int maxCandidates,
+                                            @Value("${services.available-search.confirm-factor:3}") int confirmFactor,
+                                            @Value("${services.available-search.max-radius-km:50}") double maxRadiusKm) {
+        this.serviceItemRepository = serviceItemRepository;
+        this.summaryRepository = summaryRepository;
+        this.availabilityServiceClient = availabilityServiceClient;
+        this.reviewServiceClient = reviewServiceClient;
+        this.serviceItemsMapper = serviceItemsMapper;
+        this.maxCandidates = maxCandidates;
+        this.confirmFactor = confirmFactor;
+        this.maxRadiusKm = maxRadiusKm;
+    }
+
+    @Transactional
+    public void saveSummaries(List<AvailabilitySummaryDto> summaries){
+        Instant now = Instant.now();
+        List<ServiceAvailabilitySummary> entities = summaries.stream()
+                .filter(summary -> summary.serviceId() != null && summary.serviceProviderId() != null)
+                .map(summary -> ServiceAvailabilitySummary.builder()
+                        .serviceId(summary.serviceId())
+                        .serviceProviderId(summary.serviceProviderId())
+                        .weeklySlots(summary.weeklySlots() != null ? summary.weeklySlots() : Map.of())
+                        .exceptions(summary.exceptions() != null ? summary.exceptions() : List.of())
+                        .updatedAt(now)
+                        .build())
+                .toList();
+        summaryRepository.saveAll(entities);
+        log.info("Saved {} availability summaries", entities.size());
+    }
+
+    public AvailableServicesResponse search(Double userLatitude, Double userLongitude, double radiusKm, String category,
+                                            LocalDate date, LocalTime startTime, LocalTime endTime, int size){
+        if(userLatitude == null || userLongitude == null){
+            throw new IllegalArgumentException("User latitude and longitude must be provided");
+        }
+        if(!startTime.isBefore(endTime)){
+            throw new IllegalArgumentException("Start time must be before end time");
+        }
+        if(date.isBefore(LocalDate.now())){
+            throw new IllegalArgumentException("Date cannot be in the past");
+        }
+        size = size > 0 ? size : 10;
+        radiusKm = radiusKm > 0 ? Math.min(radiusKm, maxRadiusKm) : 5.0;
+        String categoryFilter = category == null || category.isBlank() ? null : category;
+
+        List<ServiceItem> candidates = serviceItemRepository.findNearbyCandidates(userLatitude, userLongitude,
+                radiusKm, categoryFilter, maxCandidates);
+        Map<Long, ServiceAvailabilitySummary> summaries = summaryRepository
+                .findAllById(candidates.stream().map(ServiceItem::getServiceId).toList()).stream()
+                .collect(Collectors.toMap(ServiceAvailabilitySummary::getServiceId, Function.identity()));
+
+        List<ServiceItem> matches = new ArrayList<>();
+        int toConfirm = size * Math.max(confirmFactor, 1);
+        for(ServiceItem candidate : candidates){
+            if(matches.size() >= toConfirm) break;
+            ServiceAvailabilitySummary summary = summaries.get(candidate.getServiceId());
+            if(summary != null && coversWindow(summary, date, startTime, endTime)){
+                matches.add(candidate);
+            }
+        }
+
+        List<ServiceItem> results = matches;
+        boolean confirmed = true;
+        if(!matches.isEmpty()){
+            List<Long> available = availabilityServiceClient.confirmAvailableServices(AvailableServicesRequest.builder()
+                    .date(date)
+                    .startTime(startTime)
+                    .endTime(endTime)
+                    .limit(size)
+                    .candidates(matches.stream()
+                            .map(s -> new AvailableServicesRequest.ServiceCandidate(s.getServiceProviderId(),
+                                    s.getServiceId()))
+                            .toList())
+                    .build());
+            if(available != null){
+                Set<Long> availableIds = new HashSet<>(available);
+                results = matches.stream().filter(s -> availableIds.contains(s.getServiceId())).toList();
+            }else {
+                confirmed = false;
+            }
+        }
+        results = results.stream().limit(size).toList();
+
+        log.atInfo()
+                .addKeyValue("date", date)
+                .addKeyValue("startTime", startTime)
+                .addKeyValue("endTime", endTime)
+                .addKeyValue("radiusKm", radiusKm)
+                .addKeyValue("candidates", candidates.size())
+                .addKeyValue("summaryMatches", matches.size())
+                .addKeyValue("results", results.size())
+                .addKeyValue("confirmed", confirmed)
+                .log("services.available-search");
+
+        Map<Long, ReviewAggregateResponse> reviewAggregates = results.isEmpty() ? Map.of()
+                : reviewServiceClient.getAggregatesByServiceIds(results.stream().map(ServiceItem::getServiceId).toList());
+        List<ServiceItemDto> services = results.stream()
+                .map(s -> serviceItemsMapper.entityToDto(s, reviewAggregates.get(s.getServiceId())))
+                .toList();
+        return new AvailableServicesResponse(services, confirmed);
+    }
+
+    // Same steps as AvailabilityService.getAvailabilitySlots up to, but not including, the booked slots: no
+    // rules that day means unavailable, the date's exceptions are applied in start time order, and the window
+    // has to fit inside one of the resulting slots
+    static boolean coversWindow(ServiceAvailabilitySummary summary, LocalDate date, LocalTime startTime,
+                                LocalTime endTime){
+        List<TimeSlot> slots = summary.getWeeklySlots() == null ? null
+                : summary.getWeeklySlots().get(date.getDayOfWeek());
+        if(slots == null || slots.isEmpty()) return false;
+
+        List<DateException> exceptions = summary.getExceptions() == null ? List.of()
+                : summary.getExceptions().stream()
+                        .filter(ex -> date.equals(ex.date()))
+                        .sorted(Comparator.comparing(DateException::startTime))
+                        .toList();
+        if(!exceptions.isEmpty()){
+            slots = applyExceptions(slots, exceptions);
+        }
+
+        return slots.stream().anyMatch(slot ->
+                !slot.startTime().isAfter(startTime) && !slot.endTime().isBefore(endTime));
+    }
+
+    private static List<TimeSlot> applyExceptions(List<TimeSlot> slots, List<DateException> exceptions){
+        List<TimeSlot> currentSlots = new ArrayList<>(slots);
+
+        for(DateException ex : exceptions){
+            List<TimeSlot> tempSlots = new ArrayList<>();
+
+            for(TimeSlot slot : currentSlots){
+                if(ex.endTime().isBefore(slot.startTime()) || ex.startTime().isAfter(slot.endTime())){
+                    tempSlots.add(slot);
+                    continue;
+                }
+
+                if(ex.exceptionType() == ExceptionType.BLOCKED){
+                    if(ex.startTime().isAfter(slot.startTime())){
+                        tempSlots.add(new TimeSlot(slot.startTime(), ex.startTime()));
+                    }
+                    if(ex.endTime().isBefore(slot.endTime())){
+                        tempSlots.add(new TimeSlot(ex.endTime(), slot.endTime()));
+                    }
+                }else {
+                    tempSlots.add(new TimeSlot(
+                            slot.startTime().isBefore(ex.startTime()) ? slot.startTime() : ex.startTime(),
+                            slot.endTime().isAfter(ex.endTime()) ? slot.endTime() : ex.endTime()));
+                }
+            }
+            currentSlots = tempSlots;
+        }
+
+        return mergeOverlappingSlots(currentSlots);
+    }
+
+    private static List<TimeSlot> mergeOverlappingSlots(List<TimeSlot> slots){
+        if(slots.isEmpty()) return slots;
+
+        List<TimeSlot> mergedSlots = new ArrayList<>();
+        TimeSlot current = slots.getFirst();
+
+        for(int i = 1; i < slots.size(); i++){
+            TimeSlot next = slots.get(i);
+
+            if(!next.startTime().isAfter(current.endTime())){
+                current = new TimeSlot(current.startTime(),
+                        next.endTime().isAfter(current.endTime()) ? next.endTime() : current.endTime());
+            }else {
+                mergedSlots.add(current);
+                current = next;
+            }
+        }
+
+        mergedSlots.add(current);
+        return mergedSlots;
+    }
+}
@@ -1,6 +1,8 @@
 package com.sarthak.ServiceListingService.service;
 
 import com.sarthak.ServiceListingService.client.ReviewServiceClient;
+import com.sarthak.ServiceListingService.config.cache.ServiceItemCacheInvalidationHandler;
+import com.sarthak.ServiceListingService.config.invalidation.InvalidationPublisher;
 import com.sarthak.ServiceListingService.dto.QueryFilter;
 import com.sarthak.ServiceListingService.dto.ReviewAggregateResponse;
 import com.sarthak.ServiceListingService.dto.ServiceItemDto;
@@ -9,6 +11,7 @@ import com.sarthak.ServiceListingService.exception.ServiceNotFoundException;
 import com.sarthak.ServiceListingService.mapper.ServiceItemsMapper;
 import com.sarthak.ServiceListingService.model.ServiceItem;
 import com.sarthak.ServiceListingService.model.SortFields;
+import com.sarthak.ServiceListingService.repository.ServiceAvailabilitySummaryRepository;
 import com.sarthak.ServiceListingService.repository.ServiceItemRepository;
 import com.sarthak.ServiceListingService.repository.ServiceSpecification;
 import lombok.extern.slf4j.Slf4j;
@@ -34,12 +37,17 @@ public class ServiceItemsService {
     private final ServiceItemRepository serviceItemRepository;
     private final ServiceItemsMapper serviceItemsMapper;
     private final ReviewServiceClient reviewServiceClient;
+    private final InvalidationPublisher invalidationPublisher;
+    private final ServiceAvailabilitySummaryRepository serviceAvailabilitySummaryRepository;
 
     public ServiceItemsService(ServiceItemRepository serviceItemRepository, ServiceItemsMapper serviceItemsMapper,
-                               ReviewServiceClient reviewServiceClient) {
+                               ReviewServiceClient reviewServiceClient, InvalidationPublisher invalidationPublisher,
+                               ServiceAvailabilitySummaryRepository serviceAvailabilitySummaryRepository) {
         this.serviceItemRepository = serviceItemRepository;
         this.serviceItemsMapper = serviceItemsMapper;
         this.reviewServiceClient = reviewServiceClient;
+        this.invalidationPublisher = invalidationPublisher;
+        this.serviceAvailabilitySummaryRepository = serviceAvailabilitySummaryRepository;
     }
 
     public ServiceItemDto getServiceById(Long id){
@@ -121,6 +129,7 @@ public class ServiceItemsService {
 
         ServiceItem savedService = serviceItemRepository.save(serviceItem);
         log.info("Service created with id: {}", savedService.getServiceId());
+        invalidationPublisher.publish(ServiceItemCacheInvalidationHandler.ENTITY, savedService.getServiceId());
         return serviceItemsMapper.entityToDto(savedService, null);
     }
 
@@ -161,6 +170,7 @@ public class ServiceItemsService {
 
         ServiceItem updatedService = serviceItemRepository.save(existingService);
         log.info("Service with id {} updated successfully", id);
+        invalidationPublisher.publish(ServiceItemCacheInvalidationHandler.ENTITY, id);
         return serviceItemsMapper.entityToDto(updatedService, null);
     }
 
@@ -177,7 +187,9 @@ public class ServiceItemsService {
             throw new AccessDeniedException("You are not authorized to delete this service");
         }
         serviceItemRepository.deleteById(id);
+        serviceAvailabilitySummaryRepository.deleteById(id);
         log.info("Service with id {} deleted successfully", id);
+        invalidationPublisher.publish(ServiceItemCacheInvalidationHandler.ENTITY, id);
     }
 
     private SortFields validateSort(String sortBy){
@@ -0,0 +1,69 @@
+package com.sarthak.ServiceListingService.service;
+
+import com.sarthak.ServiceListingService.model.ServiceAvailabilitySummary;
+import com.sarthak.ServiceListingService.model.ServiceAvailabilitySummary.DateException;
+import com.sarthak.ServiceListingService.model.ServiceAvailabilitySummary.ExceptionType;
+import com.sarthak.ServiceListingService.model.ServiceAvailabilitySummary.TimeSlot;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServiceAvailabilitySearchServiceTests {
+
+    private static final LocalDate MONDAY = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+    @Test
+    void windowInsideWeeklySlotIsCovered() {
+        ServiceAvailabilitySummary summary = summary(List.of());
+
+        assertTrue(covers(summary, MONDAY, "10:00", "12:00"));
+        assertFalse(covers(summary, MONDAY, "12:00", "15:00"));
+        assertFalse(covers(summary, MONDAY.plusDays(1), "10:00", "12:00"));
+    }
+
+    @Test
+    void blockedExceptionSplitsSlotOnItsDateOnly() {
+        ServiceAvailabilitySummary summary = summary(List.of(
+                new DateException(MONDAY, time("11:00"), time("12:00"), ExceptionType.BLOCKED)));
+
+        assertFalse(covers(summary, MONDAY, "10:00", "12:00"));
+        assertTrue(covers(summary, MONDAY, "09:00", "11:00"));
+        assertTrue(covers(summary, MONDAY, "12:00", "13:00"));
+        assertTrue(covers(summary, MONDAY.plusWeeks(1), "10:00", "12:00"));
+    }
+
+    @Test
+    void overrideExtendsTouchingSlotButNotAnEmptyDay() {
+        ServiceAvailabilitySummary summary = summary(List.of(
+                new DateException(MONDAY, time("13:00"), time("18:00"), ExceptionType.OVERRIDE),
+                new DateException(MONDAY.plusDays(1), time("09:00"), time("17:00"), ExceptionType.OVERRIDE)));
+
+        assertTrue(covers(summary, MONDAY, "12:00", "17:00"));
+        assertFalse(covers(summary, MONDAY.plusDays(1), "10:00", "12:00"));
+    }
+
+    private static ServiceAvailabilitySummary summary(List<DateException> exceptions) {
+        return ServiceAvailabilitySummary.builder()
+                .serviceId(1L)
+                .serviceProviderId(2L)
+                .weeklySlots(Map.of(DayOfWeek.MONDAY, List.of(new TimeSlot(time("09:00"), time("13:00")))))
+                .exceptions(exceptions)
+                .build();
+    }
+
+    private static boolean covers(ServiceAvailabilitySummary summary, LocalDate date, String start, String end) {
+        return ServiceAvailabilitySearchService.coversWindow(summary, date, time(start), time(end));
+    }
+
+    private static LocalTime time(String value) {
+        return LocalTime.parse(value);
+    }
+}
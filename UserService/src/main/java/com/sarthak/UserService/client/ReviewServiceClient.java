@@ -7,7 +7,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import java.util.List;
 import java.util.Map;
 
-@FeignClient(name = "REVIEW-SERVICE", url = "${feign.client.config.review-service.url}")
+@FeignClient(name = "REVIEW-SERVICE", fallbackFactory = ReviewServiceClientFallbackFactory.class)
 public interface ReviewServiceClient {
 
     @PostMapping("api/reviews/providers/aggregate")
@@ -0,0 +1,27 @@
+package com.sarthak.UserService.client;
+
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Slf4j
+@Component
+public class ReviewServiceClientFallbackFactory implements FallbackFactory<ReviewServiceClient> {
+
+    @Override
+    public ReviewServiceClient create(Throwable cause) {
+        return providerIds -> {
+            // 4xx responses are real answers from the review service, not outages
+            if (cause instanceof FeignException.FeignClientException clientException) {
+                throw clientException;
+            }
+            // Providers are still listed without ratings when the review service is down
+            log.warn("Review service call failed for {} providers, returning them without ratings: {}",
+                    providerIds.size(), cause.toString());
+            return Map.of();
+        };
+    }
+}
@@ -54,7 +54,7 @@ public class SecurityConfig {
                                                                 "/swagger-ui/**",
                                                                 "/swagger-ui.html")
                                                 .permitAll()
-                                                .requestMatchers("/actuator/health").permitAll()
+                                                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                                                 .requestMatchers("/api/users/**").authenticated()
                                                 .anyRequest().authenticated())
                                 .exceptionHandling(ex -> ex.authenticationEntryPoint(jwtAuthenticationEntryPoint))
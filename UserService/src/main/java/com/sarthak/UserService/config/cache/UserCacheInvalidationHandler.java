@@ -0,0 +1,44 @@
+package com.sarthak.UserService.config.cache;
+
+import com.sarthak.UserService.config.invalidation.InvalidationHandler;
+import com.sarthak.UserService.model.User;
+import com.sarthak.UserService.service.UsernameLookupService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+// Users changed through another instance: drops them from the second-level cache and the username lookup
+// cache. Cached query results may contain them too and are cleared wholesale.
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationHandler implements InvalidationHandler {
+
+    public static final String ENTITY = "user";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final UsernameLookupService usernameLookupService;
+
+    @Override
+    public String entity() {
+        return ENTITY;
+    }
+
+    @Override
+    public void evict(Collection<String> ids) {
+        for (String id : ids) {
+            entityManagerFactory.getCache().evict(User.class, Long.valueOf(id));
+        }
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+        usernameLookupService.evict(ids.stream().map(Long::valueOf).toList());
+    }
+
+    @Override
+    public void evictAll() {
+        entityManagerFactory.getCache().evict(User.class);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+        usernameLookupService.evictAll();
+    }
+}
@@ -0,0 +1,14 @@
+package com.sarthak.UserService.config.invalidation;
+
+import java.util.Collection;
+
+// Local cache that follows changes published on the invalidation bus for one entity
+public interface InvalidationHandler {
+
+    String entity();
+
+    void evict(Collection<String> ids);
+
+    // After a reconnect, when notifications may have been missed
+    void evictAll();
+}
@@ -0,0 +1,137 @@
+package com.sarthak.UserService.config.invalidation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Publishes changed rows on the cache_invalidation channel of this service's database with pg_notify.
+// Inside a transaction the keys are collected and sent from beforeCommit on the transaction's own connection:
+// Postgres only delivers a NOTIFY when its transaction commits, so a rolled back change never invalidates
+// anything and a listener never sees the notification before the change itself is visible. Keys published
+// several times in one transaction are sent once, and a transaction's keys are packed into as few
+// notifications as the payload limit allows.
+@Slf4j
+@Component
+public class InvalidationPublisher {
+
+    public static final String CHANNEL = "cache_invalidation";
+    // Postgres rejects payloads of 8000 bytes or more
+    static final int MAX_PAYLOAD_BYTES = 7900;
+    static final String ORIGIN = UUID.randomUUID().toString();
+
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+    private static final Object PENDING_KEYS = new Object();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    public InvalidationPublisher(JdbcTemplate jdbcTemplate,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${cache.invalidation.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    public void publish(String entity, Object id) {
+        if (!enabled || id == null) {
+            return;
+        }
+        InvalidationKey key = new InvalidationKey(entity, id.toString(), System.currentTimeMillis());
+        meterRegistry.counter("cache.invalidation.published", "entity", entity).increment();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(List.of(key));
+            return;
+        }
+        pendingKeys().put(entity + "\u0000" + key.id(), key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, InvalidationKey> pendingKeys() {
+        Map<String, InvalidationKey> pending =
+                (Map<String, InvalidationKey>) TransactionSynchronizationManager.getResource(PENDING_KEYS);
+        if (pending != null) {
+            return pending;
+        }
+        Map<String, InvalidationKey> keys = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(PENDING_KEYS, keys);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                send(new ArrayList<>(keys.values()));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEYS);
+            }
+        });
+        return keys;
+    }
+
+    private void send(List<InvalidationKey> keys) {
+        for (String payload : payloads(keys)) {
+            jdbcTemplate.queryForRowSet(NOTIFY_SQL, CHANNEL, payload);
+        }
+        log.debug("Published {} cache invalidation(s)", keys.size());
+    }
+
+    // Splits the keys over as many payloads as needed to keep each under MAX_PAYLOAD_BYTES
+    List<String> payloads(List<InvalidationKey> keys) {
+        int envelopeBytes = utf8Length(toJson(List.of()));
+        List<String> payloads = new ArrayList<>();
+        List<InvalidationKey> chunk = new ArrayList<>();
+        int chunkBytes = envelopeBytes;
+        for (InvalidationKey key : keys) {
+            // the key itself plus the separating comma
+            int keyBytes = utf8Length(toJson(key)) + 1;
+            if (envelopeBytes + keyBytes > MAX_PAYLOAD_BYTES) {
+                throw new IllegalArgumentException("Cache invalidation key too large to publish: " + key);
+            }
+            if (chunkBytes + keyBytes > MAX_PAYLOAD_BYTES) {
+                payloads.add(toJson(chunk));
+                chunk = new ArrayList<>();
+                chunkBytes = envelopeBytes;
+            }
+            chunk.add(key);
+            chunkBytes += keyBytes;
+        }
+        if (!chunk.isEmpty()) {
+            payloads.add(toJson(chunk));
+        }
+        return payloads;
+    }
+
+    private static int utf8Length(String json) {
+        return json.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private String toJson(List<InvalidationKey> keys) {
+        return toJson(new InvalidationMessage(ORIGIN, System.currentTimeMillis(), keys));
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize cache invalidation", ex);
+        }
+    }
+}
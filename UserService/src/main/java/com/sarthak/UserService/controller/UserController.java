@@ -3,6 +3,7 @@ package com.sarthak.UserService.controller;
 import com.sarthak.UserService.dto.PagedResponse;
 import com.sarthak.UserService.dto.QueryFilter;
 import com.sarthak.UserService.dto.request.UserUpdateRequest;
+import com.sarthak.UserService.dto.response.CompactUsernameResponse;
 import com.sarthak.UserService.dto.response.ProviderResponse;
 import com.sarthak.UserService.dto.response.UserResponse;
 import com.sarthak.UserService.dto.response.UsernameResponse;
@@ -37,6 +38,15 @@ public class UserController {
         return ResponseEntity.ok(usernameResponse);
     }
 
+    // Same lookup answered as [[userId, username, userContact], ...], used by BookingService
+    @PostMapping(value = "/getUsername/list", params = "format=compact")
+    public ResponseEntity<List<CompactUsernameResponse>> getCompactUsernameByUserId(@RequestBody List<Long> userIdList) {
+        List<CompactUsernameResponse> usernameResponse = userService.getUsernameById(userIdList).stream()
+                .map(CompactUsernameResponse::from)
+                .toList();
+        return ResponseEntity.ok(usernameResponse);
+    }
+
     @GetMapping("/profile")
     public ResponseEntity<UserResponse> getUserProfile(Authentication authentication) {
         if(authentication == null || !authentication.isAuthenticated()){
@@ -0,0 +1,7 @@
+package com.sarthak.UserService.dto;
+
+public record UserUniqueKeys(
+        String username,
+        String userEmail,
+        String userContact
+) {}
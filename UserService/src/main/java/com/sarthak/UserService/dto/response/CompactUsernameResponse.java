@@ -0,0 +1,17 @@
+package com.sarthak.UserService.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+// Serialized as [userId, username, userContact] instead of an object, the list endpoint's compact format
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({"userId", "username", "userContact"})
+public record CompactUsernameResponse(
+        Long userId,
+        String username,
+        String userContact
+){
+    public static CompactUsernameResponse from(UsernameResponse response) {
+        return new CompactUsernameResponse(response.userId(), response.username(), response.userContact());
+    }
+}
@@ -1,18 +1,26 @@
 package com.sarthak.UserService.repository;
 
+import com.sarthak.UserService.dto.UserUniqueKeys;
+import com.sarthak.UserService.dto.response.UsernameResponse;
 import com.sarthak.UserService.model.User;
 import com.sarthak.UserService.model.UserRole;
 import com.sarthak.UserService.model.UserType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
@@ -30,8 +38,26 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
 
     Page<User> findAllByIsActiveTrue(Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUserIdAndUserType(Long providerId, UserType userType);
 
-    @Query("SELECT u FROM User u WHERE u.userId IN :userIdList")
-    List<User> findUserByIdList(@Param("userIdList") List<Long> userIdList);
+    // Only the three columns the username lookup returns, no entity is loaded
+    @Query("""
+        SELECT new com.sarthak.UserService.dto.response.UsernameResponse(u.username, u.userContact, u.userId)
+        FROM User u
+        WHERE u.userId IN :userIds
+    """)
+    List<UsernameResponse> findUsernamesByIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // Loading the uniqueness filters, see UserUniquenessService. The stream must be read inside a transaction.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.sarthak.UserService.dto.UserUniqueKeys(u.username, u.userEmail, u.userContact) FROM User u")
+    Stream<UserUniqueKeys> streamUniqueKeys();
+
+    @Query("""
+        SELECT new com.sarthak.UserService.dto.UserUniqueKeys(u.username, u.userEmail, u.userContact)
+        FROM User u
+        WHERE u.updatedAt >= :since
+    """)
+    List<UserUniqueKeys> findUniqueKeysUpdatedSince(@Param("since") LocalDateTime since);
 }
@@ -2,6 +2,8 @@ package com.sarthak.UserService.service;
 
 import com.sarthak.UserService.client.ReviewServiceClient;
 import com.sarthak.UserService.config.PasswordEncoderConfig;
+import com.sarthak.UserService.config.cache.UserCacheInvalidationHandler;
+import com.sarthak.UserService.config.invalidation.InvalidationPublisher;
 import com.sarthak.UserService.dto.ProviderReviewAggregateResponse;
 import com.sarthak.UserService.dto.QueryFilter;
 import com.sarthak.UserService.dto.request.UserUpdateRequest;
@@ -22,6 +24,7 @@ import com.sarthak.UserService.dto.response.UserResponse;
 import com.sarthak.UserService.repository.UserSpecification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -31,7 +34,10 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -49,6 +55,9 @@ public class UserService implements UserDetailsService {
     private final UserMapper userMapper;
     private final PasswordEncoderConfig passwordEncoderConfig;
     private final ReviewServiceClient reviewServiceClient;
+    private final UsernameLookupService usernameLookupService;
+    private final UserUniquenessService userUniquenessService;
+    private final InvalidationPublisher invalidationPublisher;
     private final Set<String> ALLOWED_SORT_FIELDS = Set.of("userId", "username", "userEmail", "userContact", "userType");
 
 
@@ -91,21 +100,21 @@ public class UserService implements UserDetailsService {
         log.info("Updating user with id: {}", id);
 
         Optional.ofNullable(request.username()).ifPresent(name -> {
-            if(!name.equals(user.getUsername()) && userRepository.existsByUsername(name)){
+            if(!name.equals(user.getUsername()) && userUniquenessService.isUsernameInUse(name)){
                 throw new AlreadyInUseException("Username is already in use");
             }
             user.setUsername(name);
         });
 
         Optional.ofNullable(request.userEmail()).ifPresent(email -> {
-            if(!email.equals(user.getUserEmail()) && userRepository.existsByUserEmail(email)){
+            if(!email.equals(user.getUserEmail()) && userUniquenessService.isEmailInUse(email)){
                 throw new AlreadyInUseException("Email is already in use");
             }
             user.setUserEmail(email);
         });
 
         Optional.ofNullable(request.userContact()).ifPresent(contact -> {
-            if(!contact.equals(user.getUserContact()) && userRepository.existsByUserContact(contact)){
+            if(!contact.equals(user.getUserContact()) && userUniquenessService.isContactInUse(contact)){
                 throw new AlreadyInUseException("Contact is already in use");
             }
             user.setUserContact(contact);
@@ -114,8 +123,13 @@ public class UserService implements UserDetailsService {
 
         Optional.ofNullable(request.userAddress()).ifPresent(user::setUserAddress);
 
+        userUniquenessService.record(user.getUsername(), user.getUserEmail(), user.getUserContact());
         User updatedUser = userRepository.save(user);
         log.info("User updated successfully with id: {}", updatedUser.getUserId());
+        invalidationPublisher.publish(UserCacheInvalidationHandler.ENTITY, id);
+        if (request.username() != null || request.userContact() != null) {
+            evictUsernameAfterCommit(id);
+        }
 
         return userMapper.toResponse(updatedUser);
     }
@@ -128,6 +142,7 @@ public class UserService implements UserDetailsService {
         user.setIsActive(false);
         User updatedUser = userRepository.save(user);
         log.info("User deactivated successfully with id: {}", updatedUser.getUserId());
+        invalidationPublisher.publish(UserCacheInvalidationHandler.ENTITY, id);
 
         return userMapper.toResponse(updatedUser);
     }
@@ -140,23 +155,24 @@ public class UserService implements UserDetailsService {
         user.setIsActive(true);
         User updatedUser = userRepository.save(user);
         log.info("User activated successfully with id: {}", updatedUser.getUserId());
+        invalidationPublisher.publish(UserCacheInvalidationHandler.ENTITY, id);
 
         return userMapper.toResponse(updatedUser);
     }
 
     @Transactional(readOnly = true)
     public boolean existsByUsername(String username){
-        return userRepository.existsByUsername(username);
+        return userUniquenessService.isUsernameInUse(username);
     }
 
     @Transactional(readOnly = true)
     public boolean existsByEmail(String email){
-        return userRepository.existsByUserEmail(email);
+        return userUniquenessService.isEmailInUse(email);
     }
 
     @Transactional(readOnly = true)
     public boolean existsByContact(String contact){
-        return userRepository.existsByUserContact(contact);
+        return userUniquenessService.isContactInUse(contact);
     }
 
     @Transactional
@@ -166,6 +182,8 @@ public class UserService implements UserDetailsService {
         }
         userRepository.deleteById(userId);
         log.info("User deleted successfully with id: {}", userId);
+        invalidationPublisher.publish(UserCacheInvalidationHandler.ENTITY, userId);
+        evictUsernameAfterCommit(userId);
     }
 
     public UserResponse registerUser(UserRegistrationRequest request){
@@ -189,8 +207,17 @@ public class UserService implements UserDetailsService {
                 .userAddress(request.getUserAddress())
                 .build();
 
-        User savedUser = userRepository.save(user);
+        userUniquenessService.record(userName, email, contact);
+        User savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DataIntegrityViolationException ex) {
+            // registered on another instance after the checks above
+            throw new AlreadyInUseException("Username, email or contact is already in use");
+        }
         log.info("User registered successfully with username: {}", savedUser.getUsername());
+        // other instances may have cached the id as unknown
+        invalidationPublisher.publish(UserCacheInvalidationHandler.ENTITY, savedUser.getUserId());
 
         return userMapper.toResponse(savedUser);
     }
@@ -223,13 +250,13 @@ public class UserService implements UserDetailsService {
 
     private void validateDetails(String userName, String userEmail,
                                  String userContact, String password) {
-        if (userName != null && userRepository.existsByUsername(userName)) {
+        if (userName != null && userUniquenessService.isUsernameInUse(userName)) {
             throw new AlreadyInUseException("Username is already in use or is Null");
         }
-        if (userEmail != null && userRepository.existsByUserEmail(userEmail)) {
+        if (userEmail != null && userUniquenessService.isEmailInUse(userEmail)) {
             throw new AlreadyInUseException("Email is already in use or is Null");
         }
-        if (userContact != null && userRepository.existsByUserContact(userContact)) {
+        if (userContact != null && userUniquenessService.isContactInUse(userContact)) {
             throw new AlreadyInUseException("Contact number is already in use or is Null");
         }
         if (password == null){
@@ -281,18 +308,22 @@ public class UserService implements UserDetailsService {
         return userMapper.toProviderResponse(provider, aggregate.get(providerId));
     }
 
+    // No transaction here, the caller may wait on a batch and must not hold a connection while it does
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<UsernameResponse> getUsernameById(List<Long> userId) {
-        List<User> users = userRepository.findUserByIdList(userId);
-
-        List<UsernameResponse> usernameResponses = new ArrayList<>();
-        for (User user : users){
-            usernameResponses.add(UsernameResponse.builder()
-                    .username(user.getUsername())
-                    .userContact(user.getUserContact())
-                    .userId(user.getUserId())
-                    .build());
-        }
+        return usernameLookupService.lookup(userId);
+    }
 
-        return usernameResponses;
+    private void evictUsernameAfterCommit(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    usernameLookupService.evict(List.of(userId));
+                }
+            });
+        } else {
+            usernameLookupService.evict(List.of(userId));
+        }
     }
 }
@@ -0,0 +1,174 @@
+package com.sarthak.UserService.service;
+
+import com.sarthak.UserService.dto.UserUniqueKeys;
+import com.sarthak.UserService.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+// Username, email and contact uniqueness checks with a Bloom filter per column in front of the exists
+// queries. A value the filter has never seen is answered as free without a query, anything else is checked
+// against the table. The filters are loaded from the users table at startup and take every value this
+// instance writes. Values written by other instances are picked up by a short poll on updated_at, and a
+// nightly rebuild drops the bits of deleted and renamed users. Until the first load every check goes to the
+// database. The unique constraints stay the final guard for registrations that race across instances.
+@Slf4j
+@Service
+public class UserUniquenessService {
+
+    static final String CHECKS = "user.uniqueness.checks";
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long clockSkewSeconds;
+    private final Counter usernameSkipped;
+    private final Counter usernameQueried;
+    private final Counter emailSkipped;
+    private final Counter emailQueried;
+    private final Counter contactSkipped;
+    private final Counter contactQueried;
+
+    private volatile Filters filters;
+    private volatile LocalDateTime refreshedUpTo;
+
+    public UserUniquenessService(UserRepository userRepository, TransactionTemplate transactionTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${user.uniqueness-filter.expected-insertions:1000000}") long expectedInsertions,
+                                 @Value("${user.uniqueness-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                 @Value("${user.uniqueness-filter.clock-skew-seconds:30}") long clockSkewSeconds) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.clockSkewSeconds = clockSkewSeconds;
+        this.usernameSkipped = checkCounter(meterRegistry, "username", "skipped");
+        this.usernameQueried = checkCounter(meterRegistry, "username", "queried");
+        this.emailSkipped = checkCounter(meterRegistry, "email", "skipped");
+        this.emailQueried = checkCounter(meterRegistry, "email", "queried");
+        this.contactSkipped = checkCounter(meterRegistry, "contact", "skipped");
+        this.contactQueried = checkCounter(meterRegistry, "contact", "queried");
+    }
+
+    public boolean isUsernameInUse(String username) {
+        return inUse(username, Filters::usernames, userRepository::existsByUsername, usernameSkipped, usernameQueried);
+    }
+
+    public boolean isEmailInUse(String email) {
+        return inUse(email, Filters::emails, userRepository::existsByUserEmail, emailSkipped, emailQueried);
+    }
+
+    public boolean isContactInUse(String contact) {
+        return inUse(contact, Filters::contacts, userRepository::existsByUserContact, contactSkipped, contactQueried);
+    }
+
+    // Called before the row is written, a rolled back write only costs a false positive
+    public void record(String username, String email, String contact) {
+        Filters current = filters;
+        if (current != null) {
+            current.put(new UserUniqueKeys(username, email, contact));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            log.error("Failed to load uniqueness filters, checks keep going to the database: {}", ex.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${user.uniqueness-filter.rebuild-cron:0 0 4 * * *}", zone = "Asia/Kolkata")
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Filters built = new Filters(new BloomFilter(expectedInsertions, falsePositiveRate),
+                new BloomFilter(expectedInsertions, falsePositiveRate),
+                new BloomFilter(expectedInsertions, falsePositiveRate));
+        Long loaded = transactionTemplate.execute(status -> {
+            try (Stream<UserUniqueKeys> keys = userRepository.streamUniqueKeys()) {
+                return keys.mapToLong(key -> {
+                    built.put(key);
+                    return 1;
+                }).sum();
+            }
+        });
+        long users = loaded == null ? 0 : loaded;
+        filters = built;
+        // rows committed while the table was streamed are caught by the next refresh
+        refreshedUpTo = startedAt.minusSeconds(clockSkewSeconds);
+        log.info("Loaded uniqueness filters for {} users, {} KB each with {} hashes", users,
+                built.usernames().sizeInBytes() / 1024, built.usernames().hashCount());
+        if (users > expectedInsertions) {
+            log.warn("Uniqueness filters hold {} users but are sized for {}, more checks will reach the database",
+                    users, expectedInsertions);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${user.uniqueness-filter.refresh-interval-ms:10000}",
+            initialDelayString = "${user.uniqueness-filter.refresh-interval-ms:10000}")
+    public void refresh() {
+        Filters current = filters;
+        LocalDateTime since = refreshedUpTo;
+        if (current == null || since == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<UserUniqueKeys> changed = userRepository.findUniqueKeysUpdatedSince(since);
+        changed.forEach(current::put);
+        refreshedUpTo = startedAt.minusSeconds(clockSkewSeconds);
+        if (!changed.isEmpty()) {
+            log.debug("Added {} recently written users to the uniqueness filters", changed.size());
+        }
+    }
+
+    private boolean inUse(String value, Function<Filters, BloomFilter> filterOf, Predicate<String> existsQuery,
+                          Counter skipped, Counter queried) {
+        if (value == null) {
+            return false;
+        }
+        Filters current = filters;
+        if (current != null && !filterOf.apply(current).mightContain(value)) {
+            skipped.increment();
+            return false;
+        }
+        queried.increment();
+        return existsQuery.test(value);
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String field, String result) {
+        return Counter.builder(CHECKS)
+                .description("Uniqueness checks, skipped ones were answered by the Bloom filter without a query")
+                .tag("field", field)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Filters(BloomFilter usernames, BloomFilter emails, BloomFilter contacts) {
+
+        void put(UserUniqueKeys keys) {
+            if (keys.username() != null) {
+                usernames.put(keys.username());
+            }
+            if (keys.userEmail() != null) {
+                emails.put(keys.userEmail());
+            }
+            if (keys.userContact() != null) {
+                contacts.put(keys.userContact());
+            }
+        }
+    }
+}
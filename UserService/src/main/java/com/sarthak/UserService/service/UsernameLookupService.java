@@ -0,0 +1,183 @@
+package com.sarthak.UserService.service;
+
+import com.sarthak.UserService.dto.response.UsernameResponse;
+import com.sarthak.UserService.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Username and contact by user id for the booking list pages. Hits are served from a local cache. Misses
+// are queued for a short window, and every id queued by concurrent requests in that window is loaded with
+// one IN query, so a burst of list pages costs one round trip instead of one per page.
+@Slf4j
+@Service
+public class UsernameLookupService {
+
+    private final UserRepository userRepository;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final long batchWindowMs;
+    private final int maxBatchSize;
+    private final long timeoutMs;
+
+    private final Map<Long, CachedUsername> cache = new ConcurrentHashMap<>();
+    // ids waiting for the next batch, shared by every request that misses on them meanwhile
+    private final Map<Long, CompletableFuture<Optional<UsernameResponse>>> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    // bumped on every eviction, a batch only caches what it loaded if no eviction happened meanwhile
+    private final AtomicLong generation = new AtomicLong();
+    private final ScheduledExecutorService batchExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "username-batch-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public UsernameLookupService(UserRepository userRepository,
+                                 @Value("${user.username-lookup.cache-ttl-seconds:300}") long ttlSeconds,
+                                 @Value("${user.username-lookup.cache-max-entries:50000}") int maxEntries,
+                                 @Value("${user.username-lookup.batch-window-ms:5}") long batchWindowMs,
+                                 @Value("${user.username-lookup.max-batch-size:500}") int maxBatchSize,
+                                 @Value("${user.username-lookup.timeout-ms:2000}") long timeoutMs) {
+        this.userRepository = userRepository;
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.maxEntries = maxEntries;
+        this.batchWindowMs = batchWindowMs;
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutMs = timeoutMs;
+    }
+
+    // Unknown ids are left out, the rest come back in request order without duplicates
+    public List<UsernameResponse> lookup(Collection<Long> userIds) {
+        Map<Long, UsernameResponse> found = new HashMap<>();
+        Map<Long, CompletableFuture<Optional<UsernameResponse>>> waiting = new HashMap<>();
+        LinkedHashSet<Long> ids = new LinkedHashSet<>(userIds);
+        ids.remove(null);
+        long now = System.nanoTime();
+        for (Long userId : ids) {
+            CachedUsername cached = cache.get(userId);
+            if (cached != null && now - cached.loadedAtNanos() < ttlNanos) {
+                cached.response().ifPresent(response -> found.put(userId, response));
+            } else {
+                waiting.put(userId, enqueue(userId));
+            }
+        }
+
+        if (!waiting.isEmpty()) {
+            try {
+                CompletableFuture.allOf(waiting.values().toArray(CompletableFuture[]::new))
+                        .get(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while loading usernames", e);
+            } catch (ExecutionException | TimeoutException e) {
+                throw new IllegalStateException("Failed to load usernames for " + waiting.size() + " ids", e);
+            }
+            waiting.forEach((userId, future) -> future.join().ifPresent(response -> found.put(userId, response)));
+        }
+
+        List<UsernameResponse> responses = new ArrayList<>(found.size());
+        for (Long userId : ids) {
+            UsernameResponse response = found.get(userId);
+            if (response != null) {
+                responses.add(response);
+            }
+        }
+        return responses;
+    }
+
+    public void evict(Collection<Long> userIds) {
+        generation.incrementAndGet();
+        userIds.forEach(cache::remove);
+    }
+
+    public void evictAll() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    private CompletableFuture<Optional<UsernameResponse>> enqueue(Long userId) {
+        CompletableFuture<Optional<UsernameResponse>> future =
+                pending.computeIfAbsent(userId, id -> new CompletableFuture<>());
+        if (pending.size() >= maxBatchSize) {
+            batchExecutor.execute(this::flush);
+        } else if (flushScheduled.compareAndSet(false, true)) {
+            batchExecutor.schedule(this::flush, batchWindowMs, TimeUnit.MILLISECONDS);
+        }
+        return future;
+    }
+
+    void flush() {
+        flushScheduled.set(false);
+        while (!pending.isEmpty()) {
+            Map<Long, CompletableFuture<Optional<UsernameResponse>>> batch = new HashMap<>();
+            Iterator<Long> iterator = pending.keySet().iterator();
+            while (iterator.hasNext() && batch.size() < maxBatchSize) {
+                Long userId = iterator.next();
+                CompletableFuture<Optional<UsernameResponse>> future = pending.remove(userId);
+                if (future != null) {
+                    batch.put(userId, future);
+                }
+            }
+            load(batch);
+        }
+    }
+
+    private void load(Map<Long, CompletableFuture<Optional<UsernameResponse>>> batch) {
+        long loadGeneration = generation.get();
+        List<UsernameResponse> loaded;
+        try {
+            loaded = userRepository.findUsernamesByIdIn(batch.keySet());
+        } catch (RuntimeException e) {
+            log.warn("Username batch of {} ids failed: {}", batch.size(), e.toString());
+            batch.values().forEach(future -> future.completeExceptionally(e));
+            return;
+        }
+        log.debug("Loaded {} usernames for a batch of {} ids", loaded.size(), batch.size());
+
+        Map<Long, UsernameResponse> byId = new HashMap<>();
+        loaded.forEach(response -> byId.put(response.userId(), response));
+        if (cache.size() + batch.size() > maxEntries) {
+            cache.clear();
+        }
+        long loadedAt = System.nanoTime();
+        batch.forEach((userId, future) -> {
+            Optional<UsernameResponse> response = Optional.ofNullable(byId.get(userId));
+            if (generation.get() == loadGeneration) {
+                CachedUsername entry = new CachedUsername(response, loadedAt);
+                cache.put(userId, entry);
+                // an eviction that raced the put may have missed it, drop what was just cached
+                if (generation.get() != loadGeneration) {
+                    cache.remove(userId, entry);
+                }
+            }
+            future.complete(response);
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        batchExecutor.shutdownNow();
+    }
+
+    private record CachedUsername(Optional<UsernameResponse> response, long loadedAtNanos) {}
+}
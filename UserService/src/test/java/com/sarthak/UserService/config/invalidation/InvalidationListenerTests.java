@@ -0,0 +1,101 @@
+package com.sarthak.UserService.config.invalidation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGNotification;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class InvalidationListenerTests {
+
+    @Mock
+    private InvalidationHandler userHandler;
+
+    @Mock
+    private InvalidationHandler otherHandler;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MeterRegistry meterRegistry;
+    private InvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        when(userHandler.entity()).thenReturn("user");
+        when(otherHandler.entity()).thenReturn("other");
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new InvalidationListener(List.of(userHandler, otherHandler), objectMapper, meterRegistry, true,
+                List.of("jdbc:postgresql://localhost:5432/user_service_db"), "postgres", "password",
+                500, 10_000, 30_000, Duration.ofSeconds(30));
+    }
+
+    @Test
+    void notificationsFromOnePollAreGroupedPerEntity() throws Exception {
+        long sentAt = System.currentTimeMillis();
+        listener.dispatch("user_service_db", new PGNotification[]{
+                notification("other-instance", sentAt, new InvalidationKey("user", "1", sentAt)),
+                notification("other-instance", sentAt, new InvalidationKey("user", "2", sentAt),
+                        new InvalidationKey("user", "1", sentAt))
+        });
+
+        verify(userHandler).evict(Set.of("1", "2"));
+        verify(otherHandler, never()).evict(any());
+        assertEquals(2.0, meterRegistry.get("cache.invalidation.received").tag("entity", "user").counter().count());
+        assertEquals(2, meterRegistry.get("cache.invalidation.lag").tag("source", "user_service_db").timer().count());
+    }
+
+    @Test
+    void ownAndMalformedNotificationsAreSkipped() throws Exception {
+        long sentAt = System.currentTimeMillis();
+        PGNotification malformed = mock(PGNotification.class);
+        when(malformed.getName()).thenReturn(InvalidationPublisher.CHANNEL);
+        when(malformed.getParameter()).thenReturn("{not json");
+
+        listener.dispatch("user_service_db", new PGNotification[]{
+                notification(InvalidationPublisher.ORIGIN, sentAt, new InvalidationKey("user", "1", sentAt)),
+                malformed
+        });
+
+        verify(userHandler, never()).evict(any());
+    }
+
+    @Test
+    void failingHandlerDoesNotStopOthersOnResync() {
+        doThrow(new IllegalStateException("cache closed")).when(userHandler).evictAll();
+
+        listener.resync("user_service_db");
+
+        verify(otherHandler).evictAll();
+        assertEquals(1.0, meterRegistry.get("cache.invalidation.resyncs").tag("source", "user_service_db").counter().count());
+    }
+
+    @Test
+    void sourceIsTheDatabaseName() {
+        assertEquals("user_service_db", InvalidationListener.source("jdbc:postgresql://db:5432/user_service_db?ssl=false"));
+    }
+
+    private PGNotification notification(String origin, long sentAt, InvalidationKey... keys) throws Exception {
+        PGNotification notification = mock(PGNotification.class);
+        lenient().when(notification.getName()).thenReturn(InvalidationPublisher.CHANNEL);
+        lenient().when(notification.getParameter())
+                .thenReturn(objectMapper.writeValueAsString(new InvalidationMessage(origin, sentAt, List.of(keys))));
+        return notification;
+    }
+}
@@ -0,0 +1,95 @@
+package com.sarthak.UserService.config.invalidation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class InvalidationPublisherTests {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private InvalidationPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new InvalidationPublisher(jdbcTemplate, objectMapper, new SimpleMeterRegistry(), true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void publishesImmediatelyOutsideTransaction() throws Exception {
+        publisher.publish("user", 7L);
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).queryForRowSet(anyString(), eq(InvalidationPublisher.CHANNEL), payload.capture());
+        InvalidationMessage message = objectMapper.readValue(payload.getValue(), InvalidationMessage.class);
+        assertEquals(InvalidationPublisher.ORIGIN, message.origin());
+        assertEquals(List.of("7"), message.keys().stream().map(InvalidationKey::id).toList());
+    }
+
+    @Test
+    void transactionKeysAreSentOnceBeforeCommit() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+
+        publisher.publish("user", 7L);
+        publisher.publish("user", 8L);
+        publisher.publish("user", 7L);
+        verify(jdbcTemplate, never()).queryForRowSet(anyString(), eq(InvalidationPublisher.CHANNEL), anyString());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).queryForRowSet(anyString(), eq(InvalidationPublisher.CHANNEL), payload.capture());
+        InvalidationMessage message = objectMapper.readValue(payload.getValue(), InvalidationMessage.class);
+        assertEquals(List.of("7", "8"), message.keys().stream().map(InvalidationKey::id).toList());
+        assertTrue(TransactionSynchronizationManager.getResourceMap().isEmpty());
+    }
+
+    @Test
+    void largeBatchesAreSplitUnderPayloadLimit() throws Exception {
+        List<InvalidationKey> keys = IntStream.range(0, 1_000)
+                .mapToObj(id -> new InvalidationKey("user", Integer.toString(id), 1L))
+                .toList();
+
+        List<String> payloads = publisher.payloads(keys);
+
+        assertTrue(payloads.size() > 1);
+        int sent = 0;
+        for (String payload : payloads) {
+            assertTrue(payload.getBytes(StandardCharsets.UTF_8).length <= InvalidationPublisher.MAX_PAYLOAD_BYTES);
+            sent += objectMapper.readValue(payload, InvalidationMessage.class).keys().size();
+        }
+        assertEquals(keys.size(), sent);
+    }
+}
@@ -0,0 +1,96 @@
+package com.sarthak.UserService.service;
+
+import com.sarthak.UserService.dto.UserUniqueKeys;
+import com.sarthak.UserService.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class UserUniquenessServiceTests {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private UserUniquenessService userUniquenessService;
+
+    @BeforeEach
+    void setUp() {
+        userUniquenessService = new UserUniquenessService(userRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry, 1000, 0.01, 30);
+    }
+
+    private double checks(String field, String result) {
+        return meterRegistry.get(UserUniquenessService.CHECKS).tag("field", field).tag("result", result)
+                .counter().count();
+    }
+
+    @Test
+    void testIsUsernameInUse_unseenValueSkipsQueryOnceLoaded() {
+        when(userRepository.existsByUsername("alice")).thenReturn(true);
+        assertTrue(userUniquenessService.isUsernameInUse("alice"));
+
+        when(userRepository.streamUniqueKeys()).thenReturn(Stream.of(new UserUniqueKeys("alice", "a@x.com", "900")));
+        userUniquenessService.load();
+
+        assertFalse(userUniquenessService.isUsernameInUse("bob"));
+        assertFalse(userUniquenessService.isEmailInUse("b@x.com"));
+        assertTrue(userUniquenessService.isUsernameInUse("alice"));
+        verify(userRepository, never()).existsByUsername("bob");
+        verify(userRepository, never()).existsByUserEmail(any());
+        assertEquals(1, checks("username", "skipped"));
+        assertEquals(2, checks("username", "queried"));
+        assertEquals(1, checks("email", "skipped"));
+    }
+
+    @Test
+    void testRecordAndRefresh_addValuesWrittenAfterLoad() {
+        when(userRepository.streamUniqueKeys()).thenReturn(Stream.empty());
+        userUniquenessService.load();
+        when(userRepository.findUniqueKeysUpdatedSince(any()))
+                .thenReturn(List.of(new UserUniqueKeys("carol", "c@x.com", "901")));
+
+        userUniquenessService.record("dave", "d@x.com", "902");
+        userUniquenessService.refresh();
+
+        userUniquenessService.isUsernameInUse("carol");
+        userUniquenessService.isContactInUse("902");
+        verify(userRepository).existsByUsername("carol");
+        verify(userRepository).existsByUserContact("902");
+    }
+
+    @Test
+    void testBloomFilter_noFalseNegativesAndBoundedFalsePositives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@example.com"));
+            if (filter.mightContain("other" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 200, "false positives: " + falsePositives);
+    }
+}
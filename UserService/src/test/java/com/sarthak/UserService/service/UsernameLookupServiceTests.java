@@ -0,0 +1,75 @@
+package com.sarthak.UserService.service;
+
+import com.sarthak.UserService.dto.response.UsernameResponse;
+import com.sarthak.UserService.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class UsernameLookupServiceTests {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UsernameLookupService usernameLookupService;
+
+    @BeforeEach
+    void setUp() {
+        usernameLookupService = new UsernameLookupService(userRepository, 300, 1000, 50, 500, 2000);
+        when(userRepository.findUsernamesByIdIn(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .filter(id -> id < 100)
+                    .map(id -> new UsernameResponse("user" + id, "98" + id, id))
+                    .toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        usernameLookupService.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testLookup_concurrentMissesShareOneQuery() {
+        CompletableFuture<List<UsernameResponse>> first =
+                CompletableFuture.supplyAsync(() -> usernameLookupService.lookup(List.of(1L, 2L)));
+        CompletableFuture<List<UsernameResponse>> second =
+                CompletableFuture.supplyAsync(() -> usernameLookupService.lookup(List.of(2L, 3L, 2L)));
+
+        assertEquals(List.of(1L, 2L), first.join().stream().map(UsernameResponse::userId).toList());
+        assertEquals(List.of(2L, 3L), second.join().stream().map(UsernameResponse::userId).toList());
+
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(userRepository).findUsernamesByIdIn(ids.capture());
+        assertEquals(Set.of(1L, 2L, 3L), Set.copyOf(ids.getValue()));
+    }
+
+    @Test
+    void testLookup_servesCachedAndUnknownIdsUntilEvicted() {
+        assertEquals(1, usernameLookupService.lookup(List.of(1L, 500L)).size());
+        assertEquals("user1", usernameLookupService.lookup(List.of(500L, 1L)).getFirst().username());
+        verify(userRepository, times(1)).findUsernamesByIdIn(any());
+
+        usernameLookupService.evict(List.of(1L));
+        usernameLookupService.lookup(List.of(1L));
+        verify(userRepository, times(2)).findUsernamesByIdIn(any());
+    }
+}
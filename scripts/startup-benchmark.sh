@@ -0,0 +1,80 @@
+#!/usr/bin/env bash
+# Startup benchmark for one service: time from JVM launch until /actuator/health answers, and the resident
+# set size at that point, for the plain jar and for the AOT-processed jar with the CDS archive, the way the
+# Dockerfiles run it. The service's database has to be reachable with its usual environment variables.
+#
+#   scripts/startup-benchmark.sh <service dir> <port> [runs] [-- extra app arguments]
+#   scripts/startup-benchmark.sh UserService 8081 5 -- --eureka.client.enabled=false
+#
+# The extra arguments go to the training run as well, so they must cover every property the service cannot
+# start without (PaymentService needs the PayPal client id and secret).
+#
+# JAVA_OPTS (default "-Xms128m -Xmx128m", as in docker-compose.yml) is passed to every run. Each line of
+# output is one run, followed by the median of each mode.
+set -euo pipefail
+
+SERVICE=${1:?service directory}
+PORT=${2:?port}
+RUNS=${3:-5}
+shift $(( $# < 3 ? $# : 3 ))
+[[ ${1:-} == "--" ]] && shift
+APP_ARGS=("$@")
+JAVA_OPTS=${JAVA_OPTS:--Xms128m -Xmx128m}
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+WORK="$ROOT/$SERVICE/target/startup-benchmark"
+
+echo "Building $SERVICE with the aot profile"
+mvn -q -B -f "$ROOT/$SERVICE/pom.xml" clean package -Paot -DskipTests
+JAR=$(find "$ROOT/$SERVICE/target" -maxdepth 1 -name '*.jar' | head -n 1)
+
+# Same layout and training run as the Dockerfile
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK" > /dev/null
+APP="$WORK/$(basename "$JAR")"
+(cd "$WORK" && java -XX:ArchiveClassesAtExit=app.jsa -Dspring.context.exit=onRefresh \
+    -Dspring.flyway.enabled=false -Dspring.jpa.hibernate.ddl-auto=none \
+    -Dspring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false \
+    -Dspring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect \
+    -Deureka.client.enabled=false -jar "$APP" "${APP_ARGS[@]}" > training.log 2>&1) \
+    || { echo "training run failed, see $WORK/training.log" >&2; exit 1; }
+echo "CDS archive: $(du -h "$WORK/app.jsa" | cut -f1)"
+
+# Prints "<ms until health answered> <rss kB>" for one launch
+measure() {
+    local start pid elapsed rss
+    start=$(date +%s%N)
+    # shellcheck disable=SC2086
+    java $JAVA_OPTS "$@" "${APP_ARGS[@]}" --server.port="$PORT" > "$WORK/run.log" 2>&1 &
+    pid=$!
+    until [[ $(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT/actuator/health") != 000 ]]; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "service exited during startup, see $WORK/run.log" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+    rss=$(awk '/^VmRSS/ {print $2}' "/proc/$pid/status")
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo "$elapsed $rss"
+}
+
+median() {
+    sort -n | awk '{v[NR] = $1} END {print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2)}'
+}
+
+run_mode() {
+    local label=$1 results=""
+    shift
+    for ((i = 1; i <= RUNS; i++)); do
+        result=$(measure "$@")
+        printf '%-8s run %d: %6d ms %8d kB\n' "$label" "$i" ${result}
+        results+="$result"$'\n'
+    done
+    printf '%-8s median: %6d ms %8d kB\n' "$label" \
+        "$(cut -d' ' -f1 <<< "${results%$'\n'}" | median)" "$(cut -d' ' -f2 <<< "${results%$'\n'}" | median)"
+}
+
+run_mode plain -jar "$JAR"
+run_mode aot+cds -XX:SharedArchiveFile="$WORK/app.jsa" -Dspring.aot.enabled=true -jar "$APP"